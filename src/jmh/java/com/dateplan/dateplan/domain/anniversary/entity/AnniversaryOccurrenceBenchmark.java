@@ -0,0 +1,54 @@
+package com.dateplan.dateplan.domain.anniversary.entity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 반복 기념일의 회차 계산 비용. 월 조회, 다가오는 기념일 조회, 전체 회차(다가오는 기념일 캐시 적재) 순
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnniversaryOccurrenceBenchmark {
+
+	private static final LocalDate FIRST_DATE = LocalDate.of(2020, 2, 29);
+	private static final LocalDate REQUEST_DATE = LocalDate.of(2025, 3, 1);
+
+	@Param({"YEAR", "HUNDRED_DAYS"})
+	public AnniversaryRepeatRule repeatRule;
+
+	private Anniversary anniversary;
+
+	@Setup
+	public void setUp() {
+		AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofFirstDate(null, FIRST_DATE,
+			repeatRule);
+		// AnniversaryService 가 저장하는 첫 회차와 같게 만든다.
+		anniversary = repeatRule == AnniversaryRepeatRule.YEAR
+			? Anniversary.ofFirstDate(anniversaryPattern, FIRST_DATE, 1)
+			: Anniversary.ofFirstDate(anniversaryPattern, FIRST_DATE.minusDays(1), 100);
+	}
+
+	@Benchmark
+	public List<Anniversary> getOccurrencesInMonth() {
+		return anniversary.getOccurrencesBetween(REQUEST_DATE,
+			REQUEST_DATE.withDayOfMonth(REQUEST_DATE.lengthOfMonth()));
+	}
+
+	@Benchmark
+	public List<Anniversary> getComingOccurrences() {
+		return anniversary.getOccurrencesFrom(REQUEST_DATE, 10);
+	}
+
+	@Benchmark
+	public List<Anniversary> getAllOccurrences() {
+		return anniversary.getOccurrencesBetween(null, null);
+	}
+}
@@ -0,0 +1,108 @@
+package com.dateplan.dateplan.domain.calender.service.dto.response;
+
+import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryDatesServiceResponse;
+import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderEntry;
+import com.dateplan.dateplan.domain.dating.service.dto.response.DatingDatesServiceResponse;
+import com.dateplan.dateplan.domain.schedule.service.dto.response.ScheduleDatesServiceResponse;
+import com.dateplan.dateplan.global.util.DaySet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 캘린더 날짜 병합 비용. treeMap 은 DaySet 도입 전 방식(날짜별 TreeMap + ArrayList)으로, 비교 기준으로 남겨 둔다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalenderDateServiceResponseBenchmark {
+
+	private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+	// 한 달 조회, 한 해 조회
+	@Param({"31", "366"})
+	public int rangeDays;
+
+	private DatingDatesServiceResponse datingDates;
+	private ScheduleDatesServiceResponse myScheduleDates;
+	private ScheduleDatesServiceResponse partnerScheduleDates;
+	private AnniversaryDatesServiceResponse anniversaryDates;
+
+	private List<LocalDate> datingDateList;
+	private List<LocalDate> myScheduleDateList;
+	private List<LocalDate> partnerScheduleDateList;
+	private List<LocalDate> anniversaryDateList;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		DaySet datingDays = createDays(random, 3);
+		DaySet myScheduleDays = createDays(random, 2);
+		DaySet partnerScheduleDays = createDays(random, 2);
+		DaySet anniversaryDays = createDays(random, 20);
+
+		datingDates = DatingDatesServiceResponse.builder().datingDays(datingDays).build();
+		myScheduleDates = ScheduleDatesServiceResponse.builder().scheduleDays(myScheduleDays)
+			.build();
+		partnerScheduleDates = ScheduleDatesServiceResponse.builder()
+			.scheduleDays(partnerScheduleDays).build();
+		anniversaryDates = AnniversaryDatesServiceResponse.builder()
+			.anniversaryDays(anniversaryDays).build();
+
+		datingDateList = datingDays.toLocalDates();
+		myScheduleDateList = myScheduleDays.toLocalDates();
+		partnerScheduleDateList = partnerScheduleDays.toLocalDates();
+		anniversaryDateList = anniversaryDays.toLocalDates();
+	}
+
+	@Benchmark
+	public CalenderDateServiceResponse daySet() {
+		return CalenderDateServiceResponse.of(datingDates, myScheduleDates, partnerScheduleDates,
+			anniversaryDates);
+	}
+
+	@Benchmark
+	public List<CalenderEntry> treeMap() {
+		Map<LocalDate, List<String>> dateStringMap = new TreeMap<>();
+		addDatesToList(dateStringMap, datingDateList, "datingSchedule");
+		addDatesToList(dateStringMap, myScheduleDateList, "mySchedule");
+		addDatesToList(dateStringMap, partnerScheduleDateList, "partnerSchedule");
+		addDatesToList(dateStringMap, anniversaryDateList, "anniversary");
+
+		return dateStringMap.entrySet()
+			.stream()
+			.map(k -> CalenderEntry.builder()
+				.date(k.getKey())
+				.events(k.getValue())
+				.build())
+			.toList();
+	}
+
+	private void addDatesToList(Map<LocalDate, List<String>> map, List<LocalDate> dates,
+		String value) {
+		for (LocalDate date : dates) {
+			map.computeIfAbsent(date, k -> new ArrayList<>()).add(value);
+		}
+	}
+
+	// 평균 interval 일마다 하루씩 채운다.
+	private DaySet createDays(Random random, int interval) {
+		DaySet days = new DaySet();
+		for (int day = 0; day < rangeDays; day++) {
+			if (random.nextInt(interval) == 0) {
+				days.add(START_DATE.plusDays(day));
+			}
+		}
+		return days;
+	}
+}
@@ -0,0 +1,66 @@
+package com.dateplan.dateplan.domain.schedule.service;
+
+import static com.dateplan.dateplan.global.util.ScheduleDateUtil.getNextCycle;
+
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.service.dto.request.ScheduleServiceRequest;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 반복 일정 생성 시 회차 계산 비용 (1년 구간)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleCycleBenchmark {
+
+	private static final int CYCLE_COUNT = 100;
+
+	@Param({"N", "D", "W", "M", "Y"})
+	public RepeatRule repeatRule;
+
+	private ScheduleServiceRequest request;
+	private SchedulePattern schedulePattern;
+	private LocalDateTime startDateTime;
+
+	@Setup
+	public void setUp() {
+		// 31일 시작이라 월/연 반복에서 건너뛰는 회차 검사까지 포함된다.
+		startDateTime = LocalDateTime.of(2024, 1, 31, 10, 0);
+		request = ScheduleServiceRequest.builder()
+			.title("title")
+			.startDateTime(startDateTime)
+			.endDateTime(startDateTime.plusHours(2))
+			.repeatRule(repeatRule)
+			.repeatEndTime(LocalDate.of(2024, 12, 31))
+			.build();
+		schedulePattern = request.toSchedulePatternEntity(null);
+	}
+
+	@Benchmark
+	public List<Schedule> getSchedules() {
+		return ScheduleCalculator.getSchedules(request, schedulePattern);
+	}
+
+	@Benchmark
+	public void getNextCycles(Blackhole blackhole) {
+		if (repeatRule == RepeatRule.N) {
+			return;
+		}
+		for (int count = 1; count <= CYCLE_COUNT; count++) {
+			blackhole.consume(getNextCycle(startDateTime, repeatRule, count));
+		}
+	}
+}
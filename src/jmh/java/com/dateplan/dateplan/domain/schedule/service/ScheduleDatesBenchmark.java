@@ -0,0 +1,84 @@
+package com.dateplan.dateplan.domain.schedule.service;
+
+import com.dateplan.dateplan.domain.schedule.controller.dto.response.ScheduleEntry;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.global.util.DaySet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 월/연 단위 일정 날짜 조회에서 조회된 일정을 날짜 집합으로 바꾸는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleDatesBenchmark {
+
+	private static final int YEAR = 2024;
+
+	@Param({"30", "300"})
+	public int scheduleCount;
+
+	// 0 이면 연 단위 조회
+	@Param({"3", "0"})
+	public int month;
+
+	private Integer requestMonth;
+	private List<Schedule> schedules;
+	private List<ScheduleEntry> repeatedSchedules;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		SchedulePattern schedulePattern = SchedulePattern.builder()
+			.repeatStartDate(LocalDate.of(YEAR, 1, 1))
+			.repeatEndDate(LocalDate.of(YEAR, 12, 31))
+			.repeatRule(RepeatRule.N)
+			.build();
+
+		requestMonth = month == 0 ? null : month;
+		LocalDate rangeStartDate = LocalDate.of(YEAR, month == 0 ? 1 : month, 1);
+		int rangeDays = month == 0 ? 365 : 31;
+		schedules = new ArrayList<>(scheduleCount);
+		repeatedSchedules = new ArrayList<>(scheduleCount);
+		for (int i = 0; i < scheduleCount; i++) {
+			LocalDateTime start = rangeStartDate.plusDays(random.nextInt(rangeDays))
+				.atTime(10, 0);
+			Schedule schedule = Schedule.builder()
+				.title("title")
+				.startDateTime(start)
+				.endDateTime(start.plusDays(random.nextInt(3)))
+				.schedulePattern(schedulePattern)
+				.build();
+			if (i % 2 == 0) {
+				schedules.add(schedule);
+			} else {
+				repeatedSchedules.add(ScheduleEntry.from(schedule));
+			}
+		}
+	}
+
+	@Benchmark
+	public DaySet getScheduleDays() {
+		return ScheduleCalculator.getScheduleDays(YEAR, requestMonth, schedules,
+			repeatedSchedules);
+	}
+
+	@Benchmark
+	public List<LocalDate> getScheduleDates() {
+		return ScheduleCalculator.getScheduleDays(YEAR, requestMonth, schedules,
+			repeatedSchedules).toLocalDates();
+	}
+}
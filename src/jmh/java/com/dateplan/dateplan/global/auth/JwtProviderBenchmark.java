@@ -0,0 +1,78 @@
+package com.dateplan.dateplan.global.auth;
+
+import static com.dateplan.dateplan.global.constant.Auth.ACCESS_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.REFRESH_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_ACCESS_TOKEN;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_REFRESH_TOKEN;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 토큰 발급과 검증 비용. 검증은 캐시 적중(verifiedTokenCache)과 매번 서명을 검증하는 경우를 나눠 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+	private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+	private static final Long MEMBER_ID = 1L;
+	private static final int TOKEN_COUNT = 1024;
+
+	private JwtProvider cachedJwtProvider;
+	private JwtProvider uncachedJwtProvider;
+	private String token;
+	private String[] tokens;
+	private int tokenIndex;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		cachedJwtProvider = createJwtProvider(TOKEN_COUNT);
+		// 캐시 크기보다 많은 토큰을 번갈아 검증해 매번 서명 검증을 거치게 한다.
+		uncachedJwtProvider = createJwtProvider(1);
+
+		// 액세스 토큰은 측정 도중 만료되므로 검증 대상은 리프레시 토큰으로 만든다.
+		token = generateRefreshToken(MEMBER_ID);
+		tokens = new String[TOKEN_COUNT];
+		for (int i = 0; i < TOKEN_COUNT; i++) {
+			tokens[i] = generateRefreshToken((long) i);
+		}
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cachedJwtProvider.generateToken(MEMBER_ID, ACCESS_TOKEN_EXPIRATION.getExpiration(),
+			SUBJECT_ACCESS_TOKEN.getContent());
+	}
+
+	@Benchmark
+	public void checkValidationCached() {
+		cachedJwtProvider.checkValidation(token);
+	}
+
+	@Benchmark
+	public void checkValidationUncached() {
+		uncachedJwtProvider.checkValidation(tokens[tokenIndex++ & (TOKEN_COUNT - 1)]);
+	}
+
+	private String generateRefreshToken(Long memberId) {
+		return cachedJwtProvider.generateToken(memberId, REFRESH_TOKEN_EXPIRATION.getExpiration(),
+			SUBJECT_REFRESH_TOKEN.getContent());
+	}
+
+	// Redis, DB 를 쓰지 않는 발급/검증 경로만 측정하므로 나머지 의존성은 비워 둔다.
+	private JwtProvider createJwtProvider(long cacheSize) throws ReflectiveOperationException {
+		JwtProvider jwtProvider = new JwtProvider(null, null, new VerifiedTokenCache(cacheSize),
+			null);
+		Field secret = JwtProvider.class.getDeclaredField("secret");
+		secret.setAccessible(true);
+		secret.set(jwtProvider, SECRET);
+		return jwtProvider;
+	}
+}
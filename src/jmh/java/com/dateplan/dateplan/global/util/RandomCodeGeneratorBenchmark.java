@@ -0,0 +1,23 @@
+package com.dateplan.dateplan.global.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+// 인증 코드, 커플 연결 코드 생성 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RandomCodeGeneratorBenchmark {
+
+	@Benchmark
+	public int generateCode() {
+		return RandomCodeGenerator.generateCode(6);
+	}
+
+	@Benchmark
+	public String generateConnectionCode() {
+		return RandomCodeGenerator.generateConnectionCode(6);
+	}
+}
@@ -89,10 +89,13 @@ public class AnniversaryController {
 	@PutMapping("/{anniversary_id}")
 	public ApiResponse<Void> modifyAnniversary(
 		@PathVariable("anniversary_id") Long anniversaryId,
+		@RequestParam(value = "occurrenceDate", required = false)
+		@DateTimeFormat(iso = ISO.DATE) LocalDate occurrenceDate,
 		@RequestBody @Valid AnniversaryModifyRequest request
 	) {
 
-		anniversaryService.modifyAnniversary(anniversaryId, request.toServiceRequest(), false);
+		anniversaryService.modifyAnniversary(anniversaryId, request.toServiceRequest(), false,
+			occurrenceDate);
 
 		return ApiResponse.ofSuccess();
 	}
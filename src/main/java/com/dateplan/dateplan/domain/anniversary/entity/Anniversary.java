@@ -1,5 +1,6 @@
 package com.dateplan.dateplan.domain.anniversary.entity;
 
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,11 +8,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,13 +25,18 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "anniversary")
+@Table(name = "anniversary", indexes =
+	@Index(name = "idx_anniversary_pattern_date", columnList = "anniversary_pattern_id, date"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Anniversary {
 
 	@Id
 	@Column(name = "anniversary_id", columnDefinition = "BIGINT", updatable = false, unique = true)
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "anniversary_id_generator")
+	@TableGenerator(name = "anniversary_id_generator", table = IdGeneratorConstants.TABLE,
+		pkColumnName = IdGeneratorConstants.PK_COLUMN,
+		valueColumnName = IdGeneratorConstants.VALUE_COLUMN, pkColumnValue = "anniversary",
+		allocationSize = IdGeneratorConstants.ALLOCATION_SIZE)
 	private Long id;
 
 	@NotNull
@@ -74,6 +85,17 @@ public class Anniversary {
 			.build();
 	}
 
+	// 처음 만난 날 패턴의 첫 회차. 100일 단위는 처음 만난 날을 1일째로 센다.
+	public static Anniversary ofFirstDate(AnniversaryPattern anniversaryPattern) {
+		LocalDate firstDate = anniversaryPattern.getRepeatStartDate();
+
+		return switch (anniversaryPattern.getRepeatRule()) {
+			case HUNDRED_DAYS -> ofFirstDate(anniversaryPattern, firstDate.minusDays(1), 100);
+			case YEAR -> ofFirstDate(anniversaryPattern, firstDate, 1);
+			case NONE -> ofFirstDate(anniversaryPattern, firstDate, 0);
+		};
+	}
+
 	public static Anniversary ofFirstDate(AnniversaryPattern anniversaryPattern,
 		LocalDate firstDate, Integer timeDifference) {
 
@@ -96,4 +118,101 @@ public class Anniversary {
 
 		return anniversaryBuilder.build();
 	}
+
+	// 패턴마다 첫 회차만 저장하고, 나머지 회차는 조회 구간에 맞춰 계산한다. null 인 경계는 제한하지 않는다.
+	public List<Anniversary> getOccurrencesBetween(LocalDate fromDate, LocalDate toDate) {
+		return getOccurrences(fromDate, toDate, Integer.MAX_VALUE);
+	}
+
+	public List<Anniversary> getOccurrencesFrom(LocalDate fromDate, int size) {
+		return getOccurrences(fromDate, null, size);
+	}
+
+	private List<Anniversary> getOccurrences(LocalDate fromDate, LocalDate toDate, int size) {
+		LocalDate repeatEndDate = anniversaryPattern.getRepeatEndDate();
+		LocalDate lastDate =
+			toDate == null || toDate.isAfter(repeatEndDate) ? repeatEndDate : toDate;
+
+		List<Anniversary> occurrences = new ArrayList<>();
+		for (int count = getSkippableCount(fromDate); occurrences.size() < size; count++) {
+			LocalDate occurrenceDate = getOccurrenceDate(count);
+			if (occurrenceDate == null || occurrenceDate.isAfter(lastDate)) {
+				break;
+			}
+			if (fromDate == null || !occurrenceDate.isBefore(fromDate)) {
+				occurrences.add(toOccurrence(count, occurrenceDate));
+			}
+		}
+		return occurrences;
+	}
+
+	// 계산된 회차는 저장하지 않고 응답에만 쓰이며, 수정/삭제 대상이 되도록 첫 회차의 id 를 가진다.
+	private Anniversary toOccurrence(int count, LocalDate occurrenceDate) {
+		Anniversary occurrence = Anniversary.of(anniversaryPattern, getOccurrenceTitle(count),
+			content, occurrenceDate);
+		occurrence.id = id;
+		return occurrence;
+	}
+
+	private String getOccurrenceTitle(int count) {
+		if (!isFirstDateAnniversary()) {
+			return title;
+		}
+
+		return switch (anniversaryPattern.getRepeatRule()) {
+			case NONE -> "처음만난날";
+			case YEAR -> "만난지 " + count + "주년";
+			case HUNDRED_DAYS -> "만난지 " + count * 100 + "일";
+		};
+	}
+
+	private LocalDate getOccurrenceDate(int count) {
+		LocalDate baseDate = getBaseDate();
+
+		return switch (anniversaryPattern.getRepeatRule()) {
+			case NONE -> count == getFirstCount() ? baseDate : null;
+			case YEAR -> baseDate.plusYears(count);
+			case HUNDRED_DAYS -> baseDate.plusDays(100L * count);
+		};
+	}
+
+	// 처음 만난 날 기념일은 처음 만난 날로부터, 나머지는 저장된 첫 회차로부터 회차를 센다.
+	private LocalDate getBaseDate() {
+		if (!isFirstDateAnniversary()) {
+			return date;
+		}
+
+		LocalDate firstDate = anniversaryPattern.getRepeatStartDate();
+		if (anniversaryPattern.getRepeatRule() == AnniversaryRepeatRule.HUNDRED_DAYS) {
+			return firstDate.minusDays(1);
+		}
+		return firstDate;
+	}
+
+	private int getFirstCount() {
+		if (isFirstDateAnniversary()
+			&& anniversaryPattern.getRepeatRule() != AnniversaryRepeatRule.NONE) {
+			return 1;
+		}
+		return 0;
+	}
+
+	private int getSkippableCount(LocalDate fromDate) {
+		LocalDate baseDate = getBaseDate();
+		int firstCount = getFirstCount();
+		if (fromDate == null || !fromDate.isAfter(baseDate)) {
+			return firstCount;
+		}
+
+		long units = switch (anniversaryPattern.getRepeatRule()) {
+			case NONE -> 0;
+			case YEAR -> ChronoUnit.YEARS.between(baseDate, fromDate);
+			case HUNDRED_DAYS -> ChronoUnit.DAYS.between(baseDate, fromDate) / 100;
+		};
+		return (int) Math.max(firstCount, units - 1);
+	}
+
+	private boolean isFirstDateAnniversary() {
+		return anniversaryPattern.getCategory() == AnniversaryCategory.FIRST_DATE;
+	}
 }
@@ -3,6 +3,7 @@ package com.dateplan.dateplan.domain.anniversary.entity;
 import static com.dateplan.dateplan.global.constant.DateConstants.CALENDER_END_DATE;
 
 import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.util.Objects;
@@ -30,7 +32,14 @@ public class AnniversaryPattern {
 
 	@Id
 	@Column(name = "anniversary_pattern_id", columnDefinition = "BIGINT", updatable = false, unique = true)
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE,
+		generator = "anniversary_pattern_id_generator")
+	@TableGenerator(name = "anniversary_pattern_id_generator",
+		table = IdGeneratorConstants.TABLE,
+		pkColumnName = IdGeneratorConstants.PK_COLUMN,
+		valueColumnName = IdGeneratorConstants.VALUE_COLUMN,
+		pkColumnValue = "anniversary_pattern",
+		allocationSize = IdGeneratorConstants.ALLOCATION_SIZE)
 	private Long id;
 
 	@NotNull
@@ -3,6 +3,7 @@ package com.dateplan.dateplan.domain.anniversary.interceptor;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
 import com.dateplan.dateplan.domain.couple.repository.CoupleQueryRepository;
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.global.auth.CoupleMembershipCache;
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
@@ -20,6 +21,7 @@ import org.springframework.web.servlet.HandlerMapping;
 public class AnniversaryAuthInterceptor implements HandlerInterceptor {
 
 	private final CoupleQueryRepository coupleQueryRepository;
+	private final CoupleMembershipCache coupleMembershipCache;
 	private final AnniversaryQueryRepository anniversaryQueryRepository;
 
 	@Override
@@ -38,7 +40,8 @@ public class AnniversaryAuthInterceptor implements HandlerInterceptor {
 		if (coupleIdStr != null) {
 			Long coupleId = Long.valueOf(coupleIdStr);
 
-			if (!coupleQueryRepository.existsByIdAndMemberId(coupleId, member.getId())) {
+			if (!coupleMembershipCache.isMemberOf(member.getId(), coupleId,
+				coupleQueryRepository::findCoupleIdByMemberId)) {
 				throwNoPermissionException(method);
 			}
 
@@ -42,45 +42,16 @@ public class AnniversaryQueryRepository {
 			.execute();
 	}
 
-	public List<Anniversary> findAllByCoupleIdAndDateInfo(Long coupleId, Integer year,
-		Integer month, Integer day, boolean patternFetchJoinRequired, boolean onlyRepeatStarted) {
-
-		if (coupleId == null) {
-			return List.of();
-		}
-
-		JPAQuery<Anniversary> baseQuery = queryFactory.selectFrom(anniversary)
-			.where(yearEq(year), monthEq(month), dayEq(day), coupleIdEq(coupleId))
-			.orderBy(anniversary.date.asc());
-
-		if (patternFetchJoinRequired) {
-			baseQuery
-				.innerJoin(anniversary.anniversaryPattern, anniversaryPattern)
-				.fetchJoin()
-				.innerJoin(anniversaryPattern.couple, couple);
-		} else {
-			baseQuery
-				.innerJoin(anniversary.anniversaryPattern, anniversaryPattern)
-				.innerJoin(anniversaryPattern.couple, couple);
-		}
-
-		if (onlyRepeatStarted) {
-			baseQuery
-				.where(anniversaryPattern.repeatStartDate.eq(anniversary.date));
-		}
-
-		return baseQuery.fetch();
-	}
-
-	public List<Anniversary> findAllComingAnniversariesByCoupleId(LocalDate startDate,
-		Long coupleId, Integer size) {
+	// 패턴마다 저장된 첫 회차 중 fromDate ~ toDate 에 회차가 올 수 있는 기념일. null 인 경계는 제한하지 않는다.
+	public List<Anniversary> findAllByCoupleIdAndDateRange(Long coupleId, LocalDate fromDate,
+		LocalDate toDate) {
 
 		return queryFactory.selectFrom(anniversary)
 			.innerJoin(anniversary.anniversaryPattern, anniversaryPattern)
-			.innerJoin(anniversaryPattern.couple, couple)
-			.where(coupleIdEq(coupleId), startDateGoe(startDate))
-			.orderBy(anniversary.date.asc())
-			.limit(size)
+			.fetchJoin()
+			.where(anniversaryPattern.couple.id.eq(coupleId), dateLoe(toDate),
+				repeatEndDateGoe(fromDate))
+			.orderBy(anniversary.date.asc(), anniversary.id.asc())
 			.fetch();
 	}
 
@@ -178,66 +149,44 @@ public class AnniversaryQueryRepository {
 			.set(anniversary.date, dateTemplateForAnniversary)
 			.where(anniversary.anniversaryPattern.id.in(anniversaryPatternIds));
 
-		JPAUpdateClause anniversaryPatternStartDateUpdateQuery = queryFactory.update(
-				anniversaryPattern)
+		JPAUpdateClause anniversaryPatternUpdateQuery = queryFactory.update(anniversaryPattern)
 			.set(anniversaryPattern.repeatStartDate,
 				dateTemplateForAnniversaryPatternRepeatStartDate)
-			.where(anniversaryPattern.id.in(anniversaryPatternIds));
-
-		JPAUpdateClause anniversaryPatternEndDateUpdateQuery = queryFactory.update(
-				anniversaryPattern)
 			.set(anniversaryPattern.repeatEndDate, dateTemplateForAnniversaryPatternRepeatEndDate)
 			.where(anniversaryPattern.id.in(anniversaryPatternIds));
 
+		// 회차는 패턴의 시작일로부터 계산되므로 패턴과 패턴별 첫 회차만 옮기면 된다.
 		anniversaryUpdateQuery.execute();
-		anniversaryPatternStartDateUpdateQuery.execute();
-		anniversaryPatternEndDateUpdateQuery.execute();
+		anniversaryPatternUpdateQuery.execute();
 	}
 
 	public boolean existsByIdAndCoupleId(Long anniversaryId, Long coupleId) {
 
-		Anniversary findAnniversary = queryFactory.selectFrom(anniversary)
+		Integer exists = queryFactory.selectOne()
+			.from(anniversary)
 			.innerJoin(anniversary.anniversaryPattern, anniversaryPattern)
 			.where(anniversary.id.eq(anniversaryId), anniversaryPattern.couple.id.eq(coupleId))
 			.fetchFirst();
 
-		return findAnniversary != null;
-	}
-
-	private BooleanExpression startDateGoe(LocalDate startDate) {
-
-		if (startDate == null) {
-			return anniversary.date.goe(LocalDate.now());
-		}
-
-		return anniversary.date.goe(startDate);
-	}
-
-	private BooleanExpression yearEq(Integer year) {
-
-		if (year == null) {
-			return null;
-		}
-
-		return anniversary.date.year().eq(year);
+		return exists != null;
 	}
 
-	private BooleanExpression monthEq(Integer month) {
+	private BooleanExpression dateLoe(LocalDate toDate) {
 
-		if (month == null) {
+		if (toDate == null) {
 			return null;
 		}
 
-		return anniversary.date.month().eq(month);
+		return anniversary.date.loe(toDate);
 	}
 
-	private BooleanExpression dayEq(Integer day) {
+	private BooleanExpression repeatEndDateGoe(LocalDate fromDate) {
 
-		if (day == null) {
+		if (fromDate == null) {
 			return null;
 		}
 
-		return anniversary.date.dayOfMonth().eq(day);
+		return anniversaryPattern.repeatEndDate.goe(fromDate);
 	}
 
 	private BooleanExpression coupleIdEq(Long coupleId) {
@@ -5,9 +5,14 @@ import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepos
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryDatesServiceResponse;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryListServiceResponse;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.ComingAnniversaryListServiceResponse;
+import com.dateplan.dateplan.domain.anniversary.service.dto.response.ComingAnniversaryServiceResponse;
 import com.dateplan.dateplan.global.exception.anniversary.AnniversaryNotFoundException;
+import com.dateplan.dateplan.global.jfr.AnniversaryExpansionEvent;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,12 +23,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class AnniversaryReadService {
 
 	private final AnniversaryQueryRepository anniversaryQueryRepository;
+	private final ComingAnniversaryCache comingAnniversaryCache;
 
 	public AnniversaryListServiceResponse readAnniversaries(Long targetCoupleId, Integer year,
 		Integer month, Integer day, boolean onlyRepeatStarted) {
 
-		List<Anniversary> anniversaries = anniversaryQueryRepository.findAllByCoupleIdAndDateInfo(
-			targetCoupleId, year, month, day, true, onlyRepeatStarted);
+		List<Anniversary> anniversaries = findAnniversaries(targetCoupleId, year, month, day);
+
+		if (onlyRepeatStarted) {
+			anniversaries = anniversaries.stream()
+				.filter(anniversary -> Objects.equals(anniversary.getDate(),
+					anniversary.getAnniversaryPattern().getRepeatStartDate()))
+				.toList();
+		}
 
 		return AnniversaryListServiceResponse.from(anniversaries);
 	}
@@ -31,17 +43,22 @@ public class AnniversaryReadService {
 	public ComingAnniversaryListServiceResponse readComingAnniversaries(Long targetCoupleId,
 		LocalDate startDate, Integer size) {
 
-		List<Anniversary> anniversaries = anniversaryQueryRepository.findAllComingAnniversariesByCoupleId(
-			startDate, targetCoupleId, size);
+		LocalDate fromDate = startDate == null ? LocalDate.now() : startDate;
+
+		List<ComingAnniversaryServiceResponse> anniversaries = targetCoupleId == null
+			? List.of()
+			: comingAnniversaryCache.findFrom(targetCoupleId, fromDate, size,
+				this::findAllOccurrences);
 
-		return ComingAnniversaryListServiceResponse.from(anniversaries);
+		return ComingAnniversaryListServiceResponse.builder()
+			.anniversaries(anniversaries)
+			.build();
 	}
 
 	public AnniversaryDatesServiceResponse readAnniversaryDates(Long targetCoupleId, Integer year,
 		Integer month) {
 
-		List<Anniversary> anniversaries = anniversaryQueryRepository.findAllByCoupleIdAndDateInfo(
-			targetCoupleId, year, month, null, false, false);
+		List<Anniversary> anniversaries = findAnniversaries(targetCoupleId, year, month, null);
 
 		return AnniversaryDatesServiceResponse.from(anniversaries);
 	}
@@ -52,4 +69,77 @@ public class AnniversaryReadService {
 		return anniversaryQueryRepository.findById(anniversaryId, patternFetchJoinRequired)
 			.orElseThrow(AnniversaryNotFoundException::new);
 	}
+
+	private List<Anniversary> findAnniversaries(Long coupleId, Integer year, Integer month,
+		Integer day) {
+
+		if (coupleId == null) {
+			return List.of();
+		}
+
+		DateRange dateRange = DateRange.of(year, month, day);
+
+		return anniversaryQueryRepository.findAllByCoupleIdAndDateRange(coupleId,
+				dateRange.fromDate(), dateRange.toDate()).stream()
+			.flatMap(anniversary -> getOccurrencesBetween(anniversary, dateRange.fromDate(),
+				dateRange.toDate()).stream())
+			.filter(anniversary -> isSameMonthAndDay(anniversary.getDate(), month, day))
+			.sorted(Comparator.comparing(Anniversary::getDate))
+			.toList();
+	}
+
+	private List<ComingAnniversaryServiceResponse> findAllOccurrences(Long coupleId) {
+
+		return anniversaryQueryRepository.findAllByCoupleIdAndDateRange(coupleId, null, null)
+			.stream()
+			.flatMap(anniversary -> getOccurrencesBetween(anniversary, null, null).stream())
+			.sorted(Comparator.comparing(Anniversary::getDate))
+			.map(ComingAnniversaryServiceResponse::from)
+			.toList();
+	}
+
+	private List<Anniversary> getOccurrencesBetween(Anniversary anniversary, LocalDate fromDate,
+		LocalDate toDate) {
+
+		AnniversaryExpansionEvent event = AnniversaryExpansionEvent.start();
+		List<Anniversary> occurrences = anniversary.getOccurrencesBetween(fromDate, toDate);
+		event.complete(anniversary.getAnniversaryPattern().getRepeatRule().name(),
+			occurrences.size());
+
+		return occurrences;
+	}
+
+	private boolean isSameMonthAndDay(LocalDate date, Integer month, Integer day) {
+
+		return (month == null || date.getMonthValue() == month)
+			&& (day == null || date.getDayOfMonth() == day);
+	}
+
+	// 연도가 없거나 존재하지 않는 날짜라면 구간을 제한하지 않고 월/일로만 거른다.
+	private record DateRange(LocalDate fromDate, LocalDate toDate) {
+
+		private static DateRange of(Integer year, Integer month, Integer day) {
+
+			if (year == null) {
+				return new DateRange(null, null);
+			}
+
+			if (month == null) {
+				return new DateRange(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+			}
+
+			YearMonth yearMonth = YearMonth.of(year, month);
+
+			if (day == null) {
+				return new DateRange(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+			}
+
+			if (!yearMonth.isValidDay(day)) {
+				return new DateRange(null, null);
+			}
+
+			LocalDate date = yearMonth.atDay(day);
+			return new DateRange(date, date);
+		}
+	}
 }
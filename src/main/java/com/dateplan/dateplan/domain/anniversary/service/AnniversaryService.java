@@ -4,25 +4,24 @@ import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
-import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryJDBCRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
 import com.dateplan.dateplan.domain.anniversary.service.dto.request.AnniversaryCreateServiceRequest;
 import com.dateplan.dateplan.domain.anniversary.service.dto.request.AnniversaryModifyServiceRequest;
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
 import com.dateplan.dateplan.domain.member.entity.Member;
-import com.dateplan.dateplan.domain.member.service.MemberReadService;
-import com.dateplan.dateplan.global.constant.DateConstants;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
+import com.dateplan.dateplan.global.exception.anniversary.AnniversaryNotFoundException;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,13 +31,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AnniversaryService {
 
-	private final MemberReadService memberReadService;
+	private static final List<AnniversaryRepeatRule> FIRST_DATE_REPEAT_RULES = List.of(
+		AnniversaryRepeatRule.NONE, AnniversaryRepeatRule.HUNDRED_DAYS, AnniversaryRepeatRule.YEAR);
+
 	private final CoupleReadService coupleReadService;
 	private final AnniversaryReadService anniversaryReadService;
 	private final AnniversaryPatternRepository anniversaryPatternRepository;
 	private final AnniversaryRepository anniversaryRepository;
-	private final AnniversaryJDBCRepository anniversaryJDBCRepository;
 	private final AnniversaryQueryRepository anniversaryQueryRepository;
+	private final CalenderCacheRepository calenderCacheRepository;
+	private final ComingAnniversaryCache comingAnniversaryCache;
 
 	public void createAnniversaries(Long coupleId,
 		AnniversaryCreateServiceRequest request) {
@@ -48,128 +50,51 @@ public class AnniversaryService {
 		AnniversaryPattern anniversaryPattern = request.toAnniversaryPattern(couple);
 		anniversaryPatternRepository.save(anniversaryPattern);
 
-		List<Anniversary> anniversaries = createRepeatedAnniversaries(anniversaryPattern,
-			request);
-
-		anniversaryJDBCRepository.saveAll(anniversaries);
+		anniversaryRepository.save(Anniversary.of(anniversaryPattern, request.getTitle(),
+			request.getContent(), request.getDate()));
+		evictCachesAfterCommit(couple.getId());
 	}
 
-	private List<Anniversary> createRepeatedAnniversaries(AnniversaryPattern anniversaryPattern,
-		AnniversaryCreateServiceRequest request) {
-
-		return switch (anniversaryPattern.getRepeatRule()) {
-
-			case NONE -> List.of(
-				Anniversary.of(anniversaryPattern, request.getTitle(), request.getContent(),
-					request.getDate()));
-
-			case YEAR -> {
-				LocalDate date = request.getDate();
-				String title = request.getTitle();
-				String content = request.getContent();
-
-				yield IntStream.iterate(
-						0,
-						years -> date.plusYears(years)
-							.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE),
-						years -> years + 1)
-					.mapToObj(years ->
-						Anniversary.of(anniversaryPattern, title, content, date.plusYears(years)))
-					.toList();
-			}
-			case HUNDRED_DAYS -> List.of();
-		};
-	}
+	// 커플 연결 트랜잭션 안에서 호출되어, 기념일 생성에 실패하면 커플 연결도 함께 롤백된다.
+	// 패턴과 첫 회차를 모두 만든 뒤 한 번에 저장해 패턴, 기념일 insert 가 각각 하나의 배치로 나간다.
+	public void createAnniversariesForConnectedCouple(Couple couple) {
 
-	public void createAnniversariesForBirthDay(Long memberId) {
+		List<AnniversaryPattern> anniversaryPatterns = new ArrayList<>();
+		List<Anniversary> anniversaries = new ArrayList<>();
 
-		Member member = memberReadService.findMemberByIdOrElseThrow(memberId);
-
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
-
-		LocalDate birthDay = member.getBirthDay();
-
-		AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofBirthDay(couple, birthDay);
-		anniversaryPatternRepository.save(anniversaryPattern);
-
-		List<Anniversary> anniversaries = createRepeatedAnniversariesForBirthDay(member, birthDay,
-			anniversaryPattern);
+		for (AnniversaryRepeatRule repeatRule : FIRST_DATE_REPEAT_RULES) {
+			AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofFirstDate(couple,
+				couple.getFirstDate(), repeatRule);
+			anniversaryPatterns.add(anniversaryPattern);
+			anniversaries.add(Anniversary.ofFirstDate(anniversaryPattern));
+		}
 
-		anniversaryJDBCRepository.saveAll(anniversaries);
-	}
+		for (Member member : List.of(couple.getMember1(), couple.getMember2())) {
+			AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofBirthDay(couple,
+				member.getBirthDay());
+			anniversaryPatterns.add(anniversaryPattern);
+			anniversaries.add(createFirstAnniversaryForBirthDay(anniversaryPattern, member));
+		}
 
-	private List<Anniversary> createRepeatedAnniversariesForBirthDay(Member member,
-		LocalDate birthDay,
-		AnniversaryPattern anniversaryPattern) {
-
-		return IntStream.iterate(
-				0,
-				years -> birthDay.plusYears(years)
-					.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE),
-				years -> years + 1)
-			.mapToObj(years ->
-				Anniversary.ofBirthDay(anniversaryPattern, birthDay.plusYears(years), member.getName()))
-			.toList();
+		anniversaryPatternRepository.saveAll(anniversaryPatterns);
+		anniversaryRepository.saveAll(anniversaries);
+		evictCachesAfterCommit(couple.getId());
 	}
 
-	public void createAnniversariesForFirstDate(Long coupleId) {
+	private Anniversary createFirstAnniversaryForBirthDay(AnniversaryPattern anniversaryPattern,
+		Member member) {
 
-		Couple couple = coupleReadService.findCoupleByIdOrElseThrow(coupleId);
-
-		createAndSaveAnniversariesForFirstDate(couple, AnniversaryRepeatRule.NONE);
-		createAndSaveAnniversariesForFirstDate(couple, AnniversaryRepeatRule.HUNDRED_DAYS);
-		createAndSaveAnniversariesForFirstDate(couple, AnniversaryRepeatRule.YEAR);
+		return Anniversary.ofBirthDay(anniversaryPattern, member.getBirthDay(), member.getName());
 	}
 
-	private void createAndSaveAnniversariesForFirstDate(Couple couple,
-		AnniversaryRepeatRule repeatRule) {
-
-		LocalDate firstDate = couple.getFirstDate();
-
-		AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofFirstDate(couple,
-			firstDate,
-			repeatRule);
-
-		anniversaryPatternRepository.save(anniversaryPattern);
-
-		List<Anniversary> anniversaries = createRepeatedAnniversariesForFirstDate(
-			anniversaryPattern, firstDate);
-
-		anniversaryJDBCRepository.saveAll(anniversaries);
-	}
+	public void modifyAnniversary(Long anniversaryId, AnniversaryModifyServiceRequest request,
+		boolean isInternalCall) {
 
-	private List<Anniversary> createRepeatedAnniversariesForFirstDate(
-		AnniversaryPattern anniversaryPattern, LocalDate firstDate) {
-
-		return switch (anniversaryPattern.getRepeatRule()) {
-
-			case HUNDRED_DAYS -> {
-				LocalDate anniversaryDate = firstDate.minusDays(1);
-
-				yield IntStream.iterate(
-						100,
-						days -> anniversaryDate.plusDays(days)
-							.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE),
-						days -> days + 100)
-					.mapToObj(
-						days -> Anniversary.ofFirstDate(anniversaryPattern, anniversaryDate, days)
-					).toList();
-			}
-
-			case YEAR -> IntStream.iterate(
-					1,
-					years -> firstDate.plusYears(years)
-						.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE),
-					years -> years + 1)
-				.mapToObj(days -> Anniversary.ofFirstDate(anniversaryPattern, firstDate, days)
-				).toList();
-
-			case NONE -> List.of(Anniversary.ofFirstDate(anniversaryPattern, firstDate, 0));
-		};
+		modifyAnniversary(anniversaryId, request, isInternalCall, null);
 	}
 
 	public void modifyAnniversary(Long anniversaryId, AnniversaryModifyServiceRequest request,
-		boolean isInternalCall) {
+		boolean isInternalCall, LocalDate occurrenceDate) {
 
 		Anniversary anniversary = anniversaryReadService.findAnniversaryByIdOrElseThrow(
 			anniversaryId, true);
@@ -180,17 +105,35 @@ public class AnniversaryService {
 			throw new NoPermissionException(Resource.ANNIVERSARY, Operation.UPDATE);
 		}
 
+		// 반복 기념일은 수정한 회차와의 날짜 차이만큼 첫 회차를 옮긴다.
+		LocalDate targetDate = getOccurrenceDateOrElseThrow(anniversary, occurrenceDate);
+		long dayDiff = ChronoUnit.DAYS.between(targetDate, request.getDate());
+
 		anniversaryQueryRepository.updateAllRepeatedAnniversary(anniversaryId, request.getTitle(),
-			request.getContent(), request.getDate());
+			request.getContent(), anniversary.getDate().plusDays(dayDiff));
 
-		long dayDiff = ChronoUnit.DAYS.between(anniversary.getDate(), request.getDate());
 		anniversaryPattern.updateDates(dayDiff);
 		anniversaryPatternRepository.save(anniversaryPattern);
+		evictCachesAfterCommit(anniversaryPattern.getCouple().getId());
 	}
 
 	public void modifyAnniversaryForFirstDate(Long coupleId, LocalDate changedDate) {
 
 		anniversaryQueryRepository.updateAllRepeatedAnniversaryForFirstDate(coupleId, changedDate);
+		evictCachesAfterCommit(coupleId);
+	}
+
+	private LocalDate getOccurrenceDateOrElseThrow(Anniversary anniversary,
+		LocalDate occurrenceDate) {
+
+		if (occurrenceDate == null) {
+			return anniversary.getDate();
+		}
+
+		if (anniversary.getOccurrencesBetween(occurrenceDate, occurrenceDate).isEmpty()) {
+			throw new AnniversaryNotFoundException();
+		}
+		return occurrenceDate;
 	}
 
 	public void deleteAnniversary(Long anniversaryId) {
@@ -206,6 +149,11 @@ public class AnniversaryService {
 		}
 
 		anniversaryRepository.deleteAllByAnniversaryPatternId(anniversaryPattern.getId());
+		evictCachesAfterCommit(anniversaryPattern.getCouple().getId());
 	}
 
+	private void evictCachesAfterCommit(Long coupleId) {
+		calenderCacheRepository.invalidate(coupleId);
+		comingAnniversaryCache.evictAfterCommit(coupleId);
+	}
 }
@@ -0,0 +1,124 @@
+package com.dateplan.dateplan.domain.anniversary.service;
+
+import static com.dateplan.dateplan.global.util.TransactionUtil.runAfterCommit;
+
+import com.dateplan.dateplan.domain.anniversary.service.dto.response.ComingAnniversaryServiceResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 커플별로 전체 기념일 회차를 날짜 순으로 보관한다.
+// 기념일이 바뀌면 Redis 채널로 알려 모든 인스턴스에서 지우고, 알림을 놓친 인스턴스는 ttl 이 지나야 반영된다.
+@Slf4j
+@Component
+public class ComingAnniversaryCache implements MessageListener {
+
+	public static final String EVICT_CHANNEL = "coming-anniversary:evict";
+
+	private final Cache<Long, ComingAnniversaryIndex> cache;
+	private final StringRedisTemplate redisTemplate;
+
+	public ComingAnniversaryCache(
+		@Value("${anniversary.coming-cache.maximum-weight}") long maximumWeight,
+		@Value("${anniversary.coming-cache.ttl-seconds}") long ttlSeconds,
+		StringRedisTemplate redisTemplate
+	) {
+		// 한 커플이 2049년까지의 회차를 모두 가지므로 항목 수 대신 회차 수로 메모리를 제한한다.
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maximumWeight)
+			.weigher((Long coupleId, ComingAnniversaryIndex index) -> Math.max(index.size(), 1))
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.redisTemplate = redisTemplate;
+	}
+
+	public List<ComingAnniversaryServiceResponse> findFrom(Long coupleId, LocalDate fromDate,
+		int size, Function<Long, List<ComingAnniversaryServiceResponse>> loader) {
+
+		return cache.get(coupleId, id -> ComingAnniversaryIndex.from(loader.apply(id)))
+			.findFrom(fromDate, size);
+	}
+
+	public void evictAfterCommit(Long coupleId) {
+		runAfterCommit(() -> {
+			cache.invalidate(coupleId);
+			publishEviction(coupleId);
+		});
+	}
+
+	// 다른 인스턴스(자신 포함)가 보낸 삭제 알림
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		cache.invalidate(Long.valueOf(body));
+	}
+
+	private void publishEviction(Long coupleId) {
+		try {
+			redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(coupleId));
+		} catch (DataAccessException e) {
+			log.warn("coming anniversary eviction publish failed. coupleId={}", coupleId, e);
+		}
+	}
+
+	private static class ComingAnniversaryIndex {
+
+		private final long[] epochDays;
+		private final List<ComingAnniversaryServiceResponse> anniversaries;
+
+		private ComingAnniversaryIndex(long[] epochDays,
+			List<ComingAnniversaryServiceResponse> anniversaries) {
+			this.epochDays = epochDays;
+			this.anniversaries = anniversaries;
+		}
+
+		// 날짜 순으로 정렬된 목록을 받는다.
+		private static ComingAnniversaryIndex from(
+			List<ComingAnniversaryServiceResponse> anniversaries) {
+
+			List<ComingAnniversaryServiceResponse> copied = List.copyOf(anniversaries);
+			long[] epochDays = copied.stream()
+				.mapToLong(anniversary -> anniversary.getDate().toEpochDay())
+				.toArray();
+
+			return new ComingAnniversaryIndex(epochDays, copied);
+		}
+
+		private int size() {
+			return epochDays.length;
+		}
+
+		private List<ComingAnniversaryServiceResponse> findFrom(LocalDate fromDate, int size) {
+			int fromIndex = lowerBound(fromDate.toEpochDay());
+			int toIndex = (int) Math.min((long) fromIndex + Math.max(size, 0), epochDays.length);
+
+			return anniversaries.subList(fromIndex, toIndex);
+		}
+
+		// 같은 날짜가 여러 건일 수 있으므로 target 이상인 첫 위치를 찾는다.
+		private int lowerBound(long target) {
+			int low = 0;
+			int high = epochDays.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (epochDays[mid] < target) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
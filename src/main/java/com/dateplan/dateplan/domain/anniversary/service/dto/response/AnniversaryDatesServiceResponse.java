@@ -1,8 +1,8 @@
 package com.dateplan.dateplan.domain.anniversary.service.dto.response;
 
 import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
+import com.dateplan.dateplan.global.util.DaySet;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,17 +11,21 @@ import lombok.Getter;
 @Builder
 public class AnniversaryDatesServiceResponse {
 
-	private List<LocalDate> anniversaryDates;
+	private DaySet anniversaryDays;
 
 	public static AnniversaryDatesServiceResponse from(List<Anniversary> anniversaries) {
 
-		List<LocalDate> dates = anniversaries.stream()
-			.map(Anniversary::getDate)
-			.distinct()
-			.toList();
+		DaySet anniversaryDays = new DaySet();
+		for (Anniversary anniversary : anniversaries) {
+			anniversaryDays.add(anniversary.getDate());
+		}
 
 		return AnniversaryDatesServiceResponse.builder()
-			.anniversaryDates(dates)
+			.anniversaryDays(anniversaryDays)
 			.build();
 	}
+
+	public List<LocalDate> getAnniversaryDates() {
+		return anniversaryDays.toLocalDates();
+	}
 }
@@ -1,12 +1,11 @@
 package com.dateplan.dateplan.domain.calender.controller;
 
-import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderDateResponse;
 import com.dateplan.dateplan.domain.calender.service.CalenderReadService;
-import com.dateplan.dateplan.domain.calender.service.dto.response.CalenderDateServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
-import com.dateplan.dateplan.global.dto.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,14 +20,15 @@ public class CalenderController {
 	private final CalenderReadService calenderReadService;
 
 	@GetMapping("/calender/date")
-	public ApiResponse<CalenderDateResponse> readCalenderDate(
+	public ResponseEntity<byte[]> readCalenderDate(
 		@PathVariable(value = "member_id") Long memberId,
 		@RequestParam(value = "year") Integer year,
 		@RequestParam(value = "month") Integer month
 	) {
 		final Member member = MemberThreadLocal.get();
-		CalenderDateServiceResponse response = calenderReadService.readCalenderDates(
-			member, memberId, year, month);
-		return ApiResponse.ofSuccess(CalenderDateResponse.from(response));
+		byte[] response = calenderReadService.readCalenderDatesJson(member, memberId, year, month);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(response);
 	}
 }
@@ -0,0 +1,98 @@
+package com.dateplan.dateplan.domain.calender.repository;
+
+import static com.dateplan.dateplan.global.util.TransactionUtil.runAfterCommit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+// 커플 단위 버전을 키에 포함해, 쓰기 시 버전만 올리면 이전 캐시는 더 이상 조회되지 않는다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CalenderCacheRepository {
+
+	private static final String VERSION_PREFIX = "[CALENDER_VERSION]";
+	private static final String CACHE_PREFIX = "[CALENDER]";
+	private static final String INITIAL_VERSION = "0";
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${calender.cache.ttl-seconds}")
+	private long ttlSeconds;
+
+	public String findVersion(Long coupleId) {
+		try {
+			String version = redisTemplate.opsForValue().get(getVersionKey(coupleId));
+			return version == null ? INITIAL_VERSION : version;
+		} catch (DataAccessException e) {
+			log.warn("calender cache version read failed. coupleId={}", coupleId, e);
+			return null;
+		}
+	}
+
+	public Optional<byte[]> find(Long coupleId, String version, Long memberId, Integer year,
+		Integer month) {
+		if (version == null) {
+			return Optional.empty();
+		}
+
+		byte[] key = getCacheKey(coupleId, version, memberId, year, month);
+		try {
+			return Optional.ofNullable(redisTemplate.execute(
+				(RedisCallback<byte[]>) connection -> connection.stringCommands().get(key)));
+		} catch (DataAccessException e) {
+			log.warn("calender cache read failed. coupleId={}", coupleId, e);
+			return Optional.empty();
+		}
+	}
+
+	public void save(Long coupleId, String version, Long memberId, Integer year, Integer month,
+		byte[] json) {
+		if (version == null) {
+			return;
+		}
+
+		byte[] key = getCacheKey(coupleId, version, memberId, year, month);
+		try {
+			redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+				.set(key, json, Expiration.seconds(ttlSeconds), SetOption.upsert()));
+		} catch (DataAccessException e) {
+			log.warn("calender cache write failed. coupleId={}", coupleId, e);
+		}
+	}
+
+	// 버전을 올리지 못하면 이전 캐시가 계속 조회되므로 커밋 전에 올려 보고, 실패하면 쓰기도 실패시킨다.
+	// 커밋 전에 올린 버전으로 커밋 전 데이터가 캐시될 수 있으므로 커밋 이후에 한 번 더 올린다.
+	// 트랜잭션 밖에서는 바로 한 번 더 올리게 되지만 버전이 달라지기만 하면 되므로 문제없다.
+	public void invalidate(Long coupleId) {
+		redisTemplate.opsForValue().increment(getVersionKey(coupleId));
+		runAfterCommit(() -> increaseVersion(coupleId));
+	}
+
+	private void increaseVersion(Long coupleId) {
+		try {
+			redisTemplate.opsForValue().increment(getVersionKey(coupleId));
+		} catch (DataAccessException e) {
+			log.error("calender cache version increase failed. coupleId={}", coupleId, e);
+		}
+	}
+
+	private String getVersionKey(Long coupleId) {
+		return VERSION_PREFIX + coupleId;
+	}
+
+	private byte[] getCacheKey(Long coupleId, String version, Long memberId, Integer year,
+		Integer month) {
+		return String.format("%s%d:%s:%d:%d-%d", CACHE_PREFIX, coupleId, version, memberId, year,
+			month).getBytes(StandardCharsets.UTF_8);
+	}
+}
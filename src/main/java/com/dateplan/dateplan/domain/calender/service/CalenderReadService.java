@@ -2,8 +2,11 @@ package com.dateplan.dateplan.domain.calender.service;
 
 import com.dateplan.dateplan.domain.anniversary.service.AnniversaryReadService;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryDatesServiceResponse;
+import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderDateResponse;
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
 import com.dateplan.dateplan.domain.calender.service.dto.response.CalenderDateServiceResponse;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.dating.service.DatingReadService;
 import com.dateplan.dateplan.domain.dating.service.dto.response.DatingDatesServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
@@ -11,40 +14,165 @@ import com.dateplan.dateplan.domain.schedule.service.ScheduleReadService;
 import com.dateplan.dateplan.domain.schedule.service.dto.response.ScheduleDatesServiceResponse;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
+import com.dateplan.dateplan.global.dto.response.ApiResponse;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
+import com.dateplan.dateplan.global.exception.calender.CalenderReadBusyException;
+import com.dateplan.dateplan.global.exception.calender.CalenderReadTimeoutException;
+import com.dateplan.dateplan.global.jfr.CalenderBranchEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// 하위 조회는 각자의 읽기 전용 트랜잭션에서 병렬로 실행되므로 이 서비스는 트랜잭션을 열지 않는다.
 @RequiredArgsConstructor
 @Service
-@Transactional(readOnly = true)
 public class CalenderReadService {
 
+	private static final String BRANCH_TIMER_NAME = "calender.read.branch";
+
 	private final CoupleReadService coupleReadService;
 	private final DatingReadService datingReadService;
 	private final ScheduleReadService scheduleReadService;
 	private final AnniversaryReadService anniversaryReadService;
+	private final AsyncTaskExecutor calenderReadExecutor;
+	private final MeterRegistry meterRegistry;
+	private final CalenderCacheRepository calenderCacheRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${calender.read.timeout-millis}")
+	private long timeoutMillis;
+
+	// 캐시된 응답 본문을 그대로 반환해 역직렬화/재직렬화 비용을 없앤다.
+	public byte[] readCalenderDatesJson(Member member, Long memberId, Integer year,
+		Integer month) {
+
+		checkPermission(member, memberId);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
+		Long coupleId = coupleInfo.getCoupleId();
+
+		// 버전을 먼저 읽어야 조회 도중 발생한 쓰기가 새 버전 키를 오염시키지 않는다.
+		String version = calenderCacheRepository.findVersion(coupleId);
+		Optional<byte[]> cached = calenderCacheRepository.find(coupleId, version, memberId, year,
+			month);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		CalenderDateServiceResponse response = readCalenderDates(coupleInfo, member, year,
+			month);
+		byte[] json = toJson(response);
+		calenderCacheRepository.save(coupleId, version, memberId, year, month, json);
+
+		return json;
+	}
 
 	public CalenderDateServiceResponse readCalenderDates(Member member, Long memberId,
 		Integer year, Integer month) {
 
+		checkPermission(member, memberId);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
+
+		return readCalenderDates(coupleInfo, member, year, month);
+	}
+
+	private CalenderDateServiceResponse readCalenderDates(CoupleInfoServiceResponse coupleInfo,
+		Member member, Integer year, Integer month) {
+
+		List<Future<?>> branches = new ArrayList<>();
+		try {
+			Future<DatingDatesServiceResponse> datingDates = readAsync(branches, "dating",
+				() -> datingReadService.readDatingDates(coupleInfo, year, month));
+			Future<ScheduleDatesServiceResponse> myScheduleDates = readAsync(branches,
+				"mySchedule", () -> scheduleReadService.readMyScheduleDates(member, year, month));
+			Future<ScheduleDatesServiceResponse> partnerScheduleDates = readAsync(branches,
+				"partnerSchedule",
+				() -> scheduleReadService.readPartnerScheduleDates(coupleInfo, year, month));
+			Future<AnniversaryDatesServiceResponse> anniversaryDates = readAsync(branches,
+				"anniversary", () -> anniversaryReadService.readAnniversaryDates(
+					coupleInfo.getCoupleId(), year, month));
+
+			long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+			return CalenderDateServiceResponse.of(get(datingDates, deadlineNanos),
+				get(myScheduleDates, deadlineNanos), get(partnerScheduleDates, deadlineNanos),
+				get(anniversaryDates, deadlineNanos));
+		} finally {
+			// 실패하거나 시간이 초과되면 대기 중인 분기는 실행하지 않고, 실행 중인 분기는 인터럽트한다.
+			branches.forEach(branch -> branch.cancel(true));
+		}
+	}
+
+	private void checkPermission(Member member, Long memberId) {
 		if (!Objects.equals(member.getId(), memberId)) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.READ);
 		}
-		Long coupleId = coupleReadService.getCoupleInfo(member).getCoupleId();
-		Long partnerId = coupleReadService.getPartnerId(member);
-
-		DatingDatesServiceResponse datingDates = datingReadService.readDatingDates(
-			member, coupleId, year, month);
-		ScheduleDatesServiceResponse myScheduleDates = scheduleReadService.readScheduleDates(
-			member, memberId, year, month);
-		ScheduleDatesServiceResponse partnerScheduleDates = scheduleReadService.readScheduleDates(
-			member, partnerId, year, month);
-		AnniversaryDatesServiceResponse anniversaryDates = anniversaryReadService.readAnniversaryDates(
-			coupleId, year, month);
-		return CalenderDateServiceResponse.of(datingDates, myScheduleDates, partnerScheduleDates,
-			anniversaryDates);
+	}
+
+	private byte[] toJson(CalenderDateServiceResponse response) {
+		try {
+			return objectMapper.writeValueAsBytes(
+				ApiResponse.ofSuccess(CalenderDateResponse.from(response)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private <T> Future<T> readAsync(List<Future<?>> branches, String branch,
+		Supplier<T> supplier) {
+		Timer timer = Timer.builder(BRANCH_TIMER_NAME)
+			.tag("branch", branch)
+			.register(meterRegistry);
+
+		try {
+			Future<T> future = calenderReadExecutor.submit(
+				() -> timer.record(() -> recordEvent(branch, supplier)));
+			branches.add(future);
+			return future;
+		} catch (TaskRejectedException e) {
+			throw new CalenderReadBusyException();
+		}
+	}
+
+	// 실행 스레드에서 기록해야 JFR 에서 같은 스레드의 GC, 락 대기 이벤트와 함께 볼 수 있다.
+	private <T> T recordEvent(String branch, Supplier<T> supplier) {
+		CalenderBranchEvent event = CalenderBranchEvent.start();
+		boolean succeeded = false;
+		try {
+			T result = supplier.get();
+			succeeded = true;
+			return result;
+		} finally {
+			event.complete(branch, succeeded);
+		}
+	}
+
+	private <T> T get(Future<T> future, long deadlineNanos) {
+		try {
+			return future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new CalenderReadTimeoutException();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CalenderReadTimeoutException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
 	}
 }
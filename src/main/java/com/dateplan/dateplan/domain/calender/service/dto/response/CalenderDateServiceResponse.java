@@ -4,11 +4,11 @@ import com.dateplan.dateplan.domain.anniversary.service.dto.response.Anniversary
 import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderEntry;
 import com.dateplan.dateplan.domain.dating.service.dto.response.DatingDatesServiceResponse;
 import com.dateplan.dateplan.domain.schedule.service.dto.response.ScheduleDatesServiceResponse;
+import com.dateplan.dateplan.global.util.DaySet;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.stream.IntStream;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,6 +16,19 @@ import lombok.Getter;
 @Getter
 public class CalenderDateServiceResponse {
 
+	// merge 에 넘기는 순서와 같아야 하며, 마스크의 i 번째 비트가 i 번째 이벤트를 뜻한다.
+	private static final List<String> EVENTS = List.of("datingSchedule", "mySchedule",
+		"partnerSchedule", "anniversary");
+
+	// 가능한 조합이 16가지뿐이므로 날짜마다 리스트를 만들지 않고 마스크별 리스트를 공유한다.
+	private static final List<List<String>> EVENTS_BY_MASK = IntStream.range(0,
+			1 << EVENTS.size())
+		.mapToObj(mask -> IntStream.range(0, EVENTS.size())
+			.filter(i -> (mask & (1 << i)) != 0)
+			.mapToObj(EVENTS::get)
+			.toList())
+		.toList();
+
 	List<CalenderEntry> schedules;
 
 	public static CalenderDateServiceResponse of(
@@ -24,30 +37,18 @@ public class CalenderDateServiceResponse {
 		ScheduleDatesServiceResponse partnerScheduleDates,
 		AnniversaryDatesServiceResponse anniversaryDates
 	) {
-		Map<LocalDate, List<String>> dateStringMap = new TreeMap<>();
-		addDatesToList(dateStringMap, datingDates.getDatingDates(), "datingSchedule");
-		addDatesToList(dateStringMap, myScheduleDates.getScheduleDates(), "mySchedule");
-		addDatesToList(dateStringMap, partnerScheduleDates.getScheduleDates(), "partnerSchedule");
-		addDatesToList(dateStringMap, anniversaryDates.getAnniversaryDates(), "anniversary");
+		List<CalenderEntry> schedules = new ArrayList<>();
+		DaySet.merge((epochDay, mask) -> schedules.add(CalenderEntry.builder()
+				.date(LocalDate.ofEpochDay(epochDay))
+				.events(EVENTS_BY_MASK.get(mask))
+				.build()),
+			datingDates.getDatingDays(),
+			myScheduleDates.getScheduleDays(),
+			partnerScheduleDates.getScheduleDays(),
+			anniversaryDates.getAnniversaryDays());
 
 		return CalenderDateServiceResponse.builder()
-			.schedules(dateStringMap.entrySet()
-				.stream()
-				.map(k -> CalenderEntry.builder()
-					.date(k.getKey())
-					.events(k.getValue())
-					.build())
-				.toList())
+			.schedules(schedules)
 			.build();
 	}
-
-	private static void addDatesToList(
-		Map<LocalDate, List<String>> map,
-		List<LocalDate> dates,
-		String value
-	) {
-		for (LocalDate date : dates) {
-			map.computeIfAbsent(date, k -> new ArrayList<>()).add(value);
-		}
-	}
 }
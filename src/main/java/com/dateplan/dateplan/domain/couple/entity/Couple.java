@@ -1,6 +1,7 @@
 package com.dateplan.dateplan.domain.couple.entity;
 
 import com.dateplan.dateplan.domain.member.entity.Member;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,10 +9,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -33,19 +37,27 @@ public class Couple {
 	@Column(name = "first_date", columnDefinition = "DATE")
 	private LocalDate firstDate;
 
-	@OneToOne(fetch = FetchType.LAZY, optional = false)
+	// 회원당 하나의 커플은 member_couple 의 기본 키로 보장한다.
+	// 연결 해제된 커플은 백그라운드 삭제 전까지 남아 있으므로 회원 컬럼에 유일 제약을 두지 않는다.
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "member_id_1", nullable = false)
 	private Member member1;
 
-	@OneToOne(fetch = FetchType.LAZY, optional = false)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "member_id_2", nullable = false)
 	private Member member2;
 
+	@Getter(AccessLevel.NONE)
+	@OneToMany(mappedBy = "couple", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
+	private List<MemberCouple> memberCouples = new ArrayList<>();
+
 	@Builder
 	public Couple(LocalDate firstDate, Member member1, Member member2) {
 		this.firstDate = firstDate;
 		this.member1 = member1;
 		this.member2 = member2;
+		this.memberCouples.add(new MemberCouple(this, member1));
+		this.memberCouples.add(new MemberCouple(this, member2));
 	}
 
 	public void updateFirstDate(LocalDate firstDate) {
@@ -0,0 +1,40 @@
+package com.dateplan.dateplan.domain.couple.entity;
+
+import com.dateplan.dateplan.domain.member.entity.Member;
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 id 로 커플을 기본 키 조회하기 위한 테이블로, Couple 과 함께 저장되고 연결 해제 시 바로 삭제된다.
+@Entity
+@Getter
+@Table(name = "member_couple",
+	indexes = @Index(name = "idx_member_couple_couple", columnList = "couple_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberCouple {
+
+	@Id
+	@Column(name = "member_id", columnDefinition = "BIGINT", updatable = false)
+	private Long memberId;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "couple_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private Couple couple;
+
+	MemberCouple(Couple couple, Member member) {
+		this.memberId = member.getId();
+		this.couple = couple;
+	}
+}
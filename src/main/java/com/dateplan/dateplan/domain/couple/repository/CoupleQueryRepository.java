@@ -1,8 +1,7 @@
 package com.dateplan.dateplan.domain.couple.repository;
 
-import static com.dateplan.dateplan.domain.couple.entity.QCouple.couple;
+import static com.dateplan.dateplan.domain.couple.entity.QMemberCouple.memberCouple;
 
-import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -13,15 +12,11 @@ public class CoupleQueryRepository {
 
 	private final JPAQueryFactory queryFactory;
 
-	public boolean existsByIdAndMemberId(Long coupleId, Long memberId){
+	public Long findCoupleIdByMemberId(Long memberId) {
 
-		Couple findCouple = queryFactory.selectFrom(couple)
-			.where(couple.member1.id.eq(memberId)
-				.or(couple.member2.id.eq(memberId))
-				.and(couple.id.eq(coupleId)))
-			.limit(1)
+		return queryFactory.select(memberCouple.couple.id)
+			.from(memberCouple)
+			.where(memberCouple.memberId.eq(memberId))
 			.fetchFirst();
-
-		return findCouple != null;
 	}
 }
@@ -1,12 +1,14 @@
 package com.dateplan.dateplan.domain.couple.repository;
 
 import com.dateplan.dateplan.domain.couple.entity.Couple;
-import com.dateplan.dateplan.domain.member.entity.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CoupleRepository extends JpaRepository<Couple, Long> {
 
-	Boolean existsByMember1OrMember2(Member member1, Member member2);
-	Optional<Couple> findByMember1OrMember2(Member member1, Member member2);
+	@Query("SELECT c FROM Couple c WHERE c.id = "
+		+ "(SELECT mc.couple.id FROM MemberCouple mc WHERE mc.memberId = :memberId)")
+	Optional<Couple> findByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,14 @@
+package com.dateplan.dateplan.domain.couple.repository;
+
+import com.dateplan.dateplan.domain.couple.entity.MemberCouple;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberCoupleRepository extends JpaRepository<MemberCouple, Long> {
+
+	@Modifying
+	@Query("delete from MemberCouple m where m.couple.id = :coupleId")
+	void deleteAllByCoupleId(@Param("coupleId") Long coupleId);
+}
@@ -2,10 +2,15 @@ package com.dateplan.dateplan.domain.couple.service;
 
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.repository.MemberCoupleRepository;
 import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.global.auth.CoupleContext;
+import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.exception.couple.CoupleNotFoundException;
 import com.dateplan.dateplan.global.exception.couple.MemberNotConnectedException;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,16 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class CoupleReadService {
 
 	private final CoupleRepository coupleRepository;
+	private final MemberCoupleRepository memberCoupleRepository;
 
 	public boolean isMemberConnected(Member member) {
-		return coupleRepository.existsByMember1OrMember2(member, member);
+		return memberCoupleRepository.existsById(member.getId());
 	}
 
 	public Couple findCoupleByMemberOrElseThrow(Member member) {
-		return coupleRepository.findByMember1OrMember2(member, member)
+		return findCoupleByMember(member)
 			.orElseThrow(MemberNotConnectedException::new);
 	}
 
+	public Optional<Couple> findCoupleByMember(Member member) {
+		return coupleRepository.findByMemberId(member.getId());
+	}
+
 	public Couple findCoupleByIdOrElseThrow(Long coupleId) {
 
 		return coupleRepository.findById(coupleId)
@@ -34,19 +44,45 @@ public class CoupleReadService {
 
 	public Long getPartnerId(Member member) {
 
-		return findCoupleByMemberOrElseThrow(member)
-			.getPartnerId(member);
+		return getCoupleInfo(member).getPartnerId();
 	}
 
 	public CoupleInfoServiceResponse getCoupleInfo(Member loginMember) {
 
-		Couple couple = findCoupleByMemberOrElseThrow(loginMember);
-		Long partnerId = couple.getPartnerId(loginMember);
+		return findCoupleInfo(loginMember)
+			.orElseThrow(MemberNotConnectedException::new);
+	}
+
+	// 로그인 회원의 커플 정보는 요청마다 한 번만 조회하고, 이후에는 CoupleContext 에서 꺼낸다.
+	public Optional<CoupleInfoServiceResponse> findCoupleInfo(Member member) {
+
+		CoupleInfoServiceResponse cached = CoupleContext.get(member.getId());
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		Optional<CoupleInfoServiceResponse> coupleInfo = findCoupleByMember(member)
+			.map(couple -> CoupleInfoServiceResponse.builder()
+				.coupleId(couple.getId())
+				.partnerId(couple.getPartnerId(member))
+				.firstDate(couple.getFirstDate())
+				.build());
+
+		if (isLoginMember(member)) {
+			coupleInfo.ifPresent(info -> CoupleContext.set(member.getId(), info));
+		}
+		return coupleInfo;
+	}
+
+	// 엔티티 조회 없이 연관관계를 맺을 때 사용한다.
+	public Couple getCoupleReference(Long coupleId) {
+
+		return coupleRepository.getReferenceById(coupleId);
+	}
+
+	private boolean isLoginMember(Member member) {
 
-		return CoupleInfoServiceResponse.builder()
-			.coupleId(couple.getId())
-			.partnerId(partnerId)
-			.firstDate(couple.getFirstDate())
-			.build();
+		Member loginMember = MemberThreadLocal.get();
+		return loginMember != null && Objects.equals(loginMember.getId(), member.getId());
 	}
 }
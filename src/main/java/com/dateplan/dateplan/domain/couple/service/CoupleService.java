@@ -1,21 +1,24 @@
 package com.dateplan.dateplan.domain.couple.service;
 
+import static com.dateplan.dateplan.global.util.ExternalCallTimer.REDIS;
 import static com.dateplan.dateplan.global.util.RandomCodeGenerator.generateConnectionCode;
 
-import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
-import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
+import com.dateplan.dateplan.domain.anniversary.service.ComingAnniversaryCache;
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.repository.MemberCoupleRepository;
 import com.dateplan.dateplan.domain.couple.service.dto.request.FirstDateServiceRequest;
 import com.dateplan.dateplan.domain.couple.service.dto.response.FirstDateServiceResponse;
-import com.dateplan.dateplan.domain.dating.repository.DatingQueryRepository;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.service.MemberReadService;
 import com.dateplan.dateplan.domain.member.service.dto.request.ConnectionServiceRequest;
 import com.dateplan.dateplan.domain.member.service.dto.response.ConnectionServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.response.CoupleConnectServiceResponse;
-import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
-import com.dateplan.dateplan.domain.schedule.repository.ScheduleQueryRepository;
+import com.dateplan.dateplan.domain.purge.service.DataPurgeService;
+import com.dateplan.dateplan.global.auth.CoupleContext;
+import com.dateplan.dateplan.global.auth.CoupleMembershipCache;
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
@@ -23,6 +26,8 @@ import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import com.dateplan.dateplan.global.exception.member.AlreadyConnectedException;
 import com.dateplan.dateplan.global.exception.member.InvalidConnectionCodeException;
 import com.dateplan.dateplan.global.exception.member.SelfConnectionNotAllowedException;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -42,12 +47,15 @@ public class CoupleService {
 	private final StringRedisTemplate redisTemplate;
 	private final CoupleRepository coupleRepository;
 	private final CoupleReadService coupleReadService;
-	private final SchedulePatternRepository schedulePatternRepository;
-	private final AnniversaryPatternRepository anniversaryPatternRepository;
-	private final ScheduleQueryRepository scheduleQueryRepository;
-	private final AnniversaryQueryRepository anniversaryQueryRepository;
-	private final DatingQueryRepository datingQueryRepository;
-
+	private final MemberCoupleRepository memberCoupleRepository;
+	private final DataPurgeService dataPurgeService;
+	private final CalenderCacheRepository calenderCacheRepository;
+	private final ComingAnniversaryCache comingAnniversaryCache;
+	private final CoupleMembershipCache coupleMembershipCache;
+	private final AnniversaryService anniversaryService;
+	private final MeterRegistry meterRegistry;
+
+	// 연결 관계만 바로 끊고, 커플과 두 회원의 데이터는 DataPurgeReaper 가 chunk 단위로 지운다.
 	public void disconnectCouple(Member member, Long memberId) {
 		if (!isSameMember(member.getId(), memberId)) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.DELETE);
@@ -56,27 +64,12 @@ public class CoupleService {
 		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
 		Long partnerId = couple.getPartnerId(member);
 
-		deleteSchedules(memberId, partnerId);
-		deleteDating(couple);
-		deleteAnniversaries(couple);
-		coupleRepository.deleteById(couple.getId());
-	}
-
-	private void deleteDating(Couple couple) {
-		datingQueryRepository.deleteByCoupleId(couple.getId());
-	}
-
-	private void deleteAnniversaries(Couple couple) {
-		anniversaryQueryRepository.deleteByCoupleId(couple.getId());
-		anniversaryPatternRepository.deleteAllByCoupleId(couple.getId());
-	}
-
-	private void deleteSchedules(Long memberId, Long partnerId) {
-		scheduleQueryRepository.deleteByMemberId(memberId);
-		scheduleQueryRepository.deleteByMemberId(partnerId);
-
-		schedulePatternRepository.deleteAllByMemberId(memberId);
-		schedulePatternRepository.deleteAllByMemberId(partnerId);
+		memberCoupleRepository.deleteAllByCoupleId(couple.getId());
+		dataPurgeService.purgeCouple(couple.getId(), memberId, partnerId);
+		calenderCacheRepository.invalidate(couple.getId());
+		comingAnniversaryCache.evictAfterCommit(couple.getId());
+		coupleMembershipCache.evictAfterCommit(memberId, partnerId);
+		CoupleContext.remove();
 	}
 
 	@Transactional(readOnly = true)
@@ -104,6 +97,8 @@ public class CoupleService {
 		}
 
 		couple.updateFirstDate(request.getFirstDate());
+		calenderCacheRepository.invalidate(couple.getId());
+		CoupleContext.remove();
 	}
 
 	public ConnectionServiceResponse getConnectionCode(Member loginMember, Long memberId) {
@@ -111,9 +106,18 @@ public class CoupleService {
 		if (!isSameMember(memberId, loginMember.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.READ);
 		}
+		String connectionCode = ExternalCallTimer.record(meterRegistry, REDIS,
+			"getConnectionCode", () -> findOrCreateConnectionCode(loginMember.getId()));
+
+		return ConnectionServiceResponse.builder()
+			.connectionCode(connectionCode)
+			.build();
+	}
+
+	private String findOrCreateConnectionCode(Long memberId) {
 		ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
 
-		String key = getConnectionKey(loginMember.getId());
+		String key = getConnectionKey(memberId);
 		String connectionCode = stringValueOperations.get(key);
 
 		if (connectionCode == null) {
@@ -123,15 +127,12 @@ public class CoupleService {
 			}
 
 			stringValueOperations.set(key, connectionCode);
-			stringValueOperations.set(connectionCode, String.valueOf(loginMember.getId()));
+			stringValueOperations.set(connectionCode, String.valueOf(memberId));
 
 			stringValueOperations.getAndExpire(key, Duration.ofHours(24L));
 			stringValueOperations.getAndExpire(connectionCode, Duration.ofHours(24L));
 		}
-
-		return ConnectionServiceResponse.builder()
-			.connectionCode(connectionCode)
-			.build();
+		return connectionCode;
 	}
 
 	public CoupleConnectServiceResponse connectCouple(Member loginMember, Long memberId,
@@ -153,6 +154,9 @@ public class CoupleService {
 			.firstDate(request.getFirstDate())
 			.build();
 		coupleRepository.save(couple);
+		anniversaryService.createAnniversariesForConnectedCouple(couple);
+		coupleMembershipCache.evictAfterCommit(memberId, partnerId);
+		CoupleContext.remove();
 		deleteConnectionKey(memberId);
 		deleteConnectionKey(partnerId);
 
@@ -160,12 +164,14 @@ public class CoupleService {
 	}
 
 	private void deleteConnectionKey(Long memberId) {
-		ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
-		String key = stringValueOperations.getAndDelete(getConnectionKey(memberId));
+		ExternalCallTimer.record(meterRegistry, REDIS, "deleteConnectionKey", () -> {
+			ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
+			String key = stringValueOperations.getAndDelete(getConnectionKey(memberId));
 
-		if (key != null) {
-			stringValueOperations.getAndDelete(key);
-		}
+			if (key != null) {
+				stringValueOperations.getAndDelete(key);
+			}
+		});
 	}
 
 	private void throwIfAlreadyConnected(Member partner) {
@@ -175,8 +181,8 @@ public class CoupleService {
 	}
 
 	private Long getIdOrThrowIfConnectionCodeInvalid(String connectionCode) {
-		ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
-		String id = stringValueOperations.get(connectionCode);
+		String id = ExternalCallTimer.record(meterRegistry, REDIS, "findConnectionCode",
+			() -> redisTemplate.opsForValue().get(connectionCode));
 		if (id == null) {
 			throw new InvalidConnectionCodeException();
 		}
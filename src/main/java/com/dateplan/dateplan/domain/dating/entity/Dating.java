@@ -1,15 +1,18 @@
 package com.dateplan.dateplan.domain.dating.entity;
 
 import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -17,7 +20,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "dating")
+@Table(name = "dating", indexes = {
+	@Index(name = "idx_dating_couple_start_end",
+		columnList = "couple_id, start_date_time, end_date_time"),
+	@Index(name = "idx_dating_couple_month",
+		columnList = "couple_id, start_month, end_month")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Getter
@@ -25,7 +33,11 @@ public class Dating {
 
 	@Id
 	@Column(name = "dating_id", columnDefinition = "BIGINT", updatable = false, unique = true)
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "dating_id_generator")
+	@TableGenerator(name = "dating_id_generator", table = IdGeneratorConstants.TABLE,
+		pkColumnName = IdGeneratorConstants.PK_COLUMN,
+		valueColumnName = IdGeneratorConstants.VALUE_COLUMN, pkColumnValue = "dating",
+		allocationSize = IdGeneratorConstants.ALLOCATION_SIZE)
 	private Long id;
 
 	@NotNull
@@ -46,6 +58,14 @@ public class Dating {
 	@Column(name = "end_date_time", columnDefinition = "DATETIME")
 	private LocalDateTime endDateTime;
 
+	@Column(name = "start_month", insertable = false, updatable = false,
+		columnDefinition = "TINYINT GENERATED ALWAYS AS (MONTH(start_date_time)) STORED")
+	private Integer startMonth;
+
+	@Column(name = "end_month", insertable = false, updatable = false,
+		columnDefinition = "TINYINT GENERATED ALWAYS AS (MONTH(end_date_time)) STORED")
+	private Integer endMonth;
+
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "couple_id", nullable = false)
 	private Couple couple;
@@ -7,7 +7,6 @@ import com.dateplan.dateplan.domain.dating.entity.Dating;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -37,8 +36,8 @@ public class DatingQueryRepository {
 
 	private BooleanExpression dateBetween(Integer year, Integer month, Integer day) {
 		LocalDate requestDate = LocalDate.of(year, month, day);
-		return dating.startDateTime.loe(requestDate.atTime(LocalTime.MAX))
-			.and(dating.endDateTime.goe(requestDate.atTime(LocalTime.MIN)));
+		return dating.startDateTime.lt(requestDate.plusDays(1).atStartOfDay())
+			.and(dating.endDateTime.goe(requestDate.atStartOfDay()));
 	}
 
 	public List<Dating> findByYearAndMonthOrderByDate(Long coupleId, Integer year, Integer month) {
@@ -53,18 +52,19 @@ public class DatingQueryRepository {
 			.fetch();
 	}
 
+	// 인덱스를 탈 수 있도록 날짜 함수 대신 반열린 구간 또는 생성 컬럼으로 비교한다.
 	private BooleanExpression startDateTimeLoe(Integer year, Integer month) {
 		if (year == null && month == null) {
 			return null;
 		}
 		if (year == null) {
-			return dating.startDateTime.month().loe(month);
+			return dating.startMonth.loe(month);
 		}
 		if (month == null) {
-			return dating.startDateTime.year().loe(year);
+			return dating.startDateTime.lt(LocalDate.of(year + 1, 1, 1).atStartOfDay());
 		}
-		return dating.startDateTime.loe(
-			YearMonth.of(year, month).atEndOfMonth().atTime(LocalTime.MAX));
+		return dating.startDateTime.lt(
+			YearMonth.of(year, month).plusMonths(1).atDay(1).atStartOfDay());
 	}
 
 	private BooleanExpression endDateTimeGoe(Integer year, Integer month) {
@@ -72,13 +72,12 @@ public class DatingQueryRepository {
 			return null;
 		}
 		if (year == null) {
-			return dating.endDateTime.month().goe(month);
+			return dating.endMonth.goe(month);
 		}
 		if (month == null) {
-			return dating.endDateTime.year().goe(year);
+			return dating.endDateTime.goe(LocalDate.of(year, 1, 1).atStartOfDay());
 		}
-		return dating.endDateTime.goe(
-			YearMonth.of(year, month).atDay(1).atTime(LocalTime.MIN));
+		return dating.endDateTime.goe(YearMonth.of(year, month).atDay(1).atStartOfDay());
 	}
 
 	private BooleanExpression coupleIdEq(Long coupleId) {
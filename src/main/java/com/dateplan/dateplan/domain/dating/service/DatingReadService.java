@@ -1,7 +1,7 @@
 package com.dateplan.dateplan.domain.dating.service;
 
-import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.dating.entity.Dating;
 import com.dateplan.dateplan.domain.dating.repository.DatingQueryRepository;
 import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
@@ -12,10 +12,9 @@ import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import com.dateplan.dateplan.global.exception.dating.DatingNotFoundException;
-import java.time.LocalDate;
+import com.dateplan.dateplan.global.util.DaySet;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,8 +40,8 @@ public class DatingReadService {
 		Integer month,
 		Integer day
 	) {
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
-		if (isNotSameCouple(coupleId, couple.getId())) {
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
+		if (isNotSameCouple(coupleId, coupleInfo.getCoupleId())) {
 			throw new NoPermissionException(Resource.COUPLE, Operation.READ);
 		}
 
@@ -57,49 +56,45 @@ public class DatingReadService {
 		Integer year,
 		Integer month
 	) {
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
 
-		if (isNotSameCouple(coupleId, couple.getId())) {
+		if (isNotSameCouple(coupleId, coupleInfo.getCoupleId())) {
 			throw new NoPermissionException(Resource.COUPLE, Operation.READ);
 		}
 
+		return findDatingDates(coupleId, year, month);
+	}
+
+	// 로그인한 회원의 커플 정보로 조회하므로 따로 권한을 검증하지 않는다.
+	public DatingDatesServiceResponse readDatingDates(
+		CoupleInfoServiceResponse coupleInfo,
+		Integer year,
+		Integer month
+	) {
+		return findDatingDates(coupleInfo.getCoupleId(), year, month);
+	}
+
+	private DatingDatesServiceResponse findDatingDates(Long coupleId, Integer year,
+		Integer month) {
 		List<Dating> datingList = datingQueryRepository.findByYearAndMonthOrderByDate(coupleId,
 			year, month);
 		return DatingDatesServiceResponse.builder()
-			.datingDates(getDatingDates(year, month, datingList))
+			.datingDays(getDatingDays(year, month, datingList))
 			.build();
 	}
 
-	private List<LocalDate> getDatingDates(
+	private DaySet getDatingDays(
 		Integer year,
 		Integer month,
 		List<Dating> datingList
 	) {
-		return datingList.stream()
-			.flatMap(this::getDatingDateRange)
-			.filter(date -> checkDateRange(year, month, date))
-			.distinct()
-			.sorted(LocalDate::compareTo)
-			.toList();
-	}
-
-	private Stream<LocalDate> getDatingDateRange(Dating dating) {
-		LocalDate startDate = dating.getStartDateTime().toLocalDate();
-		LocalDate endDate = dating.getEndDateTime().toLocalDate();
-		return startDate.datesUntil(endDate.plusDays(1));
-	}
-
-	private boolean checkDateRange(Integer year, Integer month, LocalDate date) {
-		if (year == null && month == null) {
-			return true;
-		}
-		if (year != null && month == null) {
-			return date.getYear() == year;
-		}
-		if (year == null) {
-			return date.getMonthValue() == month;
+		DaySet datingDays = new DaySet();
+		for (Dating dating : datingList) {
+			datingDays.addRange(dating.getStartDateTime().toLocalDate(),
+				dating.getEndDateTime().toLocalDate());
 		}
-		return date.getYear() == year && date.getMonthValue() == month;
+		datingDays.retainYearMonth(year, month);
+		return datingDays;
 	}
 
 	private boolean isNotSameCouple(Long requestId, Long coupleId) {
@@ -1,7 +1,9 @@
 package com.dateplan.dateplan.domain.dating.service;
 
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.dating.entity.Dating;
 import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
 import com.dateplan.dateplan.domain.dating.service.dto.request.DatingCreateServiceRequest;
@@ -23,16 +25,19 @@ public class DatingService {
 	private final DatingRepository datingRepository;
 	private final CoupleReadService coupleReadService;
 	private final DatingReadService datingReadService;
+	private final CalenderCacheRepository calenderCacheRepository;
 
 	public void createDating(Member member, Long coupleId, DatingCreateServiceRequest request) {
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
 
-		if (isNotSameCouple(coupleId, couple.getId())) {
+		if (isNotSameCouple(coupleId, coupleInfo.getCoupleId())) {
 			throw new NoPermissionException(Resource.COUPLE, Operation.CREATE);
 		}
 
+		Couple couple = coupleReadService.getCoupleReference(coupleInfo.getCoupleId());
 		Dating dating = request.toDatingEntity(couple);
 		datingRepository.save(dating);
+		calenderCacheRepository.invalidate(couple.getId());
 	}
 
 	public void updateDating(
@@ -41,15 +46,16 @@ public class DatingService {
 		Long datingId,
 		DatingUpdateServiceRequest request
 	) {
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
+		Long ownCoupleId = coupleInfo.getCoupleId();
 
-		if (isNotSameCouple(coupleId, couple.getId())) {
+		if (isNotSameCouple(coupleId, ownCoupleId)) {
 			throw new NoPermissionException(Resource.COUPLE, Operation.UPDATE);
 		}
 
 		Dating dating = datingReadService.findByDatingId(datingId);
 
-		if (isNotDatingOwner(couple.getId(), dating.getCouple().getId())) {
+		if (isNotDatingOwner(ownCoupleId, dating.getCouple().getId())) {
 			throw new NoPermissionException(Resource.DATING, Operation.UPDATE);
 		}
 
@@ -60,22 +66,25 @@ public class DatingService {
 			request.getStartDateTime(),
 			request.getEndDateTime()
 		);
+		calenderCacheRepository.invalidate(ownCoupleId);
 	}
 
 	public void deleteDating(Member member, Long coupleId, Long datingId) {
-		Couple couple = coupleReadService.findCoupleByMemberOrElseThrow(member);
+		CoupleInfoServiceResponse coupleInfo = coupleReadService.getCoupleInfo(member);
+		Long ownCoupleId = coupleInfo.getCoupleId();
 
-		if (isNotSameCouple(coupleId, couple.getId())) {
+		if (isNotSameCouple(coupleId, ownCoupleId)) {
 			throw new NoPermissionException(Resource.COUPLE, Operation.DELETE);
 		}
 
 		Dating dating = datingReadService.findByDatingId(datingId);
 
-		if (isNotDatingOwner(couple.getId(), dating.getCouple().getId())) {
+		if (isNotDatingOwner(ownCoupleId, dating.getCouple().getId())) {
 			throw new NoPermissionException(Resource.DATING, Operation.DELETE);
 		}
 
 		datingRepository.delete(dating);
+		calenderCacheRepository.invalidate(ownCoupleId);
 	}
 
 	private boolean isNotSameCouple(Long requestId, Long coupleId) {
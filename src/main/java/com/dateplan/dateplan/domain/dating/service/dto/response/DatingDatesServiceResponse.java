@@ -1,5 +1,6 @@
 package com.dateplan.dateplan.domain.dating.service.dto.response;
 
+import com.dateplan.dateplan.global.util.DaySet;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.Builder;
@@ -9,5 +10,9 @@ import lombok.Getter;
 @Builder
 public class DatingDatesServiceResponse {
 
-	List<LocalDate> datingDates;
+	private DaySet datingDays;
+
+	public List<LocalDate> getDatingDates() {
+		return datingDays.toLocalDates();
+	}
 }
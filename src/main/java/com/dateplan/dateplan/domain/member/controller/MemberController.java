@@ -1,6 +1,5 @@
 package com.dateplan.dateplan.domain.member.controller;
 
-import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
 import com.dateplan.dateplan.domain.couple.service.CoupleService;
 import com.dateplan.dateplan.domain.member.controller.dto.request.CheckPasswordRequest;
@@ -16,7 +15,6 @@ import com.dateplan.dateplan.domain.member.service.MemberReadService;
 import com.dateplan.dateplan.domain.member.service.MemberService;
 import com.dateplan.dateplan.domain.member.service.dto.request.CheckPasswordServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.response.ConnectionServiceResponse;
-import com.dateplan.dateplan.domain.member.service.dto.response.CoupleConnectServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.response.MemberInfoServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.response.ProfileImageURLServiceResponse;
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
@@ -41,7 +39,6 @@ public class MemberController {
 	private final MemberReadService memberReadService;
 	private final CoupleService coupleService;
 	private final CoupleReadService coupleReadService;
-	private final AnniversaryService anniversaryService;
 
 	@GetMapping("/me")
 	public ApiResponse<MemberInfoResponse> getCurrentLoginMemberInfo() {
@@ -128,12 +125,7 @@ public class MemberController {
 
 		Member loginMember = MemberThreadLocal.get();
 
-		CoupleConnectServiceResponse serviceResponse = coupleService.connectCouple(loginMember,
-			memberId, request.toConnectionServiceRequest());
-
-		anniversaryService.createAnniversariesForFirstDate(serviceResponse.getCoupleId());
-		anniversaryService.createAnniversariesForBirthDay(serviceResponse.getMember1Id());
-		anniversaryService.createAnniversariesForBirthDay(serviceResponse.getMember2Id());
+		coupleService.connectCouple(loginMember, memberId, request.toConnectionServiceRequest());
 		return ApiResponse.ofSuccess();
 	}
 
@@ -1,5 +1,6 @@
 package com.dateplan.dateplan.domain.member.entity;
 
+import com.dateplan.dateplan.global.auth.MemberSnapshot;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.converter.PasswordConverter;
 import jakarta.persistence.Column;
@@ -17,6 +18,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -24,6 +26,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "member")
 public class Member {
 
+	private static final String WITHDRAWN_PREFIX = "withdrawn-";
+
 	public static final String DEFAULT_PROFILE_IMAGE = "https://date-plan.s3.ap-northeast-2.amazonaws.com/members/profile/%E1%84%8E%E1%85%AE%E1%86%AB%E1%84%89%E1%85%B5%E1%86%A8%E1%84%8A%E1%85%B3.jpeg";
 
 	@Id
@@ -60,6 +64,12 @@ public class Member {
 	@Column(name = "password", columnDefinition = "VARCHAR(100)")
 	private String password;
 
+	// 탈퇴한 회원은 참조하는 데이터가 백그라운드에서 모두 지워진 뒤 삭제된다. 그 전까지 조회되지 않는다.
+	@NotNull
+	@Column(name = "withdrawn", columnDefinition = "BOOLEAN")
+	@ColumnDefault("false")
+	private boolean withdrawn;
+
 	@Builder
 	public Member(
 		String name,
@@ -78,6 +88,20 @@ public class Member {
 		this.password = password;
 	}
 
+	public static Member fromSnapshot(MemberSnapshot snapshot) {
+
+		Member member = new Member();
+		member.id = snapshot.getId();
+		member.name = snapshot.getName();
+		member.phone = snapshot.getPhone();
+		member.nickname = snapshot.getNickname();
+		member.birthDay = snapshot.getBirthDay();
+		member.gender = snapshot.getGender();
+		member.profileImageUrl = snapshot.getProfileImageUrl();
+		member.password = snapshot.getPassword();
+		return member;
+	}
+
 	public void updateProfileImageUrl(String profileImageUrl) {
 
 		this.profileImageUrl = profileImageUrl;
@@ -91,4 +115,11 @@ public class Member {
 	public void updatePassword(String password) {
 		this.password = password;
 	}
+
+	// 삭제되기 전에도 같은 전화번호, 닉네임으로 가입할 수 있도록 유일 컬럼을 비운다.
+	public void withdraw() {
+		this.withdrawn = true;
+		this.phone = WITHDRAWN_PREFIX + id;
+		this.nickname = WITHDRAWN_PREFIX + id;
+	}
 }
@@ -0,0 +1,88 @@
+package com.dateplan.dateplan.domain.member.repository;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 전화번호 인증 상태(code, verified, expiredAt, count)를 하나의 해시에 두고 스크립트로 원자적으로 갱신한다.
+// 해시의 ttl 은 요청 횟수 집계 기간이고, 인증 코드의 유효 시간은 expiredAt 으로 따로 관리한다.
+@Repository
+@RequiredArgsConstructor
+public class PhoneAuthRepository {
+
+	public static final long LIMIT_OVER = -1L;
+	public static final long CODE_NOT_EXISTS = -1L;
+	public static final long CODE_NOT_MATCH = 0L;
+
+	private static final String AUTH_KEY_PREFIX = "[AUTH]";
+
+	private static final RedisScript<Long> SAVE_AUTH_CODE_SCRIPT = RedisScript.of("""
+		local count = tonumber(redis.call('HGET', KEYS[1], 'count') or '0')
+		if count >= tonumber(ARGV[2]) then
+			return -1
+		end
+		local now = redis.call('TIME')
+		local expiredAt = now[1] * 1000 + math.floor(now[2] / 1000) + tonumber(ARGV[3])
+		count = redis.call('HINCRBY', KEYS[1], 'count', 1)
+		redis.call('HSET', KEYS[1], 'code', ARGV[1], 'verified', 'false', 'expiredAt', expiredAt)
+		if count == 1 then
+			redis.call('PEXPIRE', KEYS[1], ARGV[4])
+		end
+		return count
+		""", Long.class);
+
+	private static final RedisScript<Long> AUTHENTICATE_SCRIPT = RedisScript.of("""
+		local auth = redis.call('HMGET', KEYS[1], 'code', 'expiredAt')
+		local now = redis.call('TIME')
+		if not auth[1] or tonumber(auth[2]) <= now[1] * 1000 + math.floor(now[2] / 1000) then
+			return -1
+		end
+		if auth[1] ~= ARGV[1] then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], 'verified', 'true')
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> IS_AUTHENTICATED_SCRIPT = RedisScript.of("""
+		local auth = redis.call('HMGET', KEYS[1], 'verified', 'expiredAt')
+		local now = redis.call('TIME')
+		if auth[1] ~= 'true' or tonumber(auth[2]) <= now[1] * 1000 + math.floor(now[2] / 1000) then
+			return 0
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 요청 횟수가 limit 이상이면 LIMIT_OVER, 아니면 증가한 요청 횟수를 반환한다.
+	public long saveAuthCode(String phone, int code, int limit, Duration codeTtl,
+		Duration countTtl) {
+		return redisTemplate.execute(SAVE_AUTH_CODE_SCRIPT, getAuthKey(phone),
+			String.valueOf(code),
+			String.valueOf(limit),
+			String.valueOf(codeTtl.toMillis()),
+			String.valueOf(countTtl.toMillis()));
+	}
+
+	// 인증에 성공하면 1, 코드가 없거나 만료되었으면 CODE_NOT_EXISTS, 다르면 CODE_NOT_MATCH 를 반환한다.
+	public long authenticate(String phone, String code) {
+		return redisTemplate.execute(AUTHENTICATE_SCRIPT, getAuthKey(phone), code);
+	}
+
+	public boolean isAuthenticated(String phone) {
+		return redisTemplate.execute(IS_AUTHENTICATED_SCRIPT, getAuthKey(phone)) == 1L;
+	}
+
+	// 하루 요청 횟수는 유지해야 하므로 인증 정보만 지운다.
+	public void deleteAuthentication(String phone) {
+		redisTemplate.opsForHash().delete(AUTH_KEY_PREFIX + phone, "code", "verified", "expiredAt");
+	}
+
+	private List<String> getAuthKey(String phone) {
+		return List.of(AUTH_KEY_PREFIX + phone);
+	}
+}
@@ -5,6 +5,7 @@ import static com.dateplan.dateplan.global.constant.Auth.BEARER;
 import static com.dateplan.dateplan.global.constant.Auth.REFRESH_TOKEN_EXPIRATION;
 import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_ACCESS_TOKEN;
 import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_REFRESH_TOKEN;
+import static com.dateplan.dateplan.global.util.ExternalCallTimer.REDIS;
 
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
 import com.dateplan.dateplan.domain.member.service.dto.response.AuthToken;
@@ -14,18 +15,21 @@ import com.dateplan.dateplan.domain.member.service.dto.request.PhoneAuthCodeServ
 import com.dateplan.dateplan.domain.member.service.dto.request.PhoneServiceRequest;
 import com.dateplan.dateplan.domain.member.service.dto.response.SendSmsServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
-import com.dateplan.dateplan.domain.sms.service.SmsSendClient;
+import com.dateplan.dateplan.domain.member.repository.PhoneAuthRepository;
+import com.dateplan.dateplan.domain.sms.repository.SmsOutboxRepository;
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
 import com.dateplan.dateplan.global.auth.JwtProvider;
 import com.dateplan.dateplan.global.exception.auth.InvalidPhoneAuthCodeException;
 import com.dateplan.dateplan.global.exception.auth.PasswordMismatchException;
 import com.dateplan.dateplan.global.exception.auth.PhoneAuthLimitOverException;
 import com.dateplan.dateplan.global.exception.auth.PhoneNotAuthenticatedException;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
 import com.dateplan.dateplan.global.util.RandomCodeGenerator;
-import java.util.Objects;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.jasypt.util.password.PasswordEncryptor;
-import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
@@ -35,15 +39,18 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
 	private static final String REFRESH_KEY_PREFIX = "[REFRESH]";
-	private static final String AUTH_KEY_PREFIX = "[AUTH]";
-	private static final String AUTH_REQUEST_COUNT_KEY_PREFIX = "[AUTH_COUNT]";
+	private static final int MAX_AUTH_REQUEST_COUNT = 5;
+	private static final Duration AUTH_CODE_TTL = Duration.ofMinutes(2);
+	private static final Duration AUTH_REQUEST_COUNT_TTL = Duration.ofHours(24);
 
 	private final MemberReadService memberReadService;
-	private final SmsSendClient smsSendClient;
+	private final SmsOutboxRepository smsOutboxRepository;
 	private final StringRedisTemplate redisTemplate;
 	private final PasswordEncryptor passwordEncryptor;
 	private final JwtProvider jwtProvider;
 	private final CoupleReadService coupleReadService;
+	private final PhoneAuthRepository phoneAuthRepository;
+	private final MeterRegistry meterRegistry;
 
 	public SendSmsServiceResponse sendSms(PhoneServiceRequest request) {
 
@@ -51,56 +58,50 @@ public class AuthService {
 
 		memberReadService.throwIfPhoneExists(phone);
 
-		int requestCount = getRequestCountPhoneAuthenticationIn24Hours(phone);
-		throwIfRequestCountOver(requestCount);
-
 		int code = RandomCodeGenerator.generateCode(6);
-		smsSendClient.sendSmsForPhoneAuthentication(phone, code);
+		long requestCount = ExternalCallTimer.record(meterRegistry, REDIS, "saveAuthCode",
+			() -> phoneAuthRepository.saveAuthCode(phone, code, MAX_AUTH_REQUEST_COUNT,
+				AUTH_CODE_TTL, AUTH_REQUEST_COUNT_TTL));
+		throwIfRequestCountOver(requestCount);
 
-		saveAuthCodeInRedis(phone, code);
-		int afterIncreaseCount = saveOrIncreaseRequestCount(phone);
+		smsOutboxRepository.enqueue(SmsMessage.ofPhoneAuthentication(phone, code));
 
 		return SendSmsServiceResponse.builder()
-			.currentCount(afterIncreaseCount)
+			.currentCount((int) requestCount)
 			.build();
 	}
 
-	private void throwIfRequestCountOver(int requestCount) {
-		if (requestCount >= 5) {
+	private void throwIfRequestCountOver(long requestCount) {
+		if (requestCount == PhoneAuthRepository.LIMIT_OVER) {
 			throw new PhoneAuthLimitOverException();
 		}
 	}
 
 	public void authenticateAuthCode(PhoneAuthCodeServiceRequest request) {
 
-		ListOperations<String, String> opsForList = redisTemplate.opsForList();
-
-		String phone = request.getPhone();
-		String key = getAuthKey(phone);
-		String savedCode = opsForList.index(key, 0);
+		long result = ExternalCallTimer.record(meterRegistry, REDIS, "authenticateAuthCode",
+			() -> phoneAuthRepository.authenticate(request.getPhone(), request.getCode()));
 
-		validateCode(savedCode, request.getCode());
-
-		opsForList.rightPop(key);
-		opsForList.rightPush(key, Boolean.TRUE.toString());
+		if (result == PhoneAuthRepository.CODE_NOT_EXISTS) {
+			throw new InvalidPhoneAuthCodeException(null);
+		}
+		if (result == PhoneAuthRepository.CODE_NOT_MATCH) {
+			throw new InvalidPhoneAuthCodeException(request.getCode());
+		}
 	}
 
 	public void throwIfPhoneNotAuthenticated(String phone) {
 
-		ListOperations<String, String> opsForList = redisTemplate.opsForList();
-		String key = getAuthKey(phone);
-		String status = opsForList.index(key, 1);
-
-		if (!Boolean.parseBoolean(status)) {
+		if (!ExternalCallTimer.record(meterRegistry, REDIS, "isPhoneAuthenticated",
+			() -> phoneAuthRepository.isAuthenticated(phone))) {
 			throw new PhoneNotAuthenticatedException();
 		}
 	}
 
 	public void deleteAuthenticationInfoInRedis(String phone) {
 
-		String key = getAuthKey(phone);
-
-		redisTemplate.delete(key);
+		ExternalCallTimer.record(meterRegistry, REDIS, "deleteAuthentication",
+			() -> phoneAuthRepository.deleteAuthentication(phone));
 	}
 
 	public LoginServiceResponse login(LoginServiceRequest request) {
@@ -123,39 +124,10 @@ public class AuthService {
 		return jwtProvider.generateTokenByRefreshToken(refreshToken);
 	}
 
-	private void saveAuthCodeInRedis(String phone, int code) {
-
-		ListOperations<String, String> opsForList = redisTemplate.opsForList();
-
-		String key = getAuthKey(phone);
-
-		redisTemplate.delete(key);
-
-		opsForList.rightPush(key, String.valueOf(code));
-		opsForList.rightPush(key, String.valueOf(false));
-		redisTemplate.expire(key, 2, TimeUnit.MINUTES);
-	}
-
-	private void validateCode(String code, String input) {
-
-		if (code == null || !Objects.equals(input, code)) {
-			throw new InvalidPhoneAuthCodeException(code);
-		}
-	}
-
-	private String getAuthKey(String phone) {
-
-		return AUTH_KEY_PREFIX + phone;
-	}
-
 	private String getRefreshKey(Long id) {
 		return REFRESH_KEY_PREFIX + id;
 	}
 
-	private String getAuthRequestCountKey(String phone) {
-		return AUTH_REQUEST_COUNT_KEY_PREFIX + phone;
-	}
-
 	private AuthToken createAuthToken(Member member) {
 		String accessToken = BEARER.getContent() + jwtProvider.generateToken(
 			member.getId(),
@@ -175,31 +147,9 @@ public class AuthService {
 		ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
 		String key = getRefreshKey(member.getId());
 
-		stringValueOperations.set(key, refreshToken);
-	}
-
-	private int getRequestCountPhoneAuthenticationIn24Hours(String phone) {
-
-		ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
-		String key = getAuthRequestCountKey(phone);
-
-		String count = opsForValue.get(key);
-
-		return count == null ? 0 : Integer.parseInt(count);
-	}
-
-	private int saveOrIncreaseRequestCount(String phone) {
-
-		ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
-		String key = getAuthRequestCountKey(phone);
-
-		// TODO: 24시간으로 변경
-		opsForValue.setIfAbsent(key, "0", 1, TimeUnit.MINUTES);
-		opsForValue.increment(key, 1);
-
-		String resultCount = opsForValue.get(key);
-
-		return Integer.parseInt(resultCount == null ? "0" : resultCount);
+		ExternalCallTimer.record(meterRegistry, REDIS, "saveRefreshToken",
+			() -> stringValueOperations.set(key, refreshToken,
+				REFRESH_TOKEN_EXPIRATION.getExpiration(), TimeUnit.MILLISECONDS));
 	}
 
 	private boolean mismatchPassword(LoginServiceRequest request, Member member) {
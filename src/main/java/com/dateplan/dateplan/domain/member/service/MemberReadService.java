@@ -42,6 +42,7 @@ public class MemberReadService {
 
 	public Member findMemberByIdOrElseThrow(Long id) {
 		return memberRepository.findById(id)
+			.filter(member -> !member.isWithdrawn())
 			.orElseThrow(MemberNotFoundException::new);
 	}
 
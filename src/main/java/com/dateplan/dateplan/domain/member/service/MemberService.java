@@ -9,10 +9,15 @@ import com.dateplan.dateplan.domain.member.service.dto.request.CheckPasswordServ
 import com.dateplan.dateplan.domain.member.service.dto.request.CheckPasswordServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.request.SignUpServiceRequest;
 import com.dateplan.dateplan.domain.member.service.dto.request.UpdatePasswordServiceRequest;
+import com.dateplan.dateplan.domain.purge.service.DataPurgeService;
 import com.dateplan.dateplan.domain.s3.S3Client;
 import com.dateplan.dateplan.domain.s3.S3ImageType;
+import com.dateplan.dateplan.global.auth.CoupleMembershipCache;
+import com.dateplan.dateplan.global.auth.MemberSnapshotCache;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
+import com.dateplan.dateplan.global.exception.S3Exception;
+import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import java.net.URL;
 import java.util.Objects;
@@ -20,7 +25,9 @@ import lombok.RequiredArgsConstructor;
 import org.jasypt.util.password.PasswordEncryptor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
@@ -34,8 +41,14 @@ public class MemberService {
 	private final StringRedisTemplate redisTemplate;
 	private final CoupleService coupleService;
 	private final CoupleReadService coupleReadService;
+	private final DataPurgeService dataPurgeService;
 	private final PasswordEncryptor passwordEncryptor;
+	private final MemberSnapshotCache memberSnapshotCache;
+	private final CoupleMembershipCache coupleMembershipCache;
+	private final TransactionTemplate transactionTemplate;
 
+	// 인증 정보 조회, 삭제는 Redis 로 나가므로 트랜잭션 없이 처리하고 회원 저장만 짧은 트랜잭션으로 처리한다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void signUp(SignUpServiceRequest request) {
 
 		String phone = request.getPhone();
@@ -52,6 +65,7 @@ public class MemberService {
 		authService.deleteAuthenticationInfoInRedis(phone);
 	}
 
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public PresignedURLResponse getPresignedURLForProfileImage(Member loginMember, Long memberId) {
 
 		if (!isSameMember(memberId, loginMember.getId())) {
@@ -66,6 +80,8 @@ public class MemberService {
 			.build();
 	}
 
+	// S3 응답을 기다리는 동안 커넥션을 잡고 있지 않도록, 트랜잭션 없이 확인한 뒤 저장만 짧은 트랜잭션으로 처리한다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void checkAndSaveProfileImage(Member loginMember, Long memberId) {
 
 		if (!isSameMember(memberId, loginMember.getId())) {
@@ -77,35 +93,64 @@ public class MemberService {
 		s3Client.throwIfImageNotFound(S3ImageType.MEMBER_PROFILE, memberIdStr);
 		URL url = s3Client.getObjectUrl(S3ImageType.MEMBER_PROFILE, memberIdStr);
 
-		loginMember.updateProfileImageUrl(url.toString());
-
-		memberRepository.save(loginMember);
+		// 로그인 회원은 캐시된 스냅샷에서 만든 객체라 탈퇴 여부 등이 빠져 있으므로, 저장된 회원을 다시 읽어 변경한다.
+		transactionTemplate.executeWithoutResult(status -> {
+			Member member = findMemberOrElseThrow(memberId);
+			member.updateProfileImageUrl(url.toString());
+			memberSnapshotCache.evictAfterCommit(memberId);
+		});
 	}
 
+	// 기본 이미지로 먼저 저장한 뒤 트랜잭션 밖에서 S3 객체를 지운다.
+	// 삭제에 실패하면 객체가 남아 있으므로 이전 이미지 주소로 되돌린다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void deleteProfileImage(Member loginMember, Long memberId) {
 
 		if (!isSameMember(memberId, loginMember.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.DELETE);
 		}
 
-		s3Client.deleteObject(S3ImageType.MEMBER_PROFILE, loginMember.getId().toString());
-		loginMember.updateProfileImageUrl(Member.DEFAULT_PROFILE_IMAGE);
-
-		memberRepository.save(loginMember);
+		String profileImageUrl = transactionTemplate.execute(status -> {
+			Member member = findMemberOrElseThrow(memberId);
+			String previousUrl = member.getProfileImageUrl();
+			member.updateProfileImageUrl(Member.DEFAULT_PROFILE_IMAGE);
+			memberSnapshotCache.evictAfterCommit(memberId);
+			return previousUrl;
+		});
+
+		try {
+			s3Client.deleteObject(S3ImageType.MEMBER_PROFILE, memberId.toString());
+		} catch (S3Exception e) {
+			transactionTemplate.executeWithoutResult(status -> {
+				findMemberOrElseThrow(memberId)
+					.updateProfileImageUrl(profileImageUrl);
+				memberSnapshotCache.evictAfterCommit(memberId);
+			});
+			throw e;
+		}
 	}
 
+	// 리프레시 토큰은 트랜잭션 전에 지운다. 이후 트랜잭션이 실패하더라도 다시 로그인하면 된다.
+	// 회원은 탈퇴 처리만 하고 DataPurgeReaper 가 일정, 커플 데이터를 지운 뒤 삭제한다. 프로필 이미지는 커밋된 뒤에 지운다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void withdrawal(Member member, Long memberId) {
 		if (!isSameMember(memberId, member.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.DELETE);
 		}
-		if (coupleReadService.isMemberConnected(member)) {
-			coupleService.disconnectCouple(member, memberId);
-		}
 
-		s3Client.deleteObject(S3ImageType.MEMBER_PROFILE, member.getId().toString());
 		redisTemplate.delete(getRefreshKey(member));
 
-		memberRepository.delete(member);
+		transactionTemplate.executeWithoutResult(status -> {
+			if (coupleReadService.isMemberConnected(member)) {
+				coupleService.disconnectCouple(member, memberId);
+			}
+			dataPurgeService.purgeMember(memberId);
+
+			findMemberOrElseThrow(memberId).withdraw();
+			memberSnapshotCache.evictAfterCommit(member.getId());
+			coupleMembershipCache.evictAfterCommit(member.getId());
+			s3Client.deleteObjectAfterCommit(S3ImageType.MEMBER_PROFILE, member.getId().toString());
+		});
 	}
 
 	public CheckPasswordServiceResponse checkPassword(
@@ -128,8 +173,15 @@ public class MemberService {
 			throw new NoPermissionException(Resource.MEMBER, Operation.UPDATE);
 		}
 
-		member.updatePassword(request.getPassword());
-		memberRepository.save(member);
+		findMemberOrElseThrow(memberId)
+			.updatePassword(request.getPassword());
+		memberSnapshotCache.evictAfterCommit(memberId);
+	}
+
+	private Member findMemberOrElseThrow(Long memberId) {
+		return memberRepository.findById(memberId)
+			.filter(member -> !member.isWithdrawn())
+			.orElseThrow(MemberNotFoundException::new);
 	}
 
 	private String getRefreshKey(Member member) {
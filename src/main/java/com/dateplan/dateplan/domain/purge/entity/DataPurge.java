@@ -0,0 +1,86 @@
+package com.dateplan.dateplan.domain.purge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+// 연결 해제, 탈퇴 이후 백그라운드에서 지울 데이터의 삭제 진행 상태. 단계가 커밋마다 기록되므로 중단되어도 이어서 지운다.
+@Entity
+@Getter
+@Table(name = "data_purge",
+	indexes = @Index(name = "idx_data_purge_next_attempt_at", columnList = "next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataPurge {
+
+	@Id
+	@Column(name = "data_purge_id", columnDefinition = "BIGINT", updatable = false, unique = true)
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 연결되지 않은 회원의 탈퇴라면 null 이다.
+	@Column(name = "couple_id", columnDefinition = "BIGINT", updatable = false)
+	private Long coupleId;
+
+	// 탈퇴한 회원. 회원을 참조하는 데이터를 모두 지운 뒤 마지막 단계에서 지운다. 연결 해제라면 null 이다.
+	@Column(name = "member_id", columnDefinition = "BIGINT", updatable = false)
+	private Long memberId;
+
+	@NotNull
+	@Column(name = "stage", columnDefinition = "VARCHAR(30)")
+	@Enumerated(EnumType.STRING)
+	private PurgeStage stage;
+
+	@NotNull
+	@Column(name = "attempt_count", columnDefinition = "INT")
+	@ColumnDefault("0")
+	private int attemptCount;
+
+	@NotNull
+	@Column(name = "next_attempt_at", columnDefinition = "DATETIME")
+	private LocalDateTime nextAttemptAt;
+
+	private DataPurge(Long coupleId, Long memberId) {
+		this.coupleId = coupleId;
+		this.memberId = memberId;
+		this.stage = PurgeStage.first();
+		// DATETIME 은 초 미만을 반올림하므로, 바로 조회되도록 잘라서 저장한다.
+		this.nextAttemptAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	}
+
+	public static DataPurge ofCouple(Long coupleId) {
+		return new DataPurge(coupleId, null);
+	}
+
+	public static DataPurge ofMember(Long memberId) {
+		return new DataPurge(null, memberId);
+	}
+
+	public void moveToNextStage() {
+		this.stage = stage.next();
+		this.attemptCount = 0;
+	}
+
+	// 실패할 때마다 대기 시간을 두 배로 늘려 다른 삭제 요청이 먼저 진행되도록 한다.
+	// 실패 사이에 추가된 데이트, 기념일도 지우도록 첫 단계부터 다시 진행한다. 삭제는 반복해도 결과가 같다.
+	public void deferAfterFailure(LocalDateTime now, Duration retryDelay, Duration maxRetryDelay) {
+		this.attemptCount++;
+		this.stage = PurgeStage.first();
+
+		Duration delay = retryDelay.multipliedBy(1L << Math.min(attemptCount - 1, 20));
+		this.nextAttemptAt = now.plus(delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay);
+	}
+}
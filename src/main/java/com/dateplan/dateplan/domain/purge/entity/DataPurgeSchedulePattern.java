@@ -0,0 +1,28 @@
+package com.dateplan.dateplan.domain.purge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 삭제 요청 시점에 존재하던 일정 패턴. 요청 이후 회원이 새로 만든 일정은 삭제 대상에 포함되지 않는다.
+@Entity
+@Getter
+@Table(name = "data_purge_schedule_pattern",
+	indexes = @Index(name = "idx_data_purge_schedule_pattern_purge", columnList = "data_purge_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataPurgeSchedulePattern {
+
+	@Id
+	@Column(name = "schedule_pattern_id", columnDefinition = "BIGINT", updatable = false)
+	private Long schedulePatternId;
+
+	@NotNull
+	@Column(name = "data_purge_id", columnDefinition = "BIGINT", updatable = false)
+	private Long dataPurgeId;
+}
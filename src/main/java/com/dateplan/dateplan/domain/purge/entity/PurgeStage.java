@@ -0,0 +1,27 @@
+package com.dateplan.dateplan.domain.purge.entity;
+
+// 외래 키 순서대로 자식 테이블부터 지운다. 단계마다 기본 키 순서로 chunk 단위 삭제를 반복한다.
+public enum PurgeStage {
+
+	SCHEDULE,
+	SCHEDULE_EXCLUSION,
+	SCHEDULE_PATTERN,
+	SCHEDULE_PATTERN_TARGET,
+	DATING,
+	ANNIVERSARY,
+	ANNIVERSARY_PATTERN,
+	COUPLE,
+	MEMBER;
+
+	public static PurgeStage first() {
+		return SCHEDULE;
+	}
+
+	public boolean isLast() {
+		return this == MEMBER;
+	}
+
+	public PurgeStage next() {
+		return values()[ordinal() + 1];
+	}
+}
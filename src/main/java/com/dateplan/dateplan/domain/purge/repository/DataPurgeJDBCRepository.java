@@ -0,0 +1,85 @@
+package com.dateplan.dateplan.domain.purge.repository;
+
+import com.dateplan.dateplan.domain.purge.entity.DataPurge;
+import com.dateplan.dateplan.global.jfr.JdbcUpdateEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 한 번에 잠그는 행 수를 제한하기 위해 기본 키 순서로 limit 만큼만 지운다.
+@Repository
+@RequiredArgsConstructor
+public class DataPurgeJDBCRepository {
+
+	private static final String TARGET_SCHEDULE_PATTERN_IDS = "SELECT schedule_pattern_id "
+		+ "FROM data_purge_schedule_pattern WHERE data_purge_id = ?";
+
+	private static final String COUPLE_ANNIVERSARY_PATTERN_IDS = "SELECT anniversary_pattern_id "
+		+ "FROM anniversary_pattern WHERE couple_id = ?";
+
+	private static final String REPOSITORY_NAME = "dataPurge";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public int saveTargetSchedulePatterns(Long dataPurgeId, List<Long> memberIds) {
+		String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+		// 연결 해제 요청에 이미 포함된 일정 패턴은 제외한다.
+		String sql = "INSERT INTO data_purge_schedule_pattern (schedule_pattern_id, data_purge_id) "
+			+ "SELECT sp.schedule_pattern_id, ? FROM schedule_pattern sp "
+			+ "WHERE sp.member_id IN (" + placeholders + ") "
+			+ "AND NOT EXISTS (SELECT 1 FROM data_purge_schedule_pattern dpsp "
+			+ "WHERE dpsp.schedule_pattern_id = sp.schedule_pattern_id)";
+
+		Object[] args = new Object[memberIds.size() + 1];
+		args[0] = dataPurgeId;
+		for (int i = 0; i < memberIds.size(); i++) {
+			args[i + 1] = memberIds.get(i);
+		}
+		return recordUpdate("saveTargetSchedulePatterns", () -> jdbcTemplate.update(sql, args));
+	}
+
+	public int deleteChunk(DataPurge dataPurge, int chunkSize) {
+		return recordUpdate(dataPurge.getStage().name(),
+			() -> deleteStageChunk(dataPurge, chunkSize));
+	}
+
+	private int deleteStageChunk(DataPurge dataPurge, int chunkSize) {
+		Long id = dataPurge.getId();
+		Long coupleId = dataPurge.getCoupleId();
+		Long memberId = dataPurge.getMemberId();
+
+		return switch (dataPurge.getStage()) {
+			case SCHEDULE -> jdbcTemplate.update("DELETE FROM schedule "
+				+ "WHERE schedule_pattern_id IN (" + TARGET_SCHEDULE_PATTERN_IDS + ") "
+				+ "ORDER BY schedule_id LIMIT ?", id, chunkSize);
+			case SCHEDULE_EXCLUSION -> jdbcTemplate.update("DELETE FROM schedule_exclusion "
+				+ "WHERE schedule_pattern_id IN (" + TARGET_SCHEDULE_PATTERN_IDS + ") "
+				+ "ORDER BY schedule_exclusion_id LIMIT ?", id, chunkSize);
+			case SCHEDULE_PATTERN -> jdbcTemplate.update("DELETE FROM schedule_pattern "
+				+ "WHERE schedule_pattern_id IN (" + TARGET_SCHEDULE_PATTERN_IDS + ") "
+				+ "ORDER BY schedule_pattern_id LIMIT ?", id, chunkSize);
+			case SCHEDULE_PATTERN_TARGET -> jdbcTemplate.update(
+				"DELETE FROM data_purge_schedule_pattern WHERE data_purge_id = ? "
+					+ "ORDER BY schedule_pattern_id LIMIT ?", id, chunkSize);
+			case DATING -> coupleId == null ? 0 : jdbcTemplate.update("DELETE FROM dating "
+				+ "WHERE couple_id = ? ORDER BY dating_id LIMIT ?", coupleId, chunkSize);
+			case ANNIVERSARY -> coupleId == null ? 0 : jdbcTemplate.update("DELETE FROM anniversary "
+				+ "WHERE anniversary_pattern_id IN (" + COUPLE_ANNIVERSARY_PATTERN_IDS + ") "
+				+ "ORDER BY anniversary_id LIMIT ?", coupleId, chunkSize);
+			case ANNIVERSARY_PATTERN -> coupleId == null ? 0 : jdbcTemplate.update(
+				"DELETE FROM anniversary_pattern WHERE couple_id = ? "
+					+ "ORDER BY anniversary_pattern_id LIMIT ?", coupleId, chunkSize);
+			case COUPLE -> coupleId == null ? 0
+				: jdbcTemplate.update("DELETE FROM couple WHERE couple_id = ?", coupleId);
+			case MEMBER -> memberId == null ? 0 : jdbcTemplate.update(
+				"DELETE FROM member WHERE member_id = ? AND withdrawn = TRUE", memberId);
+		};
+	}
+
+	private int recordUpdate(String operation, IntSupplier update) {
+		return JdbcUpdateEvent.record(REPOSITORY_NAME, operation, update);
+	}
+}
@@ -0,0 +1,19 @@
+package com.dateplan.dateplan.domain.purge.repository;
+
+import com.dateplan.dateplan.domain.purge.entity.DataPurge;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface DataPurgeRepository extends JpaRepository<DataPurge, Long> {
+
+	// 여러 인스턴스가 동시에 삭제하더라도 같은 요청을 나눠 잡지 않도록, 다른 트랜잭션이 잡은 행은 건너뛴다.
+	// 실패해 재시도를 기다리는 요청도 건너뛰므로, 한 요청이 계속 실패해도 이후 요청은 진행된다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	Optional<DataPurge> findFirstByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now);
+}
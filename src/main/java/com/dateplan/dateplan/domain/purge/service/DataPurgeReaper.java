@@ -0,0 +1,34 @@
+package com.dateplan.dateplan.domain.purge.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "purge.reaper.enabled", havingValue = "true")
+public class DataPurgeReaper {
+
+	private final DataPurgeService dataPurgeService;
+
+	@Value("${purge.reaper.chunk-delay-millis}")
+	private long chunkDelayMillis;
+
+	// chunk 마다 트랜잭션을 나누고 사이에 쉬어, 요청 처리 트랜잭션이 잠금을 오래 기다리지 않도록 한다.
+	@Scheduled(fixedDelayString = "${purge.reaper.poll-delay-millis}")
+	public void reap() {
+		try {
+			while (dataPurgeService.purgeNextChunk()) {
+				Thread.sleep(chunkDelayMillis);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.warn("data purge failed. it will be resumed at the next run.", e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.dateplan.dateplan.domain.purge.service;
+
+import com.dateplan.dateplan.domain.purge.entity.DataPurge;
+import com.dateplan.dateplan.domain.purge.repository.DataPurgeJDBCRepository;
+import com.dateplan.dateplan.domain.purge.repository.DataPurgeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class DataPurgeService {
+
+	private final DataPurgeRepository dataPurgeRepository;
+	private final DataPurgeJDBCRepository dataPurgeJDBCRepository;
+
+	@Value("${purge.chunk-size}")
+	private int chunkSize;
+
+	@Value("${purge.retry-delay-seconds}")
+	private long retryDelaySeconds;
+
+	@Value("${purge.max-retry-delay-seconds}")
+	private long maxRetryDelaySeconds;
+
+	// 커플 데이터와 두 회원의 일정을 삭제 대상으로 기록한다. 실제 삭제는 DataPurgeReaper 가 이어서 진행한다.
+	public void purgeCouple(Long coupleId, Long memberId, Long partnerId) {
+		DataPurge dataPurge = dataPurgeRepository.save(DataPurge.ofCouple(coupleId));
+		dataPurgeJDBCRepository.saveTargetSchedulePatterns(dataPurge.getId(),
+			List.of(memberId, partnerId));
+	}
+
+	// 탈퇴한 회원의 일정과 회원을 삭제 대상으로 기록한다. 회원은 참조하는 데이터가 모두 지워진 뒤 지운다.
+	public void purgeMember(Long memberId) {
+		DataPurge dataPurge = dataPurgeRepository.save(DataPurge.ofMember(memberId));
+		dataPurgeJDBCRepository.saveTargetSchedulePatterns(dataPurge.getId(),
+			List.of(memberId));
+	}
+
+	// 삭제 요청 하나의 현재 단계에서 chunk 하나를 지운다. 더 진행할 요청이 없으면 false 를 반환한다.
+	public boolean purgeNextChunk() {
+		LocalDateTime now = LocalDateTime.now();
+		Optional<DataPurge> optionalDataPurge = dataPurgeRepository
+			.findFirstByNextAttemptAtLessThanEqualOrderByIdAsc(now);
+		if (optionalDataPurge.isEmpty()) {
+			return false;
+		}
+
+		DataPurge dataPurge = optionalDataPurge.get();
+		int deletedCount;
+		try {
+			deletedCount = dataPurgeJDBCRepository.deleteChunk(dataPurge, chunkSize);
+		} catch (DataAccessException e) {
+			// 실패한 삭제문만 롤백되므로, 같은 트랜잭션에서 재시도 시각을 기록하고 다음 요청으로 넘어간다.
+			dataPurge.deferAfterFailure(now, Duration.ofSeconds(retryDelaySeconds),
+				Duration.ofSeconds(maxRetryDelaySeconds));
+			log.warn("data purge failed. dataPurgeId={}, attemptCount={}, nextAttemptAt={}",
+				dataPurge.getId(), dataPurge.getAttemptCount(), dataPurge.getNextAttemptAt(), e);
+			return true;
+		}
+
+		if (deletedCount >= chunkSize) {
+			return true;
+		}
+		if (dataPurge.getStage().isLast()) {
+			dataPurgeRepository.delete(dataPurge);
+			return true;
+		}
+		dataPurge.moveToNextStage();
+		return true;
+	}
+}
@@ -1,5 +1,8 @@
 package com.dateplan.dateplan.domain.s3;
 
+import static com.dateplan.dateplan.global.util.ExternalCallTimer.S3;
+import static com.dateplan.dateplan.global.util.TransactionUtil.runAfterCommit;
+
 import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
@@ -9,6 +12,8 @@ import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage;
 import com.dateplan.dateplan.global.exception.S3Exception;
 import com.dateplan.dateplan.global.exception.S3ImageNotFoundException;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URL;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
@@ -24,10 +29,14 @@ public class S3Client {
 
 	private final AmazonS3 amazonS3;
 
+	private final MeterRegistry meterRegistry;
+
 	@Autowired
-	public S3Client(@Value("${cloud.aws.s3.bucket}") String bucket, AmazonS3 amazonS3) {
+	public S3Client(@Value("${cloud.aws.s3.bucket}") String bucket, AmazonS3 amazonS3,
+		MeterRegistry meterRegistry) {
 		this.bucket = bucket;
 		this.amazonS3 = amazonS3;
+		this.meterRegistry = meterRegistry;
 	}
 
 	private static final int PRESIGNED_URL_EXPIRE_DURATION = 1000 * 60 * 5;
@@ -39,7 +48,8 @@ public class S3Client {
 		GeneratePresignedUrlRequest request = getGeneratePresignedUrlRequest(fullPath);
 
 		try {
-			return amazonS3.generatePresignedUrl(request);
+			return ExternalCallTimer.record(meterRegistry, S3, "generatePresignedUrl",
+				() -> amazonS3.generatePresignedUrl(request));
 		} catch (SdkClientException e) {
 			throw new S3Exception(DetailMessage.S3_CREATE_PRESIGNED_URL_FAIL, e);
 		}
@@ -47,7 +57,8 @@ public class S3Client {
 
 	public void throwIfImageNotFound(S3ImageType type, String fileName) {
 
-		if (!amazonS3.doesObjectExist(bucket, type.getFullPath(fileName))) {
+		if (!ExternalCallTimer.record(meterRegistry, S3, "doesObjectExist",
+			() -> amazonS3.doesObjectExist(bucket, type.getFullPath(fileName)))) {
 			throw new S3ImageNotFoundException();
 		}
 	}
@@ -60,12 +71,29 @@ public class S3Client {
 	public void deleteObject(S3ImageType type, String fileName) {
 
 		try {
-			amazonS3.deleteObject(bucket, type.getFullPath(fileName));
+			ExternalCallTimer.record(meterRegistry, S3, "deleteObject",
+				() -> amazonS3.deleteObject(bucket, type.getFullPath(fileName)));
 		} catch (SdkClientException e) {
 			throw new S3Exception(DetailMessage.S3_DELETE_OBJECT_FAIL, e);
 		}
 	}
 
+	// 커밋된 이후에 지워 트랜잭션이 S3 응답을 기다리며 커넥션을 잡고 있지 않도록 한다.
+	// 이미 커밋된 뒤라 되돌릴 수 없으므로, 실패하면 남은 객체를 정리할 수 있도록 경로를 기록한다.
+	public void deleteObjectAfterCommit(S3ImageType type, String fileName) {
+
+		runAfterCommit(() -> deleteObjectOrLog(type, fileName));
+	}
+
+	private void deleteObjectOrLog(S3ImageType type, String fileName) {
+
+		try {
+			deleteObject(type, fileName);
+		} catch (S3Exception e) {
+			log.warn("s3 object delete failed after commit. path={}", type.getFullPath(fileName), e);
+		}
+	}
+
 	private GeneratePresignedUrlRequest getGeneratePresignedUrlRequest(String fullPath) {
 
 		GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket,
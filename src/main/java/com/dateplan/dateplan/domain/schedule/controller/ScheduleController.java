@@ -12,7 +12,10 @@ import com.dateplan.dateplan.domain.schedule.service.dto.response.ScheduleServic
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.dto.response.ApiResponse;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -74,11 +77,15 @@ public class ScheduleController {
 		@PathVariable("member_id") Long memberId,
 		@PathVariable("schedule_id") Long scheduleId,
 		@Valid @RequestBody ScheduleUpdateRequest request,
-		@RequestParam(value = "updateRepeat", defaultValue = "false") Boolean updateRepeat
+		@RequestParam(value = "updateRepeat", defaultValue = "false") Boolean updateRepeat,
+		@RequestParam(value = "updateFollowing", defaultValue = "false") Boolean updateFollowing,
+		@RequestParam(value = "occurrenceDate", required = false)
+		@DateTimeFormat(iso = ISO.DATE) LocalDate occurrenceDate
 	) {
 		Member member = MemberThreadLocal.get();
-		scheduleService.updateSchedule(
-			memberId, scheduleId, request.toScheduleUpdateServiceRequest(), member, updateRepeat);
+		scheduleService.updateSchedule(memberId, scheduleId,
+			request.toScheduleUpdateServiceRequest(updateRepeat, updateFollowing, occurrenceDate),
+			member);
 		return ApiResponse.ofSuccess();
 	}
 
@@ -86,10 +93,13 @@ public class ScheduleController {
 	public ApiResponse<Void> deleteSchedule(
 		@PathVariable("member_id") Long memberId,
 		@PathVariable("schedule_id") Long scheduleId,
-		@RequestParam(value = "deleteRepeat", defaultValue = "false") Boolean deleteRepeat
+		@RequestParam(value = "deleteRepeat", defaultValue = "false") Boolean deleteRepeat,
+		@RequestParam(value = "occurrenceDate", required = false)
+		@DateTimeFormat(iso = ISO.DATE) LocalDate occurrenceDate
 	) {
 		Member member = MemberThreadLocal.get();
-		scheduleService.deleteSchedule(memberId, scheduleId, member, deleteRepeat);
+		scheduleService.deleteSchedule(memberId, scheduleId, member, deleteRepeat,
+			occurrenceDate);
 		return ApiResponse.ofSuccess();
 	}
 }
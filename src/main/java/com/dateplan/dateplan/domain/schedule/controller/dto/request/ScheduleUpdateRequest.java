@@ -10,6 +10,7 @@ import com.dateplan.dateplan.global.constant.InputPattern;
 import com.dateplan.dateplan.global.validator.BeforeCalenderEndTime;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -42,13 +43,20 @@ public class ScheduleUpdateRequest {
 	@Size(max = 80, message = INVALID_SCHEDULE_CONTENT)
 	private String content;
 
-	public ScheduleUpdateServiceRequest toScheduleUpdateServiceRequest() {
+	public ScheduleUpdateServiceRequest toScheduleUpdateServiceRequest(
+		boolean updateRepeat,
+		boolean updateFollowing,
+		LocalDate occurrenceDate
+	) {
 		return ScheduleUpdateServiceRequest.builder()
 			.title(title)
 			.startDateTime(startDateTime)
 			.endDateTime(endDateTime)
 			.location(location)
 			.content(content)
+			.updateRepeat(updateRepeat)
+			.updateFollowing(updateFollowing)
+			.occurrenceDate(occurrenceDate)
 			.build();
 	}
 }
@@ -29,4 +29,17 @@ public class ScheduleEntry {
 			.repeatRule(schedule.getSchedulePattern().getRepeatRule())
 			.build();
 	}
+
+	public static ScheduleEntry of(Schedule schedule, LocalDateTime startDateTime,
+		LocalDateTime endDateTime) {
+		return ScheduleEntry.builder()
+			.scheduleId(schedule.getId())
+			.startDateTime(startDateTime)
+			.endDateTime(endDateTime)
+			.title(schedule.getTitle())
+			.content(schedule.getContent())
+			.location(schedule.getLocation())
+			.repeatRule(schedule.getSchedulePattern().getRepeatRule())
+			.build();
+	}
 }
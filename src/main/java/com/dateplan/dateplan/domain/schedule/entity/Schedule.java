@@ -1,14 +1,17 @@
 package com.dateplan.dateplan.domain.schedule.entity;
 
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -17,13 +20,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+	@Index(name = "idx_schedule_pattern_start_end",
+		columnList = "schedule_pattern_id, start_date_time, end_date_time"),
+	@Index(name = "idx_schedule_pattern_month",
+		columnList = "schedule_pattern_id, start_month, end_month")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Schedule {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id_generator")
+	@TableGenerator(name = "schedule_id_generator", table = IdGeneratorConstants.TABLE,
+		pkColumnName = IdGeneratorConstants.PK_COLUMN,
+		valueColumnName = IdGeneratorConstants.VALUE_COLUMN, pkColumnValue = "schedule",
+		allocationSize = IdGeneratorConstants.ALLOCATION_SIZE)
 	@Column(name = "schedule_id", columnDefinition = "BIGINT", updatable = false, unique = true)
 	private Long id;
 
@@ -35,6 +47,14 @@ public class Schedule {
 	@Column(name = "end_date_time", columnDefinition = "DATETIME")
 	private LocalDateTime endDateTime;
 
+	@Column(name = "start_month", insertable = false, updatable = false,
+		columnDefinition = "TINYINT GENERATED ALWAYS AS (MONTH(start_date_time)) STORED")
+	private Integer startMonth;
+
+	@Column(name = "end_month", insertable = false, updatable = false,
+		columnDefinition = "TINYINT GENERATED ALWAYS AS (MONTH(end_date_time)) STORED")
+	private Integer endMonth;
+
 	@NotNull
 	@Column(name = "title", columnDefinition = "VARCHAR(15)")
 	private String title;
@@ -0,0 +1,55 @@
+package com.dateplan.dateplan.domain.schedule.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반복 일정에서 수정 또는 삭제되어 전개 대상에서 빠지는 회차
+@Entity
+@Table(name = "schedule_exclusion", uniqueConstraints = @UniqueConstraint(
+	columnNames = {"schedule_pattern_id", "excluded_date"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ScheduleExclusion {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "schedule_exclusion_id", columnDefinition = "BIGINT", updatable = false, unique = true)
+	private Long id;
+
+	@NotNull
+	@Column(name = "excluded_date", columnDefinition = "DATE")
+	private LocalDate excludedDate;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "schedule_pattern_id", nullable = false)
+	private SchedulePattern schedulePattern;
+
+	@Builder
+	public ScheduleExclusion(LocalDate excludedDate, SchedulePattern schedulePattern) {
+		this.excludedDate = excludedDate;
+		this.schedulePattern = schedulePattern;
+	}
+
+	public void shiftExcludedDate(long days) {
+		this.excludedDate = excludedDate.plusDays(days);
+	}
+
+	public void moveTo(SchedulePattern schedulePattern, long days) {
+		this.schedulePattern = schedulePattern;
+		shiftExcludedDate(days);
+	}
+}
@@ -1,6 +1,7 @@
 package com.dateplan.dateplan.domain.schedule.entity;
 
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
 import com.dateplan.dateplan.global.constant.RepeatRule;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,9 +11,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,13 +26,18 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "schedule_pattern")
+@Table(name = "schedule_pattern", indexes = @Index(name = "idx_schedule_pattern_member_lazy",
+	columnList = "member_id, lazy_expansion, repeat_start_date"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class SchedulePattern {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_pattern_id_generator")
+	@TableGenerator(name = "schedule_pattern_id_generator", table = IdGeneratorConstants.TABLE,
+		pkColumnName = IdGeneratorConstants.PK_COLUMN,
+		valueColumnName = IdGeneratorConstants.VALUE_COLUMN, pkColumnValue = "schedule_pattern",
+		allocationSize = IdGeneratorConstants.ALLOCATION_SIZE)
 	@Column(name = "schedule_pattern_id", columnDefinition = "BIGINT", updatable = false, unique = true)
 	private Long id;
 
@@ -51,21 +59,37 @@ public class SchedulePattern {
 	@JoinColumn(name = "member_id", nullable = false)
 	private Member member;
 
+	// true 이면 첫 회차 일정만 저장하고 나머지 회차는 조회 시점에 전개한다.
+	@NotNull
+	@Column(name = "lazy_expansion", columnDefinition = "BOOLEAN")
+	@ColumnDefault("false")
+	private boolean lazyExpansion;
+
 	@Builder
 	public SchedulePattern(
 		LocalDate repeatStartDate,
 		LocalDate repeatEndDate,
 		RepeatRule repeatRule,
-		Member member
+		Member member,
+		boolean lazyExpansion
 	) {
 		this.repeatStartDate = repeatStartDate;
 		this.repeatEndDate = repeatEndDate;
 		this.repeatRule = repeatRule;
 		this.member = member;
+		this.lazyExpansion = lazyExpansion;
 	}
 
 	public void updateDateTime(LocalDateTime minStartDateTime, LocalDateTime maxEndDateTime) {
 		this.repeatStartDate = minStartDateTime.toLocalDate();
 		this.repeatEndDate = maxEndDateTime.toLocalDate();
 	}
+
+	public void updateRepeatStartDate(LocalDate repeatStartDate) {
+		this.repeatStartDate = repeatStartDate;
+	}
+
+	public void updateRepeatEndDate(LocalDate repeatEndDate) {
+		this.repeatEndDate = repeatEndDate;
+	}
 }
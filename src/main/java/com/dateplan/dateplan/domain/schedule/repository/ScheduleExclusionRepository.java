@@ -0,0 +1,30 @@
+package com.dateplan.dateplan.domain.schedule.repository;
+
+import com.dateplan.dateplan.domain.schedule.entity.ScheduleExclusion;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ScheduleExclusionRepository extends JpaRepository<ScheduleExclusion, Long> {
+
+	List<ScheduleExclusion> findAllBySchedulePatternIdIn(Collection<Long> schedulePatternIds);
+
+	List<ScheduleExclusion> findAllBySchedulePatternId(Long schedulePatternId);
+
+	Boolean existsBySchedulePatternIdAndExcludedDate(Long schedulePatternId, LocalDate excludedDate);
+
+	long countBySchedulePatternId(Long schedulePatternId);
+
+	@Modifying
+	@Query("delete from ScheduleExclusion e where e.schedulePattern.id = :schedulePatternId")
+	void deleteAllBySchedulePatternId(@Param("schedulePatternId") Long schedulePatternId);
+
+	@Modifying
+	@Query("delete from ScheduleExclusion e where e.schedulePattern.id in "
+		+ "(select p.id from SchedulePattern p where p.member.id = :memberId)")
+	void deleteAllByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,10 +1,11 @@
 package com.dateplan.dateplan.domain.schedule.repository;
 
-import static java.time.temporal.ChronoUnit.MINUTES;
-
-import com.dateplan.dateplan.domain.schedule.entity.Schedule;
-import java.sql.PreparedStatement;
-import java.util.List;
+import com.dateplan.dateplan.global.jfr.JdbcUpdateEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -15,10 +16,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ScheduleJDBCRepository {
 
+	public static final String UPDATE_TIMER_NAME = "schedule.jdbc.update";
+	public static final String UPDATE_ROWS_NAME = "schedule.jdbc.update.rows";
+
+	private static final String REPOSITORY_NAME = "schedule";
+
 	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+
+	public int updateAllBySchedulePatternId(
+		Long schedulePatternId,
+		String title,
+		String location,
+		String content,
+		long startTimeDiff,
+		long endTimeDiff
+	) {
+		String sql = "UPDATE schedule "
+			+ "SET title = ?, "
+			+ "location = ?, "
+			+ "content = ?, "
+			+ "start_date_time = DATE_ADD(start_date_time, INTERVAL ? MINUTE), "
+			+ "end_date_time = DATE_ADD(end_date_time, INTERVAL ? MINUTE) "
+			+ "WHERE schedule_pattern_id = ?";
+		return recordUpdate("updateAll", () -> jdbcTemplate.update(sql, title, location, content,
+			startTimeDiff, endTimeDiff, schedulePatternId));
+	}
 
-	public void processBatchUpdate(
-		List<Schedule> schedules,
+	public int updateFollowingBySchedulePatternId(
+		Long schedulePatternId,
+		Long newSchedulePatternId,
+		LocalDateTime fromStartDateTime,
 		String title,
 		String location,
 		String content,
@@ -29,47 +57,29 @@ public class ScheduleJDBCRepository {
 			+ "SET title = ?, "
 			+ "location = ?, "
 			+ "content = ?, "
-			+ "start_date_time = ?, "
-			+ "end_date_time = ? "
-			+ "WHERE schedule_id = ?";
-		jdbcTemplate.batchUpdate(
-			sql,
-			schedules,
-			schedules.size(),
-			(PreparedStatement ps, Schedule schedule) -> {
-				ps.setString(1, title);
-				ps.setString(2, location);
-				ps.setString(3, content);
-				ps.setObject(4, schedule.getStartDateTime().plus(startTimeDiff, MINUTES));
-				ps.setObject(5, schedule.getEndDateTime().plus(endTimeDiff, MINUTES));
-				ps.setObject(6, schedule.getId());
-			}
-		);
+			+ "start_date_time = DATE_ADD(start_date_time, INTERVAL ? MINUTE), "
+			+ "end_date_time = DATE_ADD(end_date_time, INTERVAL ? MINUTE), "
+			+ "schedule_pattern_id = ? "
+			+ "WHERE schedule_pattern_id = ? "
+			+ "AND start_date_time >= ?";
+		return recordUpdate("updateFollowing", () -> jdbcTemplate.update(sql, title, location,
+			content, startTimeDiff, endTimeDiff, newSchedulePatternId, schedulePatternId,
+			fromStartDateTime));
 	}
 
-	public void processBatchInsert(List<Schedule> schedules) {
-		String sql = "INSERT INTO schedule "
-			+ "(start_date_time, "
-			+ "end_date_time, "
-			+ "title, "
-			+ "content, "
-			+ "location, "
-			+ "schedule_pattern_id) "
-			+ "VALUES (?, ?, ?, ?, ?, ?)";
+	// 반복 일정 전체를 한 번에 고치는 쿼리라, 소요 시간과 함께 한 번에 바뀐 행 수를 기록한다.
+	private int recordUpdate(String operation, IntSupplier update) {
+		Timer timer = Timer.builder(UPDATE_TIMER_NAME)
+			.tag("operation", operation)
+			.register(meterRegistry);
+		int updatedRows = timer.record(
+			() -> JdbcUpdateEvent.record(REPOSITORY_NAME, operation, update));
+
+		DistributionSummary.builder(UPDATE_ROWS_NAME)
+			.tag("operation", operation)
+			.register(meterRegistry)
+			.record(updatedRows);
 
-		Long schedulePatternId = schedules.get(0).getSchedulePattern().getId();
-		jdbcTemplate.batchUpdate(
-			sql,
-			schedules,
-			schedules.size(),
-			(PreparedStatement ps, Schedule schedule) -> {
-				ps.setObject(1, schedule.getStartDateTime());
-				ps.setObject(2, schedule.getEndDateTime());
-				ps.setString(3, schedule.getTitle());
-				ps.setString(4, schedule.getContent());
-				ps.setString(5, schedule.getLocation());
-				ps.setLong(6, schedulePatternId);
-			}
-		);
+		return updatedRows;
 	}
 }
@@ -6,11 +6,12 @@ import static com.dateplan.dateplan.domain.schedule.entity.QSchedulePattern.sche
 
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +22,8 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ScheduleQueryRepository {
 
+	private static final String DATE_DIFF_FUNCTION = "DATEDIFF({0}, {1})";
+
 	private final JPAQueryFactory queryFactory;
 
 	public void deleteByMemberId(Long memberId) {
@@ -58,7 +61,8 @@ public class ScheduleQueryRepository {
 			.fetchJoin()
 			.join(schedulePattern.member, member)
 			.where(memberIdEq(memberId)
-				.and(dateBetween(year, month, day)))
+				.and(dateBetween(year, month, day))
+				.and(isMaterialized()))
 			.orderBy(schedule.startDateTime.asc())
 			.fetch();
 	}
@@ -72,11 +76,25 @@ public class ScheduleQueryRepository {
 			.join(schedulePattern.member, member)
 			.where(memberIdEq(memberId)
 				.and(startDateTimeLoe(year, month))
-				.and(endDateTimeGoe(year, month)))
+				.and(endDateTimeGoe(year, month))
+				.and(isMaterialized()))
 			.orderBy(schedule.startDateTime.asc())
 			.fetch();
 	}
 
+	public List<Schedule> findLazyRepeatSchedulesByMemberId(Long memberId, LocalDate startDate,
+		LocalDate endDate) {
+		return queryFactory
+			.selectFrom(schedule)
+			.join(schedule.schedulePattern, schedulePattern)
+			.fetchJoin()
+			.where(memberIdEq(memberId)
+				.and(schedulePattern.lazyExpansion.isTrue())
+				.and(schedulePattern.repeatStartDate.loe(endDate))
+				.and(lastCycleEndDateGoe(startDate)))
+			.fetch();
+	}
+
 	public Optional<Schedule> findById(Long scheduleId) {
 		return Optional.ofNullable(
 			queryFactory
@@ -90,26 +108,43 @@ public class ScheduleQueryRepository {
 
 	private BooleanExpression dateBetween(Integer year, Integer month, Integer day) {
 		LocalDate requestDate = LocalDate.of(year, month, day);
-		return schedule.startDateTime.loe(requestDate.atTime(LocalTime.MAX))
-			.and(schedule.endDateTime.goe(requestDate.atTime(LocalTime.MIN)));
+		return schedule.startDateTime.lt(requestDate.plusDays(1).atStartOfDay())
+			.and(schedule.endDateTime.goe(requestDate.atStartOfDay()));
+	}
+
+	private BooleanExpression isMaterialized() {
+		return schedulePattern.lazyExpansion.isFalse();
+	}
+
+	// 마지막 회차(반복 종료일에 시작)가 첫 회차 기간만큼 이어져 조회 시작일에 닿는지 비교한다.
+	private BooleanExpression lastCycleEndDateGoe(LocalDate startDate) {
+		if (startDate == null) {
+			return null;
+		}
+		NumberTemplate<Integer> spanDays = Expressions.numberTemplate(Integer.class,
+			DATE_DIFF_FUNCTION, schedule.endDateTime, schedule.startDateTime);
+		NumberTemplate<Integer> daysAfterRepeatEnd = Expressions.numberTemplate(Integer.class,
+			DATE_DIFF_FUNCTION, Expressions.constant(startDate), schedulePattern.repeatEndDate);
+		return daysAfterRepeatEnd.loe(spanDays);
 	}
 
 	private BooleanExpression memberIdEq(Long memberId) {
 		return schedulePattern.member.id.eq(memberId);
 	}
 
+	// 인덱스를 탈 수 있도록 날짜 함수 대신 반열린 구간 또는 생성 컬럼으로 비교한다.
 	private BooleanExpression startDateTimeLoe(Integer year, Integer month) {
 		if (year == null && month == null) {
 			return null;
 		}
 		if (year == null) {
-			return schedule.startDateTime.month().loe(month);
+			return schedule.startMonth.loe(month);
 		}
 		if (month == null) {
-			return schedule.startDateTime.year().loe(year);
+			return schedule.startDateTime.lt(LocalDate.of(year + 1, 1, 1).atStartOfDay());
 		}
-		return schedule.startDateTime.loe(
-			YearMonth.of(year, month).atEndOfMonth().atTime(LocalTime.MAX));
+		return schedule.startDateTime.lt(
+			YearMonth.of(year, month).plusMonths(1).atDay(1).atStartOfDay());
 	}
 
 	private BooleanExpression endDateTimeGoe(Integer year, Integer month) {
@@ -117,12 +152,11 @@ public class ScheduleQueryRepository {
 			return null;
 		}
 		if (year == null) {
-			return schedule.endDateTime.month().goe(month);
+			return schedule.endMonth.goe(month);
 		}
 		if (month == null) {
-			return schedule.endDateTime.year().goe(year);
+			return schedule.endDateTime.goe(LocalDate.of(year, 1, 1).atStartOfDay());
 		}
-		return schedule.endDateTime.goe(
-			YearMonth.of(year, month).atDay(1).atTime(LocalTime.MIN));
+		return schedule.endDateTime.goe(YearMonth.of(year, month).atDay(1).atStartOfDay());
 	}
 }
@@ -0,0 +1,92 @@
+package com.dateplan.dateplan.domain.schedule.service;
+
+import static com.dateplan.dateplan.global.util.ScheduleDateUtil.getNextCycle;
+
+import com.dateplan.dateplan.domain.schedule.controller.dto.response.ScheduleEntry;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.service.dto.request.ScheduleServiceRequest;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.global.jfr.ScheduleExpansionEvent;
+import com.dateplan.dateplan.global.util.DaySet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 일정 회차 전개와 날짜 집합 계산. 저장소 없이 입력만으로 계산한다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScheduleCalculator {
+
+	public static List<Schedule> getSchedules(ScheduleServiceRequest request,
+		SchedulePattern schedulePattern) {
+		ScheduleExpansionEvent event = ScheduleExpansionEvent.start();
+		List<Schedule> schedules = List.of();
+		boolean succeeded = false;
+		try {
+			schedules = expandSchedules(request, schedulePattern);
+			succeeded = true;
+			return schedules;
+		} finally {
+			event.complete(request.getRepeatRule().name(), schedules.size(), succeeded);
+		}
+	}
+
+	// 날짜마다 LocalDate 를 만들지 않도록 epoch day 비트 집합에 일정 구간을 채운다.
+	public static DaySet getScheduleDays(
+		Integer year,
+		Integer month,
+		List<Schedule> schedules,
+		List<ScheduleEntry> repeatedSchedules
+	) {
+		DaySet scheduleDays = new DaySet();
+		for (Schedule schedule : schedules) {
+			scheduleDays.addRange(schedule.getStartDateTime().toLocalDate(),
+				schedule.getEndDateTime().toLocalDate());
+		}
+		for (ScheduleEntry schedule : repeatedSchedules) {
+			scheduleDays.addRange(schedule.getStartDateTime().toLocalDate(),
+				schedule.getEndDateTime().toLocalDate());
+		}
+		scheduleDays.retainYearMonth(year, month);
+		return scheduleDays;
+	}
+
+	private static List<Schedule> expandSchedules(ScheduleServiceRequest request,
+		SchedulePattern schedulePattern) {
+		List<Schedule> schedules = new ArrayList<>();
+
+		LocalDateTime now = request.getStartDateTime();
+		int count = 1;
+
+		schedules.add(request.toScheduleEntity(now, schedulePattern));
+		if (request.getRepeatRule().equals(RepeatRule.N)) {
+			return schedules;
+		}
+
+		while (isBeforeOfRepeatEndDate(request.getRepeatEndTime(),
+			getNextCycle(now, request.getRepeatRule(), count))) {
+			LocalDateTime nextCycle = getNextCycle(now, request.getRepeatRule(), count++);
+			if (checkNextCycle(request, now, nextCycle)) {
+				schedules.add(request.toScheduleEntity(nextCycle, schedulePattern));
+			}
+		}
+
+		return schedules;
+	}
+
+	private static boolean checkNextCycle(ScheduleServiceRequest request, LocalDateTime now,
+		LocalDateTime nextCycle) {
+		if (request.getRepeatRule().equals(RepeatRule.D) ||
+			request.getRepeatRule().equals(RepeatRule.W)) {
+			return true;
+		}
+		return nextCycle.getDayOfMonth() == now.getDayOfMonth();
+	}
+
+	private static boolean isBeforeOfRepeatEndDate(LocalDate repeatEndTime, LocalDateTime now) {
+		return !now.toLocalDate().isAfter(repeatEndTime);
+	}
+}
@@ -1,8 +1,16 @@
 package com.dateplan.dateplan.domain.schedule.service;
 
+import static com.dateplan.dateplan.global.constant.DateConstants.CALENDER_END_DATE;
+import static com.dateplan.dateplan.global.util.ScheduleDateUtil.getCyclesBetween;
+
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.schedule.controller.dto.response.ScheduleEntry;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.ScheduleExclusion;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleExclusionRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleQueryRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
 import com.dateplan.dateplan.domain.schedule.service.dto.response.ScheduleDatesServiceResponse;
@@ -11,11 +19,19 @@ import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import com.dateplan.dateplan.global.exception.schedule.ScheduleNotFoundException;
+import com.dateplan.dateplan.global.jfr.LazyScheduleExpansionEvent;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -29,6 +45,7 @@ public class ScheduleReadService {
 	private final ScheduleQueryRepository scheduleQueryRepository;
 	private final CoupleReadService coupleReadService;
 	private final ScheduleRepository scheduleRepository;
+	private final ScheduleExclusionRepository scheduleExclusionRepository;
 
 	public Optional<LocalDateTime> findMinStartDateTimeBySchedulePatternId(Long schedulePatternId) {
 		return scheduleQueryRepository.findMinStartDateTimeBySchedulePatternId(schedulePatternId);
@@ -58,7 +75,20 @@ public class ScheduleReadService {
 		validatePermission(requestId, member.getId(), partnerId);
 		List<Schedule> schedules = scheduleQueryRepository.findByDateBetween(requestId,
 			year, month, day);
-		return ScheduleServiceResponse.from(schedules);
+
+		LocalDate requestDate = LocalDate.of(year, month, day);
+		List<ScheduleEntry> repeatedSchedules = getLazyRepeatScheduleEntries(requestId,
+			requestDate, requestDate);
+		if (repeatedSchedules.isEmpty()) {
+			return ScheduleServiceResponse.from(schedules);
+		}
+
+		return ScheduleServiceResponse.builder()
+			.schedules(Stream.concat(schedules.stream().map(ScheduleEntry::from),
+					repeatedSchedules.stream())
+				.sorted(Comparator.comparing(ScheduleEntry::getStartDateTime))
+				.toList())
+			.build();
 	}
 
 	public ScheduleDatesServiceResponse readScheduleDates(
@@ -71,44 +101,151 @@ public class ScheduleReadService {
 		Long partnerId = coupleReadService.getPartnerId(loginMember);
 		validatePermission(requestId, loginMember.getId(), partnerId);
 
+		return findScheduleDates(requestId, year, month);
+	}
+
+	public ScheduleDatesServiceResponse readMyScheduleDates(
+		Member loginMember,
+		Integer year,
+		Integer month
+	) {
+		return findScheduleDates(loginMember.getId(), year, month);
+	}
+
+	// 로그인한 회원의 커플 정보에서 상대방을 꺼내므로 따로 권한을 검증하지 않는다.
+	public ScheduleDatesServiceResponse readPartnerScheduleDates(
+		CoupleInfoServiceResponse coupleInfo,
+		Integer year,
+		Integer month
+	) {
+		return findScheduleDates(coupleInfo.getPartnerId(), year, month);
+	}
+
+	private ScheduleDatesServiceResponse findScheduleDates(
+		Long requestId,
+		Integer year,
+		Integer month
+	) {
 		List<Schedule> schedules = scheduleQueryRepository
 			.findByYearAndMonthOrderByDate(requestId, year, month);
+		List<ScheduleEntry> repeatedSchedules = year == null && month != null
+			? getLazyRepeatScheduleEntriesOfMonth(requestId, month)
+			: getLazyRepeatScheduleEntries(requestId, getRangeStartDate(year, month),
+				getRangeEndDate(year, month));
 
 		return ScheduleDatesServiceResponse.builder()
-			.scheduleDates(getScheduleDates(year, month, schedules))
+			.scheduleDays(ScheduleCalculator.getScheduleDays(year, month, schedules, repeatedSchedules))
 			.build();
 	}
 
-	private List<LocalDate> getScheduleDates(
-		Integer year,
-		Integer month,
-		List<Schedule> schedules
+	// 지연 전개 반복 일정은 첫 회차만 저장되어 있으므로 조회 구간에 걸치는 회차를 계산한다.
+	private List<ScheduleEntry> getLazyRepeatScheduleEntries(
+		Long memberId,
+		LocalDate startDate,
+		LocalDate endDate
 	) {
-		return schedules.stream()
-			.flatMap(this::getScheduleDateRange)
-			.filter(date -> checkDateRange(year, month, date))
-			.distinct()
-			.sorted(LocalDate::compareTo)
+		List<Schedule> repeatSchedules = scheduleQueryRepository
+			.findLazyRepeatSchedulesByMemberId(memberId, startDate, endDate);
+		if (repeatSchedules.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Set<LocalDate>> excludedDates = getExcludedDates(repeatSchedules);
+		return repeatSchedules.stream()
+			.flatMap(schedule -> expandSchedule(schedule,
+				excludedDates.getOrDefault(schedule.getSchedulePattern().getId(), Set.of()),
+				startDate, endDate))
+			.toList();
+	}
+
+	// 연도 없이 월만 조회하면 반복 종료일까지 모든 회차를 펼치지 않고, 해마다 해당 월 구간만 계산한다.
+	private List<ScheduleEntry> getLazyRepeatScheduleEntriesOfMonth(Long memberId, int month) {
+		List<Schedule> repeatSchedules = scheduleQueryRepository
+			.findLazyRepeatSchedulesByMemberId(memberId, null, CALENDER_END_DATE);
+		if (repeatSchedules.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Set<LocalDate>> excludedDates = getExcludedDates(repeatSchedules);
+		return repeatSchedules.stream()
+			.flatMap(schedule -> getYearMonths(schedule, month)
+				.flatMap(yearMonth -> expandSchedule(schedule,
+					excludedDates.getOrDefault(schedule.getSchedulePattern().getId(), Set.of()),
+					yearMonth.atDay(1), yearMonth.atEndOfMonth())))
 			.toList();
 	}
 
-	private Stream<LocalDate> getScheduleDateRange(Schedule schedule) {
-		LocalDate startDate = schedule.getStartDateTime().toLocalDate();
-		LocalDate endDate = schedule.getEndDateTime().toLocalDate();
-		return startDate.datesUntil(endDate.plusDays(1));
+	// 마지막 회차가 다음 해로 이어질 수 있으므로 첫 회차 기간만큼 마지막 연도를 늘린다.
+	private Stream<YearMonth> getYearMonths(Schedule schedule, int month) {
+		long spanDays = ChronoUnit.DAYS.between(schedule.getStartDateTime().toLocalDate(),
+			schedule.getEndDateTime().toLocalDate());
+		int firstYear = schedule.getStartDateTime().getYear();
+		int lastYear = schedule.getSchedulePattern().getRepeatEndDate().plusDays(spanDays)
+			.getYear();
+
+		return IntStream.rangeClosed(firstYear, lastYear)
+			.mapToObj(year -> YearMonth.of(year, month));
 	}
 
-	private boolean checkDateRange(Integer year, Integer month, LocalDate date) {
-		if (year == null && month == null) {
-			return true;
+	private Stream<ScheduleEntry> expandSchedule(
+		Schedule schedule,
+		Set<LocalDate> excludedDates,
+		LocalDate startDate,
+		LocalDate endDate
+	) {
+		SchedulePattern schedulePattern = schedule.getSchedulePattern();
+		LocalDateTime firstStartDateTime = schedule.getStartDateTime();
+		long durationSeconds = ChronoUnit.SECONDS.between(firstStartDateTime,
+			schedule.getEndDateTime());
+		long spanDays = ChronoUnit.DAYS.between(firstStartDateTime.toLocalDate(),
+			schedule.getEndDateTime().toLocalDate());
+
+		// 조회 시작일 이전에 시작해 조회 구간까지 이어지는 회차도 포함한다.
+		LocalDate cycleStartDate = startDate == null
+			? firstStartDateTime.toLocalDate()
+			: startDate.minusDays(spanDays);
+
+		LazyScheduleExpansionEvent event = LazyScheduleExpansionEvent.start();
+		List<LocalDateTime> cycles = getCyclesBetween(firstStartDateTime,
+			schedulePattern.getRepeatRule(), schedulePattern.getRepeatEndDate(), cycleStartDate,
+			endDate);
+		event.complete(schedulePattern.getRepeatRule().name(), cycles.size());
+
+		return cycles.stream()
+			.filter(cycle -> !excludedDates.contains(cycle.toLocalDate()))
+			.map(cycle -> ScheduleEntry.of(schedule, cycle, cycle.plusSeconds(durationSeconds)));
+	}
+
+	private Map<Long, Set<LocalDate>> getExcludedDates(List<Schedule> repeatSchedules) {
+		List<Long> schedulePatternIds = repeatSchedules.stream()
+			.map(schedule -> schedule.getSchedulePattern().getId())
+			.toList();
+
+		return scheduleExclusionRepository.findAllBySchedulePatternIdIn(schedulePatternIds)
+			.stream()
+			.collect(Collectors.groupingBy(
+				exclusion -> exclusion.getSchedulePattern().getId(),
+				Collectors.mapping(ScheduleExclusion::getExcludedDate, Collectors.toSet())));
+	}
+
+	private LocalDate getRangeStartDate(Integer year, Integer month) {
+		if (year == null) {
+			return null;
 		}
-		if (year != null && month == null) {
-			return date.getYear() == year;
+		if (month == null) {
+			return LocalDate.of(year, 1, 1);
 		}
+		return YearMonth.of(year, month).atDay(1);
+	}
+
+	private LocalDate getRangeEndDate(Integer year, Integer month) {
 		if (year == null) {
-			return date.getMonthValue() == month;
+			return CALENDER_END_DATE;
+		}
+		if (month == null) {
+			return LocalDate.of(year, 12, 31);
 		}
-		return date.getYear() == year && date.getMonthValue() == month;
+		return YearMonth.of(year, month).atEndOfMonth();
 	}
 
 	private void validatePermission(Long requestId, Long memberId, Long partnerId) {
@@ -1,10 +1,16 @@
 package com.dateplan.dateplan.domain.schedule.service;
 
-import static com.dateplan.dateplan.global.util.ScheduleDateUtil.getNextCycle;
+import static com.dateplan.dateplan.global.util.ScheduleDateUtil.countCycles;
+import static com.dateplan.dateplan.global.util.ScheduleDateUtil.getCyclesBetween;
 
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
+import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.ScheduleExclusion;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleExclusionRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleJDBCRepository;
 import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
@@ -14,14 +20,15 @@ import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.RepeatRule;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
+import com.dateplan.dateplan.global.exception.schedule.ScheduleNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,27 +41,40 @@ public class ScheduleService {
 	private final ScheduleJDBCRepository scheduleJDBCRepository;
 	private final ScheduleReadService scheduleReadService;
 	private final ScheduleRepository scheduleRepository;
+	private final ScheduleExclusionRepository scheduleExclusionRepository;
+	private final CoupleReadService coupleReadService;
+	private final CalenderCacheRepository calenderCacheRepository;
+
+	@Value("${schedule.repeat.lazy-expansion:false}")
+	private boolean lazyExpansionEnabled;
 
 	public void createSchedule(Member loginMember, Long memberId, ScheduleServiceRequest request) {
 
 		if (!isSameMember(memberId, loginMember.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.CREATE);
 		}
+		invalidateCalenderCache(loginMember);
 
-		SchedulePattern schedulePattern = request.toSchedulePatternEntity(loginMember);
+		SchedulePattern schedulePattern = request.toSchedulePatternEntity(loginMember,
+			isLazyExpansion(request.getRepeatRule()));
 		schedulePatternRepository.save(schedulePattern);
 
-		List<Schedule> schedules = getSchedules(request, schedulePattern);
+		if (schedulePattern.isLazyExpansion()) {
+			scheduleRepository.save(
+				request.toScheduleEntity(request.getStartDateTime(), schedulePattern));
+			return;
+		}
+
+		List<Schedule> schedules = ScheduleCalculator.getSchedules(request, schedulePattern);
 
-		scheduleJDBCRepository.processBatchInsert(schedules);
+		scheduleRepository.saveAll(schedules);
 	}
 
 	public void updateSchedule(
 		Long memberId,
 		Long scheduleId,
 		ScheduleUpdateServiceRequest request,
-		Member loginMember,
-		Boolean updateRepeat
+		Member loginMember
 	) {
 		if (!isSameMember(memberId, loginMember.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.UPDATE);
@@ -65,23 +85,81 @@ public class ScheduleService {
 			schedule.getSchedulePattern().getMember().getId())) {
 			throw new NoPermissionException(Resource.SCHEDULE, Operation.UPDATE);
 		}
+		invalidateCalenderCache(loginMember);
+
+		if (schedule.getSchedulePattern().isLazyExpansion()) {
+			LocalDate cycleDate = getCycleDateOrElseThrow(schedule, request.getOccurrenceDate());
+			if (request.isUpdateRepeat() && request.isUpdateFollowing()) {
+				updateFollowingCycles(request, schedule, loginMember, cycleDate);
+				return;
+			}
+			if (request.isUpdateRepeat()) {
+				updateRepeatCycles(request, schedule, cycleDate);
+				return;
+			}
+			updateSingleCycle(request, schedule, loginMember, cycleDate);
+			return;
+		}
 
-		if (updateRepeat) {
+		if (request.isUpdateRepeat() && request.isUpdateFollowing()) {
+			updateFollowingSchedules(request, schedule, loginMember);
+			return;
+		}
+		if (request.isUpdateRepeat()) {
 			updateRepeatSchedules(request, schedule);
 			return;
 		}
 		updateSingleSchedule(request, schedule, loginMember);
 	}
 
+	// 회차를 읽어오지 않고 UPDATE 한 번으로 패턴의 모든 일정을 옮긴다.
 	private void updateRepeatSchedules(ScheduleUpdateServiceRequest request, Schedule schedule) {
 		long startTimeDiff = ChronoUnit.MINUTES.between(schedule.getStartDateTime(),
 			request.getStartDateTime());
 		long endTimeDiff = ChronoUnit.MINUTES.between(schedule.getEndDateTime(),
 			request.getEndDateTime());
-		List<Schedule> schedules = scheduleReadService.findBySchedulePatternId(
-			schedule.getSchedulePattern().getId());
-		scheduleJDBCRepository.processBatchUpdate(schedules, request.getTitle(),
-			request.getLocation(), request.getContent(), startTimeDiff, endTimeDiff);
+		scheduleJDBCRepository.updateAllBySchedulePatternId(
+			schedule.getSchedulePattern().getId(), request.getTitle(), request.getLocation(),
+			request.getContent(), startTimeDiff, endTimeDiff);
+	}
+
+	// 선택한 일정부터 이후 일정들을 새 패턴으로 떼어내 함께 옮긴다.
+	private void updateFollowingSchedules(
+		ScheduleUpdateServiceRequest request,
+		Schedule schedule,
+		Member member
+	) {
+		SchedulePattern originalSchedulePattern = schedule.getSchedulePattern();
+		Optional<LocalDateTime> minStart = scheduleReadService.findMinStartDateTimeBySchedulePatternId(
+			originalSchedulePattern.getId());
+		if (minStart.isEmpty() || !minStart.get().isBefore(schedule.getStartDateTime())) {
+			updateRepeatSchedules(request, schedule);
+			return;
+		}
+
+		long startTimeDiff = ChronoUnit.MINUTES.between(schedule.getStartDateTime(),
+			request.getStartDateTime());
+		long endTimeDiff = ChronoUnit.MINUTES.between(schedule.getEndDateTime(),
+			request.getEndDateTime());
+		SchedulePattern newSchedulePattern = schedulePatternRepository.saveAndFlush(
+			SchedulePattern.builder()
+				.repeatStartDate(request.getStartDateTime().toLocalDate())
+				.repeatEndDate(originalSchedulePattern.getRepeatEndDate())
+				.repeatRule(originalSchedulePattern.getRepeatRule())
+				.member(member)
+				.build());
+		scheduleJDBCRepository.updateFollowingBySchedulePatternId(
+			originalSchedulePattern.getId(), newSchedulePattern.getId(),
+			schedule.getStartDateTime(), request.getTitle(), request.getLocation(),
+			request.getContent(), startTimeDiff, endTimeDiff);
+
+		Optional<LocalDateTime> originalMaxStart = scheduleReadService.findMaxStartDateTimeBySchedulePatternId(
+			originalSchedulePattern.getId());
+		originalSchedulePattern.updateDateTime(minStart.get(), originalMaxStart.get());
+
+		Optional<LocalDateTime> newMaxStart = scheduleReadService.findMaxStartDateTimeBySchedulePatternId(
+			newSchedulePattern.getId());
+		newSchedulePattern.updateDateTime(request.getStartDateTime(), newMaxStart.get());
 	}
 
 	private void updateSingleSchedule(
@@ -116,8 +194,92 @@ public class ScheduleService {
 		originalSchedulePattern.updateDateTime(minStart.get(), maxStart.get());
 	}
 
+	// 지연 전개 반복 일정은 저장된 첫 회차를 기준으로 모든 회차를 함께 옮긴다.
+	private void updateRepeatCycles(
+		ScheduleUpdateServiceRequest request,
+		Schedule schedule,
+		LocalDate cycleDate
+	) {
+		LocalDateTime cycleStartDateTime = cycleDate.atTime(
+			schedule.getStartDateTime().toLocalTime());
+		LocalDateTime cycleEndDateTime = cycleStartDateTime.plusSeconds(
+			ChronoUnit.SECONDS.between(schedule.getStartDateTime(), schedule.getEndDateTime()));
+		long startTimeDiff = ChronoUnit.MINUTES.between(cycleStartDateTime,
+			request.getStartDateTime());
+		long endTimeDiff = ChronoUnit.MINUTES.between(cycleEndDateTime,
+			request.getEndDateTime());
+
+		LocalDateTime newStartDateTime = schedule.getStartDateTime().plusMinutes(startTimeDiff);
+		long dayDiff = ChronoUnit.DAYS.between(schedule.getStartDateTime().toLocalDate(),
+			newStartDateTime.toLocalDate());
+		schedule.updateSchedule(
+			request.getTitle(),
+			request.getContent(),
+			request.getLocation(),
+			newStartDateTime,
+			schedule.getEndDateTime().plusMinutes(endTimeDiff)
+		);
+
+		SchedulePattern schedulePattern = schedule.getSchedulePattern();
+		schedulePattern.updateRepeatStartDate(newStartDateTime.toLocalDate());
+		if (dayDiff != 0) {
+			scheduleExclusionRepository.findAllBySchedulePatternId(schedulePattern.getId())
+				.forEach(exclusion -> exclusion.shiftExcludedDate(dayDiff));
+		}
+	}
+
+	// 선택한 회차 이전에서 기존 패턴을 끝내고, 이후 회차는 새 패턴의 첫 회차부터 다시 전개한다.
+	private void updateFollowingCycles(
+		ScheduleUpdateServiceRequest request,
+		Schedule schedule,
+		Member member,
+		LocalDate cycleDate
+	) {
+		if (!cycleDate.isAfter(schedule.getStartDateTime().toLocalDate())) {
+			updateRepeatCycles(request, schedule, cycleDate);
+			return;
+		}
+
+		SchedulePattern originalSchedulePattern = schedule.getSchedulePattern();
+		SchedulePattern newSchedulePattern = schedulePatternRepository.save(
+			SchedulePattern.builder()
+				.repeatStartDate(request.getStartDateTime().toLocalDate())
+				.repeatEndDate(originalSchedulePattern.getRepeatEndDate())
+				.repeatRule(originalSchedulePattern.getRepeatRule())
+				.member(member)
+				.lazyExpansion(true)
+				.build());
+		scheduleRepository.save(request.toScheduleEntity(newSchedulePattern));
+
+		long dayDiff = ChronoUnit.DAYS.between(cycleDate,
+			request.getStartDateTime().toLocalDate());
+		scheduleExclusionRepository.findAllBySchedulePatternId(originalSchedulePattern.getId())
+			.stream()
+			.filter(exclusion -> !exclusion.getExcludedDate().isBefore(cycleDate))
+			.forEach(exclusion -> exclusion.moveTo(newSchedulePattern, dayDiff));
+		originalSchedulePattern.updateRepeatEndDate(cycleDate.minusDays(1));
+	}
+
+	// 수정된 회차는 반복에서 제외하고 단일 일정으로 따로 저장한다.
+	private void updateSingleCycle(
+		ScheduleUpdateServiceRequest request,
+		Schedule schedule,
+		Member member,
+		LocalDate cycleDate
+	) {
+		SchedulePattern newSchedulePattern = schedulePatternRepository.save(
+			request.toSchedulePattern(member));
+		scheduleRepository.save(request.toScheduleEntity(newSchedulePattern));
+		excludeCycle(schedule, cycleDate);
+	}
+
 	public void deleteSchedule(Long memberId, Long scheduleId, Member loginMember,
 		Boolean deleteRepeat) {
+		deleteSchedule(memberId, scheduleId, loginMember, deleteRepeat, null);
+	}
+
+	public void deleteSchedule(Long memberId, Long scheduleId, Member loginMember,
+		Boolean deleteRepeat, LocalDate occurrenceDate) {
 		if (!isSameMember(memberId, loginMember.getId())) {
 			throw new NoPermissionException(Resource.MEMBER, Operation.DELETE);
 		}
@@ -127,6 +289,17 @@ public class ScheduleService {
 			schedule.getSchedulePattern().getMember().getId())) {
 			throw new NoPermissionException(Resource.SCHEDULE, Operation.DELETE);
 		}
+		invalidateCalenderCache(loginMember);
+
+		if (schedule.getSchedulePattern().isLazyExpansion()) {
+			LocalDate cycleDate = getCycleDateOrElseThrow(schedule, occurrenceDate);
+			if (deleteRepeat) {
+				deleteRepeatSchedule(schedule);
+				return;
+			}
+			excludeCycle(schedule, cycleDate);
+			return;
+		}
 
 		if (deleteRepeat) {
 			deleteRepeatSchedule(schedule);
@@ -137,55 +310,55 @@ public class ScheduleService {
 
 	private void deleteRepeatSchedule(Schedule schedule) {
 		SchedulePattern schedulePattern = schedule.getSchedulePattern();
+		scheduleExclusionRepository.deleteAllBySchedulePatternId(schedulePattern.getId());
 		scheduleRepository.deleteAllBySchedulePatternId(schedulePattern.getId());
 		schedulePatternRepository.delete(schedulePattern);
 	}
 
-	private void deleteSingleSchedule(Schedule schedule) {
-		scheduleRepository.delete(schedule);
-		if (isSingleSchedule(schedule.getSchedulePattern().getId())) {
-			schedulePatternRepository.delete(schedule.getSchedulePattern());
+	private void excludeCycle(Schedule schedule, LocalDate cycleDate) {
+		SchedulePattern schedulePattern = schedule.getSchedulePattern();
+		scheduleExclusionRepository.save(ScheduleExclusion.builder()
+			.excludedDate(cycleDate)
+			.schedulePattern(schedulePattern)
+			.build());
+
+		long cycleCount = countCycles(schedule.getStartDateTime(),
+			schedulePattern.getRepeatRule(), schedulePattern.getRepeatEndDate());
+		if (scheduleExclusionRepository.countBySchedulePatternId(schedulePattern.getId())
+			>= cycleCount) {
+			deleteRepeatSchedule(schedule);
 		}
 	}
 
-	private boolean isSingleSchedule(Long schedulePatternId) {
-		return !(scheduleRepository.existsBySchedulePatternId(schedulePatternId));
-	}
-
-	private List<Schedule> getSchedules(ScheduleServiceRequest request,
-		SchedulePattern schedulePattern) {
-		List<Schedule> schedules = new ArrayList<>();
-
-		LocalDateTime now = request.getStartDateTime();
-		int count = 1;
+	private LocalDate getCycleDateOrElseThrow(Schedule schedule, LocalDate occurrenceDate) {
+		LocalDate cycleDate = occurrenceDate == null
+			? schedule.getStartDateTime().toLocalDate()
+			: occurrenceDate;
+		SchedulePattern schedulePattern = schedule.getSchedulePattern();
 
-		schedules.add(request.toScheduleEntity(now, schedulePattern));
-		if (request.getRepeatRule().equals(RepeatRule.N)) {
-			return schedules;
-		}
-
-		while (isBeforeOfRepeatEndDate(request.getRepeatEndTime(),
-			getNextCycle(now, request.getRepeatRule(), count))) {
-			LocalDateTime nextCycle = getNextCycle(now, request.getRepeatRule(), count++);
-			if (checkNextCycle(request, now, nextCycle)) {
-				schedules.add(request.toScheduleEntity(nextCycle, schedulePattern));
-			}
+		boolean isCycle = !getCyclesBetween(schedule.getStartDateTime(),
+			schedulePattern.getRepeatRule(), schedulePattern.getRepeatEndDate(), cycleDate,
+			cycleDate).isEmpty();
+		if (!isCycle || scheduleExclusionRepository.existsBySchedulePatternIdAndExcludedDate(
+			schedulePattern.getId(), cycleDate)) {
+			throw new ScheduleNotFoundException();
 		}
+		return cycleDate;
+	}
 
-		return schedules;
+	private boolean isLazyExpansion(RepeatRule repeatRule) {
+		return lazyExpansionEnabled && !repeatRule.equals(RepeatRule.N);
 	}
 
-	private boolean checkNextCycle(ScheduleServiceRequest request, LocalDateTime now,
-		LocalDateTime nextCycle) {
-		if (request.getRepeatRule().equals(RepeatRule.D) ||
-			request.getRepeatRule().equals(RepeatRule.W)) {
-			return true;
+	private void deleteSingleSchedule(Schedule schedule) {
+		scheduleRepository.delete(schedule);
+		if (isSingleSchedule(schedule.getSchedulePattern().getId())) {
+			schedulePatternRepository.delete(schedule.getSchedulePattern());
 		}
-		return nextCycle.getDayOfMonth() == now.getDayOfMonth();
 	}
 
-	private boolean isBeforeOfRepeatEndDate(LocalDate repeatEndTime, LocalDateTime now) {
-		return !now.toLocalDate().isAfter(repeatEndTime);
+	private boolean isSingleSchedule(Long schedulePatternId) {
+		return !(scheduleRepository.existsBySchedulePatternId(schedulePatternId));
 	}
 
 	private boolean isSameMember(Long memberId, Long loginMemberId) {
@@ -215,4 +388,11 @@ public class ScheduleService {
 		}
 		return false;
 	}
+
+	// 권한 검증을 통과한 뒤에만 호출한다. 커플 정보는 요청 안에서 이미 읽었다면 CoupleContext 의 것을 쓴다.
+	private void invalidateCalenderCache(Member member) {
+		coupleReadService.findCoupleInfo(member)
+			.map(CoupleInfoServiceResponse::getCoupleId)
+			.ifPresent(calenderCacheRepository::invalidate);
+	}
 }
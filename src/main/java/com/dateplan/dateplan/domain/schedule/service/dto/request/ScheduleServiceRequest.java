@@ -74,11 +74,16 @@ public class ScheduleServiceRequest {
 	}
 
 	public SchedulePattern toSchedulePatternEntity(Member member) {
+		return toSchedulePatternEntity(member, false);
+	}
+
+	public SchedulePattern toSchedulePatternEntity(Member member, boolean lazyExpansion) {
 		return SchedulePattern.builder()
 			.repeatStartDate(startDateTime.toLocalDate())
 			.repeatEndDate(repeatEndTime)
 			.member(member)
 			.repeatRule(repeatRule)
+			.lazyExpansion(lazyExpansion)
 			.build();
 	}
 
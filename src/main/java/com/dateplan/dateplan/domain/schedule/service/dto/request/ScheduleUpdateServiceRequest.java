@@ -1,9 +1,11 @@
 package com.dateplan.dateplan.domain.schedule.service.dto.request;
 
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
 import com.dateplan.dateplan.global.constant.RepeatRule;
 import com.dateplan.dateplan.global.exception.schedule.InvalidDateTimeRangeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,18 +24,31 @@ public class ScheduleUpdateServiceRequest {
 
 	private String content;
 
+	private boolean updateRepeat;
+
+	private boolean updateFollowing;
+
+	// 지연 전개 일정이라면 수정할 회차의 날짜
+	private LocalDate occurrenceDate;
+
 	public ScheduleUpdateServiceRequest(
 		String title,
 		LocalDateTime startDateTime,
 		LocalDateTime endDateTime,
 		String location,
-		String content
+		String content,
+		boolean updateRepeat,
+		boolean updateFollowing,
+		LocalDate occurrenceDate
 	) {
 		this.title = title;
 		this.startDateTime = startDateTime;
 		this.endDateTime = endDateTime;
 		this.location = location;
 		this.content = content;
+		this.updateRepeat = updateRepeat;
+		this.updateFollowing = updateFollowing;
+		this.occurrenceDate = occurrenceDate;
 		throwIfInvalidDateTimeRange();
 	}
 
@@ -46,6 +61,17 @@ public class ScheduleUpdateServiceRequest {
 			.build();
 	}
 
+	public Schedule toScheduleEntity(SchedulePattern schedulePattern) {
+		return Schedule.builder()
+			.startDateTime(startDateTime)
+			.endDateTime(endDateTime)
+			.title(title)
+			.content(content)
+			.location(location)
+			.schedulePattern(schedulePattern)
+			.build();
+	}
+
 	private void throwIfInvalidDateTimeRange() {
 		if (startDateTime.isAfter(endDateTime)) {
 			throw new InvalidDateTimeRangeException();
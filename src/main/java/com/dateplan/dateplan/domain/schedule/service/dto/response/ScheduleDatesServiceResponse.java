@@ -1,17 +1,20 @@
 package com.dateplan.dateplan.domain.schedule.service.dto.response;
 
+import com.dateplan.dateplan.global.util.DaySet;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
 public class ScheduleDatesServiceResponse {
 
-	private List<LocalDate> scheduleDates;
-}
\ No newline at end of file
+	private DaySet scheduleDays;
+
+	public List<LocalDate> getScheduleDates() {
+		return scheduleDays.toLocalDates();
+	}
+}
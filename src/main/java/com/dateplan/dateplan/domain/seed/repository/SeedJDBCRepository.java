@@ -0,0 +1,114 @@
+package com.dateplan.dateplan.domain.seed.repository;
+
+import com.dateplan.dateplan.global.constant.IdGeneratorConstants;
+import com.dateplan.dateplan.global.jfr.JdbcUpdateEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 대량의 합성 데이터를 엔티티를 거치지 않고 배치 insert 한다. id 는 호출하는 쪽에서 미리 정해 넘긴다.
+@Repository
+@RequiredArgsConstructor
+public class SeedJDBCRepository {
+
+	private static final String REPOSITORY_NAME = "seed";
+
+	private static final String INSERT_MEMBER = "INSERT INTO member "
+		+ "(member_id, name, phone, nickname, birth_day, gender, profile_image_url, password) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_COUPLE = "INSERT INTO couple "
+		+ "(couple_id, first_date, member_id_1, member_id_2) VALUES (?, ?, ?, ?)";
+	private static final String INSERT_MEMBER_COUPLE = "INSERT INTO member_couple "
+		+ "(member_id, couple_id) VALUES (?, ?)";
+	private static final String INSERT_SCHEDULE_PATTERN = "INSERT INTO schedule_pattern "
+		+ "(schedule_pattern_id, repeat_start_date, repeat_end_date, repeat_rule, member_id, "
+		+ "lazy_expansion) VALUES (?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_SCHEDULE = "INSERT INTO schedule "
+		+ "(schedule_id, start_date_time, end_date_time, title, content, location, "
+		+ "schedule_pattern_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_DATING = "INSERT INTO dating "
+		+ "(dating_id, title, location, content, start_date_time, end_date_time, couple_id) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_ANNIVERSARY_PATTERN = "INSERT INTO anniversary_pattern "
+		+ "(anniversary_pattern_id, repeat_start_date, repeat_end_date, repeat_rule, category, "
+		+ "couple_id) VALUES (?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_ANNIVERSARY = "INSERT INTO anniversary "
+		+ "(anniversary_id, title, content, date, anniversary_pattern_id) VALUES (?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// IDENTITY 로 생성되는 회원, 커플은 빈 DB 에서 1 부터 직접 지정한다. MySQL 은 지정한 id 에 맞춰 AUTO_INCREMENT 를 올린다.
+	public boolean existsMember() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM member)", Boolean.class));
+	}
+
+	/**
+	 * id_sequence 에서 count 개의 id 를 예약하고 첫 id 를 반환한다.
+	 * pooled 방식은 읽은 값을 블록의 상한으로 사용하므로, 예약한 범위 뒤로 할당 크기만큼 더 올려 애플리케이션이 다음에 받을 블록과 겹치지 않게 한다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public long reserveIds(String sequenceName, int count) {
+		Long nextValue = jdbcTemplate.queryForObject("SELECT " + IdGeneratorConstants.VALUE_COLUMN
+				+ " FROM " + IdGeneratorConstants.TABLE
+				+ " WHERE " + IdGeneratorConstants.PK_COLUMN + " = ? FOR UPDATE",
+			Long.class, sequenceName);
+		if (nextValue == null) {
+			throw new IllegalStateException("id sequence not found: " + sequenceName);
+		}
+
+		jdbcTemplate.update("UPDATE " + IdGeneratorConstants.TABLE
+				+ " SET " + IdGeneratorConstants.VALUE_COLUMN + " = ?"
+				+ " WHERE " + IdGeneratorConstants.PK_COLUMN + " = ?",
+			nextValue + count + IdGeneratorConstants.ALLOCATION_SIZE, sequenceName);
+
+		return nextValue + 1;
+	}
+
+	public int saveMembers(List<Object[]> rows) {
+		return batchInsert("saveMembers", INSERT_MEMBER, rows);
+	}
+
+	public int saveCouples(List<Object[]> rows) {
+		return batchInsert("saveCouples", INSERT_COUPLE, rows);
+	}
+
+	public int saveMemberCouples(List<Object[]> rows) {
+		return batchInsert("saveMemberCouples", INSERT_MEMBER_COUPLE, rows);
+	}
+
+	public int saveSchedulePatterns(List<Object[]> rows) {
+		return batchInsert("saveSchedulePatterns", INSERT_SCHEDULE_PATTERN, rows);
+	}
+
+	public int saveSchedules(List<Object[]> rows) {
+		return batchInsert("saveSchedules", INSERT_SCHEDULE, rows);
+	}
+
+	public int saveDatings(List<Object[]> rows) {
+		return batchInsert("saveDatings", INSERT_DATING, rows);
+	}
+
+	public int saveAnniversaryPatterns(List<Object[]> rows) {
+		return batchInsert("saveAnniversaryPatterns", INSERT_ANNIVERSARY_PATTERN, rows);
+	}
+
+	public int saveAnniversaries(List<Object[]> rows) {
+		return batchInsert("saveAnniversaries", INSERT_ANNIVERSARY, rows);
+	}
+
+	// rewriteBatchedStatements 로 다중 행 insert 가 되면 행별 결과 대신 SUCCESS_NO_INFO 가 오므로 넘긴 행 수를 기록한다.
+	private int batchInsert(String operation, String sql, List<Object[]> rows) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+
+		return JdbcUpdateEvent.record(REPOSITORY_NAME, operation, () -> {
+			jdbcTemplate.batchUpdate(sql, rows);
+			return rows.size();
+		});
+	}
+}
@@ -0,0 +1,35 @@
+package com.dateplan.dateplan.domain.seed.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필로 실행하면 합성 데이터를 만들고 종료한다. 회원이 없는 빈 DB 에서 실행한다.
+ * 예) ./gradlew bootRun --args='--spring.profiles.active=local,seed --seed.members=1000000 --seed.random-seed=42'
+ */
+@Profile("seed")
+@Component
+@RequiredArgsConstructor
+public class SeedDataRunner implements ApplicationRunner {
+
+	private final SeedDataService seedDataService;
+	private final ApplicationContext applicationContext;
+
+	@Value("${seed.members}")
+	private int members;
+
+	@Value("${seed.random-seed}")
+	private long randomSeed;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		seedDataService.generate(members, randomSeed);
+		System.exit(SpringApplication.exit(applicationContext));
+	}
+}
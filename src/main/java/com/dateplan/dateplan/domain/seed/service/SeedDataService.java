@@ -0,0 +1,299 @@
+package com.dateplan.dateplan.domain.seed.service;
+
+import static com.dateplan.dateplan.global.constant.DateConstants.CALENDER_END_DATE;
+
+import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.seed.repository.SeedJDBCRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.global.util.ScheduleDateUtil;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.util.password.PasswordEncryptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 성능 측정용 합성 데이터를 만든다. 회원을 둘씩 커플로 묶고 일정, 데이트, 기념일을 채운다.
+ * chunk 단위로 만들고 저장해 전체 크기와 관계없이 chunk 만큼만 메모리를 쓴다.
+ * 회원이 없는 빈 DB 에서만 실행한다. 회원, 커플 id 와 전화번호, 닉네임을 만든 순서로 정하므로 같은 시드면 같은 데이터가 만들어진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Profile("seed")
+@Service
+public class SeedDataService {
+
+	// 시드가 같으면 실행 날짜와 관계없이 같은 데이터가 만들어지도록 날짜의 기준을 고정한다.
+	private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+	private static final String SEED_PASSWORD = "password";
+	private static final int ID_BLOCK_SIZE = 10_000;
+
+	// 대부분 한 번뿐인 일정이고, 반복 일정은 매주 > 매월 > 매일 > 매년 순으로 많다.
+	private static final List<RepeatRule> REPEAT_RULE_MIX = Stream.of(
+			Collections.nCopies(70, RepeatRule.N), Collections.nCopies(15, RepeatRule.W),
+			Collections.nCopies(8, RepeatRule.M), Collections.nCopies(4, RepeatRule.D),
+			Collections.nCopies(3, RepeatRule.Y))
+		.flatMap(List::stream)
+		.toList();
+
+	private static final List<String> LAST_NAMES = List.of("김", "이", "박", "최", "정", "강", "조",
+		"윤", "장", "임");
+	private static final List<String> FIRST_NAMES = List.of("민준", "서연", "도윤", "지우", "하준",
+		"서윤", "지호", "하은", "준서", "수아");
+	private static final List<String> SCHEDULE_TITLES = List.of("회의", "운동", "스터디", "병원",
+		"친구 약속", "출장", "수업", "동아리");
+	private static final List<String> DATING_TITLES = List.of("데이트", "영화", "저녁 식사", "카페",
+		"여행", "전시회", "산책");
+	private static final List<String> LOCATIONS = List.of("강남역", "홍대입구", "성수동", "잠실",
+		"여의도", "해운대", "제주도");
+	private static final List<String> ANNIVERSARY_TITLES = List.of("첫 여행", "커플링", "첫 영화",
+		"이사한 날");
+
+	private final SeedJDBCRepository seedJDBCRepository;
+	private final PasswordEncryptor passwordEncryptor;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${seed.chunk-size}")
+	private int chunkSize;
+
+	@Value("${seed.schedules-per-member}")
+	private int schedulesPerMember;
+
+	@Value("${seed.datings-per-couple}")
+	private int datingsPerCouple;
+
+	@Value("${seed.anniversaries-per-couple}")
+	private int anniversariesPerCouple;
+
+	@Value("${schedule.repeat.lazy-expansion:false}")
+	private boolean lazyExpansionEnabled;
+
+	// memberCount 명의 회원을 만들고 chunk-size 개의 커플마다 하나의 트랜잭션으로 저장한다.
+	public void generate(int memberCount, long randomSeed) {
+		Random random = new Random(randomSeed);
+		if (seedJDBCRepository.existsMember()) {
+			throw new IllegalStateException("seed data must be generated into an empty database");
+		}
+
+		String password = passwordEncryptor.encryptPassword(SEED_PASSWORD);
+		long nextCoupleId = 1;
+		IdBlocks idBlocks = new IdBlocks();
+
+		int generatedCount = 0;
+		while (generatedCount < memberCount) {
+			int size = Math.min(chunkSize * 2, memberCount - generatedCount);
+			SeedChunk chunk = new SeedChunk();
+
+			for (int i = 0; i < size; i += 2) {
+				long memberId = generatedCount + i + 1;
+				SeedMember member1 = addMember(chunk, random, idBlocks, memberId, password);
+				if (i + 1 < size) {
+					SeedMember member2 = addMember(chunk, random, idBlocks, memberId + 1,
+						password);
+					addCouple(chunk, random, idBlocks, nextCoupleId++, member1, member2);
+				}
+			}
+
+			transactionTemplate.executeWithoutResult(status -> chunk.save());
+			generatedCount += size;
+			log.info("seeded {} / {} members", generatedCount, memberCount);
+		}
+	}
+
+	private SeedMember addMember(SeedChunk chunk, Random random, IdBlocks idBlocks,
+		long memberId, String password) {
+
+		String name = pick(random, LAST_NAMES) + pick(random, FIRST_NAMES);
+		LocalDate birthDay = LocalDate.of(1985, 1, 1).plusDays(random.nextInt(365 * 20));
+		Gender gender = random.nextBoolean() ? Gender.MALE : Gender.FEMALE;
+
+		// 가입 입력 형식(010 번호, 영문/숫자 닉네임)으로는 만들 수 없는 값을 써서 실제 회원과 겹치지 않게 한다.
+		chunk.members.add(new Object[]{memberId, name, String.format("019%08d", memberId),
+			"seed_" + memberId, birthDay, gender.name(), Member.DEFAULT_PROFILE_IMAGE, password});
+
+		int scheduleCount = random.nextInt(schedulesPerMember * 2 + 1);
+		for (int i = 0; i < scheduleCount; i++) {
+			addSchedulePattern(chunk, random, idBlocks, memberId);
+		}
+
+		return new SeedMember(memberId, name, birthDay);
+	}
+
+	private void addSchedulePattern(SeedChunk chunk, Random random, IdBlocks idBlocks,
+		long memberId) {
+
+		RepeatRule repeatRule = pick(random, REPEAT_RULE_MIX);
+		LocalDateTime startDateTime = randomDate(random).atTime(8 + random.nextInt(14), 0);
+		LocalDate repeatEndDate = randomRepeatEndDate(random, repeatRule,
+			startDateTime.toLocalDate());
+		boolean lazyExpansion = lazyExpansionEnabled && repeatRule != RepeatRule.N;
+		int durationMinutes = 30 * (1 + random.nextInt(6));
+		String title = pick(random, SCHEDULE_TITLES);
+		String location = random.nextBoolean() ? pick(random, LOCATIONS) : null;
+
+		long schedulePatternId = idBlocks.schedulePattern.next();
+		chunk.schedulePatterns.add(new Object[]{schedulePatternId, startDateTime.toLocalDate(),
+			repeatEndDate, repeatRule.name(), memberId, lazyExpansion});
+
+		// 지연 펼치기 패턴은 서비스와 같이 첫 회차만 저장한다.
+		List<LocalDateTime> cycles = repeatRule == RepeatRule.N || lazyExpansion
+			? List.of(startDateTime)
+			: ScheduleDateUtil.getCyclesBetween(startDateTime, repeatRule, repeatEndDate,
+				startDateTime.toLocalDate(), repeatEndDate);
+		for (LocalDateTime cycle : cycles) {
+			chunk.schedules.add(new Object[]{idBlocks.schedule.next(), cycle,
+				cycle.plusMinutes(durationMinutes), title, null, location, schedulePatternId});
+		}
+	}
+
+	private void addCouple(SeedChunk chunk, Random random, IdBlocks idBlocks, long coupleId,
+		SeedMember member1, SeedMember member2) {
+
+		LocalDate firstDate = BASE_DATE.minusDays(random.nextInt(365 * 5));
+
+		chunk.couples.add(new Object[]{coupleId, firstDate, member1.id(), member2.id()});
+		chunk.memberCouples.add(new Object[]{member1.id(), coupleId});
+		chunk.memberCouples.add(new Object[]{member2.id(), coupleId});
+
+		int datingCount = random.nextInt(datingsPerCouple * 2 + 1);
+		for (int i = 0; i < datingCount; i++) {
+			LocalDateTime startDateTime = randomDate(random).atTime(10 + random.nextInt(10), 0);
+			chunk.datings.add(new Object[]{idBlocks.dating.next(), pick(random, DATING_TITLES),
+				pick(random, LOCATIONS), null, startDateTime,
+				startDateTime.plusHours(2 + random.nextInt(5)), coupleId});
+		}
+
+		// 커플 연결 시 만들어지는 기념일과 같은 구성에 사용자가 직접 등록한 기념일을 더한다.
+		for (AnniversaryRepeatRule repeatRule : AnniversaryRepeatRule.values()) {
+			AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofFirstDate(null, firstDate,
+				repeatRule);
+			addAnniversary(chunk, idBlocks, coupleId, Anniversary.ofFirstDate(anniversaryPattern));
+		}
+		for (SeedMember member : List.of(member1, member2)) {
+			AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofBirthDay(null,
+				member.birthDay());
+			addAnniversary(chunk, idBlocks, coupleId,
+				Anniversary.ofBirthDay(anniversaryPattern, member.birthDay(), member.name()));
+		}
+
+		int anniversaryCount = random.nextInt(anniversariesPerCouple * 2 + 1);
+		for (int i = 0; i < anniversaryCount; i++) {
+			LocalDate date = randomDate(random);
+			boolean repeated = random.nextBoolean();
+			AnniversaryPattern anniversaryPattern = AnniversaryPattern.builder()
+				.repeatStartDate(date)
+				.repeatEndDate(repeated ? CALENDER_END_DATE : date)
+				.repeatRule(repeated ? AnniversaryRepeatRule.YEAR : AnniversaryRepeatRule.NONE)
+				.category(AnniversaryCategory.OTHER)
+				.build();
+			addAnniversary(chunk, idBlocks, coupleId,
+				Anniversary.of(anniversaryPattern, pick(random, ANNIVERSARY_TITLES), null, date));
+		}
+	}
+
+	private void addAnniversary(SeedChunk chunk, IdBlocks idBlocks, long coupleId,
+		Anniversary anniversary) {
+
+		AnniversaryPattern anniversaryPattern = anniversary.getAnniversaryPattern();
+		long anniversaryPatternId = idBlocks.anniversaryPattern.next();
+
+		chunk.anniversaryPatterns.add(new Object[]{anniversaryPatternId,
+			anniversaryPattern.getRepeatStartDate(), anniversaryPattern.getRepeatEndDate(),
+			anniversaryPattern.getRepeatRule().name(), anniversaryPattern.getCategory().name(),
+			coupleId});
+		chunk.anniversaries.add(new Object[]{idBlocks.anniversary.next(), anniversary.getTitle(),
+			anniversary.getContent(), anniversary.getDate(), anniversaryPatternId});
+	}
+
+	private LocalDate randomRepeatEndDate(Random random, RepeatRule repeatRule,
+		LocalDate startDate) {
+
+		return switch (repeatRule) {
+			case N -> startDate;
+			case D -> startDate.plusDays(7 + random.nextInt(54));
+			case W -> startDate.plusMonths(1 + random.nextInt(12));
+			case M -> startDate.plusYears(1 + random.nextInt(3));
+			case Y -> CALENDER_END_DATE;
+		};
+	}
+
+	// 기준일 전후 1년 안의 날짜
+	private LocalDate randomDate(Random random) {
+		return BASE_DATE.minusYears(1).plusDays(random.nextInt(731));
+	}
+
+	private static <T> T pick(Random random, List<T> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+
+	private record SeedMember(long id, String name, LocalDate birthDay) {
+
+	}
+
+	// 외래 키를 만족하도록 참조되는 테이블부터 저장한다.
+	private class SeedChunk {
+
+		private final List<Object[]> members = new ArrayList<>();
+		private final List<Object[]> couples = new ArrayList<>();
+		private final List<Object[]> memberCouples = new ArrayList<>();
+		private final List<Object[]> schedulePatterns = new ArrayList<>();
+		private final List<Object[]> schedules = new ArrayList<>();
+		private final List<Object[]> datings = new ArrayList<>();
+		private final List<Object[]> anniversaryPatterns = new ArrayList<>();
+		private final List<Object[]> anniversaries = new ArrayList<>();
+
+		private void save() {
+			seedJDBCRepository.saveMembers(members);
+			seedJDBCRepository.saveCouples(couples);
+			seedJDBCRepository.saveMemberCouples(memberCouples);
+			seedJDBCRepository.saveSchedulePatterns(schedulePatterns);
+			seedJDBCRepository.saveSchedules(schedules);
+			seedJDBCRepository.saveDatings(datings);
+			seedJDBCRepository.saveAnniversaryPatterns(anniversaryPatterns);
+			seedJDBCRepository.saveAnniversaries(anniversaries);
+		}
+	}
+
+	private class IdBlocks {
+
+		private final IdBlock schedulePattern = new IdBlock("schedule_pattern");
+		private final IdBlock schedule = new IdBlock("schedule");
+		private final IdBlock dating = new IdBlock("dating");
+		private final IdBlock anniversaryPattern = new IdBlock("anniversary_pattern");
+		private final IdBlock anniversary = new IdBlock("anniversary");
+	}
+
+	// id_sequence 에서 ID_BLOCK_SIZE 개씩 예약해 두고 차례로 나눠준다. 다 쓰지 못한 id 는 비워 둔다.
+	private class IdBlock {
+
+		private final String sequenceName;
+		private long nextId;
+		private long endId;
+
+		private IdBlock(String sequenceName) {
+			this.sequenceName = sequenceName;
+		}
+
+		private long next() {
+			if (nextId == endId) {
+				nextId = seedJDBCRepository.reserveIds(sequenceName, ID_BLOCK_SIZE);
+				endId = nextId + ID_BLOCK_SIZE;
+			}
+			return nextId++;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.dateplan.dateplan.domain.sms.repository;
+
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 발송 대기 메시지는 리스트에, 재시도 대기 메시지는 재시도 시각을 score 로 하는 sorted set 에 보관한다.
+// 꺼낸 메시지는 발송이 끝날 때까지 꺼낸 시각을 score 로 하는 처리 중 sorted set 에 남겨, 발송 전에 서버가 내려가도 잃지 않는다.
+// 내용이 같은 메시지를 동시에 꺼내면 처리 중 기록은 하나로 합쳐진다.
+@Repository
+@RequiredArgsConstructor
+public class SmsOutboxRepository {
+
+	private static final String OUTBOX_KEY = "[SMS_OUTBOX]";
+	// 리스트였던 이전 처리 중 키([SMS_PROCESSING])와 타입이 달라 새 키를 쓴다.
+	private static final String PROCESSING_KEY = "[SMS_CLAIMED]";
+	private static final String RETRY_KEY = "[SMS_RETRY]";
+
+	private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+		local now = redis.call('TIME')
+		local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000)
+		local messages = {}
+		for i = 1, tonumber(ARGV[1]) do
+			local message = redis.call('LPOP', KEYS[1])
+			if not message then
+				break
+			end
+			redis.call('ZADD', KEYS[2], nowMillis, message)
+			messages[i] = message
+		end
+		return messages
+		""", List.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+		for i = #ARGV, 1, -1 do
+			if redis.call('ZREM', KEYS[1], ARGV[i]) > 0 then
+				redis.call('LPUSH', KEYS[2], ARGV[i])
+			end
+		end
+		return #ARGV
+		""", Long.class);
+
+	private static final RedisScript<Long> RECOVER_EXPIRED_SCRIPT = RedisScript.of("""
+		local now = redis.call('TIME')
+		local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000)
+		local messages = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', nowMillis - tonumber(ARGV[1]))
+		for i = #messages, 1, -1 do
+			redis.call('LPUSH', KEYS[2], messages[i])
+			redis.call('ZREM', KEYS[1], messages[i])
+		end
+		return #messages
+		""", Long.class);
+
+	private static final RedisScript<Long> PROMOTE_RETRY_SCRIPT = RedisScript.of("""
+		local now = redis.call('TIME')
+		local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000)
+		local messages = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', nowMillis)
+		for _, message in ipairs(messages) do
+			redis.call('RPUSH', KEYS[2], message)
+			redis.call('ZREM', KEYS[1], message)
+		end
+		return #messages
+		""", Long.class);
+
+	private static final RedisScript<Long> SCHEDULE_RETRY_SCRIPT = RedisScript.of("""
+		local now = redis.call('TIME')
+		local nowMillis = now[1] * 1000 + math.floor(now[2] / 1000)
+		return redis.call('ZADD', KEYS[1], nowMillis + tonumber(ARGV[2]), ARGV[1])
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public void enqueue(SmsMessage message) {
+		redisTemplate.opsForList().rightPush(OUTBOX_KEY, toJson(message));
+	}
+
+	// 대기 중인 메시지를 처리 중 리스트로 옮기면서 꺼낸다. 발송이 끝나면 complete 로 지운다.
+	@SuppressWarnings("unchecked")
+	public List<SmsMessage> claim(int count) {
+		List<String> messages = redisTemplate.execute(CLAIM_SCRIPT,
+			List.of(OUTBOX_KEY, PROCESSING_KEY), String.valueOf(count));
+
+		if (messages == null) {
+			return List.of();
+		}
+		return messages.stream()
+			.map(this::fromJson)
+			.toList();
+	}
+
+	public void complete(SmsMessage message) {
+		redisTemplate.opsForZSet().remove(PROCESSING_KEY, toJson(message));
+	}
+
+	// 발송을 맡기지 못한 메시지를 꺼낸 순서대로 대기열 앞으로 되돌린다.
+	public void release(List<SmsMessage> messages) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(PROCESSING_KEY, OUTBOX_KEY),
+			messages.stream().map(this::toJson).toArray());
+	}
+
+	// 꺼낸 지 leaseMillis 가 지나도록 완료되지 않은 메시지를 꺼낸 순서대로 대기열 앞으로 되돌리고, 되돌린 개수를 반환한다.
+	// 다른 인스턴스가 아직 발송 중인 메시지는 lease 가 남아 있으므로 되돌리지 않는다.
+	public long recoverExpiredProcessing(long leaseMillis) {
+		Long count = redisTemplate.execute(RECOVER_EXPIRED_SCRIPT,
+			List.of(PROCESSING_KEY, OUTBOX_KEY), String.valueOf(leaseMillis));
+		return count == null ? 0 : count;
+	}
+
+	public void retry(SmsMessage message, long delayMillis) {
+		redisTemplate.execute(SCHEDULE_RETRY_SCRIPT, List.of(RETRY_KEY), toJson(message),
+			String.valueOf(delayMillis));
+	}
+
+	// 재시도 시각이 지난 메시지를 발송 대기열로 옮긴다.
+	public void promoteRetries() {
+		redisTemplate.execute(PROMOTE_RETRY_SCRIPT, List.of(RETRY_KEY, OUTBOX_KEY));
+	}
+
+	private String toJson(SmsMessage message) {
+		try {
+			return objectMapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private SmsMessage fromJson(String message) {
+		try {
+			return objectMapper.readValue(message, SmsMessage.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.dateplan.dateplan.domain.sms.service;
+
+import com.dateplan.dateplan.domain.sms.repository.SmsOutboxRepository;
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sms.outbox.enabled", havingValue = "true")
+public class SmsOutboxWorker {
+
+	private final SmsOutboxRepository smsOutboxRepository;
+	private final SmsSender smsSender;
+	private final Executor smsSendExecutor;
+
+	@Value("${sms.outbox.batch-size}")
+	private int batchSize;
+
+	@Value("${sms.outbox.max-attempts}")
+	private int maxAttempts;
+
+	@Value("${sms.outbox.retry-backoff-millis}")
+	private long retryBackoffMillis;
+
+	@Value("${sms.outbox.processing-lease-millis}")
+	private long processingLeaseMillis;
+
+	@Scheduled(fixedDelayString = "${sms.outbox.poll-delay-millis}")
+	public void drain() {
+		recoverExpired();
+		smsOutboxRepository.promoteRetries();
+
+		List<SmsMessage> messages;
+		do {
+			messages = smsOutboxRepository.claim(batchSize);
+			if (!messages.isEmpty() && !submit(messages)) {
+				return;
+			}
+		} while (messages.size() == batchSize);
+	}
+
+	// 내려간 인스턴스가 발송을 마치지 못한 메시지를 다시 보낸다.
+	// 배포 중에도 다른 인스턴스가 발송 중인 메시지는 lease 가 끝나기 전까지 되돌리지 않는다.
+	private void recoverExpired() {
+		long recoveredCount = smsOutboxRepository.recoverExpiredProcessing(processingLeaseMillis);
+		if (recoveredCount > 0) {
+			log.warn("sms recovered from processing set. size={}", recoveredCount);
+		}
+	}
+
+	private boolean submit(List<SmsMessage> messages) {
+		try {
+			smsSendExecutor.execute(() -> send(messages));
+			return true;
+		} catch (RejectedExecutionException e) {
+			log.warn("sms send rejected. it will be sent at the next run. size={}",
+				messages.size());
+			smsOutboxRepository.release(messages);
+			return false;
+		}
+	}
+
+	// 재시도를 먼저 기록한 뒤 처리 중 리스트에서 지운다. 그 사이에 내려가면 잃지 않고 중복 발송된다.
+	private void send(List<SmsMessage> messages) {
+		List<SmsMessage> failedMessages;
+		try {
+			failedMessages = smsSender.send(messages);
+		} catch (RuntimeException e) {
+			log.warn("sms send failed. size={}", messages.size(), e);
+			failedMessages = messages;
+		}
+
+		failedMessages.forEach(this::retryOrDrop);
+		messages.forEach(smsOutboxRepository::complete);
+	}
+
+	// 재시도 간격은 시도할 때마다 두 배로 늘린다.
+	private void retryOrDrop(SmsMessage message) {
+		SmsMessage nextMessage = message.nextAttempt();
+
+		if (nextMessage.getAttempt() >= maxAttempts) {
+			log.error("sms dropped after {} attempts. type={}", maxAttempts, message.getType());
+			return;
+		}
+		smsOutboxRepository.retry(nextMessage, retryBackoffMillis << message.getAttempt());
+	}
+}
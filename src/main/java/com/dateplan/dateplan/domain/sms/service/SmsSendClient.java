@@ -1,13 +1,21 @@
 package com.dateplan.dateplan.domain.sms.service;
 
-import com.dateplan.dateplan.domain.sms.type.SmsType;
+import static com.dateplan.dateplan.global.util.ExternalCallTimer.SMS;
+
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
 import com.dateplan.dateplan.global.exception.sms.SmsSendFailException;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.model.FailedMessage;
 import net.nurigo.sdk.message.model.Message;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,34 +25,71 @@ import org.springframework.stereotype.Component;
 @Component
 @AllArgsConstructor
 @Slf4j
-public class SmsSendClient {
+public class SmsSendClient implements SmsSender {
 
 	private static final String DOMAIN = "https://api.coolsms.co.kr";
-	private static final String PHONE_AUTH_TEXT = "[date-plan] 휴대전화 인증을 위한 인증 코드입니다. \n %s";
 	private static final Set<String> SUCCESS_CODE = Set.of("2000", "3000", "4000");
 
 	private final DefaultMessageService messageService;
 	private final String sendNumber;
+	private final MeterRegistry meterRegistry;
 
 	@Autowired
 	public SmsSendClient(@Value("${sms.key}") String key,
 		@Value("${sms.secret}") String secret,
-		@Value("${sms.send-number}") String sendNumber) {
+		@Value("${sms.send-number}") String sendNumber,
+		MeterRegistry meterRegistry) {
 		this.messageService = NurigoApp.INSTANCE.initialize(key, secret, DOMAIN);
 		this.sendNumber = sendNumber;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public List<SmsMessage> send(List<SmsMessage> messages) {
+
+		if (messages.size() == 1) {
+			return sendSingle(messages.get(0));
+		}
+
+		try {
+			List<Message> requests = messages.stream().map(this::createMessage).toList();
+			MultipleDetailMessageSentResponse response = ExternalCallTimer.recordCallable(
+				meterRegistry, SMS, "send", () -> messageService.send(requests));
+			Set<String> failedNumbers = response.getFailedMessageList().stream()
+				.map(FailedMessage::getTo)
+				.collect(Collectors.toSet());
+
+			return messages.stream()
+				.filter(message -> failedNumbers.contains(message.getToNumber()))
+				.toList();
+		} catch (Exception e) {
+			log.warn("sms send failed. size={}", messages.size(), e);
+			return messages;
+		}
 	}
 
-	public void sendSmsForPhoneAuthentication(String toNumber, int code) {
+	private List<SmsMessage> sendSingle(SmsMessage message) {
+
+		try {
+			sendOne(message);
+			return List.of();
+		} catch (RuntimeException e) {
+			log.warn("sms send failed. type={}", message.getType(), e);
+			return List.of(message);
+		}
+	}
 
-		Message message = createMessage(toNumber, code);
+	private void sendOne(SmsMessage message) {
 
-		SingleMessageSentResponse response = this.messageService.sendOne(
-			new SingleMessageSendingRequest(message));
+		SingleMessageSendingRequest request = new SingleMessageSendingRequest(
+			createMessage(message));
+		SingleMessageSentResponse response = ExternalCallTimer.record(meterRegistry, SMS,
+			"sendOne", () -> this.messageService.sendOne(request));
 
 		boolean success = isSuccess(response);
 
 		if (!success) {
-			throw new SmsSendFailException(SmsType.PHONE_AUTHENTICATION);
+			throw new SmsSendFailException(message.getType());
 		}
 	}
 
@@ -53,13 +98,13 @@ public class SmsSendClient {
 		return response != null && SUCCESS_CODE.contains(response.getStatusCode());
 	}
 
-	private Message createMessage(String toNumber, int code) {
+	private Message createMessage(SmsMessage smsMessage) {
 
 		Message message = new Message();
 
 		message.setFrom(sendNumber);
-		message.setTo(toNumber);
-		message.setText(String.format(PHONE_AUTH_TEXT, code));
+		message.setTo(smsMessage.getToNumber());
+		message.setText(smsMessage.getText());
 
 		return message;
 	}
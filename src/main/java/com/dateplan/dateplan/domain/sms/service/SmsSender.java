@@ -0,0 +1,10 @@
+package com.dateplan.dateplan.domain.sms.service;
+
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import java.util.List;
+
+public interface SmsSender {
+
+	// 발송에 실패한 메시지를 반환한다.
+	List<SmsMessage> send(List<SmsMessage> messages);
+}
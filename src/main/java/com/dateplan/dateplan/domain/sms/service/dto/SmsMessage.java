@@ -0,0 +1,34 @@
+package com.dateplan.dateplan.domain.sms.service.dto;
+
+import com.dateplan.dateplan.domain.sms.type.SmsType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SmsMessage {
+
+	private static final String PHONE_AUTH_TEXT = "[date-plan] 휴대전화 인증을 위한 인증 코드입니다. \n %s";
+
+	private SmsType type;
+	private String toNumber;
+	private String text;
+	private int attempt;
+
+	public static SmsMessage ofPhoneAuthentication(String toNumber, int code) {
+		return SmsMessage.builder()
+			.type(SmsType.PHONE_AUTHENTICATION)
+			.toNumber(toNumber)
+			.text(String.format(PHONE_AUTH_TEXT, code))
+			.build();
+	}
+
+	public SmsMessage nextAttempt() {
+		return new SmsMessage(type, toNumber, text, attempt + 1);
+	}
+}
@@ -0,0 +1,35 @@
+package com.dateplan.dateplan.global.auth;
+
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
+import java.util.Objects;
+
+// 요청 하나에서 로그인 회원의 커플 정보를 한 번만 조회하도록 보관한다. AuthInterceptor 가 요청이 끝나면 비운다.
+public class CoupleContext {
+
+	private static final ThreadLocal<Entry> THREAD_LOCAL;
+
+	static {
+		THREAD_LOCAL = new ThreadLocal<>();
+	}
+
+	public static void set(Long memberId, CoupleInfoServiceResponse coupleInfo) {
+		THREAD_LOCAL.set(new Entry(memberId, coupleInfo));
+	}
+
+	public static void remove() {
+		THREAD_LOCAL.remove();
+	}
+
+	public static CoupleInfoServiceResponse get(Long memberId) {
+		Entry entry = THREAD_LOCAL.get();
+
+		if (entry == null || !Objects.equals(entry.memberId(), memberId)) {
+			return null;
+		}
+		return entry.coupleInfo();
+	}
+
+	private record Entry(Long memberId, CoupleInfoServiceResponse coupleInfo) {
+
+	}
+}
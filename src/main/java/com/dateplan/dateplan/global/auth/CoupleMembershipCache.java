@@ -0,0 +1,88 @@
+package com.dateplan.dateplan.global.auth;
+
+import static com.dateplan.dateplan.global.util.TransactionUtil.runAfterCommit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 회원 id 로 연결된 커플 id 를 보관한다.
+// 연결이 바뀌면 Redis 채널로 알려 모든 인스턴스에서 지우고, 알림을 놓친 인스턴스는 ttl 이 지나야 반영된다.
+@Slf4j
+@Component
+public class CoupleMembershipCache implements MessageListener {
+
+	public static final String EVICT_CHANNEL = "couple-membership:evict";
+
+	// 연결되지 않은 회원도 매번 조회하지 않도록, 존재하지 않는 커플 id 로 기록한다.
+	private static final long NOT_CONNECTED = 0L;
+	private static final String ID_DELIMITER = ",";
+
+	private final Cache<Long, Long> cache;
+	private final StringRedisTemplate redisTemplate;
+
+	public CoupleMembershipCache(
+		@Value("${auth.cache.couple.maximum-size}") long maximumSize,
+		@Value("${auth.cache.couple.ttl-seconds}") long ttlSeconds,
+		StringRedisTemplate redisTemplate
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.redisTemplate = redisTemplate;
+	}
+
+	public boolean isMemberOf(Long memberId, Long coupleId, Function<Long, Long> coupleIdLoader) {
+		long cachedCoupleId = cache.get(memberId, id -> {
+			Long loadedCoupleId = coupleIdLoader.apply(id);
+			return loadedCoupleId == null ? NOT_CONNECTED : loadedCoupleId;
+		});
+
+		return coupleId != null && cachedCoupleId != NOT_CONNECTED && cachedCoupleId == coupleId;
+	}
+
+	public void evictAfterCommit(Long... memberIds) {
+		List<Long> targetIds = List.of(memberIds);
+
+		runAfterCommit(() -> {
+			cache.invalidateAll(targetIds);
+			publishEviction(targetIds);
+		});
+	}
+
+	// 다른 인스턴스(자신 포함)가 보낸 삭제 알림
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		List<Long> targetIds = Arrays.stream(body.split(ID_DELIMITER))
+			.filter(id -> !id.isBlank())
+			.map(Long::valueOf)
+			.toList();
+
+		cache.invalidateAll(targetIds);
+	}
+
+	private void publishEviction(List<Long> targetIds) {
+		String body = targetIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(ID_DELIMITER));
+		try {
+			redisTemplate.convertAndSend(EVICT_CHANNEL, body);
+		} catch (DataAccessException e) {
+			log.warn("couple membership eviction publish failed. memberIds={}", body, e);
+		}
+	}
+}
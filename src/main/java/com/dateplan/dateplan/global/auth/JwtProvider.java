@@ -10,6 +10,7 @@ import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_REFRESH_TOKEN;
 import com.dateplan.dateplan.domain.member.service.dto.response.AuthToken;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.global.auth.VerifiedTokenCache.VerifiedToken;
 import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
 import com.dateplan.dateplan.global.exception.auth.TokenExpiredException;
 import com.dateplan.dateplan.global.exception.auth.TokenInvalidException;
@@ -22,11 +23,13 @@ import io.jsonwebtoken.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -37,20 +40,45 @@ public class JwtProvider {
 	private String secret;
 	private final MemberRepository memberRepository;
 	private final StringRedisTemplate redisTemplate;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final MemberSnapshotCache memberSnapshotCache;
 	private static final String REFRESH_KEY_PREFIX = "[REFRESH]";
+	private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+			return 1
+		end
+		redis.call('DEL', KEYS[1])
+		return 0
+		""", Long.class);
 
 	public Member findMemberByToken(String token) {
-		return memberRepository.findById(getIdByToken(token))
+		return memberSnapshotCache.get(getIdByToken(token), this::findMemberSnapshot)
+			.toMember();
+	}
+
+	private MemberSnapshot findMemberSnapshot(Long memberId) {
+		return memberRepository.findById(memberId)
+			.filter(member -> !member.isWithdrawn())
+			.map(MemberSnapshot::from)
 			.orElseThrow(MemberNotFoundException::new);
 	}
 
 	private Long getIdByToken(String token) {
+		return verifiedTokenCache.getMemberId(token, this::verify);
+	}
+
+	private VerifiedToken verify(String token) {
+		Claims claims = parseClaims(token);
+		return new VerifiedToken(getId(claims), claims.getExpiration().toInstant());
+	}
+
+	private Claims parseClaims(String token) {
 		try {
-			return Long.parseLong(String.valueOf(Jwts.parser()
+			return Jwts.parser()
 				.setSigningKey(generateKey())
 				.parseClaimsJws(token)
-				.getBody()
-				.get("id")));
+				.getBody();
 		} catch (ExpiredJwtException e) {
 			throw new TokenExpiredException();
 		} catch (MalformedJwtException | SignatureException | IllegalArgumentException e) {
@@ -58,6 +86,10 @@ public class JwtProvider {
 		}
 	}
 
+	private static Long getId(Claims claims) {
+		return Long.parseLong(String.valueOf(claims.get("id")));
+	}
+
 	public String generateToken(Long id, Long expiration, String subject) {
 		Date issueDate = new Date();
 		Date expireDate = new Date();
@@ -72,48 +104,50 @@ public class JwtProvider {
 			.compact();
 	}
 
+	// 액세스 토큰으로 요청하면 저장된 리프레시 토큰과 달라 삭제되므로, 교체 전에 subject 를 확인한다.
 	public AuthToken generateTokenByRefreshToken(String refreshToken) {
-		Member member = findMemberByToken(refreshToken);
-
-		if (!checkRefreshTokenEquals(member, refreshToken)) {
+		Claims claims = parseClaims(refreshToken);
+		if (!SUBJECT_REFRESH_TOKEN.getContent().equals(claims.getSubject())) {
 			throw new TokenInvalidException();
 		}
+		Long memberId = getId(claims);
 
-		String newAccessToken = BEARER.getContent() + generateToken(
-			member.getId(),
+		String newAccessToken = generateToken(
+			memberId,
 			ACCESS_TOKEN_EXPIRATION.getExpiration(),
 			SUBJECT_ACCESS_TOKEN.getContent()
 		);
 
-		String newRefreshToken = BEARER.getContent() + generateToken(
-			member.getId(),
+		String newRefreshToken = generateToken(
+			memberId,
 			REFRESH_TOKEN_EXPIRATION.getExpiration(),
 			SUBJECT_REFRESH_TOKEN.getContent()
 		);
 
+		if (!rotateRefreshToken(memberId, refreshToken, newRefreshToken)) {
+			throw new TokenInvalidException();
+		}
+
 		return AuthToken.builder()
-			.accessToken(newAccessToken)
-			.refreshToken(newRefreshToken)
+			.accessToken(BEARER.getContent() + newAccessToken)
+			.refreshToken(BEARER.getContent() + newRefreshToken)
 			.build();
 	}
 
-	private boolean checkRefreshTokenEquals(Member member, String refreshToken) {
-		ValueOperations<String, String> stringValueOperations = redisTemplate.opsForValue();
-
-		String key = getRefreshKey(member);
-		String value = stringValueOperations.get(key);
-
-		if (value == null || !value.equals(refreshToken)) {
-			stringValueOperations.getAndDelete(key);
-			return false;
-		}
+	// 저장된 토큰과 일치할 때만 새 토큰으로 교체하고, 일치하지 않으면 재사용된 토큰으로 보고 삭제한다.
+	private boolean rotateRefreshToken(Long memberId, String refreshToken,
+		String newRefreshToken) {
+		Long result = redisTemplate.execute(ROTATE_REFRESH_TOKEN_SCRIPT,
+			List.of(getRefreshKey(memberId)),
+			refreshToken,
+			newRefreshToken,
+			String.valueOf(REFRESH_TOKEN_EXPIRATION.getExpiration()));
 
-		stringValueOperations.set(key, value);
-		return true;
+		return Objects.equals(result, 1L);
 	}
 
-	private static String getRefreshKey(Member member) {
-		return REFRESH_KEY_PREFIX + member.getId();
+	private static String getRefreshKey(Long memberId) {
+		return REFRESH_KEY_PREFIX + memberId;
 	}
 
 	private Claims generateClaims(Long id) {
@@ -123,15 +157,7 @@ public class JwtProvider {
 	}
 
 	public void checkValidation(String token) {
-		try {
-			Jwts.parser()
-				.setSigningKey(generateKey())
-				.parseClaimsJws(token);
-		} catch (ExpiredJwtException e) {
-			throw new TokenExpiredException();
-		} catch (MalformedJwtException | SignatureException | IllegalArgumentException e) {
-			throw new TokenInvalidException();
-		}
+		getIdByToken(token);
 	}
 
 	public Optional<String> resolveToken(HttpServletRequest request) {
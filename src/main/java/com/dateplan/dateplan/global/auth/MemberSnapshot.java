@@ -0,0 +1,39 @@
+package com.dateplan.dateplan.global.auth;
+
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.global.constant.Gender;
+import java.time.LocalDate;
+import lombok.Getter;
+
+// 여러 요청이 공유하므로 엔티티 대신 불변 값으로 보관하고, 요청마다 새 Member 로 복원한다.
+@Getter
+public final class MemberSnapshot {
+
+	private final Long id;
+	private final String name;
+	private final String phone;
+	private final String nickname;
+	private final LocalDate birthDay;
+	private final Gender gender;
+	private final String profileImageUrl;
+	private final String password;
+
+	private MemberSnapshot(Member member) {
+		this.id = member.getId();
+		this.name = member.getName();
+		this.phone = member.getPhone();
+		this.nickname = member.getNickname();
+		this.birthDay = member.getBirthDay();
+		this.gender = member.getGender();
+		this.profileImageUrl = member.getProfileImageUrl();
+		this.password = member.getPassword();
+	}
+
+	public static MemberSnapshot from(Member member) {
+		return new MemberSnapshot(member);
+	}
+
+	public Member toMember() {
+		return Member.fromSnapshot(this);
+	}
+}
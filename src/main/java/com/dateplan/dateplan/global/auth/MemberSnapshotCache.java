@@ -0,0 +1,35 @@
+package com.dateplan.dateplan.global.auth;
+
+import static com.dateplan.dateplan.global.util.TransactionUtil.runAfterCommit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 인스턴스 로컬 캐시이므로 다른 인스턴스의 변경은 ttl 이 지나야 반영된다.
+@Component
+public class MemberSnapshotCache {
+
+	private final Cache<Long, MemberSnapshot> cache;
+
+	public MemberSnapshotCache(
+		@Value("${auth.cache.member.maximum-size}") long maximumSize,
+		@Value("${auth.cache.member.ttl-seconds}") long ttlSeconds
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+	}
+
+	public MemberSnapshot get(Long memberId, Function<Long, MemberSnapshot> loader) {
+		return cache.get(memberId, loader);
+	}
+
+	public void evictAfterCommit(Long memberId) {
+		runAfterCommit(() -> cache.invalidate(memberId));
+	}
+}
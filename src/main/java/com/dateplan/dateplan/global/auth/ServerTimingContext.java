@@ -0,0 +1,106 @@
+package com.dateplan.dateplan.global.auth;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 하나가 DB, Redis, S3, SMS 호출에 쓴 시간을 모은다. ServerTimingFilter 가 요청마다 만들고, 예외가 발생해도 요청이 끝나면 비운다.
+ * 캘린더 조회처럼 다른 스레드에서 실행되는 작업에도 wrap 으로 넘겨 함께 더하므로, 병렬로 실행된 시간은 요청 시간보다 클 수 있다.
+ */
+public class ServerTimingContext {
+
+	public static final String DB = "db";
+	public static final String REDIS = "redis";
+	public static final String S3 = "s3";
+	public static final String SMS = "sms";
+
+	private static final ThreadLocal<ServerTimingContext> THREAD_LOCAL;
+
+	static {
+		THREAD_LOCAL = new ThreadLocal<>();
+	}
+
+	private final long startNanos = System.nanoTime();
+	private final Map<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+	public static ServerTimingContext start() {
+		ServerTimingContext context = new ServerTimingContext();
+		THREAD_LOCAL.set(context);
+		return context;
+	}
+
+	public static void remove() {
+		THREAD_LOCAL.remove();
+	}
+
+	public static boolean isActive() {
+		return THREAD_LOCAL.get() != null;
+	}
+
+	public static void add(String name, long nanos) {
+		ServerTimingContext context = THREAD_LOCAL.get();
+
+		if (context == null) {
+			return;
+		}
+		context.entries.computeIfAbsent(name, key -> new Entry()).add(nanos);
+	}
+
+	// 작업을 실행하는 스레드에 현재 요청의 컨텍스트를 넘긴다. CallerRunsPolicy 로 요청 스레드에서 실행되어도 원래 값을 되돌린다.
+	public static Runnable wrap(Runnable task) {
+		ServerTimingContext context = THREAD_LOCAL.get();
+
+		if (context == null) {
+			return task;
+		}
+		return () -> {
+			ServerTimingContext previous = THREAD_LOCAL.get();
+			THREAD_LOCAL.set(context);
+			try {
+				task.run();
+			} finally {
+				if (previous == null) {
+					THREAD_LOCAL.remove();
+				} else {
+					THREAD_LOCAL.set(previous);
+				}
+			}
+		};
+	}
+
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+
+	// db;desc="3";dur=1.52, redis;desc="1";dur=0.31, total;dur=4.02 (desc 는 호출 횟수, dur 는 밀리초)
+	public String toHeaderValue() {
+		StringJoiner joiner = new StringJoiner(", ");
+
+		entries.forEach((name, entry) -> joiner.add(
+			String.format(Locale.ROOT, "%s;desc=\"%d\";dur=%.2f", name, entry.count.sum(),
+				toMillis(entry.nanos.sum()))));
+		joiner.add(String.format(Locale.ROOT, "total;dur=%.2f",
+			toMillis(System.nanoTime() - startNanos)));
+
+		return joiner.toString();
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static class Entry {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		private void add(long elapsedNanos) {
+			count.increment();
+			nanos.add(elapsedNanos);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.dateplan.dateplan.global.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 서명 검증을 통과한 토큰만 토큰의 만료 시각까지 보관한다.
+@Component
+public class VerifiedTokenCache {
+
+	private final Cache<String, VerifiedToken> cache;
+
+	public VerifiedTokenCache(@Value("${auth.cache.token.maximum-size}") long maximumSize) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new TokenExpiry())
+			.build();
+	}
+
+	public Long getMemberId(String token, Function<String, VerifiedToken> verifier) {
+		return cache.get(token, verifier).memberId();
+	}
+
+	public record VerifiedToken(Long memberId, Instant expiration) {
+
+	}
+
+	private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), verifiedToken.expiration())
+				.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
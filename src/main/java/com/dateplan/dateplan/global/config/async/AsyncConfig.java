@@ -0,0 +1,55 @@
+package com.dateplan.dateplan.global.config.async;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableScheduling
+@Configuration
+public class AsyncConfig {
+
+	@Value("${calender.read.pool-size}")
+	private int calenderReadPoolSize;
+
+	@Value("${calender.read.queue-capacity}")
+	private int calenderReadQueueCapacity;
+
+	@Value("${sms.outbox.pool-size}")
+	private int smsSendPoolSize;
+
+	@Value("${sms.outbox.queue-capacity}")
+	private int smsSendQueueCapacity;
+
+	// 각 작업이 커넥션을 하나씩 점유하므로 풀 크기는 DB 커넥션 풀보다 작게 유지한다.
+	@Bean
+	public ThreadPoolTaskExecutor calenderReadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(calenderReadPoolSize);
+		executor.setMaxPoolSize(calenderReadPoolSize);
+		executor.setQueueCapacity(calenderReadQueueCapacity);
+		executor.setThreadNamePrefix("calender-read-");
+		// 분기별 DB, Redis 시간도 요청의 Server-Timing 에 더해지도록 요청 컨텍스트를 넘긴다.
+		executor.setTaskDecorator(ServerTimingContext::wrap);
+		// 큐가 가득 차면 제한 시간 없이 요청 스레드에서 조회하지 않고 바로 실패시킨다.
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor smsSendExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(smsSendPoolSize);
+		executor.setMaxPoolSize(smsSendPoolSize);
+		executor.setQueueCapacity(smsSendQueueCapacity);
+		executor.setThreadNamePrefix("sms-send-");
+		// 큐가 가득 차면 대기열을 비우는 스케줄러 스레드에서 직접 발송해 더 꺼내오지 않도록 한다.
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,18 @@
+package com.dateplan.dateplan.global.config.db;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConnectionHoldTimeConfig {
+
+	// 외부 호출이 트랜잭션 안으로 들어와 커넥션을 오래 잡는 회귀를 메서드별 지표로 확인한다.
+	@Bean
+	public ConnectionHoldTimeListener connectionHoldTimeListener(
+		ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+		return new ConnectionHoldTimeListener(meterRegistryProvider);
+	}
+}
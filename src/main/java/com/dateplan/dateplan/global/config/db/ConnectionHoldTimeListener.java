@@ -0,0 +1,34 @@
+package com.dateplan.dateplan.global.config.db;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+
+// 커넥션을 빌린 시점부터 반납할 때까지의 시간을, 커넥션을 사용한 트랜잭션 이름(서비스 메서드)별로 기록한다.
+public class ConnectionHoldTimeListener implements DataSourceListener {
+
+	public static final String METRIC_NAME = "db.connection.hold";
+
+	private static final String NO_TRANSACTION = "none";
+
+	// MeterRegistry 가 DataSource 지표를 바인딩하므로, 순환 참조를 피하기 위해 기록 시점에 가져온다.
+	private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	public ConnectionHoldTimeListener(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		this.meterRegistryProvider = meterRegistryProvider;
+	}
+
+	@Override
+	public void afterConnectionClosed(String transactionName, long heldNanos) {
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+		if (meterRegistry == null) {
+			return;
+		}
+
+		Timer.builder(METRIC_NAME)
+			.tag("method", transactionName == null ? NO_TRANSACTION : transactionName)
+			.register(meterRegistry)
+			.record(heldNanos, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,28 @@
+package com.dateplan.dateplan.global.config.db;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceInstrumentationConfig {
+
+	// 커넥션 점유 시간, Server-Timing, 테스트의 쿼리 수 세기가 모두 같은 프록시를 거치도록 DataSource 를 한 번만 감싼다.
+	@Bean
+	public static BeanPostProcessor instrumentedDataSourcePostProcessor(
+		ObjectProvider<DataSourceListener> listenerProvider) {
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource
+					&& !(bean instanceof InstrumentedDataSource)) {
+					return new InstrumentedDataSource(dataSource, listenerProvider);
+				}
+				return bean;
+			}
+		};
+	}
+}
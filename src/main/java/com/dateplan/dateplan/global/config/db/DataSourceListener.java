@@ -0,0 +1,25 @@
+package com.dateplan.dateplan.global.config.db;
+
+import java.util.List;
+
+// InstrumentedDataSource 가 Statement 실행과 커넥션 반납 시점에 호출한다. 필요한 시점만 구현한다.
+public interface DataSourceListener {
+
+	// Statement 를 만들 때 확인해, 받을 리스너가 없으면 Statement 를 감싸지 않는다.
+	default boolean listensToStatements() {
+		return false;
+	}
+
+	// 바인딩 값을 모으는 비용이 있으므로 필요한 리스너만 켠다. 끄면 parameters 는 빈 목록이다.
+	default boolean capturesParameters() {
+		return false;
+	}
+
+	// sql 은 PreparedStatement 라면 준비한 SQL, 아니라면 execute 에 넘긴 SQL 이다. 배치는 executeBatch 한 번으로 알린다.
+	default void afterExecute(String sql, List<Object> parameters, long elapsedNanos) {
+	}
+
+	// transactionName 은 커넥션으로 처음 Statement 를 만든 트랜잭션의 이름이고, 트랜잭션 밖이었다면 null 이다.
+	default void afterConnectionClosed(String transactionName, long heldNanos) {
+	}
+}
@@ -0,0 +1,185 @@
+package com.dateplan.dateplan.global.config.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 커넥션과 Statement 를 프록시 하나로만 감싸고, 실행과 반납 시점을 등록된 DataSourceListener 에 알린다.
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+	private static final Set<String> STATEMENT_METHODS = Set.of("createStatement",
+		"prepareStatement", "prepareCall");
+	private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+	private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery",
+		"executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+	// MeterRegistry 처럼 DataSource 를 필요로 하는 빈이 리스너에 쓰일 수 있으므로 첫 커넥션을 빌릴 때 가져온다.
+	private final ObjectProvider<DataSourceListener> listenerProvider;
+	private volatile List<DataSourceListener> listeners;
+
+	public InstrumentedDataSource(DataSource targetDataSource,
+		ObjectProvider<DataSourceListener> listenerProvider) {
+		super(targetDataSource);
+		this.listenerProvider = listenerProvider;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private Connection wrapConnection(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+			new Class<?>[]{Connection.class}, new ConnectionHandler(connection, getListeners()));
+	}
+
+	private List<DataSourceListener> getListeners() {
+		List<DataSourceListener> resolved = listeners;
+		if (resolved == null) {
+			resolved = listenerProvider.orderedStream().toList();
+			listeners = resolved;
+		}
+		return resolved;
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private static class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+		private final List<DataSourceListener> listeners;
+		private final long acquiredNanos = System.nanoTime();
+		private String transactionName;
+		private boolean closed;
+
+		private ConnectionHandler(Connection target, List<DataSourceListener> listeners) {
+			this.target = target;
+			this.listeners = listeners;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String methodName = method.getName();
+
+			// 트랜잭션 이름은 커넥션을 빌린 뒤에 지정되므로 첫 Statement 를 만들 때 기록한다.
+			if (transactionName == null && STATEMENT_METHODS.contains(methodName)) {
+				transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+			}
+			if ("close".equals(methodName) && !closed) {
+				closed = true;
+				long heldNanos = System.nanoTime() - acquiredNanos;
+				listeners.forEach(
+					listener -> listener.afterConnectionClosed(transactionName, heldNanos));
+			}
+
+			Object result = InstrumentedDataSource.invoke(target, method, args);
+
+			if (result instanceof Statement statement) {
+				return wrapStatement(statement, method, args);
+			}
+			return result;
+		}
+
+		private Object wrapStatement(Statement statement, Method method, Object[] args) {
+			List<DataSourceListener> statementListeners = listeners.stream()
+				.filter(DataSourceListener::listensToStatements)
+				.toList();
+			if (statementListeners.isEmpty()) {
+				return statement;
+			}
+
+			String preparedSql = PREPARE_METHODS.contains(method.getName())
+				? (String) args[0]
+				: null;
+			return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{method.getReturnType()},
+				new StatementHandler(statement, preparedSql, statementListeners));
+		}
+	}
+
+	private static class StatementHandler implements InvocationHandler {
+
+		private static final String CLEAR_PARAMETERS_METHOD = "clearParameters";
+		private static final String SET_NULL_METHOD = "setNull";
+
+		private final Statement target;
+		private final String preparedSql;
+		private final List<DataSourceListener> listeners;
+		private final SortedMap<Integer, Object> parameters;
+
+		private StatementHandler(Statement target, String preparedSql,
+			List<DataSourceListener> listeners) {
+			this.target = target;
+			this.preparedSql = preparedSql;
+			this.listeners = listeners;
+			this.parameters = listeners.stream().anyMatch(DataSourceListener::capturesParameters)
+				? new TreeMap<>()
+				: null;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String methodName = method.getName();
+
+			if (!EXECUTE_METHODS.contains(methodName)) {
+				captureParameter(methodName, args);
+				return InstrumentedDataSource.invoke(target, method, args);
+			}
+
+			long startNanos = System.nanoTime();
+			try {
+				return InstrumentedDataSource.invoke(target, method, args);
+			} finally {
+				long elapsedNanos = System.nanoTime() - startNanos;
+				String sql = args != null && args.length > 0 && args[0] instanceof String executed
+					? executed
+					: preparedSql;
+				List<Object> boundParameters = parameters == null
+					? List.of()
+					: Collections.unmodifiableList(new ArrayList<>(parameters.values()));
+				listeners.forEach(
+					listener -> listener.afterExecute(sql, boundParameters, elapsedNanos));
+			}
+		}
+
+		// setLong(1, ...), setObject(2, ...) 처럼 위치로 값을 바인딩하는 호출
+		private void captureParameter(String methodName, Object[] args) {
+			if (parameters == null) {
+				return;
+			}
+			if (CLEAR_PARAMETERS_METHOD.equals(methodName)) {
+				parameters.clear();
+				return;
+			}
+			if (methodName.startsWith("set") && args != null && args.length >= 2
+				&& args[0] instanceof Integer index) {
+				parameters.put(index, SET_NULL_METHOD.equals(methodName) ? null : args[1]);
+			}
+		}
+	}
+}
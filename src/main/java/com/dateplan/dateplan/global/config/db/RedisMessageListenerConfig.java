@@ -0,0 +1,28 @@
+package com.dateplan.dateplan.global.config.db;
+
+import com.dateplan.dateplan.domain.anniversary.service.ComingAnniversaryCache;
+import com.dateplan.dateplan.global.auth.CoupleMembershipCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisMessageListenerConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		CoupleMembershipCache coupleMembershipCache,
+		ComingAnniversaryCache comingAnniversaryCache
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(coupleMembershipCache,
+			new ChannelTopic(CoupleMembershipCache.EVICT_CHANNEL));
+		container.addMessageListener(comingAnniversaryCache,
+			new ChannelTopic(ComingAnniversaryCache.EVICT_CHANNEL));
+		return container;
+	}
+}
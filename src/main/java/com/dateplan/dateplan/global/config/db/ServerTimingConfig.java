@@ -0,0 +1,24 @@
+package com.dateplan.dateplan.global.config.db;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// Server-Timing 헤더에 담을 DB, Redis 시간을 모으도록 DataSource 리스너와 StringRedisTemplate 을 구성한다.
+@Configuration
+public class ServerTimingConfig {
+
+	@Bean
+	public ServerTimingListener serverTimingListener() {
+		return new ServerTimingListener();
+	}
+
+	// 테스트 프로필에서도 같은 템플릿을 쓰도록 RedisConfig 와 분리한다.
+	@Bean
+	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+		StringRedisTemplate stringRedisTemplate = new ServerTimingStringRedisTemplate();
+		stringRedisTemplate.setConnectionFactory(redisConnectionFactory);
+		return stringRedisTemplate;
+	}
+}
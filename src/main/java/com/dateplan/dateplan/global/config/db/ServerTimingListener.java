@@ -0,0 +1,18 @@
+package com.dateplan.dateplan.global.config.db;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import java.util.List;
+
+// 요청 안에서 만든 Statement 의 실행 시간만 ServerTimingContext 에 더한다. 요청 밖(스케줄러 등)의 쿼리는 받지 않는다.
+public class ServerTimingListener implements DataSourceListener {
+
+	@Override
+	public boolean listensToStatements() {
+		return ServerTimingContext.isActive();
+	}
+
+	@Override
+	public void afterExecute(String sql, List<Object> parameters, long elapsedNanos) {
+		ServerTimingContext.add(ServerTimingContext.DB, elapsedNanos);
+	}
+}
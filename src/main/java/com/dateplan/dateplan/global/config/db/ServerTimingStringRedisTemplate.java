@@ -0,0 +1,23 @@
+package com.dateplan.dateplan.global.config.db;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// opsForValue, 스크립트 실행 등 모든 명령이 이 메서드를 거치므로 여기서 Redis 명령 시간을 요청 단위로 더한다.
+public class ServerTimingStringRedisTemplate extends StringRedisTemplate {
+
+	@Override
+	public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+		if (!ServerTimingContext.isActive()) {
+			return super.execute(action, exposeConnection, pipeline);
+		}
+
+		long startNanos = System.nanoTime();
+		try {
+			return super.execute(action, exposeConnection, pipeline);
+		} finally {
+			ServerTimingContext.add(ServerTimingContext.REDIS, System.nanoTime() - startNanos);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.dateplan.dateplan.global.config.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// http.server.requests 에 요청을 처리한 컨트롤러 메서드(Controller#method)를 handler 태그로 추가한다.
+public class HandlerMethodObservationConvention extends DefaultServerRequestObservationConvention {
+
+	public static final String HANDLER_TAG = "handler";
+
+	private static final KeyValue HANDLER_NONE = KeyValue.of(HANDLER_TAG, "none");
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+		return super.getLowCardinalityKeyValues(context).and(handler(context));
+	}
+
+	private KeyValue handler(ServerRequestObservationContext context) {
+		if (context.getCarrier() == null) {
+			return HANDLER_NONE;
+		}
+
+		Object handler = context.getCarrier()
+			.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		if (handler instanceof HandlerMethod handlerMethod) {
+			return KeyValue.of(HANDLER_TAG, handlerMethod.getBeanType().getSimpleName() + "#"
+				+ handlerMethod.getMethod().getName());
+		}
+		return HANDLER_NONE;
+	}
+}
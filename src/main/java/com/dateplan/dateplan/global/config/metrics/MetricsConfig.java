@@ -0,0 +1,15 @@
+package com.dateplan.dateplan.global.config.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+@Configuration
+public class MetricsConfig {
+
+	// 같은 URI 패턴이라도 어떤 컨트롤러 메서드가 느린지 바로 보이도록 엔드포인트 지연 시간에 handler 태그를 붙인다.
+	@Bean
+	public ServerRequestObservationConvention serverRequestObservationConvention() {
+		return new HandlerMethodObservationConvention();
+	}
+}
@@ -0,0 +1,16 @@
+package com.dateplan.dateplan.global.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IdGeneratorConstants {
+
+	public static final String TABLE = "id_sequence";
+	public static final String PK_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+
+	// 한 번의 조회로 예약하는 id 개수. 반복 일정, 기념일을 한 번에 저장하는 크기에 맞춘다.
+	// 예약은 요청 트랜잭션과 분리된 커넥션에서 실행되므로, 커넥션 풀은 요청 스레드 수보다 크게 둔다. (application-db.yml)
+	public static final int ALLOCATION_SIZE = 100;
+}
@@ -51,7 +51,9 @@ public enum ErrorCode {
 	// SERVER
 	SERVER_ERROR(INTERNAL_SERVER_ERROR, "S001"),
 	SMS_SEND_FAIL(SERVICE_UNAVAILABLE, "S002"),
-	S3_ERROR(SERVICE_UNAVAILABLE, "S003");
+	S3_ERROR(SERVICE_UNAVAILABLE, "S003"),
+	CALENDER_READ_TIMEOUT(SERVICE_UNAVAILABLE, "S004"),
+	CALENDER_READ_BUSY(SERVICE_UNAVAILABLE, "S005");
 
 	private final HttpStatus httpStatusCode;
 	private final String code;
@@ -137,5 +139,7 @@ public enum ErrorCode {
 		public static final String SMS_SEND_FAIL = "%s 문자를 전송하던 중 문제가 발생하였습니다. 잠시 후에 다시 시도해 주세요.";
 		public static final String S3_CREATE_PRESIGNED_URL_FAIL = "Presigned URL 을 생성하던 중 문제가 발생하였습니다. 잠시 후에 다시 시도해 주세요.";
 		public static final String S3_DELETE_OBJECT_FAIL = "S3 내의 객체를 삭제하던 중 문제가 발생하였습니다. 잠시 후에 다시 시도해 주세요";
+		public static final String CALENDER_READ_TIMEOUT = "캘린더를 조회하는 데 시간이 너무 오래 걸립니다. 잠시 후에 다시 시도해 주세요.";
+		public static final String CALENDER_READ_BUSY = "캘린더 조회 요청이 많아 처리하지 못했습니다. 잠시 후에 다시 시도해 주세요.";
 	}
 }
@@ -0,0 +1,16 @@
+package com.dateplan.dateplan.global.exception.calender;
+
+import com.dateplan.dateplan.global.exception.ApplicationException;
+import com.dateplan.dateplan.global.exception.ErrorCode;
+import com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage;
+import java.io.Serial;
+
+public class CalenderReadBusyException extends ApplicationException {
+
+	@Serial
+	private static final long serialVersionUID = 4127305512879013566L;
+
+	public CalenderReadBusyException() {
+		super(DetailMessage.CALENDER_READ_BUSY, ErrorCode.CALENDER_READ_BUSY);
+	}
+}
@@ -0,0 +1,16 @@
+package com.dateplan.dateplan.global.exception.calender;
+
+import com.dateplan.dateplan.global.exception.ApplicationException;
+import com.dateplan.dateplan.global.exception.ErrorCode;
+import com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage;
+import java.io.Serial;
+
+public class CalenderReadTimeoutException extends ApplicationException {
+
+	@Serial
+	private static final long serialVersionUID = -3958107721406322917L;
+
+	public CalenderReadTimeoutException() {
+		super(DetailMessage.CALENDER_READ_TIMEOUT, ErrorCode.CALENDER_READ_TIMEOUT);
+	}
+}
@@ -0,0 +1,132 @@
+package com.dateplan.dateplan.global.filter;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 로그인처럼 인증 인터셉터를 거치지 않는 요청도 포함하도록 필터에서 요청 단위 시간을 모은다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	public static final String HEADER_NAME = "Server-Timing";
+	public static final String TOKEN_HEADER_NAME = "X-Server-Timing-Token";
+
+	private final long slowRequestThresholdMillis;
+	private final byte[] headerToken;
+
+	// 헤더가 내부 구성(DB, Redis 호출 횟수와 시간)을 드러내므로, 토큰을 보낸 클라이언트에게만 붙인다. 토큰이 비어 있으면 붙이지 않는다.
+	public ServerTimingFilter(
+		@Value("${server-timing.slow-request-threshold-millis}") long slowRequestThresholdMillis,
+		@Value("${server-timing.header-token}") String headerToken) {
+		this.slowRequestThresholdMillis = slowRequestThresholdMillis;
+		this.headerToken = headerToken.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+
+		ServerTimingContext context = ServerTimingContext.start();
+		ServerTimingResponse timingResponse = isTrustedClient(request)
+			? new ServerTimingResponse(response, context)
+			: null;
+		try {
+			filterChain.doFilter(request, timingResponse == null ? response : timingResponse);
+		} finally {
+			ServerTimingContext.remove();
+			if (timingResponse != null) {
+				timingResponse.addHeaderIfAbsent();
+			}
+			logIfSlow(request, context);
+		}
+	}
+
+	private boolean isTrustedClient(HttpServletRequest request) {
+		String requestToken = request.getHeader(TOKEN_HEADER_NAME);
+
+		return headerToken.length > 0 && requestToken != null
+			&& MessageDigest.isEqual(headerToken, requestToken.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void logIfSlow(HttpServletRequest request, ServerTimingContext context) {
+		long elapsedMillis = context.getElapsedMillis();
+
+		if (elapsedMillis >= slowRequestThresholdMillis) {
+			log.warn("slow request. method={}, uri={}, elapsedMillis={}, timing={}",
+				request.getMethod(), request.getRequestURI(), elapsedMillis,
+				context.toHeaderValue());
+		}
+	}
+
+	// 본문을 쓰기 시작하면 응답이 커밋되어 헤더를 붙일 수 없으므로, 본문을 쓰기 직전에 헤더를 추가한다.
+	private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+		private final ServerTimingContext context;
+		private boolean headerAdded;
+
+		private ServerTimingResponse(HttpServletResponse response, ServerTimingContext context) {
+			super(response);
+			this.context = context;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			addHeaderIfAbsent();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			addHeaderIfAbsent();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			addHeaderIfAbsent();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			addHeaderIfAbsent();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			addHeaderIfAbsent();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			addHeaderIfAbsent();
+			super.sendRedirect(location);
+		}
+
+		private void addHeaderIfAbsent() {
+			if (headerAdded || isCommitted()) {
+				return;
+			}
+			headerAdded = true;
+			setHeader(HEADER_NAME, context.toHeaderValue());
+		}
+	}
+}
@@ -1,10 +1,12 @@
 package com.dateplan.dateplan.global.interceptor;
 
 import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.global.auth.CoupleContext;
 import com.dateplan.dateplan.global.auth.JwtProvider;
 import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.constant.Auth;
 import com.dateplan.dateplan.global.exception.auth.TokenNotFoundException;
+import com.dateplan.dateplan.global.jfr.AuthEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
@@ -28,13 +30,37 @@ public class AuthInterceptor implements HandlerInterceptor {
 		}
 
 		String token = tokenByHeader.get().replaceFirst(Auth.BEARER.getContent(), "");
-		jwtProvider.checkValidation(token);
-		Member member = jwtProvider.findMemberByToken(token);
+		verifyToken(token);
+		Member member = loadMember(token);
 		MemberThreadLocal.set(member);
+		CoupleContext.remove();
 
 		return true;
 	}
 
+	private void verifyToken(String token) {
+		AuthEvent event = AuthEvent.start();
+		boolean succeeded = false;
+		try {
+			jwtProvider.checkValidation(token);
+			succeeded = true;
+		} finally {
+			event.complete(AuthEvent.VERIFY_TOKEN, succeeded);
+		}
+	}
+
+	private Member loadMember(String token) {
+		AuthEvent event = AuthEvent.start();
+		boolean succeeded = false;
+		try {
+			Member member = jwtProvider.findMemberByToken(token);
+			succeeded = true;
+			return member;
+		} finally {
+			event.complete(AuthEvent.LOAD_MEMBER, succeeded);
+		}
+	}
+
 	@Override
 	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
 		ModelAndView modelAndView) throws Exception {
@@ -46,4 +72,11 @@ public class AuthInterceptor implements HandlerInterceptor {
 
 		MemberThreadLocal.remove();
 	}
+
+	// 예외로 postHandle 이 호출되지 않아도 다음 요청이 이전 커플 정보를 보지 않도록 비운다.
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+		Object handler, Exception ex) {
+		CoupleContext.remove();
+	}
 }
@@ -0,0 +1,37 @@
+package com.dateplan.dateplan.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 저장된 첫 회차로부터 조회 범위의 기념일 회차를 계산하는 데 걸린 시간과 만든 회차 수를 기록한다.
+@Name("com.dateplan.AnniversaryExpansion")
+@Label("Anniversary Expansion")
+@Description("반복 규칙으로 기념일 회차를 계산한 시간과 회차 수")
+@Category({"Dateplan", "Anniversary"})
+@StackTrace(false)
+public class AnniversaryExpansionEvent extends jdk.jfr.Event {
+
+	@Label("Repeat Rule")
+	private String repeatRule;
+
+	@Label("Occurrences")
+	private int occurrences;
+
+	public static AnniversaryExpansionEvent start() {
+		AnniversaryExpansionEvent event = new AnniversaryExpansionEvent();
+		event.begin();
+		return event;
+	}
+
+	public void complete(String repeatRule, int occurrences) {
+		end();
+		if (shouldCommit()) {
+			this.repeatRule = repeatRule;
+			this.occurrences = occurrences;
+			commit();
+		}
+	}
+}
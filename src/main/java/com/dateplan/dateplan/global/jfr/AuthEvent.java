@@ -0,0 +1,40 @@
+package com.dateplan.dateplan.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 인증 인터셉터의 토큰 검증과 회원 조회를 나눠 기록해 어느 쪽이 느린지 구분한다.
+@Name("com.dateplan.Auth")
+@Label("Auth")
+@Description("인증 인터셉터의 토큰 검증 또는 회원 조회 시간")
+@Category({"Dateplan", "Auth"})
+@StackTrace(false)
+public class AuthEvent extends jdk.jfr.Event {
+
+	public static final String VERIFY_TOKEN = "verifyToken";
+	public static final String LOAD_MEMBER = "loadMember";
+
+	@Label("Phase")
+	private String phase;
+
+	@Label("Succeeded")
+	private boolean succeeded;
+
+	public static AuthEvent start() {
+		AuthEvent event = new AuthEvent();
+		event.begin();
+		return event;
+	}
+
+	public void complete(String phase, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.phase = phase;
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.dateplan.dateplan.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 캘린더 조회의 하위 조회 하나가 calenderReadExecutor 스레드에서 실행된 시간을 기록한다.
+@Name("com.dateplan.CalenderBranch")
+@Label("Calender Branch")
+@Description("캘린더 조회를 구성하는 하위 조회 하나의 실행 시간")
+@Category({"Dateplan", "Calender"})
+@StackTrace(false)
+public class CalenderBranchEvent extends jdk.jfr.Event {
+
+	@Label("Branch")
+	private String branch;
+
+	@Label("Succeeded")
+	private boolean succeeded;
+
+	public static CalenderBranchEvent start() {
+		CalenderBranchEvent event = new CalenderBranchEvent();
+		event.begin();
+		return event;
+	}
+
+	public void complete(String branch, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.branch = branch;
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
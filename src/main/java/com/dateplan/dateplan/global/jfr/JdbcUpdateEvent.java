@@ -0,0 +1,55 @@
+package com.dateplan.dateplan.global.jfr;
+
+import java.util.function.IntSupplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JdbcTemplate 으로 여러 행을 한 번에 바꾸는 쿼리의 시간과 바뀐 행 수를 기록한다.
+@Name("com.dateplan.JdbcUpdate")
+@Label("JDBC Update")
+@Description("JDBC 리포지토리의 대량 갱신/삭제 쿼리 시간과 바뀐 행 수")
+@Category({"Dateplan", "JDBC"})
+@StackTrace(false)
+public class JdbcUpdateEvent extends jdk.jfr.Event {
+
+	@Label("Repository")
+	private String repository;
+
+	@Label("Operation")
+	private String operation;
+
+	@Label("Rows")
+	private int rows;
+
+	@Label("Succeeded")
+	private boolean succeeded;
+
+	// update 를 실행하고 바뀐 행 수를 그대로 반환한다. 예외가 나면 실패로 기록한 뒤 다시 던진다.
+	public static int record(String repository, String operation, IntSupplier update) {
+		JdbcUpdateEvent event = new JdbcUpdateEvent();
+		event.begin();
+		int updatedRows = 0;
+		boolean succeeded = false;
+		try {
+			updatedRows = update.getAsInt();
+			succeeded = true;
+			return updatedRows;
+		} finally {
+			event.complete(repository, operation, updatedRows, succeeded);
+		}
+	}
+
+	private void complete(String repository, String operation, int rows, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.repository = repository;
+			this.operation = operation;
+			this.rows = rows;
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
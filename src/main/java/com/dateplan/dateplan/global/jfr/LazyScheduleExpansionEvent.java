@@ -0,0 +1,37 @@
+package com.dateplan.dateplan.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 첫 회차만 저장된 반복 일정을 조회 구간의 회차로 계산하는 데 걸린 시간과 만든 회차 수를 기록한다.
+@Name("com.dateplan.LazyScheduleExpansion")
+@Label("Lazy Schedule Expansion")
+@Description("지연 전개 반복 일정을 조회 시점에 계산한 시간과 회차 수")
+@Category({"Dateplan", "Schedule"})
+@StackTrace(false)
+public class LazyScheduleExpansionEvent extends jdk.jfr.Event {
+
+	@Label("Repeat Rule")
+	private String repeatRule;
+
+	@Label("Occurrences")
+	private int occurrences;
+
+	public static LazyScheduleExpansionEvent start() {
+		LazyScheduleExpansionEvent event = new LazyScheduleExpansionEvent();
+		event.begin();
+		return event;
+	}
+
+	public void complete(String repeatRule, int occurrences) {
+		end();
+		if (shouldCommit()) {
+			this.repeatRule = repeatRule;
+			this.occurrences = occurrences;
+			commit();
+		}
+	}
+}
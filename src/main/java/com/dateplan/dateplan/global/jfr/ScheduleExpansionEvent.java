@@ -0,0 +1,41 @@
+package com.dateplan.dateplan.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 반복 일정 생성 요청 하나를 회차 엔티티 목록으로 펼치는 데 걸린 시간과 만든 회차 수를 기록한다.
+@Name("com.dateplan.ScheduleExpansion")
+@Label("Schedule Expansion")
+@Description("반복 규칙으로 일정 회차를 펼친 시간과 회차 수")
+@Category({"Dateplan", "Schedule"})
+@StackTrace(false)
+public class ScheduleExpansionEvent extends jdk.jfr.Event {
+
+	@Label("Repeat Rule")
+	private String repeatRule;
+
+	@Label("Occurrences")
+	private int occurrences;
+
+	@Label("Succeeded")
+	private boolean succeeded;
+
+	public static ScheduleExpansionEvent start() {
+		ScheduleExpansionEvent event = new ScheduleExpansionEvent();
+		event.begin();
+		return event;
+	}
+
+	public void complete(String repeatRule, int occurrences, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.repeatRule = repeatRule;
+			this.occurrences = occurrences;
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package com.dateplan.dateplan.global.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// epoch day 를 비트 하나로 표현하는 날짜 집합. 워드 경계를 64일 단위로 맞춰 두어 여러 집합을 워드 단위로 합칠 수 있다.
+public final class DaySet {
+
+	private static final int WORD_SHIFT = 6;
+	private static final int BIT_MASK = (1 << WORD_SHIFT) - 1;
+	private static final long[] EMPTY_WORDS = new long[0];
+
+	// words[0] 이 나타내는 워드의 절대 위치(epochDay >> 6)
+	private long baseWord;
+	private long[] words = EMPTY_WORDS;
+
+	public void add(LocalDate date) {
+		add(date.toEpochDay());
+	}
+
+	public void add(long epochDay) {
+		long wordIndex = epochDay >> WORD_SHIFT;
+		ensureCapacity(wordIndex, wordIndex);
+		words[(int) (wordIndex - baseWord)] |= 1L << (epochDay & BIT_MASK);
+	}
+
+	// startDate ~ endDate(포함)
+	public void addRange(LocalDate startDate, LocalDate endDate) {
+		addRange(startDate.toEpochDay(), endDate.toEpochDay());
+	}
+
+	public void addRange(long fromDay, long toDay) {
+		if (fromDay > toDay) {
+			return;
+		}
+		long fromWord = fromDay >> WORD_SHIFT;
+		long toWord = toDay >> WORD_SHIFT;
+		ensureCapacity(fromWord, toWord);
+
+		for (long wordIndex = fromWord; wordIndex <= toWord; wordIndex++) {
+			words[(int) (wordIndex - baseWord)] |= rangeMask(wordIndex, fromWord, toWord, fromDay,
+				toDay);
+		}
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int size() {
+		int size = 0;
+		for (long word : words) {
+			size += Long.bitCount(word);
+		}
+		return size;
+	}
+
+	// year, month 조건에 맞지 않는 날짜를 지운다. 둘 다 null 이면 모두 남기고, year 만 null 이면 매년 해당 월만 남긴다.
+	public void retainYearMonth(Integer year, Integer month) {
+		if (year == null && month == null) {
+			return;
+		}
+		if (year != null) {
+			LocalDate startDate = month == null
+				? LocalDate.of(year, 1, 1)
+				: YearMonth.of(year, month).atDay(1);
+			LocalDate endDate = month == null
+				? LocalDate.of(year, 12, 31)
+				: YearMonth.of(year, month).atEndOfMonth();
+			retainBetween(startDate.toEpochDay(), endDate.toEpochDay());
+			return;
+		}
+		if (words.length == 0) {
+			return;
+		}
+
+		long clearFrom = firstDay();
+		int lastYear = LocalDate.ofEpochDay(lastDay()).getYear();
+		for (int y = LocalDate.ofEpochDay(clearFrom).getYear(); y <= lastYear; y++) {
+			YearMonth yearMonth = YearMonth.of(y, month);
+			clearRange(clearFrom, yearMonth.atDay(1).toEpochDay() - 1);
+			clearFrom = yearMonth.atEndOfMonth().toEpochDay() + 1;
+		}
+		clearRange(clearFrom, lastDay());
+	}
+
+	public void retainBetween(long fromDay, long toDay) {
+		if (words.length == 0) {
+			return;
+		}
+		clearRange(firstDay(), fromDay - 1);
+		clearRange(toDay + 1, lastDay());
+	}
+
+	// 오름차순으로 순회한다.
+	public void forEach(LongConsumer consumer) {
+		for (int i = 0; i < words.length; i++) {
+			long word = words[i];
+			long wordStartDay = (baseWord + i) << WORD_SHIFT;
+			while (word != 0) {
+				consumer.accept(wordStartDay + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+	}
+
+	// 응답으로 내보낼 때에만 LocalDate 로 변환한다.
+	public List<LocalDate> toLocalDates() {
+		List<LocalDate> dates = new ArrayList<>(size());
+		forEach(epochDay -> dates.add(LocalDate.ofEpochDay(epochDay)));
+		return dates;
+	}
+
+	// 여러 집합의 합집합을 오름차순으로 순회하며, 날짜마다 i 번째 집합에 속하면 i 번째 비트가 켜진 마스크를 넘긴다.
+	public static void merge(DayMaskConsumer consumer, DaySet... daySets) {
+		if (daySets.length > Integer.SIZE - 1) {
+			throw new IllegalArgumentException("too many day sets : " + daySets.length);
+		}
+
+		long fromWord = Long.MAX_VALUE;
+		long toWord = Long.MIN_VALUE;
+		for (DaySet daySet : daySets) {
+			if (daySet.words.length == 0) {
+				continue;
+			}
+			fromWord = Math.min(fromWord, daySet.baseWord);
+			toWord = Math.max(toWord, daySet.baseWord + daySet.words.length - 1);
+		}
+
+		long[] categoryWords = new long[daySets.length];
+		for (long wordIndex = fromWord; wordIndex <= toWord; wordIndex++) {
+			long union = 0;
+			for (int i = 0; i < daySets.length; i++) {
+				categoryWords[i] = daySets[i].wordAt(wordIndex);
+				union |= categoryWords[i];
+			}
+
+			long wordStartDay = wordIndex << WORD_SHIFT;
+			while (union != 0) {
+				int bit = Long.numberOfTrailingZeros(union);
+				int mask = 0;
+				for (int i = 0; i < daySets.length; i++) {
+					mask |= (int) ((categoryWords[i] >>> bit) & 1L) << i;
+				}
+				consumer.accept(wordStartDay + bit, mask);
+				union &= union - 1;
+			}
+		}
+	}
+
+	@FunctionalInterface
+	public interface DayMaskConsumer {
+
+		void accept(long epochDay, int mask);
+	}
+
+	private void clearRange(long fromDay, long toDay) {
+		fromDay = Math.max(fromDay, firstDay());
+		toDay = Math.min(toDay, lastDay());
+		if (fromDay > toDay) {
+			return;
+		}
+		long fromWord = fromDay >> WORD_SHIFT;
+		long toWord = toDay >> WORD_SHIFT;
+
+		for (long wordIndex = fromWord; wordIndex <= toWord; wordIndex++) {
+			words[(int) (wordIndex - baseWord)] &= ~rangeMask(wordIndex, fromWord, toWord, fromDay,
+				toDay);
+		}
+	}
+
+	private static long rangeMask(long wordIndex, long fromWord, long toWord, long fromDay,
+		long toDay) {
+
+		long mask = -1L;
+		if (wordIndex == fromWord) {
+			mask &= -1L << (fromDay & BIT_MASK);
+		}
+		if (wordIndex == toWord) {
+			mask &= -1L >>> (BIT_MASK - (toDay & BIT_MASK));
+		}
+		return mask;
+	}
+
+	private long wordAt(long wordIndex) {
+		long offset = wordIndex - baseWord;
+		if (offset < 0 || offset >= words.length) {
+			return 0;
+		}
+		return words[(int) offset];
+	}
+
+	private long firstDay() {
+		return baseWord << WORD_SHIFT;
+	}
+
+	private long lastDay() {
+		return ((baseWord + words.length) << WORD_SHIFT) - 1;
+	}
+
+	private void ensureCapacity(long fromWord, long toWord) {
+		if (words.length == 0) {
+			baseWord = fromWord;
+			words = new long[(int) (toWord - fromWord + 1)];
+			return;
+		}
+
+		long newBaseWord = Math.min(baseWord, fromWord);
+		long newEndWord = Math.max(baseWord + words.length - 1, toWord);
+		if (newBaseWord == baseWord && newEndWord == baseWord + words.length - 1) {
+			return;
+		}
+
+		long[] newWords = new long[(int) (newEndWord - newBaseWord + 1)];
+		System.arraycopy(words, 0, newWords, (int) (baseWord - newBaseWord), words.length);
+		baseWord = newBaseWord;
+		words = newWords;
+	}
+}
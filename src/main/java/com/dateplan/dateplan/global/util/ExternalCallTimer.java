@@ -0,0 +1,70 @@
+package com.dateplan.dateplan.global.util;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Redis, S3, SMS 처럼 애플리케이션 밖으로 나가는 호출의 시간을 대상(target)과 작업(operation)별로 기록한다.
+public final class ExternalCallTimer {
+
+	public static final String METRIC_NAME = "external.call";
+
+	public static final String REDIS = ServerTimingContext.REDIS;
+	public static final String S3 = ServerTimingContext.S3;
+	public static final String SMS = ServerTimingContext.SMS;
+
+	private ExternalCallTimer() {
+	}
+
+	public static <T> T record(MeterRegistry meterRegistry, String target, String operation,
+		Supplier<T> supplier) {
+
+		long startNanos = System.nanoTime();
+		try {
+			return supplier.get();
+		} finally {
+			recordElapsed(meterRegistry, target, operation, System.nanoTime() - startNanos);
+		}
+	}
+
+	public static void record(MeterRegistry meterRegistry, String target, String operation,
+		Runnable runnable) {
+
+		long startNanos = System.nanoTime();
+		try {
+			runnable.run();
+		} finally {
+			recordElapsed(meterRegistry, target, operation, System.nanoTime() - startNanos);
+		}
+	}
+
+	// 검사 예외를 던지는 SDK 호출용
+	public static <T> T recordCallable(MeterRegistry meterRegistry, String target,
+		String operation, Callable<T> callable) throws Exception {
+
+		long startNanos = System.nanoTime();
+		try {
+			return callable.call();
+		} finally {
+			recordElapsed(meterRegistry, target, operation, System.nanoTime() - startNanos);
+		}
+	}
+
+	private static void recordElapsed(MeterRegistry meterRegistry, String target,
+		String operation, long elapsedNanos) {
+
+		Timer.builder(METRIC_NAME)
+			.tag("target", target)
+			.tag("operation", operation)
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+		// Redis 는 ServerTimingStringRedisTemplate 이 명령 단위로 더하므로 여기서는 중복해서 더하지 않는다.
+		if (!REDIS.equals(target)) {
+			ServerTimingContext.add(target, elapsedNanos);
+		}
+	}
+}
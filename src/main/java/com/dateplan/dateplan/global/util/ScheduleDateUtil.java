@@ -2,7 +2,11 @@ package com.dateplan.dateplan.global.util;
 
 import com.dateplan.dateplan.global.constant.RepeatRule;
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -22,6 +26,80 @@ public class ScheduleDateUtil {
 		return getNextYearDate(now, count);
 	}
 
+	// start 로부터 반복되는 회차 중 시작일이 fromDate ~ min(toDate, repeatEndDate) 에 속하는 회차들
+	public static List<LocalDateTime> getCyclesBetween(
+		LocalDateTime start,
+		RepeatRule rule,
+		LocalDate repeatEndDate,
+		LocalDate fromDate,
+		LocalDate toDate
+	) {
+		List<LocalDateTime> cycles = new ArrayList<>();
+		LocalDate lastDate = toDate.isAfter(repeatEndDate) ? repeatEndDate : toDate;
+
+		if (rule.equals(RepeatRule.N)) {
+			if (isBetween(start.toLocalDate(), fromDate, lastDate)) {
+				cycles.add(start);
+			}
+			return cycles;
+		}
+
+		for (int count = getSkippableCount(start.toLocalDate(), rule, fromDate); ; count++) {
+			LocalDateTime cycle = getNextCycle(start, rule, count);
+			if (cycle.toLocalDate().isAfter(lastDate)) {
+				break;
+			}
+			if (cycle.toLocalDate().isBefore(fromDate) || !isSameDayOfCycle(start, cycle, rule)) {
+				continue;
+			}
+			cycles.add(cycle);
+		}
+		return cycles;
+	}
+
+	public static long countCycles(LocalDateTime start, RepeatRule rule, LocalDate repeatEndDate) {
+		if (rule.equals(RepeatRule.N)) {
+			return 1;
+		}
+
+		long cycleCount = 0;
+		for (int count = 0; ; count++) {
+			LocalDateTime cycle = getNextCycle(start, rule, count);
+			if (cycle.toLocalDate().isAfter(repeatEndDate)) {
+				return cycleCount;
+			}
+			if (isSameDayOfCycle(start, cycle, rule)) {
+				cycleCount++;
+			}
+		}
+	}
+
+	// 월/년 반복은 말일 보정으로 날짜가 달라진 회차를 건너뛴다.
+	private static boolean isSameDayOfCycle(LocalDateTime start, LocalDateTime cycle,
+		RepeatRule rule) {
+		if (rule.equals(RepeatRule.D) || rule.equals(RepeatRule.W)) {
+			return true;
+		}
+		return cycle.getDayOfMonth() == start.getDayOfMonth();
+	}
+
+	private static int getSkippableCount(LocalDate startDate, RepeatRule rule, LocalDate fromDate) {
+		if (!fromDate.isAfter(startDate)) {
+			return 0;
+		}
+		long units = switch (rule) {
+			case D -> ChronoUnit.DAYS.between(startDate, fromDate);
+			case W -> ChronoUnit.WEEKS.between(startDate, fromDate);
+			case M -> ChronoUnit.MONTHS.between(startDate, fromDate);
+			default -> ChronoUnit.YEARS.between(startDate, fromDate);
+		};
+		return (int) Math.max(0, units - 1);
+	}
+
+	private static boolean isBetween(LocalDate date, LocalDate fromDate, LocalDate toDate) {
+		return !date.isBefore(fromDate) && !date.isAfter(toDate);
+	}
+
 	private static LocalDateTime getNextDayDate(LocalDateTime now, int count) {
 		return now.plusDays(count);
 	}
@@ -0,0 +1,26 @@
+package com.dateplan.dateplan.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionUtil {
+
+	// 트랜잭션 안이면 커밋 이후에, 밖이면 바로 실행한다.
+	// 캐시를 커밋 전에 지우면 동시 요청이 변경 전 데이터를 다시 적재할 수 있으므로 캐시 무효화는 이것으로 실행한다.
+	public static void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,13 @@
+-- 반복 기념일을 패턴마다 첫 회차만 저장하도록 전환할 때 한 번 실행한다.
+-- 나머지 회차는 조회 시 패턴의 반복 규칙으로 계산되므로, 패턴별로 가장 이른 기념일만 남기고 삭제한다.
+DELETE a
+FROM anniversary a
+         JOIN anniversary a2
+              ON a2.anniversary_pattern_id = a.anniversary_pattern_id
+                  AND (a2.date < a.date OR (a2.date = a.date AND a2.anniversary_id < a.anniversary_id));
+
+-- 월/일 조회용으로 두었던 생성 컬럼과 인덱스는 더 이상 사용하지 않는다.
+ALTER TABLE anniversary
+    DROP INDEX idx_anniversary_pattern_month_day,
+    DROP COLUMN month_of_year,
+    DROP COLUMN day_of_month;
@@ -0,0 +1,40 @@
+-- 연결 해제, 탈퇴 시 데이터를 백그라운드에서 나눠 지우도록 전환할 때 한 번 실행한다.
+CREATE TABLE IF NOT EXISTS data_purge
+(
+    data_purge_id   BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    couple_id       BIGINT,
+    member_id       BIGINT,
+    stage           VARCHAR(30) NOT NULL,
+    attempt_count   INT         NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME    NOT NULL,
+    INDEX idx_data_purge_next_attempt_at (next_attempt_at)
+);
+
+CREATE TABLE IF NOT EXISTS data_purge_schedule_pattern
+(
+    schedule_pattern_id BIGINT NOT NULL PRIMARY KEY,
+    data_purge_id       BIGINT NOT NULL,
+    INDEX idx_data_purge_schedule_pattern_purge (data_purge_id)
+);
+
+-- 탈퇴한 회원은 참조하는 데이터가 모두 지워질 때까지 남아 있으므로 탈퇴 여부를 기록한다.
+ALTER TABLE member
+    ADD COLUMN withdrawn BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 연결 해제된 커플은 삭제 전까지 남아 있으므로, 회원 컬럼의 유일 제약을 제거한다. 회원 외래 키는 유지한다.
+-- 유일 인덱스가 외래 키의 인덱스로 쓰이고 있으므로, 지우기 전에 일반 인덱스를 먼저 만든다.
+-- 제약 이름은 하이버네이트가 생성한 이름이므로 information_schema 에서 찾아 지운다.
+CREATE INDEX idx_couple_member_id_1 ON couple (member_id_1);
+CREATE INDEX idx_couple_member_id_2 ON couple (member_id_2);
+
+SET @sql = (SELECT CONCAT('ALTER TABLE couple ',
+                          GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX ', INDEX_NAME) SEPARATOR ', '))
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'couple'
+              AND COLUMN_NAME IN ('member_id_1', 'member_id_2')
+              AND NON_UNIQUE = 0);
+SET @sql = COALESCE(@sql, 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
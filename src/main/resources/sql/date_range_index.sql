@@ -0,0 +1,22 @@
+-- 캘린더 조회를 날짜 범위 조건과 복합 인덱스로 전환할 때 한 번 실행한다.
+-- 월 단위 조회(연도 없이 월만 주어진 경우)는 함수 대신 저장된 생성 컬럼으로 비교한다.
+ALTER TABLE schedule
+    ADD COLUMN start_month TINYINT GENERATED ALWAYS AS (MONTH(start_date_time)) STORED,
+    ADD COLUMN end_month   TINYINT GENERATED ALWAYS AS (MONTH(end_date_time)) STORED;
+
+ALTER TABLE dating
+    ADD COLUMN start_month TINYINT GENERATED ALWAYS AS (MONTH(start_date_time)) STORED,
+    ADD COLUMN end_month   TINYINT GENERATED ALWAYS AS (MONTH(end_date_time)) STORED;
+
+CREATE INDEX idx_schedule_pattern_start_end
+    ON schedule (schedule_pattern_id, start_date_time, end_date_time);
+CREATE INDEX idx_schedule_pattern_month
+    ON schedule (schedule_pattern_id, start_month, end_month);
+
+CREATE INDEX idx_dating_couple_start_end
+    ON dating (couple_id, start_date_time, end_date_time);
+CREATE INDEX idx_dating_couple_month
+    ON dating (couple_id, start_month, end_month);
+
+CREATE INDEX idx_anniversary_pattern_date
+    ON anniversary (anniversary_pattern_id, date);
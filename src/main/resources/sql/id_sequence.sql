@@ -0,0 +1,19 @@
+-- IDENTITY 에서 테이블 기반 pooled id 할당으로 전환할 때 한 번 실행한다.
+-- 기존 AUTO_INCREMENT 속성은 명시한 id 로 저장하는 데 지장이 없으므로 그대로 둔다.
+-- pooled 방식은 읽은 값을 블록의 상한으로 사용하므로 기존 최대 id 에 할당 크기(100)만큼 여유를 두고 시작한다.
+CREATE TABLE IF NOT EXISTS id_sequence
+(
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'schedule', COALESCE(MAX(schedule_id), 0) + 101 FROM schedule
+UNION ALL
+SELECT 'schedule_pattern', COALESCE(MAX(schedule_pattern_id), 0) + 101 FROM schedule_pattern
+UNION ALL
+SELECT 'anniversary', COALESCE(MAX(anniversary_id), 0) + 101 FROM anniversary
+UNION ALL
+SELECT 'anniversary_pattern', COALESCE(MAX(anniversary_pattern_id), 0) + 101 FROM anniversary_pattern
+UNION ALL
+SELECT 'dating', COALESCE(MAX(dating_id), 0) + 101 FROM dating;
@@ -0,0 +1,14 @@
+-- 회원 id 로 커플을 기본 키 조회하도록 전환할 때 한 번 실행한다.
+-- 이후에는 Couple 저장/삭제 시 함께 저장/삭제되므로 애플리케이션이 유지한다.
+CREATE TABLE IF NOT EXISTS member_couple
+(
+    member_id BIGINT NOT NULL PRIMARY KEY,
+    couple_id BIGINT NOT NULL,
+    INDEX idx_member_couple_couple (couple_id)
+);
+
+INSERT INTO member_couple (member_id, couple_id)
+SELECT member_id_1, couple_id FROM couple
+UNION ALL
+SELECT member_id_2, couple_id FROM couple
+ON DUPLICATE KEY UPDATE couple_id = VALUES(couple_id);
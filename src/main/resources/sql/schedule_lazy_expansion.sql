@@ -0,0 +1,18 @@
+-- 반복 일정을 첫 회차만 저장하고 조회 시 전개하도록 전환할 때 한 번 실행한다.
+-- 실행한 뒤 schedule.repeat.lazy-expansion 을 켠다. 기존 패턴은 모든 회차가 저장되어 있으므로 false 로 남는다.
+ALTER TABLE schedule_pattern
+    ADD COLUMN lazy_expansion BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_schedule_pattern_member_lazy
+    ON schedule_pattern (member_id, lazy_expansion, repeat_start_date);
+
+-- 지연 전개 패턴에서 수정 또는 삭제되어 전개 대상에서 빠지는 회차
+CREATE TABLE IF NOT EXISTS schedule_exclusion
+(
+    schedule_exclusion_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    excluded_date         DATE   NOT NULL,
+    schedule_pattern_id   BIGINT NOT NULL,
+    CONSTRAINT uk_schedule_exclusion_pattern_date UNIQUE (schedule_pattern_id, excluded_date),
+    CONSTRAINT fk_schedule_exclusion_schedule_pattern FOREIGN KEY (schedule_pattern_id)
+        REFERENCES schedule_pattern (schedule_pattern_id)
+);
@@ -0,0 +1,127 @@
+package com.dateplan.dateplan.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+public class CoupleBootstrapBenchmarkTest extends ServiceTestSupport {
+
+	private static final int WARM_UP = 20;
+	private static final int ITERATIONS = 200;
+
+	@Autowired
+	private AnniversaryService anniversaryService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CoupleRepository coupleRepository;
+
+	@Autowired
+	private AnniversaryPatternRepository anniversaryPatternRepository;
+
+	@Autowired
+	private AnniversaryRepository anniversaryRepository;
+
+	private int memberSequence;
+
+	@AfterEach
+	void tearDown() {
+		anniversaryRepository.deleteAllInBatch();
+		anniversaryPatternRepository.deleteAllInBatch();
+		coupleRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("커플 저장과 기념일 생성을 한 트랜잭션에서 처리하는 연결 직후 작업의 지연 시간을 측정한다")
+	@Test
+	void measureBootstrapLatency() {
+
+		List<Member[]> pairs = createMemberPairs(WARM_UP + ITERATIONS);
+
+		measure(pairs.subList(0, WARM_UP));
+		long[] latencies = measure(pairs.subList(WARM_UP, pairs.size()));
+
+		Arrays.sort(latencies);
+		System.out.printf("bootstrap avg : %.3f ms/op%n",
+			toMillis(Arrays.stream(latencies).sum()) / ITERATIONS);
+		System.out.printf("bootstrap p50 : %.3f ms%n", toMillis(percentile(latencies, 50)));
+		System.out.printf("bootstrap p99 : %.3f ms%n", toMillis(percentile(latencies, 99)));
+		assertThat(anniversaryPatternRepository.count()).isEqualTo(5L * pairs.size());
+	}
+
+	private long[] measure(List<Member[]> pairs) {
+		long[] latencies = new long[pairs.size()];
+		for (int i = 0; i < pairs.size(); i++) {
+			Member[] pair = pairs.get(i);
+			long start = System.nanoTime();
+			transactionTemplate.executeWithoutResult(status ->
+				anniversaryService.createAnniversariesForConnectedCouple(
+					coupleRepository.save(createCouple(pair[0], pair[1]))));
+			latencies[i] = System.nanoTime() - start;
+		}
+		return latencies;
+	}
+
+	private List<Member[]> createMemberPairs(int size) {
+		List<Member[]> pairs = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			pairs.add(new Member[]{memberRepository.save(createMember()),
+				memberRepository.save(createMember())});
+		}
+		return pairs;
+	}
+
+	private Member createMember() {
+		int sequence = ++memberSequence;
+		return Member.builder()
+			.name("홍길동")
+			.nickname("nickname" + sequence)
+			.phone(String.format("010%08d", sequence))
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build();
+	}
+
+	private Couple createCouple(Member member1, Member member2) {
+		return Couple.builder()
+			.member1(member1)
+			.member2(member2)
+			.firstDate(LocalDate.of(2020, 1, 1))
+			.build();
+	}
+
+	private long percentile(long[] sortedLatencies, int percentile) {
+		int index = (int) Math.ceil(sortedLatencies.length * percentile / 100.0) - 1;
+		return sortedLatencies[Math.max(index, 0)];
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
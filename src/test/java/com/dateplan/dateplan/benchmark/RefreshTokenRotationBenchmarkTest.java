@@ -0,0 +1,121 @@
+package com.dateplan.dateplan.benchmark;
+
+import static com.dateplan.dateplan.global.constant.Auth.ACCESS_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.REFRESH_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_ACCESS_TOKEN;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_REFRESH_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.global.auth.JwtProvider;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+public class RefreshTokenRotationBenchmarkTest extends ServiceTestSupport {
+
+	private static final int WARM_UP = 200;
+	private static final int ITERATIONS = 2_000;
+
+	@Autowired
+	private JwtProvider jwtProvider;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private Member member;
+	private String key;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.name("name")
+			.nickname("nickname")
+			.phone("01012345678")
+			.password("password")
+			.gender(Gender.FEMALE)
+			.birthDay(LocalDate.of(2000, 10, 10))
+			.build());
+		key = "[REFRESH]" + member.getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("리프레시 토큰 재발급 처리량을 기존 방식(MySQL 조회 + GET/SET)과 Lua 교체 방식으로 비교한다")
+	@Test
+	void compareRefreshThroughput() {
+
+		String legacyToken = saveRefreshToken();
+		for (int i = 0; i < WARM_UP; i++) {
+			legacyToken = legacyRefresh(legacyToken);
+		}
+		long legacyNanos = measure(legacyToken, true);
+
+		String token = saveRefreshToken();
+		for (int i = 0; i < WARM_UP; i++) {
+			token = jwtProvider.generateTokenByRefreshToken(token).getRefreshTokenWithoutPrefix();
+		}
+		long rotationNanos = measure(token, false);
+
+		System.out.printf("refresh legacy   : %.1f ops/s%n", toOpsPerSecond(legacyNanos));
+		System.out.printf("refresh rotation : %.1f ops/s%n", toOpsPerSecond(rotationNanos));
+		assertThat(redisTemplate.getExpire(key)).isPositive();
+	}
+
+	private long measure(String token, boolean legacy) {
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			token = legacy ? legacyRefresh(token)
+				: jwtProvider.generateTokenByRefreshToken(token).getRefreshTokenWithoutPrefix();
+		}
+		return System.nanoTime() - start;
+	}
+
+	// 변경 전 재발급 흐름: 토큰 검증, 회원 조회, GET 후 같은 값 SET, 새 토큰 서명
+	private String legacyRefresh(String refreshToken) {
+		jwtProvider.checkValidation(refreshToken);
+		memberRepository.findById(member.getId())
+			.orElseThrow(MemberNotFoundException::new);
+
+		ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
+		String value = opsForValue.get(key);
+		assertThat(value).isEqualTo(refreshToken);
+		opsForValue.set(key, value);
+
+		jwtProvider.generateToken(member.getId(), ACCESS_TOKEN_EXPIRATION.getExpiration(),
+			SUBJECT_ACCESS_TOKEN.getContent());
+		jwtProvider.generateToken(member.getId(), REFRESH_TOKEN_EXPIRATION.getExpiration(),
+			SUBJECT_REFRESH_TOKEN.getContent());
+		return refreshToken;
+	}
+
+	private String saveRefreshToken() {
+		String refreshToken = jwtProvider.generateToken(member.getId(),
+			REFRESH_TOKEN_EXPIRATION.getExpiration(), SUBJECT_REFRESH_TOKEN.getContent());
+		redisTemplate.opsForValue().set(key, refreshToken);
+		return refreshToken;
+	}
+
+	private double toOpsPerSecond(long nanos) {
+		return ITERATIONS / (nanos / 1_000_000_000.0);
+	}
+}
@@ -0,0 +1,18 @@
+package com.dateplan.dateplan.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class StatementCountConfig {
+
+	@Bean
+	public StatementCounter statementCounter() {
+		return new StatementCounter();
+	}
+
+	@Bean
+	public StatementCountingListener statementCountingListener(StatementCounter statementCounter) {
+		return new StatementCountingListener(statementCounter);
+	}
+}
@@ -0,0 +1,37 @@
+package com.dateplan.dateplan.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 캘린더 조회처럼 다른 스레드에서 실행되는 쿼리도 함께 세도록 스레드 구분 없이 기록한다.
+public class StatementCounter {
+
+	private final List<ExecutedStatement> statements = new CopyOnWriteArrayList<>();
+
+	public void record(String sql, List<Object> parameters) {
+		statements.add(new ExecutedStatement(sql, parameters));
+	}
+
+	public void reset() {
+		statements.clear();
+	}
+
+	public int count() {
+		return statements.size();
+	}
+
+	public List<String> getStatements() {
+		return statements.stream()
+			.map(ExecutedStatement::sql)
+			.toList();
+	}
+
+	public List<ExecutedStatement> getExecutedStatements() {
+		return List.copyOf(statements);
+	}
+
+	// 바인딩한 파라미터를 함께 남겨 실행 계획(EXPLAIN)을 같은 값으로 다시 볼 수 있게 한다.
+	public record ExecutedStatement(String sql, List<Object> parameters) {
+
+	}
+}
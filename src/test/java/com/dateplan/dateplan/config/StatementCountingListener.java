@@ -0,0 +1,29 @@
+package com.dateplan.dateplan.config;
+
+import com.dateplan.dateplan.global.config.db.DataSourceListener;
+import java.util.List;
+
+// Statement 실행 한 번을 쿼리 하나로 기록한다. 배치는 executeBatch 한 번으로 센다.
+public class StatementCountingListener implements DataSourceListener {
+
+	private final StatementCounter statementCounter;
+
+	public StatementCountingListener(StatementCounter statementCounter) {
+		this.statementCounter = statementCounter;
+	}
+
+	@Override
+	public boolean listensToStatements() {
+		return true;
+	}
+
+	@Override
+	public boolean capturesParameters() {
+		return true;
+	}
+
+	@Override
+	public void afterExecute(String sql, List<Object> parameters, long elapsedNanos) {
+		statementCounter.record(sql, parameters);
+	}
+}
@@ -23,7 +23,10 @@ import com.dateplan.dateplan.domain.schedule.service.ScheduleService;
 import com.dateplan.dateplan.domain.sms.service.SmsSendClient;
 import com.dateplan.dateplan.global.auth.JwtProvider;
 import com.dateplan.dateplan.global.interceptor.AuthInterceptor;
+import com.dateplan.dateplan.global.util.DaySet;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -89,4 +92,9 @@ public abstract class ControllerTestSupport {
 
 	@MockBean
 	protected CalenderReadService calenderReadService;
+	protected static DaySet createDaySet(List<LocalDate> dates) {
+		DaySet daySet = new DaySet();
+		dates.forEach(daySet::add);
+		return daySet;
+	}
 }
@@ -609,7 +609,7 @@ public class AnniversaryControllerTest extends ControllerTestSupport {
 		List<LocalDate> dates) {
 
 		return AnniversaryDatesServiceResponse.builder()
-			.anniversaryDates(dates)
+			.anniversaryDays(createDaySet(dates))
 			.build();
 	}
 
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.dateplan.dateplan.controller.ControllerTestSupport;
+import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderDateResponse;
 import com.dateplan.dateplan.domain.calender.controller.dto.response.CalenderEntry;
 import com.dateplan.dateplan.domain.calender.service.dto.response.CalenderDateServiceResponse;
 import com.dateplan.dateplan.domain.member.entity.Member;
@@ -17,7 +18,9 @@ import com.dateplan.dateplan.global.auth.MemberThreadLocal;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
+import com.dateplan.dateplan.global.dto.response.ApiResponse;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
@@ -80,9 +83,9 @@ public class CalenderControllerTest extends ControllerTestSupport {
 				.build();
 
 			// Stubbing
-			given(calenderReadService.readCalenderDates(any(Member.class), anyLong(),
+			given(calenderReadService.readCalenderDatesJson(any(Member.class), anyLong(),
 				anyInt(), anyInt()))
-				.willReturn(response);
+				.willReturn(toJson(response));
 
 			// When & Then
 			mockMvc.perform(get(REQUEST_URL, 1L)
@@ -105,7 +108,7 @@ public class CalenderControllerTest extends ControllerTestSupport {
 			// Stubbing
 			NoPermissionException exception = new NoPermissionException(Resource.MEMBER,
 				Operation.READ);
-			given(calenderReadService.readCalenderDates(any(Member.class), anyLong(),
+			given(calenderReadService.readCalenderDatesJson(any(Member.class), anyLong(),
 				anyInt(), anyInt()))
 				.willThrow(exception);
 
@@ -142,9 +145,9 @@ public class CalenderControllerTest extends ControllerTestSupport {
 				.build();
 
 			// Stubbing
-			given(calenderReadService.readCalenderDates(any(Member.class), anyLong(),
+			given(calenderReadService.readCalenderDatesJson(any(Member.class), anyLong(),
 				anyInt(), anyInt()))
-				.willReturn(response);
+				.willReturn(toJson(response));
 
 			// When & Then
 			mockMvc.perform(get(REQUEST_URL, 1)
@@ -158,6 +161,10 @@ public class CalenderControllerTest extends ControllerTestSupport {
 		}
 	}
 
+	private byte[] toJson(CalenderDateServiceResponse response) throws JsonProcessingException {
+		return om.writeValueAsBytes(ApiResponse.ofSuccess(CalenderDateResponse.from(response)));
+	}
+
 	private Member createMember() {
 		return Member.builder()
 			.phone("01012345678")
@@ -934,7 +934,7 @@ public class DatingControllerTest extends ControllerTestSupport {
 
 	public DatingDatesServiceResponse createDatingDatesServiceResponse() {
 		return DatingDatesServiceResponse.builder()
-			.datingDates(createDatingDates())
+			.datingDays(createDaySet(createDatingDates()))
 			.build();
 	}
 
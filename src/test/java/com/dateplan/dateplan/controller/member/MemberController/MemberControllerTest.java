@@ -194,12 +194,6 @@ public class MemberControllerTest extends ControllerTestSupport {
 			willReturn(createCoupleConnectServiceResponse())
 				.given(coupleService)
 				.connectCouple(any(Member.class), anyLong(), any(ConnectionServiceRequest.class));
-			willDoNothing()
-				.given(anniversaryService)
-				.createAnniversariesForBirthDay(anyLong());
-			willDoNothing()
-				.given(anniversaryService)
-				.createAnniversariesForFirstDate(anyLong());
 
 			// When & Then
 			mockMvc.perform(
@@ -571,7 +571,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(ScheduleUpdateServiceRequest.class),
-					any(Member.class), anyBoolean());
+					any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -598,7 +598,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(ScheduleUpdateServiceRequest.class),
-					any(Member.class), anyBoolean());
+					any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -628,7 +628,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willThrow(exception)
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -657,7 +657,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willThrow(exception)
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -686,7 +686,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willThrow(exception)
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -720,7 +720,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -754,7 +754,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -786,7 +786,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -818,7 +818,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(
-					ScheduleUpdateServiceRequest.class), any(Member.class), anyBoolean());
+					ScheduleUpdateServiceRequest.class), any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -844,7 +844,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willDoNothing()
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(ScheduleUpdateServiceRequest.class),
-					any(Member.class), anyBoolean());
+					any(Member.class));
 
 			// When & Then
 			mockMvc.perform(
@@ -871,7 +871,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			willThrow(exception)
 				.given(scheduleService)
 				.updateSchedule(anyLong(), anyLong(), any(ScheduleUpdateServiceRequest.class),
-					any(Member.class), anyBoolean());
+					any(Member.class));
 
 			mockMvc.perform(
 					put(REQUEST_URL, 1, 1)
@@ -910,7 +910,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			// Stubbing
 			willDoNothing()
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			// When & Then
 			mockMvc.perform(
@@ -930,7 +930,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			// Stubbing
 			willDoNothing()
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			// When & Then
 			mockMvc.perform(
@@ -951,7 +951,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			// Stubbing
 			willDoNothing()
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			// When & Then
 			mockMvc.perform(
@@ -974,7 +974,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 				Operation.DELETE);
 			willThrow(exception)
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			// When & Then
 			mockMvc.perform(
@@ -996,7 +996,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 			ScheduleNotFoundException exception = new ScheduleNotFoundException();
 			willThrow(exception)
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			// When & Then
 			mockMvc.perform(
@@ -1017,7 +1017,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 				Operation.DELETE);
 			willThrow(exception)
 				.given(scheduleService)
-				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean());
+				.deleteSchedule(anyLong(), anyLong(), any(Member.class), anyBoolean(), any());
 
 			mockMvc.perform(
 					delete(REQUEST_URL, 1, 1))
@@ -1048,7 +1048,7 @@ public class ScheduleControllerTest extends ControllerTestSupport {
 
 	private ScheduleDatesServiceResponse createScheduleDatesServiceResponse() {
 		return ScheduleDatesServiceResponse.builder()
-			.scheduleDates(createScheduleDates())
+			.scheduleDays(createDaySet(createScheduleDates()))
 			.build();
 	}
 
@@ -0,0 +1,162 @@
+package com.dateplan.dateplan.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dateplan.dateplan.global.auth.ServerTimingContext;
+import com.dateplan.dateplan.global.filter.ServerTimingFilter;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServerTimingFilterTest {
+
+	private static final String HEADER_TOKEN = "token";
+
+	private final ServerTimingFilter serverTimingFilter = new ServerTimingFilter(1000,
+		HEADER_TOKEN);
+
+	@DisplayName("요청 처리 시")
+	@Nested
+	class DoFilter {
+
+		@DisplayName("본문을 쓰기 전에 요청에서 사용한 DB, Redis 시간과 횟수를 Server-Timing 헤더로 추가한다")
+		@Test
+		void addHeaderBeforeBodyWritten() throws Exception {
+
+			// Given
+			MockHttpServletRequest request = createTrustedRequest("GET", "/api/couples/me");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			FilterChain filterChain = (req, res) -> {
+				ServerTimingContext.add(ServerTimingContext.DB, TimeUnit.MILLISECONDS.toNanos(3));
+				ServerTimingContext.add(ServerTimingContext.DB, TimeUnit.MILLISECONDS.toNanos(2));
+				ServerTimingContext.add(ServerTimingContext.REDIS,
+					TimeUnit.MILLISECONDS.toNanos(1));
+				res.getOutputStream().write("{}".getBytes());
+				res.flushBuffer();
+			};
+
+			// When
+			serverTimingFilter.doFilter(request, response, filterChain);
+
+			// Then
+			assertThat(response.isCommitted()).isTrue();
+			assertThat(response.getHeader(ServerTimingFilter.HEADER_NAME))
+				.startsWith("db;desc=\"2\";dur=5.00, redis;desc=\"1\";dur=1.00, total;dur=");
+		}
+
+		@DisplayName("본문이 없는 응답에도 Server-Timing 헤더를 추가한다")
+		@Test
+		void addHeaderWithoutBody() throws Exception {
+
+			// Given
+			MockHttpServletRequest request = createTrustedRequest("DELETE", "/api/members/1");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			// When
+			serverTimingFilter.doFilter(request, response, (req, res) -> {
+			});
+
+			// Then
+			assertThat(response.getHeader(ServerTimingFilter.HEADER_NAME)).startsWith("total;dur=");
+		}
+
+		@DisplayName("토큰이 없거나 다른 요청에는 Server-Timing 헤더를 추가하지 않는다")
+		@Test
+		void notAddHeaderWithoutTrustedToken() throws Exception {
+
+			// Given
+			MockHttpServletRequest requestWithoutToken = new MockHttpServletRequest("GET",
+				"/api/couples/me");
+			MockHttpServletRequest requestWithOtherToken = new MockHttpServletRequest("GET",
+				"/api/couples/me");
+			requestWithOtherToken.addHeader(ServerTimingFilter.TOKEN_HEADER_NAME, "other");
+			MockHttpServletResponse responseWithoutToken = new MockHttpServletResponse();
+			MockHttpServletResponse responseWithOtherToken = new MockHttpServletResponse();
+			FilterChain filterChain = (req, res) -> {
+				assertThat(ServerTimingContext.isActive()).isTrue();
+				res.getOutputStream().write("{}".getBytes());
+			};
+
+			// When
+			serverTimingFilter.doFilter(requestWithoutToken, responseWithoutToken, filterChain);
+			serverTimingFilter.doFilter(requestWithOtherToken, responseWithOtherToken,
+				filterChain);
+
+			// Then
+			assertThat(responseWithoutToken.getHeader(ServerTimingFilter.HEADER_NAME)).isNull();
+			assertThat(responseWithOtherToken.getHeader(ServerTimingFilter.HEADER_NAME)).isNull();
+		}
+
+		@DisplayName("설정된 토큰이 비어 있으면 어떤 요청에도 Server-Timing 헤더를 추가하지 않는다")
+		@Test
+		void notAddHeaderWithEmptyToken() throws Exception {
+
+			// Given
+			ServerTimingFilter filterWithoutToken = new ServerTimingFilter(1000, "");
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/couples/me");
+			request.addHeader(ServerTimingFilter.TOKEN_HEADER_NAME, "");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			// When
+			filterWithoutToken.doFilter(request, response, (req, res) -> {
+			});
+
+			// Then
+			assertThat(response.getHeader(ServerTimingFilter.HEADER_NAME)).isNull();
+		}
+
+		@DisplayName("요청 처리 중 예외가 발생해도 요청이 끝나면 컨텍스트를 비운다")
+		@Test
+		void removeContextWhenExceptionThrown() {
+
+			// Given
+			MockHttpServletRequest request = createTrustedRequest("GET", "/api/couples/me");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			FilterChain filterChain = (req, res) -> {
+				assertThat(ServerTimingContext.isActive()).isTrue();
+				throw new IllegalStateException("fail");
+			};
+
+			// When & Then
+			assertThatThrownBy(() -> serverTimingFilter.doFilter(request, response, filterChain))
+				.isInstanceOf(IllegalStateException.class);
+			assertThat(ServerTimingContext.isActive()).isFalse();
+		}
+	}
+
+	@DisplayName("다른 스레드로 작업을 넘길 때")
+	@Nested
+	class Wrap {
+
+		@DisplayName("요청 스레드에서 직접 실행되어도 요청 컨텍스트를 비우지 않는다")
+		@Test
+		void keepContextWhenRunOnCallerThread() {
+
+			// Given
+			ServerTimingContext context = ServerTimingContext.start();
+
+			try {
+				// When
+				ServerTimingContext.wrap(
+					() -> ServerTimingContext.add(ServerTimingContext.DB, 1_000_000)).run();
+
+				// Then
+				assertThat(ServerTimingContext.isActive()).isTrue();
+				assertThat(context.toHeaderValue()).startsWith("db;desc=\"1\";dur=1.00");
+			} finally {
+				ServerTimingContext.remove();
+			}
+		}
+	}
+
+	private MockHttpServletRequest createTrustedRequest(String method, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.addHeader(ServerTimingFilter.TOKEN_HEADER_NAME, HEADER_TOKEN);
+		return request;
+	}
+}
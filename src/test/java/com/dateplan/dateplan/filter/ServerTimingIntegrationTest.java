@@ -0,0 +1,111 @@
+package com.dateplan.dateplan.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dateplan.dateplan.domain.member.controller.dto.request.LoginRequest;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.filter.ServerTimingFilter;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import org.jasypt.util.password.PasswordEncryptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@AutoConfigureMockMvc
+public class ServerTimingIntegrationTest extends ServiceTestSupport {
+
+	private static final String PHONE = "01012345678";
+	private static final String PASSWORD = "password";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper om;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PasswordEncryptor passwordEncryptor;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Value("${server-timing.header-token}")
+	private String headerToken;
+
+	@BeforeEach
+	void setUp() {
+		memberRepository.save(Member.builder()
+			.name("홍길동")
+			.nickname("nickname")
+			.phone(PHONE)
+			.password(passwordEncryptor.encryptPassword(PASSWORD))
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.deleteAllInBatch();
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+
+	@DisplayName("로그인 요청에서 실행한 JDBC 쿼리와 Redis 명령이 Server-Timing 헤더에 담긴다.")
+	@Test
+	void addDbAndRedisTimingToHeader() throws Exception {
+
+		// When
+		MvcResult result = mockMvc.perform(createLoginRequest()
+				.header(ServerTimingFilter.TOKEN_HEADER_NAME, headerToken))
+			.andExpect(status().isOk())
+			.andReturn();
+
+		// Then
+		assertThat(result.getResponse().getHeader(ServerTimingFilter.HEADER_NAME))
+			.containsPattern("db;desc=\"[1-9]\\d*\";dur=")
+			.containsPattern("redis;desc=\"[1-9]\\d*\";dur=")
+			.contains("total;dur=");
+	}
+
+	@DisplayName("토큰 없이 보낸 요청에는 Server-Timing 헤더가 없다.")
+	@Test
+	void notAddHeaderWithoutToken() throws Exception {
+
+		// When
+		MvcResult result = mockMvc.perform(createLoginRequest())
+			.andExpect(status().isOk())
+			.andReturn();
+
+		// Then
+		assertThat(result.getResponse().getHeader(ServerTimingFilter.HEADER_NAME)).isNull();
+	}
+
+	private MockHttpServletRequestBuilder createLoginRequest() throws Exception {
+		LoginRequest request = LoginRequest.builder()
+			.phone(PHONE)
+			.password(PASSWORD)
+			.build();
+
+		return post("/api/auth/login")
+			.content(om.writeValueAsString(request))
+			.contentType(MediaType.APPLICATION_JSON);
+	}
+}
@@ -0,0 +1,307 @@
+package com.dateplan.dateplan.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryReadService;
+import com.dateplan.dateplan.domain.anniversary.service.ComingAnniversaryCache;
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
+import com.dateplan.dateplan.domain.calender.service.CalenderReadService;
+import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
+import com.dateplan.dateplan.domain.dating.service.DatingReadService;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleExclusionRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleJDBCRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleQueryRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.domain.schedule.service.ScheduleCalculator;
+import com.dateplan.dateplan.domain.schedule.service.ScheduleReadService;
+import com.dateplan.dateplan.domain.schedule.service.dto.request.ScheduleServiceRequest;
+import com.dateplan.dateplan.global.auth.JwtProvider;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.global.exception.auth.TokenInvalidException;
+import com.dateplan.dateplan.global.interceptor.AuthInterceptor;
+import com.dateplan.dateplan.global.jfr.AnniversaryExpansionEvent;
+import com.dateplan.dateplan.global.jfr.AuthEvent;
+import com.dateplan.dateplan.global.jfr.CalenderBranchEvent;
+import com.dateplan.dateplan.global.jfr.JdbcUpdateEvent;
+import com.dateplan.dateplan.global.jfr.LazyScheduleExpansionEvent;
+import com.dateplan.dateplan.global.jfr.ScheduleExpansionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JfrEventTest {
+
+	@DisplayName("기념일 회차를 계산하면")
+	@Nested
+	class AnniversaryExpansion {
+
+		@DisplayName("반복 규칙과 계산한 회차 수를 이벤트로 기록한다")
+		@Test
+		void recordRepeatRuleAndOccurrences() throws Exception {
+
+			// Given
+			LocalDate date = LocalDate.of(2020, 3, 10);
+			Anniversary anniversary = Anniversary.builder()
+				.title("기념일")
+				.anniversaryPattern(AnniversaryPattern.builder()
+					.repeatStartDate(date)
+					.repeatEndDate(date.plusYears(2))
+					.repeatRule(AnniversaryRepeatRule.YEAR)
+					.category(AnniversaryCategory.OTHER)
+					.build())
+				.date(date)
+				.build();
+
+			AnniversaryQueryRepository anniversaryQueryRepository = mock(
+				AnniversaryQueryRepository.class);
+			AnniversaryReadService anniversaryReadService = new AnniversaryReadService(
+				anniversaryQueryRepository, mock(ComingAnniversaryCache.class));
+
+			// Stub
+			given(anniversaryQueryRepository.findAllByCoupleIdAndDateRange(1L, null, null))
+				.willReturn(List.of(anniversary));
+
+			// When
+			List<RecordedEvent> events = record(AnniversaryExpansionEvent.class,
+				() -> anniversaryReadService.readAnniversaries(1L, null, null, null, false));
+
+			// Then
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getString("repeatRule")).isEqualTo("YEAR");
+			assertThat(events.get(0).getInt("occurrences")).isEqualTo(3);
+		}
+	}
+
+	@DisplayName("반복 일정을 생성할 때 회차를 펼치면")
+	@Nested
+	class ScheduleExpansion {
+
+		@DisplayName("반복 규칙과 펼친 회차 수를 이벤트로 기록한다")
+		@Test
+		void recordRepeatRuleAndOccurrences() throws Exception {
+
+			// Given
+			LocalDateTime startDateTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+			ScheduleServiceRequest request = ScheduleServiceRequest.builder()
+				.title("title")
+				.startDateTime(startDateTime)
+				.endDateTime(startDateTime.plusHours(1))
+				.repeatRule(RepeatRule.D)
+				.repeatEndTime(LocalDate.of(2024, 1, 3))
+				.build();
+			SchedulePattern schedulePattern = request.toSchedulePatternEntity(null);
+
+			// When
+			List<RecordedEvent> events = record(ScheduleExpansionEvent.class,
+				() -> ScheduleCalculator.getSchedules(request, schedulePattern));
+
+			// Then
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getString("repeatRule")).isEqualTo("D");
+			assertThat(events.get(0).getInt("occurrences")).isEqualTo(3);
+			assertThat(events.get(0).getBoolean("succeeded")).isTrue();
+		}
+	}
+
+	@DisplayName("지연 전개 반복 일정을 조회하면")
+	@Nested
+	class LazyScheduleExpansion {
+
+		@DisplayName("반복 규칙과 조회 구간에서 계산한 회차 수를 이벤트로 기록한다")
+		@Test
+		void recordRepeatRuleAndOccurrences() throws Exception {
+
+			// Given
+			ScheduleQueryRepository scheduleQueryRepository = mock(ScheduleQueryRepository.class);
+			CoupleReadService coupleReadService = mock(CoupleReadService.class);
+			ScheduleReadService scheduleReadService = new ScheduleReadService(
+				scheduleQueryRepository, coupleReadService, mock(ScheduleRepository.class),
+				mock(ScheduleExclusionRepository.class));
+			Member member = mock(Member.class);
+
+			LocalDateTime startDateTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+			Schedule schedule = Schedule.builder()
+				.title("title")
+				.startDateTime(startDateTime)
+				.endDateTime(startDateTime.plusHours(1))
+				.schedulePattern(SchedulePattern.builder()
+					.repeatStartDate(startDateTime.toLocalDate())
+					.repeatEndDate(LocalDate.of(2024, 12, 31))
+					.repeatRule(RepeatRule.W)
+					.lazyExpansion(true)
+					.build())
+				.build();
+
+			// Stub
+			given(member.getId()).willReturn(1L);
+			given(coupleReadService.getPartnerId(member)).willReturn(2L);
+			given(scheduleQueryRepository.findLazyRepeatSchedulesByMemberId(eq(1L), any(),
+				any()))
+				.willReturn(List.of(schedule));
+
+			// When
+			List<RecordedEvent> events = record(LazyScheduleExpansionEvent.class,
+				() -> scheduleReadService.readSchedules(1L, member, 2024, 1, 8));
+
+			// Then
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getString("repeatRule")).isEqualTo("W");
+			assertThat(events.get(0).getInt("occurrences")).isEqualTo(1);
+		}
+	}
+
+	@DisplayName("캘린더 하위 조회가")
+	@Nested
+	class CalenderBranch {
+
+		@DisplayName("실패하면 실패한 조회 이벤트를 기록한다")
+		@Test
+		void recordFailedBranch() throws Exception {
+
+			// Given
+			CoupleReadService coupleReadService = mock(CoupleReadService.class);
+			DatingReadService datingReadService = mock(DatingReadService.class);
+			CalenderReadService calenderReadService = new CalenderReadService(coupleReadService,
+				datingReadService, mock(ScheduleReadService.class),
+				mock(AnniversaryReadService.class), new ConcurrentTaskExecutor(Runnable::run),
+				new SimpleMeterRegistry(),
+				mock(CalenderCacheRepository.class), new ObjectMapper());
+			ReflectionTestUtils.setField(calenderReadService, "timeoutMillis", 1000L);
+			Member member = mock(Member.class);
+
+			// Stub
+			given(member.getId()).willReturn(1L);
+			given(coupleReadService.getCoupleInfo(member)).willReturn(
+				CoupleInfoServiceResponse.builder().coupleId(1L).partnerId(2L).build());
+			given(datingReadService.readDatingDates(any(CoupleInfoServiceResponse.class), eq(2024),
+				eq(1)))
+				.willThrow(new IllegalStateException());
+
+			// When
+			List<RecordedEvent> events = record(CalenderBranchEvent.class,
+				() -> assertThatThrownBy(
+					() -> calenderReadService.readCalenderDates(member, 1L, 2024, 1))
+					.isInstanceOf(IllegalStateException.class));
+
+			// Then
+			assertThat(events)
+				.extracting(event -> event.getString("branch"),
+					event -> event.getBoolean("succeeded"))
+				.containsExactlyInAnyOrder(
+					tuple("dating", false),
+					tuple("mySchedule", true),
+					tuple("partnerSchedule", true),
+					tuple("anniversary", true));
+		}
+	}
+
+	@DisplayName("JDBC 대량 갱신 쿼리가")
+	@Nested
+	class JdbcUpdate {
+
+		@DisplayName("예외로 끝나도 실패한 갱신 이벤트를 기록한다")
+		@Test
+		void recordFailedUpdate() throws Exception {
+
+			// Given
+			JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class, invocation -> {
+				throw new QueryTimeoutException("timeout");
+			});
+			ScheduleJDBCRepository scheduleJDBCRepository = new ScheduleJDBCRepository(
+				jdbcTemplate, new SimpleMeterRegistry());
+
+			// When
+			List<RecordedEvent> events = record(JdbcUpdateEvent.class,
+				() -> assertThatThrownBy(() -> scheduleJDBCRepository.updateAllBySchedulePatternId(
+					1L, "title", "location", "content", 10, 10))
+					.isInstanceOf(QueryTimeoutException.class));
+
+			// Then
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getString("repository")).isEqualTo("schedule");
+			assertThat(events.get(0).getString("operation")).isEqualTo("updateAll");
+			assertThat(events.get(0).getBoolean("succeeded")).isFalse();
+		}
+	}
+
+	@DisplayName("인증 인터셉터에서")
+	@Nested
+	class Auth {
+
+		@DisplayName("토큰 검증에 실패하면 실패한 토큰 검증 이벤트만 기록한다")
+		@Test
+		void recordFailedVerification() throws Exception {
+
+			// Given
+			JwtProvider jwtProvider = mock(JwtProvider.class);
+			AuthInterceptor authInterceptor = new AuthInterceptor(jwtProvider);
+			MockHttpServletRequest request = new MockHttpServletRequest();
+
+			// Stub
+			given(jwtProvider.resolveToken(request)).willReturn(Optional.of("token"));
+			willThrow(new TokenInvalidException()).given(jwtProvider).checkValidation("token");
+
+			// When
+			List<RecordedEvent> events = record(AuthEvent.class,
+				() -> assertThatThrownBy(() -> authInterceptor.preHandle(request,
+					new MockHttpServletResponse(), null))
+					.isInstanceOf(TokenInvalidException.class));
+
+			// Then
+			assertThat(events).hasSize(1);
+			assertThat(events.get(0).getString("phase")).isEqualTo(AuthEvent.VERIFY_TOKEN);
+			assertThat(events.get(0).getBoolean("succeeded")).isFalse();
+		}
+	}
+
+	private List<RecordedEvent> record(Class<? extends Event> eventType, Runnable runnable)
+		throws Exception {
+
+		Path file = Files.createTempFile("dateplan", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(eventType);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
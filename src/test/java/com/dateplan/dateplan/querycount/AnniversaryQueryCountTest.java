@@ -0,0 +1,36 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 기념일 권한 인터셉터의 커플 소속 확인이 쿼리 하나를 더 실행한다.
+public class AnniversaryQueryCountTest extends QueryCountTestSupport {
+
+	@DisplayName("기념일 조회는 회원, 커플 소속, 기념일 조회로 끝난다")
+	@Test
+	void readAnniversaries() throws Exception {
+
+		assertMaxStatements(3, get("/api/couples/{couple_id}/anniversary", couple.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+
+	@DisplayName("기념일 날짜 조회는 회원, 커플 소속, 기념일 조회로 끝난다")
+	@Test
+	void readAnniversaryDates() throws Exception {
+
+		assertMaxStatements(3, get("/api/couples/{couple_id}/anniversary/dates", couple.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+
+	@DisplayName("다가오는 기념일 조회는 회원, 커플 소속, 기념일 조회로 끝난다")
+	@Test
+	void readComingAnniversaries() throws Exception {
+
+		assertMaxStatements(3, get("/api/couples/{couple_id}/anniversary/coming", couple.getId())
+			.param("startDate", DATE.toString()));
+	}
+}
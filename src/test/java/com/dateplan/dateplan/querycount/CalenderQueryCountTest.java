@@ -0,0 +1,32 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CalenderQueryCountTest extends QueryCountTestSupport {
+
+	// 회원, 커플, 데이트 일정, 내/상대방 일정(저장된 일정 + 지연 반복 패턴), 기념일
+	@DisplayName("캘린더 날짜 조회는 캐시가 비어 있어도 분기마다 정해진 쿼리만 실행한다")
+	@Test
+	void readCalenderDates() throws Exception {
+
+		assertMaxStatements(7, get("/api/members/{member_id}/calender/date", member.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+
+	@DisplayName("캐시된 캘린더 날짜를 다시 조회하면 커플 조회 외의 쿼리는 실행하지 않는다")
+	@Test
+	void readCachedCalenderDates() throws Exception {
+
+		assertMaxStatements(7, get("/api/members/{member_id}/calender/date", member.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+
+		assertMaxStatements(1, get("/api/members/{member_id}/calender/date", member.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+}
@@ -0,0 +1,23 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CoupleQueryCountTest extends QueryCountTestSupport {
+
+	@DisplayName("처음 만난 날 조회는 회원, 커플 조회로 끝난다")
+	@Test
+	void getFirstDate() throws Exception {
+
+		assertMaxStatements(2, get("/api/couples/{couple_id}/first-date", couple.getId()));
+	}
+
+	@DisplayName("커플 정보 조회는 회원, 커플 조회로 끝난다")
+	@Test
+	void getCoupleInfo() throws Exception {
+
+		assertMaxStatements(2, get("/api/couples/me"));
+	}
+}
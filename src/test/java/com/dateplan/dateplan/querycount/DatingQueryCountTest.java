@@ -0,0 +1,28 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DatingQueryCountTest extends QueryCountTestSupport {
+
+	@DisplayName("데이트 일정 조회는 회원, 커플, 데이트 일정 조회로 끝난다")
+	@Test
+	void readDating() throws Exception {
+
+		assertMaxStatements(3, get("/api/couples/{couple_id}/dating", couple.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue()))
+			.param("day", String.valueOf(DATE.getDayOfMonth())));
+	}
+
+	@DisplayName("데이트 일정 날짜 조회는 회원, 커플, 데이트 일정 조회로 끝난다")
+	@Test
+	void readDatingDates() throws Exception {
+
+		assertMaxStatements(3, get("/api/couples/{couple_id}/dating/dates", couple.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+}
@@ -0,0 +1,37 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MemberQueryCountTest extends QueryCountTestSupport {
+
+	@DisplayName("로그인 회원 정보 조회는 회원, 연결 여부 조회로 끝난다")
+	@Test
+	void getCurrentLoginMemberInfo() throws Exception {
+
+		assertMaxStatements(2, get("/api/members/me"));
+	}
+
+	@DisplayName("상대방 정보 조회는 회원, 커플, 상대방 조회로 끝난다")
+	@Test
+	void getPartnerMemberInfo() throws Exception {
+
+		assertMaxStatements(3, get("/api/members/partner"));
+	}
+
+	@DisplayName("상대방 프로필 이미지 조회는 회원, 커플, 상대방 조회로 끝난다")
+	@Test
+	void getProfileImageURL() throws Exception {
+
+		assertMaxStatements(3, get("/api/members/{member_id}/profile/image", partner.getId()));
+	}
+
+	@DisplayName("연결 코드 조회는 회원 조회 외에는 Redis 만 사용한다")
+	@Test
+	void getConnectionCode() throws Exception {
+
+		assertMaxStatements(1, get("/api/members/{member_id}/connect", member.getId()));
+	}
+}
@@ -0,0 +1,183 @@
+package com.dateplan.dateplan.querycount;
+
+import static com.dateplan.dateplan.global.constant.Auth.ACCESS_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.BEARER;
+import static com.dateplan.dateplan.global.constant.Auth.HEADER_AUTHORIZATION;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_ACCESS_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dateplan.dateplan.config.StatementCountConfig;
+import com.dateplan.dateplan.config.StatementCounter;
+import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.repository.MemberCoupleRepository;
+import com.dateplan.dateplan.domain.dating.entity.Dating;
+import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.global.auth.JwtProvider;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * 실제 서비스와 DB 로 엔드포인트를 호출하고, 요청 하나가 실행한 쿼리 수가 선언한 최대값을 넘지 않는지 검증한다.
+ * 인증 캐시가 비어 있는 첫 요청 기준이므로 최대값에는 인증 인터셉터의 회원 조회가 포함된다.
+ */
+@AutoConfigureMockMvc
+@Import(StatementCountConfig.class)
+public abstract class QueryCountTestSupport extends ServiceTestSupport {
+
+	protected static final LocalDate DATE = LocalDate.of(2024, 3, 10);
+
+	@Autowired
+	protected MockMvc mockMvc;
+
+	@Autowired
+	private StatementCounter statementCounter;
+
+	@Autowired
+	private JwtProvider jwtProvider;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CoupleRepository coupleRepository;
+
+	@Autowired
+	private MemberCoupleRepository memberCoupleRepository;
+
+	@Autowired
+	private DatingRepository datingRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private SchedulePatternRepository schedulePatternRepository;
+
+	@Autowired
+	private AnniversaryRepository anniversaryRepository;
+
+	@Autowired
+	private AnniversaryPatternRepository anniversaryPatternRepository;
+
+	protected Member member;
+	protected Member partner;
+	protected Couple couple;
+
+	private String accessToken;
+
+	// 연관 엔티티를 읽는 N+1 이 드러나도록 조회 대상마다 데이터를 하나 이상 만든다.
+	@BeforeEach
+	void setUpFixture() {
+		member = memberRepository.save(createMember("01011112222", "aaa"));
+		partner = memberRepository.save(createMember("01011113333", "bbb"));
+		couple = coupleRepository.save(Couple.builder()
+			.member1(member)
+			.member2(partner)
+			.firstDate(DATE)
+			.build());
+
+		datingRepository.save(Dating.builder()
+			.title("dating")
+			.startDateTime(DATE.atTime(10, 0))
+			.endDateTime(DATE.atTime(12, 0))
+			.couple(couple)
+			.build());
+		saveSchedule(member);
+		saveSchedule(partner);
+		anniversaryRepository.save(Anniversary.builder()
+			.title("기념일")
+			.anniversaryPattern(AnniversaryPattern.builder()
+				.couple(couple)
+				.repeatStartDate(DATE)
+				.repeatEndDate(DATE)
+				.repeatRule(AnniversaryRepeatRule.NONE)
+				.category(AnniversaryCategory.OTHER)
+				.build())
+			.date(DATE)
+			.build());
+
+		accessToken = jwtProvider.generateToken(member.getId(),
+			ACCESS_TOKEN_EXPIRATION.getExpiration(), SUBJECT_ACCESS_TOKEN.getContent());
+	}
+
+	@AfterEach
+	void tearDownFixture() {
+		datingRepository.deleteAllInBatch();
+		anniversaryRepository.deleteAllInBatch();
+		anniversaryPatternRepository.deleteAllInBatch();
+		scheduleRepository.deleteAllInBatch();
+		schedulePatternRepository.deleteAllInBatch();
+		memberCoupleRepository.deleteAllInBatch();
+		coupleRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	// 요청이 성공했는지와 실행한 쿼리 수를 함께 검증하고, 초과하면 실행된 쿼리를 모두 보여준다.
+	protected void assertMaxStatements(int maxStatements, MockHttpServletRequestBuilder request)
+		throws Exception {
+
+		statementCounter.reset();
+
+		mockMvc.perform(request.header(HEADER_AUTHORIZATION.getContent(),
+				BEARER.getContent() + accessToken))
+			.andExpect(status().is2xxSuccessful());
+
+		assertThat(statementCounter.count())
+			.withFailMessage(() -> String.format("최대 %d 개의 쿼리를 예상했지만 %d 개가 실행되었습니다.%n%s",
+				maxStatements, statementCounter.count(),
+				String.join(System.lineSeparator(), statementCounter.getStatements())))
+			.isLessThanOrEqualTo(maxStatements);
+	}
+
+	private void saveSchedule(Member owner) {
+		SchedulePattern schedulePattern = schedulePatternRepository.save(SchedulePattern.builder()
+			.member(owner)
+			.repeatStartDate(DATE)
+			.repeatEndDate(DATE)
+			.repeatRule(RepeatRule.N)
+			.build());
+
+		LocalDateTime startDateTime = DATE.atTime(9, 0);
+		scheduleRepository.save(Schedule.builder()
+			.title("schedule")
+			.startDateTime(startDateTime)
+			.endDateTime(startDateTime.plusHours(1))
+			.schedulePattern(schedulePattern)
+			.build());
+	}
+
+	private Member createMember(String phone, String nickname) {
+		return Member.builder()
+			.name("홍길동")
+			.nickname(nickname)
+			.phone(phone)
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build();
+	}
+}
@@ -0,0 +1,28 @@
+package com.dateplan.dateplan.querycount;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ScheduleQueryCountTest extends QueryCountTestSupport {
+
+	@DisplayName("일정 조회는 회원, 커플, 저장된 일정, 지연 반복 패턴 조회로 끝난다")
+	@Test
+	void readSchedules() throws Exception {
+
+		assertMaxStatements(4, get("/api/members/{member_id}/schedules", partner.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue()))
+			.param("day", String.valueOf(DATE.getDayOfMonth())));
+	}
+
+	@DisplayName("일정 날짜 조회는 회원, 커플, 저장된 일정, 지연 반복 패턴 조회로 끝난다")
+	@Test
+	void readScheduleDates() throws Exception {
+
+		assertMaxStatements(4, get("/api/members/{member_id}/schedules/dates", member.getId())
+			.param("year", String.valueOf(DATE.getYear()))
+			.param("month", String.valueOf(DATE.getMonthValue())));
+	}
+}
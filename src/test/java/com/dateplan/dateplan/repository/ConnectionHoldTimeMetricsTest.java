@@ -0,0 +1,99 @@
+package com.dateplan.dateplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.member.service.MemberService;
+import com.dateplan.dateplan.domain.member.service.dto.request.UpdatePasswordServiceRequest;
+import com.dateplan.dateplan.domain.s3.S3ImageType;
+import com.dateplan.dateplan.global.config.db.ConnectionHoldTimeListener;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ConnectionHoldTimeMetricsTest extends ServiceTestSupport {
+
+	private static final String MEMBER_SERVICE = MemberService.class.getName();
+	private static final long S3_DELAY_MILLIS = 300;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry.clear();
+		member = memberRepository.save(Member.builder()
+			.name("홍길동")
+			.nickname("nickname")
+			.phone("01012345678")
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("트랜잭션 안에서 사용한 커넥션의 점유 시간은 서비스 메서드 이름으로 기록된다.")
+	@Test
+	void recordHoldTimeByServiceMethod() {
+
+		// When
+		memberService.updatePassword(member, member.getId(),
+			UpdatePasswordServiceRequest.builder().password("newPassword").build());
+
+		// Then
+		Timer timer = meterRegistry.find(ConnectionHoldTimeListener.METRIC_NAME)
+			.tag("method", MEMBER_SERVICE + ".updatePassword")
+			.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@DisplayName("프로필 이미지 삭제 시 S3 응답을 기다리는 동안에는 커넥션을 점유하지 않는다.")
+	@Test
+	void notHoldConnectionWhileDeletingS3Object() {
+
+		// Stub
+		willAnswer(invocation -> {
+			Thread.sleep(S3_DELAY_MILLIS);
+			return null;
+		}).given(s3Client).deleteObject(any(S3ImageType.class), anyString());
+
+		// When
+		memberService.deleteProfileImage(member, member.getId());
+
+		// Then
+		assertThat(meterRegistry.find(ConnectionHoldTimeListener.METRIC_NAME)
+			.tag("method", MEMBER_SERVICE + ".deleteProfileImage")
+			.timer()).isNull();
+		assertThat(meterRegistry.find(ConnectionHoldTimeListener.METRIC_NAME).timers())
+			.isNotEmpty()
+			.allSatisfy(timer ->
+				assertThat(timer.max(TimeUnit.MILLISECONDS)).isLessThan(S3_DELAY_MILLIS));
+	}
+}
@@ -0,0 +1,80 @@
+package com.dateplan.dateplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.config.StatementCountConfig;
+import com.dateplan.dateplan.config.StatementCounter;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(StatementCountConfig.class)
+public class CoupleBootstrapRoundTripTest extends CoupleStatisticsTestSupport {
+
+	// 패턴, 기념일 배치 insert 2회와 id 채번 테이블 조회/갱신을 포함한 SQL 실행 횟수 상한
+	private static final int MAX_STATEMENT_COUNT = 10;
+
+	// 처음 만난 날 패턴 3개와 생일 패턴 2개, 패턴마다 첫 회차 기념일 1건
+	private static final int SAVED_COUNT = 10;
+
+	@Autowired
+	private StatementCounter statementCounter;
+
+	@Autowired
+	private AnniversaryService anniversaryService;
+
+	@Autowired
+	private AnniversaryPatternRepository anniversaryPatternRepository;
+
+	@Autowired
+	private AnniversaryRepository anniversaryRepository;
+
+	@AfterEach
+	void tearDown() {
+		anniversaryRepository.deleteAllInBatch();
+		anniversaryPatternRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("커플 연결 시 기념일을 생성할 때, 패턴과 첫 회차 기념일이 한 트랜잭션에서 묶어서 저장된다.")
+	@Test
+	void batchInsertWithCoupleBootstrap() {
+
+		// Given
+		Couple couple = coupleRepository.save(Couple.builder()
+			.member1(member1)
+			.member2(member2)
+			.firstDate(LocalDate.of(2020, 1, 1))
+			.build());
+		startStatistics();
+		statementCounter.reset();
+
+		// When
+		anniversaryService.createAnniversariesForConnectedCouple(couple);
+
+		// Then
+		List<String> statements = statementCounter.getStatements();
+		long statementCount = statistics.getPrepareStatementCount();
+		long insertCount = statistics.getEntityInsertCount();
+		long savedCount = anniversaryPatternRepository.count() + anniversaryRepository.count();
+
+		assertThat(savedCount).isEqualTo(SAVED_COUNT);
+		assertThat(insertCount).isEqualTo(savedCount);
+		assertThat(statementCount).isLessThanOrEqualTo(MAX_STATEMENT_COUNT);
+
+		// 테이블마다 executeBatch 한 번으로 저장된다.
+		assertThat(statements)
+			.filteredOn(sql -> sql.startsWith("insert into anniversary_pattern "))
+			.hasSize(1);
+		assertThat(statements)
+			.filteredOn(sql -> sql.startsWith("insert into anniversary "))
+			.hasSize(1);
+	}
+}
@@ -0,0 +1,80 @@
+package com.dateplan.dateplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.dating.service.DatingReadService;
+import com.dateplan.dateplan.global.auth.CoupleContext;
+import com.dateplan.dateplan.global.auth.MemberThreadLocal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class CoupleContextQueryCountTest extends CoupleStatisticsTestSupport {
+
+	@Autowired
+	private CoupleReadService coupleReadService;
+
+	@Autowired
+	private DatingReadService datingReadService;
+
+	private Couple couple;
+
+	@BeforeEach
+	void setUp() {
+		couple = coupleRepository.save(Couple.builder()
+			.member1(member1)
+			.member2(member2)
+			.firstDate(LocalDate.of(2020, 1, 1))
+			.build());
+
+		startStatistics();
+	}
+
+	@AfterEach
+	void tearDown() {
+		MemberThreadLocal.remove();
+		CoupleContext.remove();
+	}
+
+	@DisplayName("로그인 회원의 요청 안에서는 여러 서비스가 커플 정보를 사용해도 커플은 한 번만 조회된다.")
+	@Test
+	void loadCoupleOnceWithinRequest() {
+
+		// Given
+		MemberThreadLocal.set(member1);
+
+		// When
+		handleRequest();
+
+		// Then
+		assertThat(getCoupleLoadCount()).isEqualTo(1);
+	}
+
+	@DisplayName("로그인 회원의 요청이 아니라면 커플 정보를 보관하지 않고 사용할 때마다 조회한다.")
+	@Test
+	void loadCoupleEveryTimeWithoutRequest() {
+
+		// When
+		handleRequest();
+
+		// Then
+		assertThat(getCoupleLoadCount()).isEqualTo(3);
+	}
+
+	private void handleRequest() {
+		Long coupleId = couple.getId();
+
+		datingReadService.readDating(member1, coupleId, 2024, 3, 1);
+		datingReadService.readDatingDates(member1, coupleId, 2024, 3);
+		coupleReadService.getPartnerId(member1);
+	}
+
+	private long getCoupleLoadCount() {
+		return statistics.getEntityStatistics(Couple.class.getName()).getLoadCount();
+	}
+}
@@ -0,0 +1,67 @@
+package com.dateplan.dateplan.repository;
+
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 커플로 연결할 회원 두 명을 저장해 두고, Hibernate 통계로 실행한 SQL 과 엔티티 로딩 수를 검증한다.
+ * 하위 클래스의 정리가 먼저 실행된 뒤 커플과 회원을 지운다.
+ */
+public abstract class CoupleStatisticsTestSupport extends ServiceTestSupport {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	protected MemberRepository memberRepository;
+
+	@Autowired
+	protected CoupleRepository coupleRepository;
+
+	protected Statistics statistics;
+	protected Member member1;
+	protected Member member2;
+
+	@BeforeEach
+	void setUpMembers() {
+		member1 = memberRepository.save(createMember(1));
+		member2 = memberRepository.save(createMember(2));
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void tearDownMembers() {
+		statistics.setStatisticsEnabled(false);
+
+		coupleRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	// 검증할 동작 직전에 호출해 준비 과정의 통계를 비운다.
+	protected void startStatistics() {
+		statistics.clear();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	private Member createMember(int index) {
+		return Member.builder()
+			.name("홍길동")
+			.nickname("nickname" + index)
+			.phone(String.format("010%08d", index))
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build();
+	}
+}
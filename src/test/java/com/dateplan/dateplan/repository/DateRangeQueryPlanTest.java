@@ -0,0 +1,259 @@
+package com.dateplan.dateplan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.config.StatementCountConfig;
+import com.dateplan.dateplan.config.StatementCounter;
+import com.dateplan.dateplan.config.StatementCounter.ExecutedStatement;
+import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
+import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.dating.entity.Dating;
+import com.dateplan.dateplan.domain.dating.repository.DatingQueryRepository;
+import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleQueryRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Import(StatementCountConfig.class)
+public class DateRangeQueryPlanTest extends ServiceTestSupport {
+
+	private static final int COUPLE_COUNT = 15;
+	private static final int ROW_COUNT_PER_OWNER = 36;
+	private static final LocalDate BASE_DATE = LocalDate.of(2023, 1, 15);
+	private static final Set<String> SCHEDULE_DATE_INDEXES = Set.of(
+		"idx_schedule_pattern_start_end", "idx_schedule_pattern_month");
+	private static final Set<String> DATING_DATE_INDEXES = Set.of(
+		"idx_dating_couple_start_end", "idx_dating_couple_month");
+	private static final Set<String> ANNIVERSARY_DATE_INDEXES = Set.of(
+		"idx_anniversary_pattern_date");
+
+	@Autowired
+	private StatementCounter statementCounter;
+
+	@Autowired
+	private ScheduleQueryRepository scheduleQueryRepository;
+
+	@Autowired
+	private DatingQueryRepository datingQueryRepository;
+
+	@Autowired
+	private AnniversaryQueryRepository anniversaryQueryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CoupleRepository coupleRepository;
+
+	@Autowired
+	private SchedulePatternRepository schedulePatternRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private DatingRepository datingRepository;
+
+	@Autowired
+	private AnniversaryPatternRepository anniversaryPatternRepository;
+
+	@Autowired
+	private AnniversaryRepository anniversaryRepository;
+
+	private Member member;
+	private Couple couple;
+
+	@BeforeEach
+	void setUp() {
+		List<Dating> datings = new ArrayList<>();
+		List<AnniversaryPattern> anniversaryPatterns = new ArrayList<>();
+		List<Anniversary> anniversaries = new ArrayList<>();
+
+		for (int i = 0; i < COUPLE_COUNT; i++) {
+			Member member1 = memberRepository.save(createMember(i * 2));
+			Member member2 = memberRepository.save(createMember(i * 2 + 1));
+			Couple savedCouple = coupleRepository.save(Couple.builder()
+				.member1(member1)
+				.member2(member2)
+				.firstDate(BASE_DATE)
+				.build());
+
+			for (Member owner : List.of(member1, member2)) {
+				SchedulePattern schedulePattern = schedulePatternRepository.save(
+					SchedulePattern.builder()
+						.repeatStartDate(BASE_DATE)
+						.repeatEndDate(BASE_DATE.plusMonths(ROW_COUNT_PER_OWNER))
+						.repeatRule(RepeatRule.M)
+						.member(owner)
+						.build());
+				scheduleRepository.saveAll(IntStream.range(0, ROW_COUNT_PER_OWNER)
+					.mapToObj(count -> createSchedule(schedulePattern, count))
+					.toList());
+			}
+
+			// 반복 기념일은 패턴마다 첫 회차 1건만 저장된다.
+			IntStream.range(0, ROW_COUNT_PER_OWNER)
+				.forEach(count -> {
+					LocalDate date = BASE_DATE.plusMonths(count);
+					AnniversaryPattern anniversaryPattern = AnniversaryPattern.ofBirthDay(
+						savedCouple, date);
+					anniversaryPatterns.add(anniversaryPattern);
+					datings.add(createDating(savedCouple, count));
+					anniversaries.add(Anniversary.ofBirthDay(anniversaryPattern, date, "홍길동"));
+				});
+
+			member = member1;
+			couple = savedCouple;
+		}
+
+		datingRepository.saveAll(datings);
+		anniversaryPatternRepository.saveAll(anniversaryPatterns);
+		anniversaryRepository.saveAll(anniversaries);
+
+		jdbcTemplate.execute(
+			"ANALYZE TABLE schedule, schedule_pattern, dating, anniversary, anniversary_pattern");
+	}
+
+	@AfterEach
+	void tearDown() {
+		anniversaryRepository.deleteAllInBatch();
+		anniversaryPatternRepository.deleteAllInBatch();
+		datingRepository.deleteAllInBatch();
+		scheduleRepository.deleteAllInBatch();
+		schedulePatternRepository.deleteAllInBatch();
+		coupleRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("연/월로 일정을 조회하는 쿼리는 일정 날짜 인덱스를 사용한다.")
+	@Test
+	void scheduleYearMonthQuery() {
+
+		assertDateIndexUsed(SCHEDULE_DATE_INDEXES, () ->
+			scheduleQueryRepository.findByYearAndMonthOrderByDate(member.getId(), 2024, 3));
+	}
+
+	@DisplayName("연도 없이 월로 일정을 조회하는 쿼리는 일정 날짜 인덱스를 사용한다.")
+	@Test
+	void scheduleMonthQuery() {
+
+		assertDateIndexUsed(SCHEDULE_DATE_INDEXES, () ->
+			scheduleQueryRepository.findByYearAndMonthOrderByDate(member.getId(), null, 3));
+	}
+
+	@DisplayName("하루의 일정을 조회하는 쿼리는 일정 날짜 인덱스를 사용한다.")
+	@Test
+	void scheduleDayQuery() {
+
+		assertDateIndexUsed(SCHEDULE_DATE_INDEXES, () ->
+			scheduleQueryRepository.findByDateBetween(member.getId(), 2024, 3, 15));
+	}
+
+	@DisplayName("연/월로 데이트를 조회하는 쿼리는 데이트 날짜 인덱스를 사용한다.")
+	@Test
+	void datingYearMonthQuery() {
+
+		assertDateIndexUsed(DATING_DATE_INDEXES, () ->
+			datingQueryRepository.findByYearAndMonthOrderByDate(couple.getId(), 2024, 3));
+	}
+
+	@DisplayName("연도 없이 월로 데이트를 조회하는 쿼리는 데이트 날짜 인덱스를 사용한다.")
+	@Test
+	void datingMonthQuery() {
+
+		assertDateIndexUsed(DATING_DATE_INDEXES, () ->
+			datingQueryRepository.findByYearAndMonthOrderByDate(couple.getId(), null, 3));
+	}
+
+	@DisplayName("날짜 구간으로 기념일을 조회하는 쿼리는 기념일 날짜 인덱스를 사용한다.")
+	@Test
+	void anniversaryDateRangeQuery() {
+
+		assertDateIndexUsed(ANNIVERSARY_DATE_INDEXES, () ->
+			anniversaryQueryRepository.findAllByCoupleIdAndDateRange(couple.getId(),
+				LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)));
+	}
+
+	// QueryDSL 이 만든 SQL 과 바인딩 값을 그대로 EXPLAIN 해, 전체 스캔이 없고 기대한 인덱스를 쓰는지 확인한다.
+	private void assertDateIndexUsed(Set<String> expectedIndexes, Runnable query) {
+
+		// When
+		statementCounter.reset();
+		query.run();
+
+		List<ExecutedStatement> selects = statementCounter.getExecutedStatements().stream()
+			.filter(statement -> statement.sql().startsWith("select "))
+			.toList();
+		assertThat(selects).hasSize(1);
+		ExecutedStatement select = selects.get(0);
+
+		List<Map<String, Object>> plans = jdbcTemplate.queryForList("EXPLAIN " + select.sql(),
+			select.parameters().toArray());
+
+		// Then
+		assertThat(plans)
+			.as("%s%n%s", select.sql(), plans)
+			.noneMatch(plan -> "ALL".equals(plan.get("type")))
+			.anyMatch(plan -> expectedIndexes.contains(String.valueOf(plan.get("key"))));
+	}
+
+	private Schedule createSchedule(SchedulePattern schedulePattern, int count) {
+		LocalDateTime startDateTime = BASE_DATE.plusMonths(count).atTime(10, 0);
+		return Schedule.builder()
+			.title("title")
+			.startDateTime(startDateTime)
+			.endDateTime(startDateTime.plusHours(2))
+			.schedulePattern(schedulePattern)
+			.build();
+	}
+
+	private Dating createDating(Couple couple, int count) {
+		LocalDateTime startDateTime = BASE_DATE.plusMonths(count).atTime(18, 0);
+		return Dating.builder()
+			.title("title")
+			.startDateTime(startDateTime)
+			.endDateTime(startDateTime.plusHours(3))
+			.couple(couple)
+			.build();
+	}
+
+	private Member createMember(int index) {
+		return Member.builder()
+			.name("홍길동")
+			.nickname("nickname" + index)
+			.phone(String.format("010%08d", index))
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build();
+	}
+}
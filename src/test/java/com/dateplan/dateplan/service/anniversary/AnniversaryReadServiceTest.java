@@ -2,7 +2,9 @@ package com.dateplan.dateplan.service.anniversary;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 
 import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
@@ -12,6 +14,9 @@ import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
 import com.dateplan.dateplan.domain.anniversary.service.AnniversaryReadService;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
+import com.dateplan.dateplan.domain.anniversary.service.ComingAnniversaryCache;
+import com.dateplan.dateplan.domain.anniversary.service.dto.request.AnniversaryCreateServiceRequest;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryDatesServiceResponse;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryListServiceResponse;
 import com.dateplan.dateplan.domain.anniversary.service.dto.response.AnniversaryServiceResponse;
@@ -37,12 +42,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 public class AnniversaryReadServiceTest extends ServiceTestSupport {
 
 	@Autowired
 	private AnniversaryReadService anniversaryReadService;
 
+	@Autowired
+	private AnniversaryService anniversaryService;
+
 	@MockBean
 	private CoupleReadService coupleReadService;
 
@@ -58,6 +67,9 @@ public class AnniversaryReadServiceTest extends ServiceTestSupport {
 	@Autowired
 	private AnniversaryPatternRepository anniversaryPatternRepository;
 
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
 	@Nested
 	@DisplayName("기념일 날짜 조회시")
 	class ReadAnniversaryDates {
@@ -301,10 +313,8 @@ public class AnniversaryReadServiceTest extends ServiceTestSupport {
 		@AfterEach
 		void tearDown(TestInfo testInfo) {
 
-			if (testInfo.getTags().contains(NEED_ANNIVERSARIES)) {
-				anniversaryRepository.deleteAllInBatch();
-				anniversaryPatternRepository.deleteAllInBatch();
-			}
+			anniversaryRepository.deleteAllInBatch();
+			anniversaryPatternRepository.deleteAllInBatch();
 			coupleRepository.deleteAllInBatch();
 			memberRepository.deleteAllInBatch();
 		}
@@ -341,6 +351,112 @@ public class AnniversaryReadServiceTest extends ServiceTestSupport {
 				.usingRecursiveFieldByFieldElementComparator()
 				.containsExactlyElementsOf(expectedServiceResponseList);
 		}
+
+		@DisplayName("처음 만난 날 반복 기념일은 첫 회차만 저장되어 있어도, 이후 회차를 계산된 제목과 함께 시간 순으로 반환한다.")
+		@Test
+		void withFirstDateRepeatedAnniversaries() {
+
+			// given
+			LocalDate firstDate = couple.getFirstDate();
+
+			AnniversaryPattern yearRepeatedPattern = AnniversaryPattern.ofFirstDate(couple,
+				firstDate, AnniversaryRepeatRule.YEAR);
+			AnniversaryPattern hundredDaysRepeatedPattern = AnniversaryPattern.ofFirstDate(couple,
+				firstDate, AnniversaryRepeatRule.HUNDRED_DAYS);
+			anniversaryRepository.saveAll(List.of(
+				Anniversary.ofFirstDate(yearRepeatedPattern, firstDate, 1),
+				Anniversary.ofFirstDate(hundredDaysRepeatedPattern, firstDate.minusDays(1), 100)));
+
+			LocalDate startDate = LocalDate.of(2023, 1, 1);
+
+			// when
+			ComingAnniversaryListServiceResponse serviceResponse = anniversaryReadService.readComingAnniversaries(
+				couple.getId(), startDate, 4);
+
+			// then
+			assertThat(serviceResponse.getAnniversaries())
+				.extracting(ComingAnniversaryServiceResponse::getTitle,
+					ComingAnniversaryServiceResponse::getDate)
+				.containsExactly(
+					tuple("만난지 900일", LocalDate.of(2023, 3, 28)),
+					tuple("만난지 1000일", LocalDate.of(2023, 7, 6)),
+					tuple("만난지 3주년", LocalDate.of(2023, 10, 10)),
+					tuple("만난지 1100일", LocalDate.of(2023, 10, 14)));
+		}
+
+		@DisplayName("한 번 조회한 커플의 기념일은 메모리에서 반환하고, 기념일이 생성되면 다시 적재한다.")
+		@Test
+		void withCachedAnniversariesAndCreatedAnniversary() {
+
+			// given
+			Long coupleId = couple.getId();
+			LocalDate startDate = LocalDate.of(2030, 1, 1);
+			AnniversaryPattern anniversaryPattern = createAnniversaryPattern(couple, startDate);
+			anniversaryRepository.save(createAnniversary("title1", startDate, anniversaryPattern));
+
+			anniversaryReadService.readComingAnniversaries(coupleId, startDate, 3);
+
+			// stub
+			given(coupleReadService.findCoupleByIdOrElseThrow(anyLong()))
+				.willReturn(couple);
+
+			// when
+			AnniversaryPattern notCachedPattern = createAnniversaryPattern(couple,
+				startDate.plusDays(1));
+			anniversaryRepository.save(
+				createAnniversary("title2", startDate.plusDays(1), notCachedPattern));
+			List<ComingAnniversaryServiceResponse> cachedResponseList = anniversaryReadService
+				.readComingAnniversaries(coupleId, startDate, 3).getAnniversaries();
+
+			anniversaryService.createAnniversaries(coupleId, AnniversaryCreateServiceRequest.builder()
+				.title("title3")
+				.date(startDate.plusDays(2))
+				.repeatRule(AnniversaryRepeatRule.NONE)
+				.build());
+			List<ComingAnniversaryServiceResponse> reloadedResponseList = anniversaryReadService
+				.readComingAnniversaries(coupleId, startDate, 3).getAnniversaries();
+
+			// then
+			assertThat(cachedResponseList)
+				.extracting(ComingAnniversaryServiceResponse::getTitle)
+				.containsExactly("title1");
+			assertThat(reloadedResponseList)
+				.extracting(ComingAnniversaryServiceResponse::getTitle)
+				.containsExactly("title1", "title2", "title3");
+		}
+
+		@DisplayName("다른 인스턴스가 보낸 기념일 삭제 알림을 받으면, 캐시된 기념일을 다시 적재한다.")
+		@Test
+		void withEvictionFromOtherInstance() throws InterruptedException {
+
+			// given
+			Long coupleId = couple.getId();
+			LocalDate startDate = LocalDate.of(2030, 1, 1);
+			AnniversaryPattern anniversaryPattern = createAnniversaryPattern(couple, startDate);
+			anniversaryRepository.save(createAnniversary("title1", startDate, anniversaryPattern));
+
+			anniversaryReadService.readComingAnniversaries(coupleId, startDate, 3);
+
+			AnniversaryPattern notCachedPattern = createAnniversaryPattern(couple,
+				startDate.plusDays(1));
+			anniversaryRepository.save(
+				createAnniversary("title2", startDate.plusDays(1), notCachedPattern));
+
+			// when
+			redisTemplate.convertAndSend(ComingAnniversaryCache.EVICT_CHANNEL,
+				String.valueOf(coupleId));
+
+			// then
+			int reloadedSize = 1;
+			for (int i = 0; i < 50 && reloadedSize == 1; i++) {
+				reloadedSize = anniversaryReadService.readComingAnniversaries(coupleId, startDate, 3)
+					.getAnniversaries().size();
+				if (reloadedSize == 1) {
+					Thread.sleep(100);
+				}
+			}
+			assertThat(reloadedSize).isEqualTo(2);
+		}
 	}
 
 	@Nested
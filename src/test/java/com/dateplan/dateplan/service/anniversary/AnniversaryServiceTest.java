@@ -8,14 +8,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.then;
 
 import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
-import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryJDBCRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryQueryRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
 import com.dateplan.dateplan.domain.anniversary.service.AnniversaryReadService;
 import com.dateplan.dateplan.domain.anniversary.service.AnniversaryService;
@@ -26,15 +25,12 @@ import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
-import com.dateplan.dateplan.domain.member.service.MemberReadService;
 import com.dateplan.dateplan.global.constant.DateConstants;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.anniversary.AnniversaryNotFoundException;
-import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
-import com.dateplan.dateplan.global.exception.couple.MemberNotConnectedException;
 import com.dateplan.dateplan.service.ServiceTestSupport;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -72,11 +68,11 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 	@SpyBean
 	private AnniversaryRepository anniversaryRepository;
 
-	@SpyBean
-	private AnniversaryPatternRepository anniversaryPatternRepository;
+	@Autowired
+	private AnniversaryQueryRepository anniversaryQueryRepository;
 
 	@SpyBean
-	private AnniversaryJDBCRepository anniversaryJDBCRepository;
+	private AnniversaryPatternRepository anniversaryPatternRepository;
 
 	@MockBean
 	private AnniversaryReadService anniversaryReadService;
@@ -84,21 +80,18 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 	@MockBean
 	private CoupleReadService coupleReadService;
 
-	@MockBean
-	private MemberReadService memberReadService;
-
 	@Nested
-	@DisplayName("생일 기념일을 생성시")
-	class CreateAnniversaryForBirthDay {
+	@DisplayName("커플 연결 시 기념일을 생성하면")
+	class CreateAnniversariesForConnectedCouple {
 
-		private Member connectedMember1;
 		private Couple couple;
 
 		@BeforeEach
 		void setUp() {
-			connectedMember1 = createMember("01011112222", "nickname1", LocalDate.of(2000, 1, 1));
-			Member connectedMember2 = createMember("01022223333", "nickname2",
+			Member connectedMember1 = createMember("01011112222", "nickname1",
 				LocalDate.of(2000, 1, 1));
+			Member connectedMember2 = createMember("01022223333", "nickname2",
+				LocalDate.of(2001, 3, 15));
 			memberRepository.save(connectedMember1);
 			memberRepository.save(connectedMember2);
 
@@ -115,161 +108,80 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 			memberRepository.deleteAllInBatch();
 		}
 
-		@DisplayName("대상 회원의 생일을 기점으로 기념일 패턴이 생성되고, 1년 단위로 2050년 이전까지 기념일이 생성된다.")
+		@DisplayName("두 회원의 생일을 기점으로 1년 주기 기념일 패턴이 각각 생성되고, 2050년 이전까지 기념일이 생성된다.")
 		@Test
-		void withConnectedMember() {
-
-			// Given
-			LocalDate birthDay = connectedMember1.getBirthDay();
-
-			// Stub
-			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
-				.willReturn(connectedMember1);
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
-				.willReturn(couple);
+		void withBirthDays() {
 
-			// When
-			anniversaryService.createAnniversariesForBirthDay(connectedMember1.getId());
+			// when
+			anniversaryService.createAnniversariesForConnectedCouple(couple);
 
-			// Then
-			AnniversaryPattern anniversaryPattern = anniversaryPatternRepository.findAll().get(0);
+			// then
+			List<AnniversaryPattern> birthDayPatterns = anniversaryPatternRepository.findAll()
+				.stream()
+				.filter(anniversaryPattern -> Objects.equals(anniversaryPattern.getCategory(),
+					AnniversaryCategory.BIRTH))
+				.toList();
 
-			assertThat(anniversaryPattern)
+			assertThat(birthDayPatterns)
 				.extracting(
 					AnniversaryPattern::getRepeatStartDate,
 					AnniversaryPattern::getRepeatEndDate,
-					AnniversaryPattern::getRepeatRule,
-					AnniversaryPattern::getCategory)
-				.containsExactly(
-					birthDay,
-					CALENDER_END_DATE,
-					AnniversaryRepeatRule.YEAR,
-					AnniversaryCategory.BIRTH);
-
-			List<Anniversary> anniversaries = anniversaryRepository.findAll()
-				.stream()
-				.sorted((anniversary1, anniversary2) ->
-					anniversary1.getDate().isAfter(anniversary2.getDate()) ? 1 : 0)
-				.toList();
-
-			LocalDate expectedDate = birthDay;
-
-			for (Anniversary actual : anniversaries) {
-
-				assertThat(actual.getTitle())
-					.contains(connectedMember1.getName(), "생일");
-				assertThat(actual.getContent())
-					.isNull();
-				assertThat(actual.getDate())
-					.isEqualTo(expectedDate)
-					.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE);
-				assertThat(actual.getAnniversaryPattern().getId())
-					.isEqualTo(anniversaryPattern.getId());
-
-				expectedDate = expectedDate.plusYears(1);
-			}
-		}
-
-		@DisplayName("존재하지 않은 회원의 경우, 예외를 발생시킨다.")
-		@Test
-		void withNotExistsMember() {
-
-			// Given
-			Long memberId = connectedMember1.getId() + 100;
-
-			// Stub
-			MemberNotFoundException expectedException = new MemberNotFoundException();
-			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
-				.willThrow(expectedException);
-
-			// when & then
-			assertThatThrownBy(
-				() -> anniversaryService.createAnniversariesForBirthDay(memberId))
-				.isInstanceOf(expectedException.getClass())
-				.hasMessage(expectedException.getMessage());
-
-			then(anniversaryRepository)
-				.shouldHaveNoInteractions();
-			then(anniversaryPatternRepository)
-				.shouldHaveNoInteractions();
-			then(anniversaryJDBCRepository)
-				.shouldHaveNoInteractions();
-		}
-
-		@DisplayName("연결되지 않은 회원의 경우, 예외를 발생시킨다.")
-		@Test
-		void withNotConnectedMember() {
-
-			// Given
-			Long memberId = connectedMember1.getId();
-
-			// Stub
-			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
-				.willReturn(connectedMember1);
-
-			MemberNotConnectedException expectedException = new MemberNotConnectedException();
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
-				.willThrow(expectedException);
+					AnniversaryPattern::getRepeatRule)
+				.containsExactlyInAnyOrder(
+					tuple(couple.getMember1().getBirthDay(), CALENDER_END_DATE,
+						AnniversaryRepeatRule.YEAR),
+					tuple(couple.getMember2().getBirthDay(), CALENDER_END_DATE,
+						AnniversaryRepeatRule.YEAR));
+
+			Map<Long, List<Anniversary>> anniversaryMap = anniversaryQueryRepository
+				.findAllByCoupleIdAndDateRange(couple.getId(), null, null).stream()
+				.collect(Collectors.groupingBy(
+					anniversary -> anniversary.getAnniversaryPattern().getId()));
 
-			// when & then
-			assertThatThrownBy(
-				() -> anniversaryService.createAnniversariesForBirthDay(memberId))
-				.isInstanceOf(expectedException.getClass())
-				.hasMessage(expectedException.getMessage());
+			for (AnniversaryPattern birthDayPattern : birthDayPatterns) {
+				List<Anniversary> anniversaries = anniversaryMap.get(birthDayPattern.getId());
 
-			then(anniversaryRepository)
-				.shouldHaveNoInteractions();
-			then(anniversaryPatternRepository)
-				.shouldHaveNoInteractions();
-			then(anniversaryJDBCRepository)
-				.shouldHaveNoInteractions();
-		}
-	}
+				assertThat(anniversaries).hasSize(1);
 
-	@Nested
-	@DisplayName("처음 만난 날 관련 기념일을 생성시")
-	class CreateAnniversariesForFirstDate {
+				LocalDate birthDay = birthDayPattern.getRepeatStartDate();
+				LocalDate expectedDate = birthDay;
+				List<Anniversary> occurrences = anniversaries.get(0)
+					.getOccurrencesBetween(null, null);
 
-		private Couple couple;
+				assertThat(occurrences)
+					.hasSize(CALENDER_END_DATE.getYear() - birthDay.getYear() + 1);
 
-		@BeforeEach
-		void setUp() {
-			Member connectedMember1 = createMember("01011112222", "nickname1",
-				LocalDate.of(2000, 1, 1));
-			Member connectedMember2 = createMember("01022223333", "nickname2",
-				LocalDate.of(2000, 1, 1));
-			memberRepository.save(connectedMember1);
-			memberRepository.save(connectedMember2);
+				for (Anniversary actual : occurrences) {
 
-			couple = createCouple(connectedMember1, connectedMember2,
-				LocalDate.of(2010, 1, 1));
-			coupleRepository.save(couple);
-		}
+					assertThat(actual.getTitle())
+						.contains("생일");
+					assertThat(actual.getContent())
+						.isNull();
+					assertThat(actual.getDate())
+						.isEqualTo(expectedDate)
+						.isBefore(DateConstants.NEXT_DAY_FROM_CALENDER_END_DATE);
 
-		@AfterEach
-		void tearDown() {
-			anniversaryRepository.deleteAllInBatch();
-			anniversaryPatternRepository.deleteAllInBatch();
-			coupleRepository.deleteAllInBatch();
-			memberRepository.deleteAllInBatch();
+					expectedDate = expectedDate.plusYears(1);
+				}
+			}
 		}
 
 		@DisplayName("대상 커플의 처음 만난 날 당일과 100일 주기, 1년 주기 기념일 패턴이 생성되고, 각 반복 주기에 맞게 2050년 이전까지 기념일이 생성된다.")
 		@Test
-		void withConnectedMember() {
+		void withFirstDate() {
 
 			// given
 			Long coupleId = couple.getId();
 
-			// stub
-			given(coupleReadService.findCoupleByIdOrElseThrow(anyLong()))
-				.willReturn(couple);
-
 			// when
-			anniversaryService.createAnniversariesForFirstDate(coupleId);
+			anniversaryService.createAnniversariesForConnectedCouple(couple);
 
 			// then
-			List<AnniversaryPattern> anniversaryPatterns = anniversaryPatternRepository.findAll();
+			List<AnniversaryPattern> anniversaryPatterns = anniversaryPatternRepository.findAll()
+				.stream()
+				.filter(anniversaryPattern -> Objects.equals(anniversaryPattern.getCategory(),
+					AnniversaryCategory.FIRST_DATE))
+				.toList();
 
 			Map<AnniversaryRepeatRule, List<AnniversaryPattern>> anniversaryPatternMap = anniversaryPatterns.stream()
 				.collect(Collectors.groupingBy(AnniversaryPattern::getRepeatRule));
@@ -317,7 +229,8 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 						AnniversaryCategory.FIRST_DATE,
 						coupleId));
 
-			Map<Long, List<Anniversary>> anniversaryMap = anniversaryRepository.findAll().stream()
+			Map<Long, List<Anniversary>> anniversaryMap = anniversaryQueryRepository
+				.findAllByCoupleIdAndDateRange(coupleId, null, null).stream()
 				.collect(Collectors.groupingBy(
 					anniversary -> anniversary.getAnniversaryPattern().getId()));
 
@@ -341,9 +254,12 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 			List<Anniversary> firstDateAnniversaryWithYearRepeated = anniversaryMap.get(
 				yearRepeatedAnniversaryPatternId);
 
+			assertThat(firstDateAnniversaryWithYearRepeated).hasSize(1);
+
 			LocalDate expectedDate1 = couple.getFirstDate().plusYears(1);
 
-			for (Anniversary actual : firstDateAnniversaryWithYearRepeated) {
+			for (Anniversary actual : firstDateAnniversaryWithYearRepeated.get(0)
+				.getOccurrencesBetween(null, null)) {
 
 				assertThat(actual.getTitle())
 					.contains("만난지", "주년");
@@ -363,9 +279,12 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 			List<Anniversary> firstDateAnniversaryWithHundredDayRepeated = anniversaryMap.get(
 				hundredDaysRepeatedAnniversaryPatternId);
 
+			assertThat(firstDateAnniversaryWithHundredDayRepeated).hasSize(1);
+
 			LocalDate expectedDate2 = couple.getFirstDate().plusDays(99);
 
-			for (Anniversary actual : firstDateAnniversaryWithHundredDayRepeated) {
+			for (Anniversary actual : firstDateAnniversaryWithHundredDayRepeated.get(0)
+				.getOccurrencesBetween(null, null)) {
 
 				assertThat(actual.getTitle())
 					.contains("만난지", "일");
@@ -487,13 +406,21 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 					AnniversaryRepeatRule.YEAR,
 					AnniversaryCategory.OTHER);
 
-			List<Anniversary> anniversaries = anniversaryRepository.findAll();
+			List<Anniversary> anniversaries = anniversaryQueryRepository.findAllByCoupleIdAndDateRange(
+				couple.getId(), null, null);
+
+			assertThat(anniversaries).hasSize(1);
 
 			LocalDate expectedDate = date;
 			String expectedContent = request.getContent();
 			Long anniversaryPatternId = anniversaryPattern.getId();
+			List<Anniversary> occurrences = anniversaries.get(0)
+				.getOccurrencesBetween(null, null);
+
+			assertThat(occurrences)
+				.hasSize(CALENDER_END_DATE.getYear() - date.getYear() + 1);
 
-			for (Anniversary actual : anniversaries) {
+			for (Anniversary actual : occurrences) {
 
 				assertThat(actual.getTitle())
 					.isEqualTo(title);
@@ -679,6 +606,75 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 				});
 		}
 
+		@DisplayName("1년 반복 기념일의 특정 회차를 수정하면, 해당 회차와의 날짜 차이만큼 첫 회차와 기념일 패턴이 수정된다.")
+		@Test
+		void withOccurrenceDateOfYearRepeatedAnniversary() {
+
+			// given
+			LocalDate startDate = LocalDate.of(2020, 10, 10);
+
+			AnniversaryPattern anniversaryPattern = createAnniversaryPattern(couple, startDate,
+				AnniversaryRepeatRule.YEAR);
+			Anniversary anniversary = Anniversary.of(anniversaryPattern, "title", "content",
+				startDate);
+			anniversaryRepository.save(anniversary);
+
+			int dayDiff = 20;
+			LocalDate occurrenceDate = startDate.plusYears(3);
+			AnniversaryModifyServiceRequest serviceRequest = createAnniversaryModifyServiceRequest(
+				"newTitle", "newContent", occurrenceDate.plusDays(dayDiff));
+
+			// stub
+			given(anniversaryReadService.findAnniversaryByIdOrElseThrow(anyLong(), anyBoolean()))
+				.willReturn(anniversary);
+
+			// when
+			anniversaryService.modifyAnniversary(anniversary.getId(), serviceRequest, false,
+				occurrenceDate);
+
+			// then
+			Anniversary findAnniversary = anniversaryRepository.findById(anniversary.getId()).get();
+			assertThat(findAnniversary)
+				.extracting(Anniversary::getTitle, Anniversary::getContent, Anniversary::getDate)
+				.containsExactly("newTitle", "newContent", startDate.plusDays(dayDiff));
+
+			AnniversaryPattern findAnniversaryPattern = anniversaryPatternRepository.findById(
+				anniversaryPattern.getId()).get();
+			assertThat(findAnniversaryPattern.getRepeatStartDate())
+				.isEqualTo(startDate.plusDays(dayDiff));
+		}
+
+		@DisplayName("반복 기념일에 없는 회차 날짜가 주어졌다면, 예외를 발생시킨다.")
+		@Test
+		void withNotExistsOccurrenceDate() {
+
+			// given
+			LocalDate startDate = LocalDate.of(2020, 10, 10);
+
+			AnniversaryPattern anniversaryPattern = createAnniversaryPattern(couple, startDate,
+				AnniversaryRepeatRule.YEAR);
+			Anniversary anniversary = Anniversary.of(anniversaryPattern, "title", "content",
+				startDate);
+			anniversaryRepository.save(anniversary);
+
+			LocalDate occurrenceDate = startDate.plusYears(3).plusDays(1);
+			AnniversaryModifyServiceRequest serviceRequest = createAnniversaryModifyServiceRequest(
+				"title", "content", occurrenceDate);
+
+			AnniversaryNotFoundException expectedException = new AnniversaryNotFoundException();
+
+			// stub
+			given(anniversaryReadService.findAnniversaryByIdOrElseThrow(anyLong(), anyBoolean()))
+				.willReturn(anniversary);
+
+			// when & then
+			assertThatThrownBy(() ->
+				anniversaryService.modifyAnniversary(anniversary.getId(), serviceRequest, false,
+					occurrenceDate))
+				.isInstanceOf(expectedException.getClass())
+				.hasMessage(expectedException.getMessage());
+		}
+
 		@DisplayName("존재하지 않는 기념일 id 가 주어졌다면, 예외를 발생시킨다.")
 		@Test
 		void withNotExistsAnniversaryId() {
@@ -774,9 +770,9 @@ public class AnniversaryServiceTest extends ServiceTestSupport {
 			List<Anniversary> yearRepeatedAnniversaries = createRepeatedAnniversariesForFirstDate(
 				yearRepeatedPattern, firstDate);
 
-			anniversaryJDBCRepository.saveAll(firstDateAnniversaries);
-			anniversaryJDBCRepository.saveAll(hundredDaysRepeatedAnniversaries);
-			anniversaryJDBCRepository.saveAll(yearRepeatedAnniversaries);
+			anniversaryRepository.saveAll(firstDateAnniversaries);
+			anniversaryRepository.saveAll(hundredDaysRepeatedAnniversaries);
+			anniversaryRepository.saveAll(yearRepeatedAnniversaries);
 		}
 
 		@AfterEach
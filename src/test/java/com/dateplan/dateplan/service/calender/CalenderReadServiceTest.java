@@ -2,6 +2,11 @@ package com.dateplan.dateplan.service.calender;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import com.dateplan.dateplan.domain.anniversary.entity.Anniversary;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryCategory;
@@ -9,39 +14,64 @@ import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryPattern;
 import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.anniversary.service.AnniversaryReadService;
+import com.dateplan.dateplan.domain.calender.repository.CalenderCacheRepository;
 import com.dateplan.dateplan.domain.calender.service.CalenderReadService;
 import com.dateplan.dateplan.domain.calender.service.dto.response.CalenderDateServiceResponse;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.dating.entity.Dating;
 import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
+import com.dateplan.dateplan.domain.dating.service.DatingReadService;
+import com.dateplan.dateplan.domain.dating.service.DatingService;
+import com.dateplan.dateplan.domain.dating.service.dto.request.DatingCreateServiceRequest;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
 import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.domain.schedule.service.ScheduleReadService;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.RepeatRule;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
+import com.dateplan.dateplan.global.exception.calender.CalenderReadBusyException;
+import com.dateplan.dateplan.global.exception.calender.CalenderReadTimeoutException;
 import com.dateplan.dateplan.service.ServiceTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 
 public class CalenderReadServiceTest extends ServiceTestSupport {
 
 	@Autowired
 	private CalenderReadService calenderReadService;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private DatingService datingService;
+
 	@Autowired
 	private MemberRepository memberRepository;
 
@@ -167,6 +197,49 @@ public class CalenderReadServiceTest extends ServiceTestSupport {
 			assertThat(response.getSchedules().get(0).getEvents().get(3)).isEqualTo("anniversary");
 		}
 
+		@DisplayName("[성공] 데이트, 내 일정, 상대방 일정, 기념일 조회 시간이 각각 기록된다")
+		@Test
+		void should_recordBranchTimers_When_validRequest() {
+
+			calenderReadService.readCalenderDates(member, member.getId(),
+				LocalDate.now().getYear(), LocalDate.now().getMonthValue());
+
+			assertThat(meterRegistry.find("calender.read.branch").timers())
+				.extracting(timer -> timer.getId().getTag("branch"))
+				.containsExactlyInAnyOrder("dating", "mySchedule", "partnerSchedule",
+					"anniversary");
+			assertThat(meterRegistry.find("calender.read.branch").timers())
+				.allSatisfy(timer -> assertThat(timer.count()).isPositive());
+		}
+
+		@DisplayName("[성공] 같은 연월을 다시 조회하면 캐시된 응답을, 데이트 일정이 추가되면 갱신된 응답을 반환한다")
+		@Test
+		void should_returnCachedJsonUntilWrite_When_readTwice() {
+
+			// Given
+			int year = LocalDate.now().getYear();
+			int month = LocalDate.now().getMonthValue();
+			byte[] first = calenderReadService.readCalenderDatesJson(member, member.getId(), year,
+				month);
+
+			// When
+			byte[] cached = calenderReadService.readCalenderDatesJson(member, member.getId(), year,
+				month);
+			datingService.createDating(member, couple.getId(),
+				DatingCreateServiceRequest.builder()
+					.title("dating")
+					.startDateTime(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+					.endDateTime(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+					.build());
+			byte[] refreshed = calenderReadService.readCalenderDatesJson(member, member.getId(),
+				year, month);
+
+			// Then
+			assertThat(cached).isEqualTo(first);
+			assertThat(new String(first, StandardCharsets.UTF_8)).doesNotContain("datingSchedule");
+			assertThat(new String(refreshed, StandardCharsets.UTF_8)).contains("datingSchedule");
+		}
+
 		@DisplayName("[실패] 요청한 memberId와 현재 회원의 id가 다르면 실패한다")
 		@Test
 		void should_throwNoPermissionException_When_mismatchMemberId() {
@@ -182,6 +255,93 @@ public class CalenderReadServiceTest extends ServiceTestSupport {
 		}
 	}
 
+	@Nested
+	@DisplayName("하위 조회가 지연될 때")
+	class ReadCalenderDateWithSlowBranch {
+
+		private final CoupleReadService coupleReadService = mock(CoupleReadService.class);
+		private final DatingReadService datingReadService = mock(DatingReadService.class);
+		private final ScheduleReadService scheduleReadService = mock(ScheduleReadService.class);
+		private final Member member = mock(Member.class);
+		private ThreadPoolTaskExecutor executor;
+
+		@BeforeEach
+		void setUp() {
+			given(member.getId()).willReturn(1L);
+			given(coupleReadService.getCoupleInfo(member)).willReturn(
+				CoupleInfoServiceResponse.builder().coupleId(1L).partnerId(2L).build());
+		}
+
+		@AfterEach
+		void tearDown() {
+			executor.shutdown();
+		}
+
+		@DisplayName("[실패] 제한 시간이 지나면 실패하고, 실행 중인 하위 조회를 인터럽트한다")
+		@Test
+		void should_interruptBranch_When_timeout() throws Exception {
+
+			// Given
+			CalenderReadService slowCalenderReadService = createCalenderReadService(4, 4);
+			CountDownLatch interrupted = new CountDownLatch(1);
+
+			// Stub
+			given(datingReadService.readDatingDates(any(CoupleInfoServiceResponse.class), any(),
+				any())).willAnswer(invocation -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return null;
+			});
+
+			// When & Then
+			assertThatThrownBy(
+				() -> slowCalenderReadService.readCalenderDates(member, 1L, 2024, 3))
+				.isInstanceOf(CalenderReadTimeoutException.class);
+			assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		}
+
+		@DisplayName("[실패] 실행기가 가득 차면 요청 스레드에서 조회하지 않고 바로 실패한다")
+		@Test
+		void should_failFast_When_executorSaturated() {
+
+			// Given
+			CalenderReadService slowCalenderReadService = createCalenderReadService(1, 0);
+
+			// Stub
+			given(datingReadService.readDatingDates(any(CoupleInfoServiceResponse.class), any(),
+				any())).willAnswer(invocation -> {
+				Thread.sleep(10_000);
+				return null;
+			});
+
+			// When & Then
+			assertThatThrownBy(
+				() -> slowCalenderReadService.readCalenderDates(member, 1L, 2024, 3))
+				.isInstanceOf(CalenderReadBusyException.class);
+			then(scheduleReadService).should(never())
+				.readMyScheduleDates(any(Member.class), any(), any());
+		}
+
+		private CalenderReadService createCalenderReadService(int poolSize, int queueCapacity) {
+			executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(poolSize);
+			executor.setMaxPoolSize(poolSize);
+			executor.setQueueCapacity(queueCapacity);
+			executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+			executor.initialize();
+
+			CalenderReadService slowCalenderReadService = new CalenderReadService(
+				coupleReadService, datingReadService, scheduleReadService,
+				mock(AnniversaryReadService.class), executor, new SimpleMeterRegistry(),
+				mock(CalenderCacheRepository.class), new ObjectMapper());
+			ReflectionTestUtils.setField(slowCalenderReadService, "timeoutMillis", 200L);
+			return slowCalenderReadService;
+		}
+	}
+
 	private Couple createCouple(Member member, Member partner) {
 		return Couple.builder()
 			.member1(member)
@@ -6,10 +6,12 @@ import static com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage.SEL
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -21,7 +23,9 @@ import com.dateplan.dateplan.domain.anniversary.entity.AnniversaryRepeatRule;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
 import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.repository.CoupleQueryRepository;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.repository.MemberCoupleRepository;
 import com.dateplan.dateplan.domain.couple.service.CoupleService;
 import com.dateplan.dateplan.domain.couple.service.dto.request.FirstDateServiceRequest;
 import com.dateplan.dateplan.domain.dating.entity.Dating;
@@ -32,10 +36,13 @@ import com.dateplan.dateplan.domain.member.service.MemberReadService;
 import com.dateplan.dateplan.domain.member.service.dto.request.ConnectionServiceRequest;
 import com.dateplan.dateplan.domain.member.service.dto.response.ConnectionServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.response.CoupleConnectServiceResponse;
+import com.dateplan.dateplan.domain.purge.repository.DataPurgeRepository;
+import com.dateplan.dateplan.domain.purge.service.DataPurgeService;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
 import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.global.auth.CoupleMembershipCache;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.RepeatRule;
@@ -75,6 +82,15 @@ public class CoupleServiceTest extends ServiceTestSupport {
 	@SpyBean
 	private CoupleRepository coupleRepository;
 
+	@Autowired
+	private CoupleQueryRepository coupleQueryRepository;
+
+	@Autowired
+	private MemberCoupleRepository memberCoupleRepository;
+
+	@Autowired
+	private CoupleMembershipCache coupleMembershipCache;
+
 	@Autowired
 	private MemberRepository memberRepository;
 
@@ -90,12 +106,18 @@ public class CoupleServiceTest extends ServiceTestSupport {
 	@Autowired
 	private SchedulePatternRepository schedulePatternRepository;
 
-	@Autowired
+	@SpyBean
 	private AnniversaryRepository anniversaryRepository;
 
 	@Autowired
 	private AnniversaryPatternRepository anniversaryPatternRepository;
 
+	@Autowired
+	private DataPurgeService dataPurgeService;
+
+	@Autowired
+	private DataPurgeRepository dataPurgeRepository;
+
 
 	@DisplayName("연결 코드 조회 시")
 	@Nested
@@ -254,6 +276,8 @@ public class CoupleServiceTest extends ServiceTestSupport {
 		@AfterEach
 		void tearDown() {
 			redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+			anniversaryRepository.deleteAllInBatch();
+			anniversaryPatternRepository.deleteAllInBatch();
 			coupleRepository.deleteAllInBatch();
 			memberRepository.deleteAllInBatch();
 		}
@@ -318,6 +342,127 @@ public class CoupleServiceTest extends ServiceTestSupport {
 				.containsExactlyInAnyOrder(member.getId(), partner.getId());
 		}
 
+		@DisplayName("연결에 성공하면 처음 만난 날과 두 회원의 생일 기념일이 함께 생성된다.")
+		@Test
+		void createAnniversariesWithConnectCouple() {
+
+			// Given
+			String connectionCode = "ABC123";
+
+			ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
+			opsForValue.set(getConnectionKey(partner.getId()), connectionCode);
+			opsForValue.set(connectionCode, String.valueOf(partner.getId()));
+
+			ConnectionServiceRequest request = createConnectionServiceRequest(connectionCode);
+
+			// Stubbing
+			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
+				.willReturn(partner);
+
+			// When
+			coupleService.connectCouple(member, member.getId(), request);
+
+			// Then
+			List<AnniversaryPattern> anniversaryPatterns = anniversaryPatternRepository.findAll();
+			assertThat(anniversaryPatterns).hasSize(5);
+			assertThat(anniversaryPatterns)
+				.extracting(AnniversaryPattern::getCategory)
+				.containsExactlyInAnyOrder(AnniversaryCategory.FIRST_DATE,
+					AnniversaryCategory.FIRST_DATE, AnniversaryCategory.FIRST_DATE,
+					AnniversaryCategory.BIRTH, AnniversaryCategory.BIRTH);
+			assertThat(anniversaryRepository.count()).isEqualTo(5);
+		}
+
+		@DisplayName("기념일 생성에 실패하면 커플 연결도 롤백되고, 연결 코드는 유지된다.")
+		@Test
+		void rollbackConnectCoupleWithAnniversaryFailure() {
+
+			// Given
+			String connectionCode = "ABC123";
+
+			ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
+			opsForValue.set(getConnectionKey(partner.getId()), connectionCode);
+			opsForValue.set(connectionCode, String.valueOf(partner.getId()));
+
+			ConnectionServiceRequest request = createConnectionServiceRequest(connectionCode);
+
+			// Stubbing
+			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
+				.willReturn(partner);
+			willThrow(new IllegalStateException())
+				.given(anniversaryRepository)
+				.saveAll(anyIterable());
+
+			// When & Then
+			assertThatThrownBy(() -> coupleService.connectCouple(member, member.getId(), request))
+				.isInstanceOf(IllegalStateException.class);
+
+			assertThat(coupleRepository.count()).isZero();
+			assertThat(memberCoupleRepository.existsById(member.getId())).isFalse();
+			assertThat(memberCoupleRepository.existsById(partner.getId())).isFalse();
+			assertThat(anniversaryPatternRepository.count()).isZero();
+			assertThat(opsForValue.get(connectionCode)).isEqualTo(String.valueOf(partner.getId()));
+		}
+
+		@DisplayName("연결 전에 조회된 회원의 커플 권한 정보는, 연결 이후 새로 연결된 커플로 갱신된다.")
+		@Test
+		void evictCoupleMembershipWithConnectCouple() {
+
+			// Given
+			String connectionCode = "ABC123";
+
+			ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
+			opsForValue.set(getConnectionKey(partner.getId()), connectionCode);
+			opsForValue.set(connectionCode, String.valueOf(partner.getId()));
+
+			ConnectionServiceRequest request = createConnectionServiceRequest(connectionCode);
+
+			assertThat(coupleMembershipCache.isMemberOf(member.getId(), 1L,
+				coupleQueryRepository::findCoupleIdByMemberId)).isFalse();
+
+			// Stubbing
+			given(memberReadService.findMemberByIdOrElseThrow(anyLong()))
+				.willReturn(partner);
+
+			// When
+			coupleService.connectCouple(member, member.getId(), request);
+
+			// Then
+			Long coupleId = coupleQueryRepository.findCoupleIdByMemberId(member.getId());
+
+			assertThat(coupleId).isNotNull();
+			assertThat(coupleMembershipCache.isMemberOf(member.getId(), coupleId,
+				coupleQueryRepository::findCoupleIdByMemberId)).isTrue();
+			assertThat(coupleMembershipCache.isMemberOf(partner.getId(), coupleId,
+				coupleQueryRepository::findCoupleIdByMemberId)).isTrue();
+		}
+
+		@DisplayName("다른 인스턴스가 보낸 커플 권한 삭제 알림을 받으면, 캐시된 권한 정보를 다시 조회한다.")
+		@Test
+		void evictCoupleMembershipWithEvictionFromOtherInstance() throws InterruptedException {
+
+			// Given
+			Long coupleId = 1L;
+
+			assertThat(coupleMembershipCache.isMemberOf(member.getId(), coupleId,
+				id -> null)).isFalse();
+
+			// When
+			redisTemplate.convertAndSend(CoupleMembershipCache.EVICT_CHANNEL,
+				member.getId() + "," + partner.getId());
+
+			// Then
+			boolean reloaded = false;
+			for (int i = 0; i < 50 && !reloaded; i++) {
+				reloaded = coupleMembershipCache.isMemberOf(member.getId(), coupleId,
+					id -> coupleId);
+				if (!reloaded) {
+					Thread.sleep(100);
+				}
+			}
+			assertThat(reloaded).isTrue();
+		}
+
 		@DisplayName("존재하지 않는 코드를 입력하면 실패한다")
 		@Test
 		void failWithInvalidRequest() {
@@ -569,6 +714,7 @@ public class CoupleServiceTest extends ServiceTestSupport {
 
 		@AfterEach
 		void tearDown() {
+			dataPurgeRepository.deleteAllInBatch();
 			datingRepository.deleteAllInBatch();
 			anniversaryRepository.deleteAllInBatch();
 			anniversaryPatternRepository.deleteAllInBatch();
@@ -578,7 +724,7 @@ public class CoupleServiceTest extends ServiceTestSupport {
 			memberRepository.deleteAllInBatch();
 		}
 
-		@DisplayName("[성공] 올바른 memberId를 요청하면 데이트, 회원, 연결되어 있는 회원, 기념일 일정이 모두 삭제된다")
+		@DisplayName("[성공] 올바른 memberId를 요청하면 연결이 바로 해제되고, 데이트, 회원, 연결되어 있는 회원, 기념일 일정은 백그라운드 삭제로 모두 삭제된다")
 		@Test
 		void should_deleteAllSchedules_When_disconnectCouple() {
 
@@ -645,6 +791,11 @@ public class CoupleServiceTest extends ServiceTestSupport {
 			coupleService.disconnectCouple(member, member.getId());
 
 			// Then
+			assertThat(memberCoupleRepository.existsById(member.getId())).isFalse();
+			assertThat(memberCoupleRepository.existsById(partner.getId())).isFalse();
+
+			purgeAll();
+			assertThat(dataPurgeRepository.findAll()).isEmpty();
 			assertThat(coupleRepository.findAll()).isEmpty();
 			assertThat(datingRepository.findAll()).isEmpty();
 			assertThat(anniversaryRepository.findAll()).isEmpty();
@@ -666,6 +817,13 @@ public class CoupleServiceTest extends ServiceTestSupport {
 		}
 	}
 
+	private void purgeAll() {
+		boolean hasNext = true;
+		while (hasNext) {
+			hasNext = dataPurgeService.purgeNextChunk();
+		}
+	}
+
 	private FirstDateServiceRequest createFirstDateServiceRequest() {
 		return FirstDateServiceRequest.builder()
 			.firstDate(LocalDate.of(2020, 10, 10))
@@ -9,6 +9,7 @@ import static org.mockito.BDDMockito.then;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
 import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
+import com.dateplan.dateplan.domain.couple.service.dto.response.CoupleInfoServiceResponse;
 import com.dateplan.dateplan.domain.dating.controller.dto.response.DatingEntry;
 import com.dateplan.dateplan.domain.dating.entity.Dating;
 import com.dateplan.dateplan.domain.dating.repository.DatingQueryRepository;
@@ -105,8 +106,8 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 		void successWithValidRequest() {
 
 			// Stubbing
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
-				.willReturn(couple);
+			given(coupleReadService.getCoupleInfo(any(Member.class)))
+				.willReturn(createCoupleInfo(couple));
 
 			// Given & When
 			DatingDatesServiceResponse response = datingReadService.readDatingDates(
@@ -129,8 +130,8 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 			Integer month = LocalDate.now().getMonthValue();
 
 			// Stubbing
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
-				.willReturn(couple);
+			given(coupleReadService.getCoupleInfo(any(Member.class)))
+				.willReturn(createCoupleInfo(couple));
 
 			// When
 			DatingDatesServiceResponse response = datingReadService.readDatingDates(
@@ -154,8 +155,8 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 		void failWithNoPermission() {
 
 			// Stubbing
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
-				.willReturn(couple);
+			given(coupleReadService.getCoupleInfo(any(Member.class)))
+				.willReturn(createCoupleInfo(couple));
 
 			// When & Then
 			NoPermissionException exception = new NoPermissionException(Resource.COUPLE,
@@ -176,7 +177,7 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 
 			// Stubbing
 			MemberNotConnectedException exception = new MemberNotConnectedException();
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
+			given(coupleReadService.getCoupleInfo(any(Member.class)))
 				.willThrow(exception);
 
 			// When & Then
@@ -248,8 +249,8 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 			));
 
 			// Stubbing
-			given(coupleReadService.findCoupleByMemberOrElseThrow(member))
-				.willReturn(couple);
+			given(coupleReadService.getCoupleInfo(member))
+				.willReturn(createCoupleInfo(couple));
 
 			// When
 			LocalDate now = LocalDate.now();
@@ -271,7 +272,7 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 
 			// Stubbing
 			MemberNotConnectedException exception = new MemberNotConnectedException();
-			given(coupleReadService.findCoupleByMemberOrElseThrow(any(Member.class)))
+			given(coupleReadService.getCoupleInfo(any(Member.class)))
 				.willThrow(exception);
 
 			// When & Then
@@ -285,8 +286,8 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 		void 실패_요청한coupleId와_회원이연결된커플의id가다르면_예외를반환한다() {
 
 			// Stubbing
-			given(coupleReadService.findCoupleByMemberOrElseThrow(member))
-				.willReturn(couple);
+			given(coupleReadService.getCoupleInfo(member))
+				.willReturn(createCoupleInfo(couple));
 
 			// When & Then
 			NoPermissionException exception = new NoPermissionException(Resource.COUPLE,
@@ -360,6 +361,13 @@ public class DatingReadServiceTest extends ServiceTestSupport {
 			.build();
 	}
 
+	private CoupleInfoServiceResponse createCoupleInfo(Couple couple) {
+		return CoupleInfoServiceResponse.builder()
+			.coupleId(couple.getId())
+			.firstDate(couple.getFirstDate())
+			.build();
+	}
+
 	private Member createMember(String phone, String nickname) {
 
 		return Member.builder()
@@ -7,15 +7,11 @@ import static com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage.PAS
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
@@ -39,7 +35,16 @@ import com.dateplan.dateplan.global.exception.member.AlReadyRegisteredPhoneExcep
 import com.dateplan.dateplan.global.exception.sms.SmsSendFailException;
 import com.dateplan.dateplan.global.util.RandomCodeGenerator;
 import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,12 +55,14 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
-import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 public class AuthServiceTest extends ServiceTestSupport {
 
+	private static final String SMS_OUTBOX_KEY = "[SMS_OUTBOX]";
+
 	@Autowired
 	private AuthService authService;
 
@@ -77,14 +84,13 @@ public class AuthServiceTest extends ServiceTestSupport {
 			redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
 		}
 
-		@DisplayName("유효한 전화번호를 입력하면 인증 코드가 발송되고, 인증 상태와 인증 횟수가 redis 에 저장된다.")
+		@DisplayName("유효한 전화번호를 입력하면 인증 코드가 발송 대기열에 쌓이고, 인증 상태와 인증 횟수가 redis 에 저장된다.")
 		@Test
 		void sendCodeWithValidPhoneNumber() {
 
 			// Given
 			String phoneNumber = "01011112222";
 			String authKey = "[AUTH]" + phoneNumber;
-			String requestCountKey = "[AUTH_COUNT]" + phoneNumber;
 			int authCode = 123123;
 			PhoneServiceRequest request = createPhoneServiceRequest(phoneNumber);
 
@@ -95,20 +101,16 @@ public class AuthServiceTest extends ServiceTestSupport {
 				given(RandomCodeGenerator.generateCode(6))
 					.willReturn(authCode);
 
-				willDoNothing()
-					.given(smsSendClient)
-					.sendSmsForPhoneAuthentication(anyString(), anyInt());
-
 				// When
 				SendSmsServiceResponse response = authService.sendSms(request);
 				assertThat(response.getCurrentCount()).isOne();
 			}
 
 			// Then
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			String savedCode = opsForList.index(authKey, 0);
-			String savedStatus = opsForList.index(authKey, 1);
-			String savedRequestCount = redisTemplate.opsForValue().get(requestCountKey);
+			HashOperations<String, String, String> opsForHash = redisTemplate.opsForHash();
+			String savedCode = opsForHash.get(authKey, "code");
+			String savedStatus = opsForHash.get(authKey, "verified");
+			String savedRequestCount = opsForHash.get(authKey, "count");
 
 			assertThat(savedCode)
 				.isNotNull()
@@ -120,9 +122,13 @@ public class AuthServiceTest extends ServiceTestSupport {
 				.isNotNull()
 				.isEqualTo(String.valueOf(1));
 
+			List<String> outbox = redisTemplate.opsForList().range(SMS_OUTBOX_KEY, 0, -1);
+			assertThat(outbox).hasSize(1);
+			assertThat(outbox.get(0))
+				.contains(phoneNumber)
+				.contains(String.valueOf(authCode));
 			then(smsSendClient)
-				.should(times(1))
-				.sendSmsForPhoneAuthentication(anyString(), anyInt());
+				.shouldHaveNoInteractions();
 		}
 
 		@DisplayName("이미 존재하는 전화번호를 입력하면 예외를 발생시킨다.")
@@ -150,7 +156,7 @@ public class AuthServiceTest extends ServiceTestSupport {
 			memberRepository.deleteAllInBatch();
 		}
 
-		@DisplayName("sms 발송 과정 중 에러가 발생하면 예외를 발생시킨다.")
+		@DisplayName("sms 발송 업체에 장애가 있어도 발송 대기열에 쌓은 뒤 바로 응답한다.")
 		@Test
 		void sendCodeWithSmsServiceError() {
 
@@ -163,19 +169,16 @@ public class AuthServiceTest extends ServiceTestSupport {
 				SmsType.PHONE_AUTHENTICATION);
 			willThrow(smsSendFailException)
 				.given(smsSendClient)
-				.sendSmsForPhoneAuthentication(anyString(), anyInt());
+				.send(anyList());
 
-			// When & Then
-			assertThatThrownBy(() -> authService.sendSms(request))
-				.isInstanceOf(SmsSendFailException.class)
-				.hasMessage(smsSendFailException.getMessage());
+			// When
+			SendSmsServiceResponse response = authService.sendSms(request);
 
-			then(redisTemplate)
-				.should(never())
-				.opsForList();
-			then(redisTemplate)
-				.should(times(1))
-				.opsForValue();
+			// Then
+			assertThat(response.getCurrentCount()).isOne();
+			assertThat(redisTemplate.opsForList().size(SMS_OUTBOX_KEY)).isOne();
+			then(smsSendClient)
+				.shouldHaveNoInteractions();
 		}
 
 		@DisplayName("요청 횟수를 초과하면 예외를 발생시킨다.")
@@ -184,25 +187,59 @@ public class AuthServiceTest extends ServiceTestSupport {
 
 			// Given
 			String phoneNumber = "01011112222";
-			String requestCountKey = "[AUTH_COUNT]" + phoneNumber;
+			String authKey = "[AUTH]" + phoneNumber;
 			PhoneServiceRequest request = createPhoneServiceRequest(phoneNumber);
 
-			ValueOperations<String, String> opsForValue = redisTemplate.opsForValue();
-			opsForValue.set(requestCountKey, "5");
+			redisTemplate.opsForHash().put(authKey, "count", "5");
 
 			// When & Then
 			assertThatThrownBy(() -> authService.sendSms(request))
 				.isInstanceOf(PhoneAuthLimitOverException.class)
 				.hasMessage(DetailMessage.PHONE_AUTH_LIMIT_OVER);
 
-			then(redisTemplate)
-				.should(never())
-					.opsForList();
-			then(redisTemplate)
-				.should(times(2))
-				.opsForValue();
-			then(smsSendClient)
-				.shouldHaveNoInteractions();
+			assertThat(redisTemplate.opsForHash().hasKey(authKey, "code")).isFalse();
+			assertThat(redisTemplate.opsForList().size(SMS_OUTBOX_KEY)).isZero();
+		}
+
+		@DisplayName("같은 번호로 동시에 요청해도 하루 요청 제한 횟수만큼만 코드가 발송된다.")
+		@Test
+		void sendCodeConcurrentlyOverRequestLimitCount() throws Exception {
+
+			// Given
+			String phoneNumber = "01011112222";
+			String authKey = "[AUTH]" + phoneNumber;
+			int threadCount = 10;
+			PhoneServiceRequest request = createPhoneServiceRequest(phoneNumber);
+			ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+			CountDownLatch startLatch = new CountDownLatch(1);
+			AtomicInteger successCount = new AtomicInteger();
+			AtomicInteger limitOverCount = new AtomicInteger();
+
+			// When
+			List<Future<?>> futures = IntStream.range(0, threadCount)
+				.<Future<?>>mapToObj(i -> executorService.submit(() -> {
+					startLatch.await();
+					try {
+						authService.sendSms(request);
+						successCount.incrementAndGet();
+					} catch (PhoneAuthLimitOverException e) {
+						limitOverCount.incrementAndGet();
+					}
+					return null;
+				}))
+				.toList();
+			startLatch.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			executorService.shutdown();
+
+			// Then
+			assertThat(successCount.get()).isEqualTo(5);
+			assertThat(limitOverCount.get()).isEqualTo(threadCount - 5);
+			assertThat(redisTemplate.opsForHash().get(authKey, "count"))
+				.isEqualTo(String.valueOf(5));
+			assertThat(redisTemplate.opsForList().size(SMS_OUTBOX_KEY)).isEqualTo(5);
 		}
 	}
 
@@ -220,9 +257,7 @@ public class AuthServiceTest extends ServiceTestSupport {
 			savedAuthKey = "[AUTH]" + savedPhoneNumber;
 			savedAuthCode = "123456";
 
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			opsForList.rightPush(savedAuthKey, savedAuthCode);
-			opsForList.rightPush(savedAuthKey, Boolean.FALSE.toString());
+			savePhoneAuth(savedAuthKey, savedAuthCode, false);
 		}
 
 		@AfterEach
@@ -242,8 +277,8 @@ public class AuthServiceTest extends ServiceTestSupport {
 			authService.authenticateAuthCode(request);
 
 			//Then
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			String authStatus = opsForList.index(savedAuthKey, 1);
+			HashOperations<String, String, String> opsForHash = redisTemplate.opsForHash();
+			String authStatus = opsForHash.get(savedAuthKey, "verified");
 
 			assertThat(Boolean.valueOf(authStatus)).isTrue();
 		}
@@ -264,8 +299,8 @@ public class AuthServiceTest extends ServiceTestSupport {
 				.isInstanceOf(InvalidPhoneAuthCodeException.class)
 				.hasMessage(expectedException.getMessage());
 
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			String authStatus = opsForList.index(savedAuthKey, 1);
+			HashOperations<String, String, String> opsForHash = redisTemplate.opsForHash();
+			String authStatus = opsForHash.get(savedAuthKey, "verified");
 
 			assertThat(Boolean.valueOf(authStatus)).isFalse();
 		}
@@ -307,9 +342,7 @@ public class AuthServiceTest extends ServiceTestSupport {
 			String authKey = "[AUTH]" + authenticatedPhoneNumber;
 			String authCode = "123456";
 
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			opsForList.rightPush(authKey, authCode);
-			opsForList.rightPush(authKey, Boolean.TRUE.toString());
+			savePhoneAuth(authKey, authCode, true);
 
 			// When & Then
 			assertThatNoException()
@@ -340,9 +373,7 @@ public class AuthServiceTest extends ServiceTestSupport {
 			String authKey = "[AUTH]" + notAuthenticatedPhoneNumber;
 			String authCode = "123456";
 
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			opsForList.rightPush(authKey, authCode);
-			opsForList.rightPush(authKey, Boolean.FALSE.toString());
+			savePhoneAuth(authKey, authCode, false);
 
 			// When & Then
 			assertThatThrownBy(
@@ -363,9 +394,7 @@ public class AuthServiceTest extends ServiceTestSupport {
 		void setUp() {
 			String authCode = "123456";
 
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			opsForList.rightPush(authKey, authCode);
-			opsForList.rightPush(authKey, Boolean.TRUE.toString());
+			savePhoneAuth(authKey, authCode, true);
 		}
 
 		@AfterEach
@@ -381,9 +410,9 @@ public class AuthServiceTest extends ServiceTestSupport {
 			authService.deleteAuthenticationInfoInRedis(authenticatedPhoneNumber);
 
 			// Then
-			ListOperations<String, String> opsForList = redisTemplate.opsForList();
-			Long size = opsForList.size(authKey);
-			assertThat(size).isZero();
+			HashOperations<String, String, String> opsForHash = redisTemplate.opsForHash();
+			assertThat(opsForHash.hasKey(authKey, "code")).isFalse();
+			assertThat(opsForHash.hasKey(authKey, "verified")).isFalse();
 		}
 	}
 
@@ -530,6 +559,15 @@ public class AuthServiceTest extends ServiceTestSupport {
 		}
 	}
 
+	private void savePhoneAuth(String authKey, String code, boolean verified) {
+		long expiredAt = System.currentTimeMillis() + Duration.ofMinutes(2).toMillis();
+		redisTemplate.opsForHash().putAll(authKey, Map.of(
+			"code", code,
+			"verified", String.valueOf(verified),
+			"expiredAt", String.valueOf(expiredAt),
+			"count", String.valueOf(1)));
+	}
+
 	private LoginServiceRequest createLoginServiceRequest(String phone, String password) {
 		return LoginServiceRequest.builder()
 			.phone(phone)
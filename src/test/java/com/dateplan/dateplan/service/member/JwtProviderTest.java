@@ -10,10 +10,14 @@ import static com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage.TOK
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.dateplan.dateplan.domain.member.service.dto.response.AuthToken;
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.member.service.MemberService;
+import com.dateplan.dateplan.domain.member.service.dto.request.UpdatePasswordServiceRequest;
 import com.dateplan.dateplan.global.auth.JwtProvider;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
@@ -37,6 +41,9 @@ public class JwtProviderTest extends ServiceTestSupport {
 	private JwtProvider jwtProvider;
 
 	@Autowired
+	private MemberService memberService;
+
+	@SpyBean
 	private MemberRepository memberRepository;
 
 	@SpyBean
@@ -91,6 +98,32 @@ public class JwtProviderTest extends ServiceTestSupport {
 				.isEqualTo(member.getId());
 		}
 
+		@DisplayName("같은 토큰으로 여러 번 조회하면 회원 정보를 한 번만 조회하고, 회원 정보가 바뀌면 다시 조회한다")
+		@Test
+		void returnCachedMemberUntilMemberUpdated() {
+
+			// Given
+			Member member = memberRepository.save(createMember("01012345678"));
+			String accessToken = jwtProvider.generateToken(
+				member.getId(),
+				ACCESS_TOKEN_EXPIRATION.getExpiration(),
+				SUBJECT_ACCESS_TOKEN.getContent()
+			);
+
+			// When
+			Member first = jwtProvider.findMemberByToken(accessToken);
+			Member second = jwtProvider.findMemberByToken(accessToken);
+			memberService.updatePassword(first, member.getId(),
+				UpdatePasswordServiceRequest.builder().password("newPassword").build());
+			Member updated = jwtProvider.findMemberByToken(accessToken);
+
+			// Then
+			assertThat(second).isNotSameAs(first);
+			assertThat(second.getId()).isEqualTo(member.getId());
+			assertThat(updated.getPassword()).isNotEqualTo(first.getPassword());
+			verify(memberRepository, times(2)).findById(member.getId());
+		}
+
 		@DisplayName("유저가 존재하지 않으면 예외를 반환한다")
 		@Test
 		void returnNotFoundExceptionGivenInvalidToken() {
@@ -111,6 +144,28 @@ public class JwtProviderTest extends ServiceTestSupport {
 				.isInstanceOf(MemberNotFoundException.class)
 				.hasMessage(MEMBER_NOT_FOUND);
 		}
+
+		@DisplayName("탈퇴한 유저라면 삭제되기 전이라도 예외를 반환한다")
+		@Test
+		void returnNotFoundExceptionGivenWithdrawnMember() {
+
+			// Given
+			Member member = memberRepository.save(createMember("01012345678"));
+			member.withdraw();
+			memberRepository.save(member);
+
+			// When
+			String accessToken = jwtProvider.generateToken(
+				member.getId(),
+				ACCESS_TOKEN_EXPIRATION.getExpiration(),
+				SUBJECT_ACCESS_TOKEN.getContent()
+			);
+
+			// Then
+			assertThatThrownBy(() -> jwtProvider.findMemberByToken(accessToken))
+				.isInstanceOf(MemberNotFoundException.class)
+				.hasMessage(MEMBER_NOT_FOUND);
+		}
 	}
 
 	@Nested
@@ -175,6 +230,52 @@ public class JwtProviderTest extends ServiceTestSupport {
 				jwtProvider.findMemberByToken(refreshToken).getId()).isEqualTo(member.getId());
 		}
 
+		@DisplayName("리프레시 토큰으로 재발급하면 새 리프레시 토큰이 만료 시간과 함께 저장된다")
+		@Test
+		void saveRotatedRefreshTokenWithTtl() {
+
+			// Given & When
+			AuthToken authToken = jwtProvider.generateTokenByRefreshToken(savedRefreshToken);
+
+			// Then
+			String key = "[REFRESH]" + member.getId();
+			assertThat(redisTemplate.opsForValue().get(key))
+				.isEqualTo(authToken.getRefreshTokenWithoutPrefix());
+			assertThat(redisTemplate.getExpire(key)).isPositive();
+		}
+
+		@DisplayName("저장된 토큰과 다른 리프레시 토큰이 주어지면 예외를 반환하고 저장된 토큰을 삭제한다")
+		@Test
+		void returnExceptionAndDeleteGivenReusedRefreshToken() {
+
+			// Given
+			String otherRefreshToken = jwtProvider.generateToken(member.getId(),
+				REFRESH_TOKEN_EXPIRATION.getExpiration() - 1_000L,
+				SUBJECT_REFRESH_TOKEN.getContent());
+
+			// When & Then
+			assertThatThrownBy(() -> jwtProvider.generateTokenByRefreshToken(otherRefreshToken))
+				.isInstanceOf(TokenInvalidException.class)
+				.hasMessage(TOKEN_INVALID);
+			assertThat(redisTemplate.hasKey("[REFRESH]" + member.getId())).isFalse();
+		}
+
+		@DisplayName("액세스 토큰이 주어지면 예외를 반환하고 저장된 리프레시 토큰은 유지한다")
+		@Test
+		void returnExceptionAndKeepGivenAccessToken() {
+
+			// Given
+			String accessToken = jwtProvider.generateToken(member.getId(),
+				ACCESS_TOKEN_EXPIRATION.getExpiration(), SUBJECT_ACCESS_TOKEN.getContent());
+
+			// When & Then
+			assertThatThrownBy(() -> jwtProvider.generateTokenByRefreshToken(accessToken))
+				.isInstanceOf(TokenInvalidException.class)
+				.hasMessage(TOKEN_INVALID);
+			assertThat(redisTemplate.opsForValue().get("[REFRESH]" + member.getId()))
+				.isEqualTo(savedRefreshToken);
+		}
+
 		@DisplayName("올바르지 않은 리프레시 토큰이 주어지면 예외를 반환한다")
 		@Test
 		void returnExceptionGivenInvalidRefreshToken() {
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.times;
 import com.amazonaws.SdkClientException;
 import com.dateplan.dateplan.domain.couple.entity.Couple;
 import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.service.CoupleReadService;
 import com.dateplan.dateplan.domain.couple.service.CoupleService;
 import com.dateplan.dateplan.domain.member.controller.dto.request.UpdatePasswordRequest;
 import com.dateplan.dateplan.domain.member.controller.dto.response.PresignedURLResponse;
@@ -34,12 +35,16 @@ import com.dateplan.dateplan.domain.member.service.dto.request.CheckPasswordServ
 import com.dateplan.dateplan.domain.member.service.dto.request.CheckPasswordServiceResponse;
 import com.dateplan.dateplan.domain.member.service.dto.request.SignUpServiceRequest;
 import com.dateplan.dateplan.domain.member.service.dto.request.UpdatePasswordServiceRequest;
+import com.dateplan.dateplan.domain.purge.repository.DataPurgeRepository;
+import com.dateplan.dateplan.domain.purge.service.DataPurgeService;
 import com.dateplan.dateplan.domain.s3.S3ImageType;
+import com.dateplan.dateplan.global.auth.MemberSnapshot;
 import com.dateplan.dateplan.global.constant.Gender;
 import com.dateplan.dateplan.global.constant.Operation;
 import com.dateplan.dateplan.global.constant.Resource;
 import com.dateplan.dateplan.global.exception.S3Exception;
 import com.dateplan.dateplan.global.exception.S3ImageNotFoundException;
+import com.dateplan.dateplan.global.exception.auth.MemberNotFoundException;
 import com.dateplan.dateplan.global.exception.auth.NoPermissionException;
 import com.dateplan.dateplan.global.exception.auth.PhoneNotAuthenticatedException;
 import com.dateplan.dateplan.global.exception.member.AlReadyRegisteredNicknameException;
@@ -78,6 +83,15 @@ public class MemberServiceTest extends ServiceTestSupport {
 	@SpyBean
 	private CoupleService coupleService;
 
+	@Autowired
+	private CoupleReadService coupleReadService;
+
+	@Autowired
+	private DataPurgeService dataPurgeService;
+
+	@Autowired
+	private DataPurgeRepository dataPurgeRepository;
+
 	@Autowired
 	private PasswordEncryptor passwordEncryptor;
 
@@ -648,6 +662,7 @@ public class MemberServiceTest extends ServiceTestSupport {
 
 		@AfterEach
 		void tearDown() {
+			dataPurgeRepository.deleteAllInBatch();
 			coupleRepository.deleteAllInBatch();
 			memberRepository.deleteAllInBatch();
 		}
@@ -663,6 +678,11 @@ public class MemberServiceTest extends ServiceTestSupport {
 			memberService.withdrawal(other, other.getId());
 
 			// Then
+			Member withdrawnMember = memberRepository.findById(other.getId()).orElseThrow();
+			assertThat(withdrawnMember.isWithdrawn()).isTrue();
+			assertThat(memberRepository.existsByPhone("01011114444")).isFalse();
+
+			purgeAll();
 			assertThat(memberRepository.findById(other.getId())).isEmpty();
 
 			// Verify
@@ -678,9 +698,14 @@ public class MemberServiceTest extends ServiceTestSupport {
 			memberService.withdrawal(member, member.getId());
 
 			// Then
+			assertThat(memberRepository.findById(member.getId()).orElseThrow().isWithdrawn())
+				.isTrue();
+			assertThat(coupleReadService.isMemberConnected(partner)).isFalse();
+
+			purgeAll();
+			assertThat(coupleRepository.findById(couple.getId())).isEmpty();
 			assertThat(memberRepository.findById(member.getId())).isEmpty();
 			assertThat(memberRepository.findById(partner.getId())).isPresent();
-			assertThat(coupleRepository.findById(couple.getId())).isEmpty();
 
 			// Verify
 			then(coupleService)
@@ -702,6 +727,13 @@ public class MemberServiceTest extends ServiceTestSupport {
 			then(coupleService)
 				.shouldHaveNoInteractions();
 		}
+
+		private void purgeAll() {
+			boolean hasNext = true;
+			while (hasNext) {
+				hasNext = dataPurgeService.purgeNextChunk();
+			}
+		}
 	}
 
 	@Nested
@@ -747,6 +779,29 @@ public class MemberServiceTest extends ServiceTestSupport {
 				.isTrue();
 		}
 
+		@DisplayName("[실패] 캐시된 로그인 회원이 그 사이 탈퇴했다면 실패하고, 탈퇴 상태가 유지된다.")
+		@Test
+		void should_throwMemberNotFoundException_When_withdrawnAfterCached() {
+
+			// Given
+			Member loginMember = MemberSnapshot.from(member).toMember();
+			Member withdrawnMember = memberRepository.findById(member.getId()).orElseThrow();
+			withdrawnMember.withdraw();
+			memberRepository.save(withdrawnMember);
+
+			UpdatePasswordServiceRequest request = UpdatePasswordServiceRequest.builder()
+				.password("newPassword")
+				.build();
+
+			// When & Then
+			assertThatThrownBy(
+				() -> memberService.updatePassword(loginMember, loginMember.getId(), request))
+				.isInstanceOf(MemberNotFoundException.class);
+
+			assertThat(memberRepository.findById(member.getId()).orElseThrow().isWithdrawn())
+				.isTrue();
+		}
+
 		@DisplayName("[실패] 요청한 회원의 id와 로그인한 회원의 id가 다르면 실패한다")
 		@Test
 		void should_throwNoPermissionException_When_mismatchMemberId() {
@@ -0,0 +1,143 @@
+package com.dateplan.dateplan.service.metrics;
+
+import static com.dateplan.dateplan.global.constant.Auth.ACCESS_TOKEN_EXPIRATION;
+import static com.dateplan.dateplan.global.constant.Auth.BEARER;
+import static com.dateplan.dateplan.global.constant.Auth.HEADER_AUTHORIZATION;
+import static com.dateplan.dateplan.global.constant.Auth.SUBJECT_ACCESS_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dateplan.dateplan.domain.couple.service.CoupleService;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleJDBCRepository;
+import com.dateplan.dateplan.global.auth.JwtProvider;
+import com.dateplan.dateplan.global.config.metrics.HandlerMethodObservationConvention;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+public class MetricsTest extends ServiceTestSupport {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private JwtProvider jwtProvider;
+
+	@Autowired
+	private CoupleService coupleService;
+
+	@Autowired
+	private ScheduleJDBCRepository scheduleJDBCRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder()
+			.name("홍길동")
+			.nickname("nickname")
+			.phone("01012345678")
+			.password("password")
+			.gender(Gender.MALE)
+			.birthDay(LocalDate.of(1999, 10, 10))
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.deleteAllInBatch();
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+
+	@DisplayName("엔드포인트 지연 시간은 요청을 처리한 컨트롤러 메서드 태그와 함께 기록된다")
+	@Test
+	void recordHttpServerRequestsByHandler() throws Exception {
+
+		// Given
+		String accessToken = jwtProvider.generateToken(member.getId(),
+			ACCESS_TOKEN_EXPIRATION.getExpiration(), SUBJECT_ACCESS_TOKEN.getContent());
+
+		// When
+		mockMvc.perform(get("/api/members/me")
+				.header(HEADER_AUTHORIZATION.getContent(), BEARER.getContent() + accessToken))
+			.andExpect(status().isOk());
+
+		// Then
+		Timer timer = meterRegistry.find("http.server.requests")
+			.tag(HandlerMethodObservationConvention.HANDLER_TAG,
+				"MemberController#getCurrentLoginMemberInfo")
+			.timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isPositive();
+	}
+
+	@DisplayName("커넥션 풀의 사용량과 커넥션 획득 대기 시간이 기록된다")
+	@Test
+	void registerHikariPoolMeters() {
+
+		// When
+		memberRepository.count();
+
+		// Then
+		assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections.usage").timer()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections.pending").gauge()).isNotNull();
+		assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+	}
+
+	@DisplayName("Redis 호출 시간이 서비스 작업별로 기록된다")
+	@Test
+	void recordRedisCall() {
+
+		// When
+		coupleService.getConnectionCode(member, member.getId());
+
+		// Then
+		Timer timer = meterRegistry.find(ExternalCallTimer.METRIC_NAME)
+			.tag("target", ExternalCallTimer.REDIS)
+			.tag("operation", "getConnectionCode")
+			.timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isPositive();
+	}
+
+	@DisplayName("반복 일정 일괄 수정 쿼리의 소요 시간과 수정된 행 수가 기록된다")
+	@Test
+	void recordScheduleJdbcUpdate() {
+
+		// When
+		scheduleJDBCRepository.updateAllBySchedulePatternId(-1L, "title", null, null, 0, 0);
+
+		// Then
+		assertThat(meterRegistry.find(ScheduleJDBCRepository.UPDATE_TIMER_NAME)
+			.tag("operation", "updateAll")
+			.timer()).isNotNull();
+		assertThat(meterRegistry.find(ScheduleJDBCRepository.UPDATE_ROWS_NAME)
+			.tag("operation", "updateAll")
+			.summary()).isNotNull();
+	}
+}
@@ -0,0 +1,286 @@
+package com.dateplan.dateplan.service.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.domain.couple.entity.Couple;
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.dating.entity.Dating;
+import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.purge.entity.DataPurge;
+import com.dateplan.dateplan.domain.purge.entity.PurgeStage;
+import com.dateplan.dateplan.domain.purge.repository.DataPurgeRepository;
+import com.dateplan.dateplan.domain.purge.service.DataPurgeService;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class DataPurgeServiceTest extends ServiceTestSupport {
+
+	@Autowired
+	private DataPurgeService dataPurgeService;
+
+	@Autowired
+	private DataPurgeRepository dataPurgeRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CoupleRepository coupleRepository;
+
+	@Autowired
+	private DatingRepository datingRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private SchedulePatternRepository schedulePatternRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DisplayName("삭제 요청을 처리할 때")
+	@Nested
+	class PurgeNextChunk {
+
+		private Member member;
+		private Member partner;
+		private Couple couple;
+
+		@BeforeEach
+		void setUp() {
+			member = memberRepository.save(createMember("01011112222", "aaa"));
+			partner = memberRepository.save(createMember("01011113333", "bbb"));
+			couple = coupleRepository.save(Couple.builder()
+				.member1(member)
+				.member2(partner)
+				.firstDate(LocalDate.now())
+				.build());
+		}
+
+		@AfterEach
+		void tearDown() {
+			dataPurgeRepository.deleteAllInBatch();
+			datingRepository.deleteAllInBatch();
+			scheduleRepository.deleteAllInBatch();
+			schedulePatternRepository.deleteAllInBatch();
+			coupleRepository.deleteAllInBatch();
+			memberRepository.deleteAllInBatch();
+		}
+
+		@DisplayName("chunk 크기만큼씩 나눠 지우고, 진행 단계가 저장되어 다음 호출에서 이어서 지운다.")
+		@Test
+		void withChunkedPurge() {
+
+			// Given
+			saveSchedules(member, 3);
+			saveDatings(3);
+			dataPurgeService.purgeCouple(couple.getId(), member.getId(), partner.getId());
+
+			// When
+			dataPurgeService.purgeNextChunk();
+
+			// Then
+			assertThat(scheduleRepository.count()).isEqualTo(1);
+			assertThat(findDataPurge().getStage()).isEqualTo(PurgeStage.SCHEDULE);
+
+			// When
+			dataPurgeService.purgeNextChunk();
+
+			// Then
+			assertThat(scheduleRepository.count()).isZero();
+			assertThat(findDataPurge().getStage()).isEqualTo(PurgeStage.SCHEDULE_EXCLUSION);
+			assertThat(datingRepository.count()).isEqualTo(3);
+
+			// When
+			purgeAll();
+
+			// Then
+			assertThat(dataPurgeRepository.findAll()).isEmpty();
+			assertThat(schedulePatternRepository.findAll()).isEmpty();
+			assertThat(datingRepository.findAll()).isEmpty();
+			assertThat(coupleRepository.findAll()).isEmpty();
+		}
+
+		@DisplayName("삭제를 요청한 이후에 생성된 일정은 지우지 않는다.")
+		@Test
+		void withSchedulePatternCreatedAfterRequest() {
+
+			// Given
+			saveSchedules(member, 1);
+			dataPurgeService.purgeCouple(couple.getId(), member.getId(), partner.getId());
+			SchedulePattern createdSchedulePattern = saveSchedules(member, 1);
+
+			// When
+			purgeAll();
+
+			// Then
+			List<SchedulePattern> schedulePatterns = schedulePatternRepository.findAll();
+			assertThat(schedulePatterns).hasSize(1);
+			assertThat(schedulePatterns.get(0).getId()).isEqualTo(createdSchedulePattern.getId());
+			assertThat(scheduleRepository.count()).isEqualTo(1);
+		}
+
+		@DisplayName("연결되지 않은 회원의 삭제 요청이라면, 회원의 일정만 지운다.")
+		@Test
+		void withMemberPurge() {
+
+			// Given
+			saveSchedules(member, 1);
+			saveSchedules(partner, 1);
+			saveDatings(1);
+			dataPurgeService.purgeMember(member.getId());
+
+			// When
+			purgeAll();
+
+			// Then
+			List<SchedulePattern> schedulePatterns = schedulePatternRepository.findAll();
+			assertThat(schedulePatterns).hasSize(1);
+			assertThat(schedulePatterns.get(0).getMember().getId()).isEqualTo(partner.getId());
+			assertThat(datingRepository.count()).isEqualTo(1);
+			assertThat(coupleRepository.findById(couple.getId())).isPresent();
+			assertThat(dataPurgeRepository.findAll()).isEmpty();
+		}
+
+		@DisplayName("탈퇴한 회원의 삭제 요청이라면, 회원의 일정을 지운 뒤 회원을 지운다.")
+		@Test
+		void withWithdrawnMemberPurge() {
+
+			// Given
+			Member withdrawnMember = memberRepository.save(createMember("01011114444", "ccc"));
+			saveSchedules(withdrawnMember, 1);
+			withdrawnMember.withdraw();
+			memberRepository.save(withdrawnMember);
+			dataPurgeService.purgeMember(withdrawnMember.getId());
+
+			// When
+			purgeAll();
+
+			// Then
+			assertThat(memberRepository.findById(withdrawnMember.getId())).isEmpty();
+			assertThat(schedulePatternRepository.findAll()).isEmpty();
+			assertThat(dataPurgeRepository.findAll()).isEmpty();
+		}
+
+		@DisplayName("삭제에 실패한 요청은 재시도 시각까지 건너뛰고, 재시도할 때 처음 단계부터 다시 지운다.")
+		@Test
+		void withFailedPurge() {
+
+			// Given
+			saveDatings(1);
+			dataPurgeService.purgeCouple(couple.getId(), member.getId(), partner.getId());
+			Long failedDataPurgeId = findDataPurge().getId();
+			while (findDataPurge().getStage() != PurgeStage.COUPLE) {
+				dataPurgeService.purgeNextChunk();
+			}
+
+			Member other = memberRepository.save(createMember("01011114444", "ccc"));
+			saveSchedules(other, 1);
+			dataPurgeService.purgeMember(other.getId());
+
+			// 연결 해제 이후 저장된 데이트가 커플 삭제를 막는다.
+			saveDatings(1);
+
+			// When
+			dataPurgeService.purgeNextChunk();
+
+			// Then
+			DataPurge failedDataPurge = dataPurgeRepository.findById(failedDataPurgeId)
+				.orElseThrow();
+			assertThat(failedDataPurge.getAttemptCount()).isEqualTo(1);
+			assertThat(failedDataPurge.getStage()).isEqualTo(PurgeStage.SCHEDULE);
+			assertThat(failedDataPurge.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+			// When
+			purgeAll();
+
+			// Then
+			assertThat(dataPurgeRepository.findAll()).extracting(DataPurge::getId)
+				.containsExactly(failedDataPurgeId);
+			assertThat(schedulePatternRepository.findAll()).isEmpty();
+			assertThat(coupleRepository.findById(couple.getId())).isPresent();
+
+			// When
+			jdbcTemplate.update("UPDATE data_purge SET next_attempt_at = ?",
+				LocalDateTime.now().minusSeconds(1));
+			purgeAll();
+
+			// Then
+			assertThat(dataPurgeRepository.findAll()).isEmpty();
+			assertThat(datingRepository.findAll()).isEmpty();
+			assertThat(coupleRepository.findById(couple.getId())).isEmpty();
+		}
+
+		private SchedulePattern saveSchedules(Member owner, int count) {
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.member(owner)
+					.repeatStartDate(LocalDate.now())
+					.repeatEndDate(LocalDate.now().plusDays(count))
+					.repeatRule(RepeatRule.D)
+					.build());
+
+			scheduleRepository.saveAll(IntStream.range(0, count)
+				.mapToObj(day -> Schedule.builder()
+					.title("title")
+					.schedulePattern(schedulePattern)
+					.startDateTime(LocalDateTime.now().plusDays(day))
+					.endDateTime(LocalDateTime.now().plusDays(day))
+					.build())
+				.toList());
+			return schedulePattern;
+		}
+
+		private void saveDatings(int count) {
+			datingRepository.saveAll(IntStream.range(0, count)
+				.mapToObj(day -> Dating.builder()
+					.title("title")
+					.couple(couple)
+					.startDateTime(LocalDateTime.now().plusDays(day))
+					.endDateTime(LocalDateTime.now().plusDays(day))
+					.build())
+				.toList());
+		}
+
+		private DataPurge findDataPurge() {
+			return dataPurgeRepository.findAll().get(0);
+		}
+
+		private void purgeAll() {
+			boolean hasNext = true;
+			while (hasNext) {
+				hasNext = dataPurgeService.purgeNextChunk();
+			}
+		}
+	}
+
+	private Member createMember(String phone, String nickname) {
+		return Member.builder()
+			.phone(phone)
+			.password("password")
+			.name("name")
+			.birthDay(LocalDate.now().minusDays(1L))
+			.gender(Gender.MALE)
+			.nickname(nickname)
+			.build();
+	}
+}
@@ -6,9 +6,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
@@ -19,23 +21,32 @@ import com.dateplan.dateplan.domain.s3.S3ImageType;
 import com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage;
 import com.dateplan.dateplan.global.exception.S3Exception;
 import com.dateplan.dateplan.global.exception.S3ImageNotFoundException;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.MalformedURLException;
 import java.net.URL;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 @ExtendWith(MockitoExtension.class)
 class S3ClientTest {
 
 	private final S3Client s3Client;
 	private final AmazonS3 amazonS3;
+	private final MeterRegistry meterRegistry;
 
 	public S3ClientTest() {
 		this.amazonS3 = mock(AmazonS3Client.class);
-		this.s3Client = new S3Client("bucket", this.amazonS3);
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.s3Client = new S3Client("bucket", this.amazonS3, this.meterRegistry);
 	}
 
 	@Nested
@@ -83,6 +94,31 @@ class S3ClientTest {
 				.hasMessage(DetailMessage.S3_CREATE_PRESIGNED_URL_FAIL)
 				.hasCauseInstanceOf(SdkClientException.class);
 		}
+
+		@DisplayName("S3 로 요청하면 성공 여부와 관계없이 요청 시간을 기록한다.")
+		@Test
+		void recordTimer() {
+
+			// Given
+			String fileName = "fileName";
+			S3ImageType imageType = S3ImageType.MEMBER_PROFILE;
+
+			// Stub
+			given(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+				.willThrow(new SdkClientException("message"));
+
+			// When
+			assertThatThrownBy(() -> s3Client.getPreSignedUrl(imageType, fileName))
+				.isInstanceOf(S3Exception.class);
+
+			// Then
+			Timer timer = meterRegistry.find(ExternalCallTimer.METRIC_NAME)
+				.tag("target", ExternalCallTimer.S3)
+				.tag("operation", "generatePresignedUrl")
+				.timer();
+			assertThat(timer).isNotNull();
+			assertThat(timer.count()).isEqualTo(1);
+		}
 	}
 
 	@Nested
@@ -194,4 +230,64 @@ class S3ClientTest {
 				.hasCauseInstanceOf(SdkClientException.class);
 		}
 	}
+
+	@Nested
+	@DisplayName("트랜잭션 커밋 이후 객체 삭제를 요청하면")
+	class DeleteObjectAfterCommit {
+
+		@AfterEach
+		void tearDown() {
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+
+		@DisplayName("커밋되기 전에는 삭제하지 않고, 커밋된 이후에 삭제한다.")
+		@Test
+		void withCommittedTransaction() {
+
+			// Given
+			String fileName = "fileName";
+			S3ImageType imageType = S3ImageType.MEMBER_PROFILE;
+			TransactionSynchronizationManager.initSynchronization();
+
+			// When
+			s3Client.deleteObjectAfterCommit(imageType, fileName);
+
+			// Then
+			then(amazonS3).shouldHaveNoInteractions();
+
+			// When
+			TransactionSynchronizationUtils.invokeAfterCommit(
+				TransactionSynchronizationManager.getSynchronizations());
+
+			// Then
+			then(amazonS3)
+				.should(times(1))
+				.deleteObject("bucket", imageType.getFullPath(fileName));
+		}
+
+		@DisplayName("커밋 이후 S3 삭제에 실패하더라도 예외를 전파하지 않는다.")
+		@Test
+		void withUnAvailableS3() {
+
+			// Given
+			String fileName = "fileName";
+			S3ImageType imageType = S3ImageType.MEMBER_PROFILE;
+			TransactionSynchronizationManager.initSynchronization();
+
+			// Stub
+			willThrow(new SdkClientException("message"))
+				.given(amazonS3)
+				.deleteObject(anyString(), anyString());
+
+			// When
+			s3Client.deleteObjectAfterCommit(imageType, fileName);
+
+			// Then
+			assertThatNoException().isThrownBy(() ->
+				TransactionSynchronizationUtils.invokeAfterCommit(
+					TransactionSynchronizationManager.getSynchronizations()));
+		}
+	}
 }
@@ -13,7 +13,9 @@ import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
 import com.dateplan.dateplan.domain.schedule.controller.dto.response.ScheduleEntry;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.ScheduleExclusion;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleExclusionRepository;
 import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleQueryRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
@@ -68,6 +70,9 @@ public class ScheduleReadServiceTest extends ServiceTestSupport {
 	@Autowired
 	private SchedulePatternRepository schedulePatternRepository;
 
+	@Autowired
+	private ScheduleExclusionRepository scheduleExclusionRepository;
+
 	@DisplayName("일정 날짜를 조회할 때")
 	@Nested
 	class ReadSchedulesDate {
@@ -412,6 +417,137 @@ public class ScheduleReadServiceTest extends ServiceTestSupport {
 		}
 	}
 
+	@DisplayName("지연 전개되는 반복 일정을 조회할 때")
+	@Nested
+	class ReadLazyRepeatSchedules {
+
+		LocalDate repeatStartDate = LocalDate.of(2023, 5, 1);
+		LocalDate excludedDate = repeatStartDate.plusDays(2);
+		Member member;
+		Schedule schedule;
+
+		@BeforeEach
+		void setUp() {
+			member = memberRepository.save(createMember("01012345678", "nickname"));
+
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.repeatRule(RepeatRule.D)
+					.repeatStartDate(repeatStartDate)
+					.repeatEndDate(repeatStartDate.plusDays(9))
+					.member(member)
+					.lazyExpansion(true)
+					.build());
+			schedule = scheduleRepository.save(createSchedule(repeatStartDate, schedulePattern));
+			scheduleExclusionRepository.save(ScheduleExclusion.builder()
+				.excludedDate(excludedDate)
+				.schedulePattern(schedulePattern)
+				.build());
+
+			given(coupleReadService.getPartnerId(any(Member.class)))
+				.willReturn(member.getId() + 1);
+		}
+
+		@AfterEach
+		void tearDown() {
+			scheduleExclusionRepository.deleteAllInBatch();
+			scheduleRepository.deleteAllInBatch();
+			schedulePatternRepository.deleteAllInBatch();
+			memberRepository.deleteAllInBatch();
+		}
+
+		@DisplayName("반복 종료일까지의 회차 중 제외된 회차를 뺀 날짜들이 조회된다")
+		@Test
+		void successWithScheduleDates() {
+
+			// When
+			ScheduleDatesServiceResponse response = scheduleReadService.readScheduleDates(member,
+				member.getId(), 2023, 5);
+
+			// Then
+			List<LocalDate> expectedDates = repeatStartDate.datesUntil(repeatStartDate.plusDays(10))
+				.filter(date -> !date.equals(excludedDate))
+				.toList();
+			assertThat(response.getScheduleDates()).containsExactlyElementsOf(expectedDates);
+		}
+
+		@DisplayName("해당 날짜의 회차가 첫 회차 일정의 id로 조회되고, 제외된 날짜에는 조회되지 않는다")
+		@Test
+		void successWithSchedules() {
+
+			// Given
+			LocalDate requestDate = repeatStartDate.plusDays(5);
+
+			// When
+			ScheduleServiceResponse response = scheduleReadService.readSchedules(member.getId(),
+				member, requestDate.getYear(), requestDate.getMonthValue(),
+				requestDate.getDayOfMonth());
+			ScheduleServiceResponse excludedResponse = scheduleReadService.readSchedules(
+				member.getId(), member, excludedDate.getYear(), excludedDate.getMonthValue(),
+				excludedDate.getDayOfMonth());
+
+			// Then
+			assertThat(response.getSchedules()).hasSize(1);
+			ScheduleEntry entry = response.getSchedules().get(0);
+			assertThat(entry.getScheduleId()).isEqualTo(schedule.getId());
+			assertThat(entry.getStartDateTime()).isEqualTo(requestDate.atTime(0, 0));
+			assertThat(entry.getEndDateTime()).isEqualTo(requestDate.atTime(23, 59));
+			assertThat(entry.getRepeatRule()).isEqualTo(RepeatRule.D);
+
+			assertThat(excludedResponse.getSchedules()).isEmpty();
+		}
+
+		@DisplayName("연도 없이 월만 입력하면 해당 월의 회차 날짜만 조회된다")
+		@Test
+		void successWithMonthWithoutYear() {
+
+			// When
+			ScheduleDatesServiceResponse response = scheduleReadService.readScheduleDates(member,
+				member.getId(), null, 5);
+			ScheduleDatesServiceResponse otherMonthResponse = scheduleReadService
+				.readScheduleDates(member, member.getId(), null, 6);
+
+			// Then
+			List<LocalDate> expectedDates = repeatStartDate.datesUntil(repeatStartDate.plusDays(10))
+				.filter(date -> !date.equals(excludedDate))
+				.toList();
+			assertThat(response.getScheduleDates()).containsExactlyElementsOf(expectedDates);
+			assertThat(otherMonthResponse.getScheduleDates()).isEmpty();
+		}
+
+		@DisplayName("반복이 조회 구간 이전에 끝났다면 조회되지 않고, 마지막 회차가 조회 구간까지 이어지면 조회된다")
+		@Test
+		void successWithRepeatEndDateBeforeRange() {
+
+			// Given
+			LocalDate lastCycleDate = LocalDate.of(2023, 6, 30);
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.repeatRule(RepeatRule.D)
+					.repeatStartDate(lastCycleDate.minusDays(1))
+					.repeatEndDate(lastCycleDate)
+					.member(member)
+					.lazyExpansion(true)
+					.build());
+			scheduleRepository.save(Schedule.builder()
+				.schedulePattern(schedulePattern)
+				.startDateTime(lastCycleDate.minusDays(1).atTime(10, 0))
+				.endDateTime(lastCycleDate.atTime(10, 0))
+				.title("title")
+				.build());
+
+			// When
+			ScheduleDatesServiceResponse julyResponse = scheduleReadService.readScheduleDates(
+				member, member.getId(), 2023, 7);
+			ScheduleDatesServiceResponse augustResponse = scheduleReadService.readScheduleDates(
+				member, member.getId(), 2023, 8);
+
+			// Then
+			assertThat(julyResponse.getScheduleDates()).containsExactly(LocalDate.of(2023, 7, 1));
+			assertThat(augustResponse.getScheduleDates()).isEmpty();
+		}
+	}
+
 	private Schedule createSchedule(LocalDate date, SchedulePattern schedulePattern) {
 		return Schedule.builder()
 			.schedulePattern(schedulePattern)
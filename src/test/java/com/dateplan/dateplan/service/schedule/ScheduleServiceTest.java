@@ -2,11 +2,14 @@ package com.dateplan.dateplan.service.schedule;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.dateplan.dateplan.domain.member.entity.Member;
 import com.dateplan.dateplan.domain.member.repository.MemberRepository;
 import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.ScheduleExclusion;
 import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleExclusionRepository;
 import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
 import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
 import com.dateplan.dateplan.domain.schedule.service.ScheduleService;
@@ -53,6 +56,9 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 	@Autowired
 	private ScheduleRepository scheduleRepository;
 
+	@Autowired
+	private ScheduleExclusionRepository scheduleExclusionRepository;
+
 	@Nested
 	@DisplayName("개인 일정을 생성할 때")
 	class CreateSchedule {
@@ -94,6 +100,10 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			assertThat(schedulePattern.getRepeatRule()).isEqualTo(request.getRepeatRule());
 			assertThat(schedulePattern.getMember().getId()).isEqualTo(memberId);
 
+			// 반복 일정도 첫 회차 한 건만 저장되고, 나머지 회차는 조회 시점에 계산된다.
+			assertThat(schedulePattern.isLazyExpansion()).isEqualTo(repeatRule != RepeatRule.N);
+			assertThat(schedules).hasSize(1);
+
 			int cycleCount = 0;
 			// Schedule assert
 			for (int i = 0; i < schedules.size(); i++, cycleCount++) {
@@ -192,8 +202,7 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			Schedule schedule = schedules.get(0);
 
 			// When
-			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member,
-				false);
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
 
 			// Then
 			Schedule updatedSchedule = scheduleRepository.findById(schedule.getId()).get();
@@ -213,8 +222,7 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			Schedule schedule = schedules.get(0);
 
 			// When
-			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member,
-				false);
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
 
 			// Then
 			Long newSchedulePatternId = schedule.getSchedulePattern().getId() + 1;
@@ -261,7 +269,7 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			);
 
 			scheduleService.updateSchedule(member.getId(), schedules.get(0).getId(), request,
-				member, false);
+				member);
 
 			SchedulePattern newSchedulePattern = schedulePatternRepository.findById(
 				schedulePattern.getId()).get();
@@ -293,8 +301,7 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 					.build()
 			);
 
-			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member,
-				false);
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
 
 			assertThat(schedule.getSchedulePattern().getId()).isEqualTo(schedulePattern.getId());
 		}
@@ -303,12 +310,11 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 		@Test
 		void successWithRepeatUpdateRequest() {
 			// Given
-			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest();
+			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest(true);
 			Schedule schedule = schedules.get(0);
 
 			// When
-			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member,
-				true);
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
 
 			// Then
 			List<Schedule> updatedSchedules = scheduleRepository.findBySchedulePatternId(
@@ -330,18 +336,141 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			}
 		}
 
+		@DisplayName("이후 일정 수정하는 요청 시, 선택한 일정부터 새 패턴으로 분리되어 함께 수정된다.")
+		@Test
+		void successWithFollowingUpdateRequest() {
+			// Given
+			LocalDateTime baseDateTime = LocalDate.now().atTime(12, 0);
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.member(member)
+					.repeatRule(RepeatRule.D)
+					.repeatStartDate(baseDateTime.toLocalDate())
+					.repeatEndDate(baseDateTime.toLocalDate().plusDays(2))
+					.build()
+			);
+			List<Schedule> repeatSchedules = scheduleRepository.saveAll(List.of(
+				createSchedule(schedulePattern, baseDateTime),
+				createSchedule(schedulePattern, baseDateTime.plusDays(1)),
+				createSchedule(schedulePattern, baseDateTime.plusDays(2))
+			));
+			Schedule schedule = repeatSchedules.get(1);
+			ScheduleUpdateServiceRequest request = ScheduleUpdateServiceRequest.builder()
+				.title("new Title")
+				.content("new Content")
+				.location("new Location")
+				.startDateTime(schedule.getStartDateTime().plusHours(1))
+				.endDateTime(schedule.getEndDateTime().plusHours(2))
+				.updateRepeat(true)
+				.updateFollowing(true)
+				.build();
+
+			// When
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
+
+			// Then
+			List<Schedule> originalSchedules = scheduleRepository.findBySchedulePatternId(
+				schedulePattern.getId());
+			assertThat(originalSchedules).hasSize(1)
+				.extracting(Schedule::getTitle, Schedule::getStartDateTime)
+				.containsExactly(tuple("title", baseDateTime));
+
+			Long newSchedulePatternId = scheduleRepository.findById(schedule.getId()).get()
+				.getSchedulePattern().getId();
+			assertThat(newSchedulePatternId).isNotEqualTo(schedulePattern.getId());
+			List<Schedule> followingSchedules = scheduleRepository.findBySchedulePatternId(
+				newSchedulePatternId);
+			assertThat(followingSchedules).hasSize(2)
+				.extracting(Schedule::getTitle, Schedule::getStartDateTime,
+					Schedule::getEndDateTime)
+				.containsExactlyInAnyOrder(
+					tuple("new Title", baseDateTime.plusDays(1).plusHours(1),
+						baseDateTime.plusDays(1).plusHours(3)),
+					tuple("new Title", baseDateTime.plusDays(2).plusHours(1),
+						baseDateTime.plusDays(2).plusHours(3))
+				);
+
+			SchedulePattern originalSchedulePattern = schedulePatternRepository.findById(
+				schedulePattern.getId()).get();
+			assertThat(originalSchedulePattern.getRepeatEndDate()).isEqualTo(
+				baseDateTime.toLocalDate());
+			SchedulePattern newSchedulePattern = schedulePatternRepository.findById(
+				newSchedulePatternId).get();
+			assertThat(newSchedulePattern.getRepeatRule()).isEqualTo(RepeatRule.D);
+			assertThat(newSchedulePattern.getRepeatStartDate()).isEqualTo(
+				baseDateTime.toLocalDate().plusDays(1));
+			assertThat(newSchedulePattern.getRepeatEndDate()).isEqualTo(
+				baseDateTime.toLocalDate().plusDays(2));
+		}
+
+		@DisplayName("지연 전개 반복 일정의 이후 일정 수정 요청 시, 선택한 회차부터 새 지연 전개 패턴으로 분리된다.")
+		@Test
+		void successWithLazyFollowingUpdateRequest() {
+			// Given
+			LocalDateTime baseDateTime = LocalDate.now().atTime(12, 0);
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.member(member)
+					.repeatRule(RepeatRule.D)
+					.repeatStartDate(baseDateTime.toLocalDate())
+					.repeatEndDate(baseDateTime.toLocalDate().plusDays(2))
+					.lazyExpansion(true)
+					.build()
+			);
+			Schedule schedule = scheduleRepository.save(
+				createSchedule(schedulePattern, baseDateTime));
+			LocalDate occurrenceDate = baseDateTime.toLocalDate().plusDays(1);
+			ScheduleUpdateServiceRequest request = ScheduleUpdateServiceRequest.builder()
+				.title("new Title")
+				.content("new Content")
+				.location("new Location")
+				.startDateTime(occurrenceDate.atTime(13, 0))
+				.endDateTime(occurrenceDate.atTime(15, 0))
+				.updateRepeat(true)
+				.updateFollowing(true)
+				.occurrenceDate(occurrenceDate)
+				.build();
+
+			// When
+			scheduleService.updateSchedule(member.getId(), schedule.getId(), request, member);
+
+			// Then
+			SchedulePattern originalSchedulePattern = schedulePatternRepository.findById(
+				schedulePattern.getId()).get();
+			assertThat(originalSchedulePattern.getRepeatEndDate()).isEqualTo(
+				baseDateTime.toLocalDate());
+			assertThat(scheduleRepository.findBySchedulePatternId(schedulePattern.getId()))
+				.extracting(Schedule::getTitle, Schedule::getStartDateTime)
+				.containsExactly(tuple("title", baseDateTime));
+
+			SchedulePattern newSchedulePattern = schedulePatternRepository.findAll().stream()
+				.filter(pattern -> !pattern.getId().equals(schedulePattern.getId()))
+				.filter(pattern -> pattern.getRepeatStartDate().equals(occurrenceDate))
+				.findFirst()
+				.get();
+			assertThat(newSchedulePattern.isLazyExpansion()).isTrue();
+			assertThat(newSchedulePattern.getRepeatRule()).isEqualTo(RepeatRule.D);
+			assertThat(newSchedulePattern.getRepeatEndDate()).isEqualTo(
+				baseDateTime.toLocalDate().plusDays(2));
+			assertThat(scheduleRepository.findBySchedulePatternId(newSchedulePattern.getId()))
+				.extracting(Schedule::getTitle, Schedule::getStartDateTime,
+					Schedule::getEndDateTime)
+				.containsExactly(
+					tuple("new Title", occurrenceDate.atTime(13, 0), occurrenceDate.atTime(15, 0)));
+		}
+
 		@DisplayName("현재 로그인한 회원의 id와 요청의 member_id가 다르면 실패한다.")
 		@Test
 		void failWithNoPermission() {
 
 			// Given
-			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest();
+			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest(true);
 
 			// When & Then
 			NoPermissionException exception = new NoPermissionException(Resource.MEMBER,
 				Operation.UPDATE);
 			assertThatThrownBy(() ->
-				scheduleService.updateSchedule(member.getId() + 100, 1L, request, member, true))
+				scheduleService.updateSchedule(member.getId() + 100, 1L, request, member))
 				.isInstanceOf(exception.getClass())
 				.hasMessage(exception.getMessage());
 
@@ -351,13 +480,13 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 		@Test
 		void failWIthScheduleNotFound() {
 			// Given
-			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest();
+			ScheduleUpdateServiceRequest request = createScheduleUpdateServiceRequest(true);
 
 			// When & Then
 			ScheduleNotFoundException exception = new ScheduleNotFoundException();
 			assertThatThrownBy(() ->
 				scheduleService.updateSchedule(
-					member.getId(), 100000L, request, member, true))
+					member.getId(), 100000L, request, member))
 				.isInstanceOf(exception.getClass())
 				.hasMessage(exception.getMessage());
 
@@ -395,7 +524,7 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 
 			assertThatThrownBy(() ->
 				scheduleService.updateSchedule(member.getId(), otherSchedule.getId(), request,
-					member, false))
+					member))
 				.isInstanceOf(exception.getClass())
 				.hasMessage(exception.getMessage());
 		}
@@ -561,6 +690,76 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 		}
 	}
 
+	@Nested
+	@DisplayName("지연 전개되는 반복 일정의 회차를 삭제할 때")
+	class DeleteLazyRepeatSchedule {
+
+		LocalDate repeatStartDate = LocalDate.of(2023, 5, 1);
+		Member member;
+		Schedule schedule;
+
+		@BeforeEach
+		void setUp() {
+			member = memberRepository.save(createMember("nickname"));
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.member(member)
+					.repeatStartDate(repeatStartDate)
+					.repeatEndDate(repeatStartDate.plusDays(1))
+					.repeatRule(RepeatRule.D)
+					.lazyExpansion(true)
+					.build());
+			schedule = scheduleRepository.save(Schedule.builder()
+				.title("title")
+				.startDateTime(repeatStartDate.atTime(10, 0))
+				.endDateTime(repeatStartDate.atTime(12, 0))
+				.schedulePattern(schedulePattern)
+				.build());
+		}
+
+		@AfterEach
+		void tearDown() {
+			scheduleExclusionRepository.deleteAllInBatch();
+			scheduleRepository.deleteAllInBatch();
+			schedulePatternRepository.deleteAllInBatch();
+			memberRepository.deleteAllInBatch();
+		}
+
+		@DisplayName("삭제한 회차는 제외 날짜로 저장되고, 모든 회차가 제외되면 반복 일정이 삭제된다.")
+		@Test
+		void successWithExcludedDate() {
+
+			// When
+			scheduleService.deleteSchedule(member.getId(), schedule.getId(), member, false,
+				repeatStartDate.plusDays(1));
+
+			// Then
+			assertThat(scheduleExclusionRepository.findAll())
+				.extracting(ScheduleExclusion::getExcludedDate)
+				.containsExactly(repeatStartDate.plusDays(1));
+			assertThat(scheduleRepository.findById(schedule.getId())).isPresent();
+
+			// When
+			scheduleService.deleteSchedule(member.getId(), schedule.getId(), member, false,
+				repeatStartDate);
+
+			// Then
+			assertThat(scheduleExclusionRepository.findAll()).isEmpty();
+			assertThat(scheduleRepository.findAll()).isEmpty();
+			assertThat(schedulePatternRepository.findAll()).isEmpty();
+		}
+
+		@DisplayName("반복 회차가 아닌 날짜를 입력하면 실패한다.")
+		@Test
+		void failWithInvalidOccurrenceDate() {
+
+			assertThatThrownBy(() ->
+				scheduleService.deleteSchedule(member.getId(), schedule.getId(), member, false,
+					repeatStartDate.plusDays(2)))
+				.isInstanceOf(ScheduleNotFoundException.class);
+		}
+	}
+
 	private Schedule createSchedule(SchedulePattern schedulePattern) {
 		return Schedule.builder()
 			.schedulePattern(schedulePattern)
@@ -572,13 +771,29 @@ public class ScheduleServiceTest extends ServiceTestSupport {
 			.build();
 	}
 
+	private Schedule createSchedule(SchedulePattern schedulePattern,
+		LocalDateTime startDateTime) {
+		return Schedule.builder()
+			.schedulePattern(schedulePattern)
+			.title("title")
+			.startDateTime(startDateTime)
+			.endDateTime(startDateTime.plusHours(1))
+			.build();
+	}
+
 	private ScheduleUpdateServiceRequest createScheduleUpdateServiceRequest() {
+		return createScheduleUpdateServiceRequest(false);
+	}
+
+	private ScheduleUpdateServiceRequest createScheduleUpdateServiceRequest(
+		boolean updateRepeat) {
 		return ScheduleUpdateServiceRequest.builder()
 			.title("new Title")
 			.content("new Content")
 			.location("new Location")
 			.startDateTime(LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.SECONDS))
 			.endDateTime(LocalDateTime.now().plusDays(20).truncatedTo(ChronoUnit.SECONDS))
+			.updateRepeat(updateRepeat)
 			.build();
 	}
 
@@ -0,0 +1,199 @@
+package com.dateplan.dateplan.service.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dateplan.dateplan.config.TestRedisConfig;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryPatternRepository;
+import com.dateplan.dateplan.domain.anniversary.repository.AnniversaryRepository;
+import com.dateplan.dateplan.domain.couple.repository.CoupleRepository;
+import com.dateplan.dateplan.domain.couple.repository.MemberCoupleRepository;
+import com.dateplan.dateplan.domain.dating.repository.DatingRepository;
+import com.dateplan.dateplan.domain.member.entity.Member;
+import com.dateplan.dateplan.domain.member.repository.MemberRepository;
+import com.dateplan.dateplan.domain.schedule.entity.Schedule;
+import com.dateplan.dateplan.domain.schedule.entity.SchedulePattern;
+import com.dateplan.dateplan.domain.schedule.repository.SchedulePatternRepository;
+import com.dateplan.dateplan.domain.schedule.repository.ScheduleRepository;
+import com.dateplan.dateplan.domain.s3.S3Client;
+import com.dateplan.dateplan.domain.seed.service.SeedDataRunner;
+import com.dateplan.dateplan.domain.seed.service.SeedDataService;
+import com.dateplan.dateplan.domain.sms.service.SmsSendClient;
+import com.dateplan.dateplan.global.constant.Gender;
+import com.dateplan.dateplan.global.constant.RepeatRule;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+// seed 프로필은 웹 서버 없이 실행되므로 같은 조건으로 띄우고, 데이터를 만든 뒤 종료하는 러너는 대신한다.
+@Import(TestRedisConfig.class)
+@ActiveProfiles({"test", "seed"})
+@SpringBootTest(webEnvironment = WebEnvironment.NONE)
+public class SeedDataServiceTest {
+
+	@MockBean
+	private SeedDataRunner seedDataRunner;
+
+	@MockBean
+	private SmsSendClient smsSendClient;
+
+	@MockBean
+	private S3Client s3Client;
+
+	@Autowired
+	private SeedDataService seedDataService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CoupleRepository coupleRepository;
+
+	@Autowired
+	private MemberCoupleRepository memberCoupleRepository;
+
+	@Autowired
+	private DatingRepository datingRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private SchedulePatternRepository schedulePatternRepository;
+
+	@Autowired
+	private AnniversaryRepository anniversaryRepository;
+
+	@Autowired
+	private AnniversaryPatternRepository anniversaryPatternRepository;
+
+	@AfterEach
+	void tearDown() {
+		deleteAll();
+	}
+
+	@DisplayName("합성 데이터를 만들 때")
+	@Nested
+	class Generate {
+
+		@DisplayName("회원을 둘씩 커플로 묶고, 커플마다 처음 만난 날과 두 회원의 생일 기념일을 만든다")
+		@Test
+		void pairMembersIntoCouples() {
+
+			// When
+			seedDataService.generate(5, 42L);
+
+			// Then
+			assertThat(memberRepository.count()).isEqualTo(5);
+			assertThat(coupleRepository.count()).isEqualTo(2);
+			assertThat(memberCoupleRepository.count()).isEqualTo(4);
+			assertThat(anniversaryPatternRepository.count()).isGreaterThanOrEqualTo(2 * 5);
+			assertThat(anniversaryRepository.count())
+				.isEqualTo(anniversaryPatternRepository.count());
+			assertThat(scheduleRepository.count())
+				.isGreaterThanOrEqualTo(schedulePatternRepository.count());
+		}
+
+		@DisplayName("시드가 같으면 같은 데이터를 만든다")
+		@Test
+		void sameSeedSameData() {
+
+			// Given
+			seedDataService.generate(4, 7L);
+			List<String> firstMembers = findMembers();
+			List<String> firstSchedules = findSchedules();
+			deleteAll();
+
+			// When
+			seedDataService.generate(4, 7L);
+
+			// Then
+			assertThat(findMembers()).isEqualTo(firstMembers);
+			assertThat(findSchedules()).isEqualTo(firstSchedules);
+		}
+
+		@DisplayName("회원이 이미 있는 DB 에는 만들지 않는다")
+		@Test
+		void failWhenMemberExists() {
+
+			// Given
+			memberRepository.save(Member.builder()
+				.name("홍길동")
+				.nickname("aaa")
+				.phone("01011112222")
+				.password("password")
+				.gender(Gender.MALE)
+				.birthDay(LocalDate.of(1999, 10, 10))
+				.build());
+
+			// When & Then
+			assertThatThrownBy(() -> seedDataService.generate(2, 1L))
+				.isInstanceOf(IllegalStateException.class);
+			assertThat(memberRepository.count()).isEqualTo(1);
+		}
+
+		@DisplayName("만든 뒤 애플리케이션이 저장하는 일정의 id 가 만든 데이터와 겹치지 않는다")
+		@Test
+		void reserveIdsFromSequence() {
+
+			// Given
+			seedDataService.generate(2, 1L);
+			Member member = memberRepository.findAll().get(0);
+			long maxScheduleId = scheduleRepository.findAll().stream()
+				.mapToLong(Schedule::getId)
+				.max()
+				.orElse(0);
+
+			// When
+			SchedulePattern schedulePattern = schedulePatternRepository.save(
+				SchedulePattern.builder()
+					.member(member)
+					.repeatStartDate(LocalDate.of(2024, 3, 10))
+					.repeatEndDate(LocalDate.of(2024, 3, 10))
+					.repeatRule(RepeatRule.N)
+					.build());
+			Schedule schedule = scheduleRepository.save(Schedule.builder()
+				.title("schedule")
+				.startDateTime(LocalDate.of(2024, 3, 10).atTime(9, 0))
+				.endDateTime(LocalDate.of(2024, 3, 10).atTime(10, 0))
+				.schedulePattern(schedulePattern)
+				.build());
+
+			// Then
+			assertThat(schedule.getId()).isGreaterThan(maxScheduleId);
+		}
+	}
+
+	private List<String> findMembers() {
+		return memberRepository.findAll(Sort.by("id")).stream()
+			.map(member -> member.getName() + "@" + member.getPhone() + "@" + member.getNickname())
+			.toList();
+	}
+
+	private List<String> findSchedules() {
+		return scheduleRepository.findAll(Sort.by("id")).stream()
+			.map(schedule -> schedule.getTitle() + "@" + schedule.getStartDateTime())
+			.toList();
+	}
+
+	private void deleteAll() {
+		datingRepository.deleteAllInBatch();
+		anniversaryRepository.deleteAllInBatch();
+		anniversaryPatternRepository.deleteAllInBatch();
+		scheduleRepository.deleteAllInBatch();
+		schedulePatternRepository.deleteAllInBatch();
+		memberCoupleRepository.deleteAllInBatch();
+		coupleRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+}
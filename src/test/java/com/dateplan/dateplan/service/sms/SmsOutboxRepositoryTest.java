@@ -0,0 +1,93 @@
+package com.dateplan.dateplan.service.sms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dateplan.dateplan.domain.sms.repository.SmsOutboxRepository;
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import com.dateplan.dateplan.service.ServiceTestSupport;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+public class SmsOutboxRepositoryTest extends ServiceTestSupport {
+
+	@Autowired
+	private SmsOutboxRepository smsOutboxRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete(List.of("[SMS_OUTBOX]", "[SMS_CLAIMED]", "[SMS_RETRY]"));
+	}
+
+	@DisplayName("lease 가 지나도록 발송을 마치지 못한 메시지는 되돌린 뒤 다시 꺼낼 수 있고, 완료한 메시지는 다시 꺼내지 않는다.")
+	@Test
+	void recoverUncompletedMessages() {
+
+		// Given
+		List<SmsMessage> messages = createMessages(3);
+		messages.forEach(smsOutboxRepository::enqueue);
+
+		List<SmsMessage> claimed = smsOutboxRepository.claim(2);
+		smsOutboxRepository.complete(claimed.get(0));
+
+		// When
+		long recoveredCount = smsOutboxRepository.recoverExpiredProcessing(0);
+
+		// Then
+		assertThat(recoveredCount).isEqualTo(1);
+		assertThat(smsOutboxRepository.claim(3))
+			.extracting(SmsMessage::getToNumber)
+			.containsExactly(messages.get(1).getToNumber(), messages.get(2).getToNumber());
+	}
+
+	@DisplayName("lease 가 남아 있는 메시지는 다른 인스턴스가 발송 중이므로 되돌리지 않는다.")
+	@Test
+	void notRecoverMessagesInLease() {
+
+		// Given
+		List<SmsMessage> messages = createMessages(2);
+		messages.forEach(smsOutboxRepository::enqueue);
+
+		smsOutboxRepository.claim(2);
+
+		// When
+		long recoveredCount = smsOutboxRepository.recoverExpiredProcessing(60_000);
+
+		// Then
+		assertThat(recoveredCount).isZero();
+		assertThat(smsOutboxRepository.claim(2)).isEmpty();
+	}
+
+	@DisplayName("되돌린 메시지는 꺼낸 순서대로 대기열 앞에 놓인다.")
+	@Test
+	void releaseToFrontOfQueue() {
+
+		// Given
+		List<SmsMessage> messages = createMessages(3);
+		messages.forEach(smsOutboxRepository::enqueue);
+
+		List<SmsMessage> claimed = smsOutboxRepository.claim(2);
+
+		// When
+		smsOutboxRepository.release(claimed);
+
+		// Then
+		assertThat(smsOutboxRepository.claim(3))
+			.extracting(SmsMessage::getToNumber)
+			.containsExactlyElementsOf(messages.stream().map(SmsMessage::getToNumber).toList());
+		assertThat(smsOutboxRepository.recoverExpiredProcessing(0)).isEqualTo(3);
+	}
+
+	private List<SmsMessage> createMessages(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> SmsMessage.ofPhoneAuthentication("0101234000" + i, 123456))
+			.toList();
+	}
+}
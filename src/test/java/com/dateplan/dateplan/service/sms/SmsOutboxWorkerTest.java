@@ -0,0 +1,199 @@
+package com.dateplan.dateplan.service.sms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.dateplan.dateplan.domain.sms.repository.SmsOutboxRepository;
+import com.dateplan.dateplan.domain.sms.service.SmsOutboxWorker;
+import com.dateplan.dateplan.domain.sms.service.SmsSender;
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SmsOutboxWorkerTest {
+
+	private static final int BATCH_SIZE = 3;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long RETRY_BACKOFF_MILLIS = 100L;
+	private static final long PROCESSING_LEASE_MILLIS = 60_000L;
+
+	private SmsOutboxRepository smsOutboxRepository;
+	private InMemorySmsSender smsSender;
+	private SmsOutboxWorker smsOutboxWorker;
+
+	@BeforeEach
+	void setUp() {
+		smsOutboxRepository = mock(SmsOutboxRepository.class);
+		smsSender = new InMemorySmsSender();
+		smsOutboxWorker = new SmsOutboxWorker(smsOutboxRepository, smsSender, Runnable::run);
+		ReflectionTestUtils.setField(smsOutboxWorker, "batchSize", BATCH_SIZE);
+		ReflectionTestUtils.setField(smsOutboxWorker, "maxAttempts", MAX_ATTEMPTS);
+		ReflectionTestUtils.setField(smsOutboxWorker, "retryBackoffMillis", RETRY_BACKOFF_MILLIS);
+		ReflectionTestUtils.setField(smsOutboxWorker, "processingLeaseMillis",
+			PROCESSING_LEASE_MILLIS);
+	}
+
+	@DisplayName("대기 중인 메시지를 배치 크기만큼 묶어서 발송한다.")
+	@Test
+	void drainInBatches() {
+
+		// Given
+		List<SmsMessage> messages = createMessages(4);
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(messages.subList(0, 3), messages.subList(3, 4));
+
+		// When
+		smsOutboxWorker.drain();
+
+		// Then
+		assertThat(smsSender.batches)
+			.extracting(List::size)
+			.containsExactly(3, 1);
+		then(smsOutboxRepository).should().promoteRetries();
+		then(smsOutboxRepository).should(never()).retry(any(), anyLong());
+		messages.forEach(message -> then(smsOutboxRepository).should().complete(message));
+	}
+
+	@DisplayName("발송 스레드에 맡기지 못한 메시지는 대기열로 되돌리고 더 꺼내지 않는다.")
+	@Test
+	void releaseRejectedMessages() {
+
+		// Given
+		smsOutboxWorker = new SmsOutboxWorker(smsOutboxRepository, smsSender, task -> {
+			throw new RejectedExecutionException();
+		});
+		ReflectionTestUtils.setField(smsOutboxWorker, "batchSize", BATCH_SIZE);
+
+		List<SmsMessage> messages = createMessages(3);
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(messages);
+
+		// When
+		smsOutboxWorker.drain();
+
+		// Then
+		assertThat(smsSender.batches).isEmpty();
+		then(smsOutboxRepository).should(times(1)).claim(anyInt());
+		then(smsOutboxRepository).should().release(messages);
+		then(smsOutboxRepository).should(never()).complete(any());
+	}
+
+	@DisplayName("발송에 실패한 메시지는 재시도를 기록한 뒤 처리 중 목록에서 지운다.")
+	@Test
+	void completeAfterRetry() {
+
+		// Given
+		SmsMessage message = SmsMessage.ofPhoneAuthentication("01012345678", 123456);
+		smsSender.failNumbers = Set.of(message.getToNumber());
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(List.of(message));
+
+		// When
+		smsOutboxWorker.drain();
+
+		// Then
+		InOrder inOrder = inOrder(smsOutboxRepository);
+		inOrder.verify(smsOutboxRepository).retry(any(), anyLong());
+		inOrder.verify(smsOutboxRepository).complete(message);
+	}
+
+	@DisplayName("꺼낸 지 lease 가 지나도록 발송을 마치지 못한 메시지를 대기열로 되돌린 뒤 꺼낸다.")
+	@Test
+	void recoverExpiredProcessingMessages() {
+
+		// Given
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(List.of());
+
+		// When
+		smsOutboxWorker.drain();
+
+		// Then
+		InOrder inOrder = inOrder(smsOutboxRepository);
+		inOrder.verify(smsOutboxRepository).recoverExpiredProcessing(PROCESSING_LEASE_MILLIS);
+		inOrder.verify(smsOutboxRepository).claim(BATCH_SIZE);
+	}
+
+	@DisplayName("발송에 실패한 메시지만 시도 횟수에 따라 늘어난 간격으로 재시도한다.")
+	@Test
+	void retryFailedMessagesWithBackoff() {
+
+		// Given
+		List<SmsMessage> messages = createMessages(2);
+		smsSender.failNumbers = Set.of(messages.get(1).getToNumber());
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(messages, List.of(messages.get(1).nextAttempt()));
+
+		// When
+		smsOutboxWorker.drain();
+		smsOutboxWorker.drain();
+
+		// Then
+		ArgumentCaptor<SmsMessage> messageCaptor = ArgumentCaptor.forClass(SmsMessage.class);
+		ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+		then(smsOutboxRepository).should(times(2))
+			.retry(messageCaptor.capture(), delayCaptor.capture());
+
+		assertThat(messageCaptor.getAllValues())
+			.extracting(SmsMessage::getAttempt)
+			.containsExactly(1, 2);
+		assertThat(delayCaptor.getAllValues())
+			.containsExactly(RETRY_BACKOFF_MILLIS, RETRY_BACKOFF_MILLIS * 2);
+	}
+
+	@DisplayName("최대 시도 횟수에 도달한 메시지는 더 이상 재시도하지 않는다.")
+	@Test
+	void dropAfterMaxAttempts() {
+
+		// Given
+		SmsMessage message = SmsMessage.ofPhoneAuthentication("01012345678", 123456);
+		SmsMessage lastAttempt = message.nextAttempt().nextAttempt();
+		smsSender.failNumbers = Set.of(message.getToNumber());
+		given(smsOutboxRepository.claim(anyInt()))
+			.willReturn(List.of(lastAttempt));
+
+		// When
+		smsOutboxWorker.drain();
+
+		// Then
+		then(smsOutboxRepository).should(never()).retry(any(), anyLong());
+	}
+
+	private List<SmsMessage> createMessages(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> SmsMessage.ofPhoneAuthentication("0101234000" + i, 123456))
+			.toList();
+	}
+
+	// 실제 발송 없이 보낸 메시지를 기록하고, 지정한 번호로 보낸 메시지는 실패로 돌려준다.
+	private static class InMemorySmsSender implements SmsSender {
+
+		private final List<List<SmsMessage>> batches = new ArrayList<>();
+		private Set<String> failNumbers = Set.of();
+
+		@Override
+		public List<SmsMessage> send(List<SmsMessage> messages) {
+			batches.add(messages);
+			return messages.stream()
+				.filter(message -> failNumbers.contains(message.getToNumber()))
+				.toList();
+		}
+	}
+}
@@ -1,15 +1,17 @@
 package com.dateplan.dateplan.service.sms;
 
-import static org.assertj.core.api.Assertions.assertThatNoException;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import com.dateplan.dateplan.domain.sms.service.SmsSendClient;
-import com.dateplan.dateplan.domain.sms.type.SmsType;
-import com.dateplan.dateplan.global.exception.ErrorCode.DetailMessage;
-import com.dateplan.dateplan.global.exception.sms.SmsSendFailException;
+import com.dateplan.dateplan.domain.sms.service.dto.SmsMessage;
+import com.dateplan.dateplan.global.util.ExternalCallTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import net.nurigo.sdk.message.model.MessageType;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
@@ -27,47 +29,74 @@ class SmsSendClientTest {
 
 	private final DefaultMessageService defaultMessageService;
 
+	private final MeterRegistry meterRegistry;
+
 	public SmsSendClientTest() {
 		defaultMessageService = mock(DefaultMessageService.class);
-		this.smsSendClient = new SmsSendClient(defaultMessageService, "01012341234");
+		meterRegistry = new SimpleMeterRegistry();
+		this.smsSendClient = new SmsSendClient(defaultMessageService, "01012341234",
+			meterRegistry);
 	}
 
-	@DisplayName("sms 발송시 성공 코드를 반환받는다면 예외를 발생시키지 않는다.")
+	@DisplayName("sms 발송시 성공 코드를 반환받는다면 실패한 메시지가 없다.")
 	@CsvSource({"2000", "3000", "4000"})
 	@ParameterizedTest
 	void sendSmsIfReceiveSuccessCode(String statusCode) {
 
 		// Given
-		int code = 123456;
-		String toNumber = "01012345678";
+		SmsMessage message = SmsMessage.ofPhoneAuthentication("01012345678", 123456);
 		SingleMessageSentResponse singleMessageSentResponse = createMessageResponse(statusCode);
 
 		given(defaultMessageService.sendOne(any(SingleMessageSendingRequest.class)))
 			.willReturn(singleMessageSentResponse);
 
-		// When & Then
-		assertThatNoException().isThrownBy(
-			() -> smsSendClient.sendSmsForPhoneAuthentication(toNumber, code));
+		// When
+		List<SmsMessage> failedMessages = smsSendClient.send(List.of(message));
+
+		// Then
+		assertThat(failedMessages).isEmpty();
 	}
 
-	@DisplayName("sms 발송시 실패 코드를 반환받는다면 예외를 발생시킨다.")
+	@DisplayName("sms 발송시 실패 코드를 반환받는다면 실패한 메시지로 반환한다.")
 	@CsvSource({"2001", "3001", "4001"})
 	@ParameterizedTest
 	void sendSmsIfReceiveFailCode(String statusCode) {
 
 		// Given
-		int code = 123456;
-		String toNumber = "01012345678";
+		SmsMessage message = SmsMessage.ofPhoneAuthentication("01012345678", 123456);
+		SingleMessageSentResponse singleMessageSentResponse = createMessageResponse(statusCode);
+
+		given(defaultMessageService.sendOne(any(SingleMessageSendingRequest.class)))
+			.willReturn(singleMessageSentResponse);
+
+		// When
+		List<SmsMessage> failedMessages = smsSendClient.send(List.of(message));
+
+		// Then
+		assertThat(failedMessages).containsExactly(message);
+	}
+
+	@DisplayName("sms 발송 결과와 관계없이 발송 요청 시간을 기록한다.")
+	@CsvSource({"2000", "2001"})
+	@ParameterizedTest
+	void recordSendOneTimer(String statusCode) {
+
+		// Given
 		SingleMessageSentResponse singleMessageSentResponse = createMessageResponse(statusCode);
 
 		given(defaultMessageService.sendOne(any(SingleMessageSendingRequest.class)))
 			.willReturn(singleMessageSentResponse);
 
-		// When & Then
-		assertThatThrownBy(() -> smsSendClient.sendSmsForPhoneAuthentication(toNumber, code))
-			.isInstanceOf(SmsSendFailException.class)
-			.hasMessage(
-				String.format(DetailMessage.SMS_SEND_FAIL, SmsType.PHONE_AUTHENTICATION.getName()));
+		// When
+		smsSendClient.send(List.of(SmsMessage.ofPhoneAuthentication("01012345678", 123456)));
+
+		// Then
+		Timer timer = meterRegistry.find(ExternalCallTimer.METRIC_NAME)
+			.tag("target", ExternalCallTimer.SMS)
+			.tag("operation", "sendOne")
+			.timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
 	}
 
 	private SingleMessageSentResponse createMessageResponse(String statusCode) {
@@ -0,0 +1,195 @@
+package com.dateplan.dateplan.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.dateplan.dateplan.global.util.DaySet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class DaySetTest {
+
+	@Nested
+	@DisplayName("날짜를 추가할 때")
+	class Add {
+
+		@DisplayName("워드 경계(63, 64)에 걸친 구간도 빠짐없이 채워지고 오름차순으로 순회된다.")
+		@Test
+		void withWordBoundary() {
+
+			// Given
+			DaySet daySet = new DaySet();
+
+			// When
+			daySet.add(63);
+			daySet.add(64);
+			daySet.addRange(60, 70);
+
+			// Then
+			assertThat(daySet.size()).isEqualTo(11);
+			assertThat(toEpochDays(daySet))
+				.containsExactly(60L, 61L, 62L, 63L, 64L, 65L, 66L, 67L, 68L, 69L, 70L);
+		}
+
+		@DisplayName("워드 경계에서 구간을 자르면 경계 양쪽 날짜가 정확히 남는다.")
+		@Test
+		void retainBetweenWordBoundary() {
+
+			// Given
+			DaySet daySet = new DaySet();
+			daySet.addRange(0, 200);
+
+			// When
+			daySet.retainBetween(63, 64);
+
+			// Then
+			assertThat(toEpochDays(daySet)).containsExactly(63L, 64L);
+		}
+
+		@DisplayName("음수 epoch day 도 올바른 워드에 담기고, 0 을 지나는 구간도 채워진다.")
+		@Test
+		void withNegativeEpochDay() {
+
+			// Given
+			DaySet daySet = new DaySet();
+
+			// When
+			daySet.add(-1);
+			daySet.add(-64);
+			daySet.add(-65);
+			daySet.addRange(-3, 2);
+
+			// Then
+			assertThat(toEpochDays(daySet))
+				.containsExactly(-65L, -64L, -3L, -2L, -1L, 0L, 1L, 2L);
+			assertThat(daySet.toLocalDates())
+				.startsWith(LocalDate.ofEpochDay(-65))
+				.endsWith(LocalDate.ofEpochDay(2));
+		}
+
+		@DisplayName("시작일이 종료일보다 늦은 구간은 무시된다.")
+		@Test
+		void withReversedRange() {
+
+			// Given
+			DaySet daySet = new DaySet();
+
+			// When
+			daySet.addRange(10, 5);
+
+			// Then
+			assertThat(daySet.isEmpty()).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("연, 월로 날짜를 거를 때")
+	class RetainYearMonth {
+
+		@DisplayName("연도 없이 월만 주면 매년 해당 월의 날짜만 남는다.")
+		@Test
+		void withMonthOnly() {
+
+			// Given
+			DaySet daySet = new DaySet();
+			daySet.addRange(LocalDate.of(2023, 1, 15), LocalDate.of(2024, 3, 10));
+
+			// When
+			daySet.retainYearMonth(null, 2);
+
+			// Then
+			List<LocalDate> dates = daySet.toLocalDates();
+			assertThat(dates).hasSize(28 + 29)
+				.allMatch(date -> date.getMonthValue() == 2);
+			assertThat(dates.get(0)).isEqualTo(LocalDate.of(2023, 2, 1));
+			assertThat(dates.get(dates.size() - 1)).isEqualTo(LocalDate.of(2024, 2, 29));
+		}
+
+		@DisplayName("연, 월을 모두 주면 해당 연월의 날짜만 남는다.")
+		@Test
+		void withYearAndMonth() {
+
+			// Given
+			DaySet daySet = new DaySet();
+			daySet.addRange(LocalDate.of(2023, 1, 15), LocalDate.of(2024, 3, 10));
+
+			// When
+			daySet.retainYearMonth(2024, 2);
+
+			// Then
+			assertThat(daySet.toLocalDates())
+				.hasSize(29)
+				.allMatch(date -> date.getYear() == 2024 && date.getMonthValue() == 2);
+		}
+
+		@DisplayName("연, 월이 모두 없으면 모든 날짜가 남는다.")
+		@Test
+		void withoutYearAndMonth() {
+
+			// Given
+			DaySet daySet = new DaySet();
+			daySet.addRange(LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 20));
+
+			// When
+			daySet.retainYearMonth(null, null);
+
+			// Then
+			assertThat(daySet.size()).isEqualTo(6);
+		}
+	}
+
+	@Nested
+	@DisplayName("여러 집합을 합칠 때")
+	class Merge {
+
+		@DisplayName("시작 워드가 다른 집합도 날짜 오름차순으로 합쳐지고, 날짜마다 속한 집합의 비트가 켜진다.")
+		@Test
+		void withDifferentBases() {
+
+			// Given
+			DaySet first = new DaySet();
+			first.addRange(-2, 1);
+			DaySet second = new DaySet();
+			second.add(1000);
+			second.add(0);
+			DaySet empty = new DaySet();
+
+			// When
+			List<Tuple> merged = new ArrayList<>();
+			DaySet.merge((epochDay, mask) -> merged.add(tuple(epochDay, mask)),
+				first, empty, second);
+
+			// Then
+			assertThat(merged).containsExactly(
+				tuple(-2L, 0b001),
+				tuple(-1L, 0b001),
+				tuple(0L, 0b101),
+				tuple(1L, 0b001),
+				tuple(1000L, 0b100)
+			);
+		}
+
+		@DisplayName("모든 집합이 비어 있으면 아무 날짜도 넘기지 않는다.")
+		@Test
+		void withEmptySets() {
+
+			// When
+			List<Long> merged = new ArrayList<>();
+			DaySet.merge((epochDay, mask) -> merged.add(epochDay), new DaySet(), new DaySet());
+
+			// Then
+			assertThat(merged).isEmpty();
+		}
+	}
+
+	private List<Long> toEpochDays(DaySet daySet) {
+		List<Long> epochDays = new ArrayList<>();
+		daySet.forEach(epochDays::add);
+		return epochDays;
+	}
+}